@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -64,8 +64,10 @@ import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.ISelectionChangedListener;
 import org.eclipse.jface.viewers.ISelectionProvider;
 import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.jface.viewers.ITreeViewerListener;
 import org.eclipse.jface.viewers.SelectionChangedEvent;
 import org.eclipse.jface.viewers.StructuredSelection;
+import org.eclipse.jface.viewers.TreeExpansionEvent;
 import org.eclipse.jface.viewers.TreeViewer;
 import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.jface.viewers.ViewerFilter;
@@ -213,7 +215,7 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 	}
 
 
-	private static class ListenerMix implements ISelectionListener, IFileBufferListener, IDocumentListener, ISelectionChangedListener, IDoubleClickListener, IPartListener2 {
+	private static class ListenerMix implements ISelectionListener, IFileBufferListener, IDocumentListener, ISelectionChangedListener, IDoubleClickListener, IPartListener2, ITreeViewerListener {
 
 		private boolean fASTViewVisible= true;
 		private ASTView fView;
@@ -292,7 +294,7 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 
 		@Override
 		public void documentChanged(DocumentEvent event) {
-			fView.handleDocumentChanged();
+			fView.handleDocumentChanged(event);
 		}
 
 		@Override
@@ -350,6 +352,61 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 		public void partInputChanged(IWorkbenchPartReference partRef) {
 			// not interesting
 		}
+
+		@Override
+		public void treeExpanded(TreeExpansionEvent event) {
+			fView.handleTreeExpanded(event.getElement());
+		}
+
+		@Override
+		public void treeCollapsed(TreeExpansionEvent event) {
+			// not interesting
+		}
+	}
+
+	/**
+	 * The region of the document that changed since the AST was created. Offsets
+	 * before the region are unchanged, offsets after the region are shifted by
+	 * the delta.
+	 */
+	private static final class ChangedRegion {
+
+		private int fStart= -1;
+		private int fEnd; // in the coordinates of the AST
+		private int fDelta;
+
+		public void add(DocumentEvent event) {
+			int start= event.getOffset();
+			int end= start + event.getLength(); // in the coordinates of the current document
+			if (fStart == -1) {
+				fStart= start;
+				fEnd= end;
+			} else {
+				if (end >= fStart) {
+					end= Math.max(fEnd, end - fDelta);
+				}
+				fStart= Math.min(fStart, start);
+				fEnd= Math.max(fEnd, end);
+			}
+			fDelta+= (event.getText() != null ? event.getText().length() : 0) - event.getLength();
+		}
+
+		/**
+		 * @param offset an offset in the AST
+		 * @return the offset in the current document, or -1 if the offset is inside the changed region
+		 */
+		public int map(int offset) {
+			if (offset <= fStart) {
+				return offset;
+			} else if (offset >= fEnd) {
+				return offset + fDelta;
+			}
+			return -1;
+		}
+
+		public int getStart() {
+			return fStart;
+		}
 	}
 
 	private static final class StatementChecker extends ASTVisitor {
@@ -410,9 +467,11 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 	private final static String SETTINGS_IGNORE_METHOD_BODIES= "ignore_method_bodies"; //$NON-NLS-1$
 	private final static String SETTINGS_SHOW_NON_RELEVANT="show_non_relevant";//$NON-NLS-1$
 	private final static String SETTINGS_JLS= "jls"; //$NON-NLS-1$
+	private final static String SETTINGS_LAZY_TREE= "lazy_tree"; //$NON-NLS-1$
 
 	private SashForm fSash;
 	private TreeViewer fViewer;
+	private ASTViewContentProvider fASTContentProvider;
 	private ASTViewLabelProvider fASTLabelProvider;
 	private TreeViewer fTray;
 
@@ -424,6 +483,7 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 	private Action fBindingsRecoveryAction;
 	private Action fIgnoreMethodBodiesAction;
 	private Action fFilterNonRelevantAction;
+	private Action fLazyTreeAction;
 	private Action fFindDeclaringNodeAction;
 	private Action fParseBindingFromKeyAction;
 	private Action fParseBindingFromElementAction;
@@ -447,6 +507,7 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 	private CompilationUnit fRoot;
 	private IDocument fCurrentDocument;
 	private ArrayList<Object> fTrayRoots;
+	private ChangedRegion fChangedRegion;
 
 	private boolean fDoLinkWithEditor;
 	private boolean fCreateBindings;
@@ -454,6 +515,7 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 	private boolean fStatementsRecovery;
 	private boolean fBindingsRecovery;
 	private boolean fIgnoreMethodBodies;
+	private boolean fLazyTree;
 
 	private Object fPreviousDouble;
 
@@ -475,6 +537,7 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 		fStatementsRecovery= !fDialogSettings.getBoolean(SETTINGS_NO_STATEMENTS_RECOVERY); // inverse so that default is use recovery
 		fBindingsRecovery= !fDialogSettings.getBoolean(SETTINGS_NO_BINDINGS_RECOVERY); // inverse so that default is use recovery
 		fIgnoreMethodBodies= fDialogSettings.getBoolean(SETTINGS_IGNORE_METHOD_BODIES);
+		fLazyTree= fDialogSettings.getBoolean(SETTINGS_LAZY_TREE);
 		fCurrentASTLevel= AST.getJLSLatest();
 		try {
 			int level= fDialogSettings.getInt(SETTINGS_JLS);
@@ -592,6 +655,7 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 		fTrayRoots= new ArrayList<>();
 		if (fTray != null)
 			fTray.setInput(fTrayRoots);
+		fChangedRegion= null;
 		setASTUptoDate(root != null);
 		fClearAction.setEnabled(root != null);
 		fFindDeclaringNodeAction.setEnabled(root != null);
@@ -736,11 +800,14 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 		fSash= new SashForm(parent, SWT.VERTICAL | SWT.SMOOTH);
 		fViewer = new TreeViewer(fSash, SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL);
 		fDrillDownAdapter = new DrillDownAdapter(fViewer);
-		fViewer.setContentProvider(new ASTViewContentProvider());
+		fASTContentProvider= new ASTViewContentProvider();
+		fASTContentProvider.setLazy(fLazyTree);
+		fViewer.setContentProvider(fASTContentProvider);
 		fASTLabelProvider= new ASTViewLabelProvider();
 		fViewer.setLabelProvider(fASTLabelProvider);
 		fViewer.addSelectionChangedListener(fSuperListener);
 		fViewer.addDoubleClickListener(fSuperListener);
+		fViewer.addTreeListener(fSuperListener);
 		fViewer.addFilter(new ViewerFilter() {
 			@Override
 			public boolean select(Viewer viewer, Object parentElement, Object element) {
@@ -871,6 +938,7 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 		manager.add(fParseBindingFromElementAction);
 		manager.add(new Separator());
 		manager.add(fFilterNonRelevantAction);
+		manager.add(fLazyTreeAction);
 		manager.add(fLinkWithEditor);
 	}
 
@@ -1006,6 +1074,16 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 		fFilterNonRelevantAction.setToolTipText("Hide non-relevant binding attributes"); //$NON-NLS-1$
 		fFilterNonRelevantAction.setEnabled(true);
 
+		fLazyTreeAction = new Action("Lazy &Tree for Large Files", IAction.AS_CHECK_BOX) { //$NON-NLS-1$
+			@Override
+			public void run() {
+				performLazyTree();
+			}
+		};
+		fLazyTreeAction.setChecked(fLazyTree);
+		fLazyTreeAction.setToolTipText("Create tree elements and resolve bindings only when expanded, keep expanded nodes on refresh"); //$NON-NLS-1$
+		fLazyTreeAction.setEnabled(true);
+
 		fFindDeclaringNodeAction= new Action("Find &Declaring Node...", IAction.AS_PUSH_BUTTON) { //$NON-NLS-1$
 			@Override
 			public void run() {
@@ -1121,14 +1199,96 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 
 	private void refreshAST() throws CoreException {
 		ASTNode node= getASTNodeNearSelection((IStructuredSelection) fViewer.getSelection());
+		ChangedRegion changedRegion= fChangedRegion;
 		int offset= 0;
 		int length= 0;
 		if (node != null) {
 			offset= node.getStartPosition();
 			length= node.getLength();
+			if (changedRegion != null) {
+				int start= changedRegion.map(offset);
+				int end= changedRegion.map(offset + length);
+				if (start != -1 && end != -1) {
+					offset= start;
+					length= end - start;
+				} else {
+					offset= changedRegion.getStart();
+					length= 0;
+				}
+			}
 		}
 
-		internalSetInput(fTypeRoot, offset, length);
+		if (!fLazyTree) {
+			internalSetInput(fTypeRoot, offset, length);
+			return;
+		}
+		// keep the expanded nodes that are not affected by the changes, so that only
+		// the tree elements of these nodes need to be created again
+		Object[] expanded= fViewer.getExpandedElements();
+		CompilationUnit root= internalSetInput(fTypeRoot, offset, length);
+		if (root != null) {
+			ArrayList<Object> newExpanded= new ArrayList<>();
+			for (Object element : expanded) {
+				Object newElement= findCorrespondingElement(root, element, changedRegion);
+				if (newElement != null) {
+					newExpanded.add(newElement);
+				}
+			}
+			fViewer.getTree().setRedraw(false);
+			try {
+				fViewer.setExpandedElements(newExpanded.toArray());
+			} finally {
+				fViewer.getTree().setRedraw(true);
+			}
+		}
+	}
+
+	/**
+	 * Finds the element of the new AST that corresponds to an element of the old AST.
+	 *
+	 * @param root the new AST
+	 * @param element an AST node or node property of the old AST
+	 * @param changedRegion the changes between the old and the new AST, or <code>null</code>
+	 * @return the corresponding element, or <code>null</code> if there is none or the element
+	 *         is inside the changed region
+	 */
+	private static Object findCorrespondingElement(CompilationUnit root, Object element, ChangedRegion changedRegion) {
+		if (element instanceof NodeProperty property) {
+			Object parent= findCorrespondingElement(root, property.getParent(), changedRegion);
+			if (parent instanceof ASTNode parentNode) {
+				return new NodeProperty(parentNode, property.getProperty());
+			}
+		} else if (element instanceof ASTNode node) {
+			int start= node.getStartPosition();
+			int end= start + node.getLength();
+			if (changedRegion != null) {
+				start= changedRegion.map(start);
+				end= changedRegion.map(end);
+				if (start == -1 || end == -1) {
+					return null;
+				}
+			}
+			return findNode(root, start, end - start, node.getNodeType());
+		}
+		return null;
+	}
+
+	private static ASTNode findNode(CompilationUnit root, int start, int length, int nodeType) {
+		ASTNode[] result= new ASTNode[1];
+		root.accept(new ASTVisitor(true) {
+			@Override
+			public boolean preVisit2(ASTNode node) {
+				if (result[0] != null || node.getStartPosition() > start || node.getStartPosition() + node.getLength() < start + length) {
+					return false;
+				}
+				if (node.getStartPosition() == start && node.getLength() == length && node.getNodeType() == nodeType) {
+					result[0]= node;
+					return false;
+				}
+				return true;
+			}
+		});
+		return result[0];
 	}
 
 	protected void setASTLevel(int level, boolean doRefresh) {
@@ -1190,8 +1350,25 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 		uninstallModificationListener();
 	}
 
-	protected void handleDocumentChanged() {
+	protected void handleDocumentChanged(DocumentEvent event) {
 		setASTUptoDate(false);
+		if (fRoot != null) {
+			if (fChangedRegion == null) {
+				fChangedRegion= new ChangedRegion();
+			}
+			fChangedRegion.add(event);
+		}
+	}
+
+	protected void handleTreeExpanded(Object element) {
+		resolveBinding(element);
+	}
+
+	private void resolveBinding(Object element) {
+		if (element instanceof Binding binding && !binding.isResolved()) {
+			binding.getBinding();
+			fViewer.update(binding, null);
+		}
 	}
 
 	protected void handleSelectionChanged(ISelection selection) {
@@ -1203,6 +1380,7 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 		IStructuredSelection structuredSelection= (IStructuredSelection) selection;
 		if (structuredSelection.size() == 1 && fViewer.getTree().isFocusControl()) {
 			Object first= structuredSelection.getFirstElement();
+			resolveBinding(first);
 			Object unwrapped= ASTView.unwrapAttribute(first);
 			addEnabled= unwrapped != null;
 		}
@@ -1366,6 +1544,17 @@ public class ASTView extends ViewPart implements IShowInSource, IShowInTargetLis
 		fViewer.refresh();
 	}
 
+	protected void performLazyTree() {
+		fLazyTree= fLazyTreeAction.isChecked();
+		fDialogSettings.put(SETTINGS_LAZY_TREE, fLazyTree);
+		fASTContentProvider.setLazy(fLazyTree);
+		if (fTypeRoot != null) {
+			performRefresh();
+		} else {
+			fViewer.refresh();
+		}
+	}
+
 	protected void performFindDeclaringNode() {
 		String msg= "Find Declaring Node from Key";
 		String key= askForKey(msg);
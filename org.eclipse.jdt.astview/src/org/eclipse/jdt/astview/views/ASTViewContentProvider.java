@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,12 @@
 
 package org.eclipse.jdt.astview.views;
 
+import java.lang.ref.SoftReference;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.astview.ASTViewPlugin;
 
@@ -33,11 +37,9 @@ import org.eclipse.jdt.core.dom.ConstructorInvocation;
 import org.eclipse.jdt.core.dom.EnumConstantDeclaration;
 import org.eclipse.jdt.core.dom.Expression;
 import org.eclipse.jdt.core.dom.FieldAccess;
-import org.eclipse.jdt.core.dom.IAnnotationBinding;
 import org.eclipse.jdt.core.dom.IBinding;
 import org.eclipse.jdt.core.dom.IMethodBinding;
 import org.eclipse.jdt.core.dom.ITypeBinding;
-import org.eclipse.jdt.core.dom.IVariableBinding;
 import org.eclipse.jdt.core.dom.ImportDeclaration;
 import org.eclipse.jdt.core.dom.LambdaExpression;
 import org.eclipse.jdt.core.dom.MemberRef;
@@ -59,12 +61,31 @@ import org.eclipse.jdt.core.dom.VariableDeclaration;
 
 public class ASTViewContentProvider implements ITreeContentProvider {
 
+	/**
+	 * In lazy mode, the children of AST nodes are cached with soft references,
+	 * bindings are only resolved when they are expanded, and
+	 * {@link #hasChildren(Object)} does not compute the children of AST nodes.
+	 */
+	private boolean fLazy;
+	private final Map<ASTNode, SoftReference<Object[]>> fNodeChildren= new WeakHashMap<>();
+
+	public boolean isLazy() {
+		return fLazy;
+	}
+
+	public void setLazy(boolean lazy) {
+		fLazy= lazy;
+		fNodeChildren.clear();
+	}
+
 	@Override
 	public void inputChanged(Viewer v, Object oldInput, Object newInput) {
+		fNodeChildren.clear();
 	}
 
 	@Override
 	public void dispose() {
+		fNodeChildren.clear();
 	}
 
 	@Override
@@ -79,6 +100,12 @@ public class ASTViewContentProvider implements ITreeContentProvider {
 			ASTNode parent= node.getParent();
 			if (parent != null) {
 				StructuralPropertyDescriptor prop= node.getLocationInParent();
+				if (fLazy) {
+					NodeProperty property= findCachedProperty(parent, prop);
+					if (property != null) {
+						return property;
+					}
+				}
 				return new NodeProperty(parent, prop);
 			}
 		} else if (child instanceof ASTAttribute) {
@@ -87,69 +114,104 @@ public class ASTViewContentProvider implements ITreeContentProvider {
 		return null;
 	}
 
+	private NodeProperty findCachedProperty(ASTNode parent, StructuralPropertyDescriptor prop) {
+		SoftReference<Object[]> reference= fNodeChildren.get(parent);
+		Object[] children= reference != null ? reference.get() : null;
+		if (children != null) {
+			NodeProperty property= new NodeProperty(parent, prop);
+			for (Object curr : children) {
+				if (property.equals(curr)) {
+					return (NodeProperty) curr;
+				}
+			}
+		}
+		return null;
+	}
+
 	@Override
 	public Object[] getChildren(Object parent) {
 		if (parent instanceof ASTAttribute) {
 			return ((ASTAttribute) parent).getChildren();
 		} else if (parent instanceof ASTNode) {
+			if (fLazy) {
+				return getCachedNodeChildren((ASTNode) parent);
+			}
 			return getNodeChildren((ASTNode) parent);
 		}
 		return new Object[0];
 	}
 
+	private Object[] getCachedNodeChildren(ASTNode node) {
+		SoftReference<Object[]> reference= fNodeChildren.get(node);
+		Object[] children= reference != null ? reference.get() : null;
+		if (children == null) {
+			children= getNodeChildren(node);
+			fNodeChildren.put(node, new SoftReference<>(children));
+		}
+		return children;
+	}
+
 	private Object[] getNodeChildren(ASTNode node) {
 		ArrayList<Object> res= new ArrayList<>();
 
 		if (node instanceof Expression) {
 			Expression expression= (Expression) node;
-			ITypeBinding expressionTypeBinding= expression.resolveTypeBinding();
-			res.add(createExpressionTypeBinding(node, expressionTypeBinding));
+			if (fLazy) {
+				res.add(createExpressionTypeBinding(node, "resolveTypeBinding", expression::resolveTypeBinding)); //$NON-NLS-1$
+			} else {
+				ITypeBinding expressionTypeBinding= expression.resolveTypeBinding();
+				res.add(createExpressionTypeBinding(node, expressionTypeBinding));
+				if (expression instanceof Name) {
+					IBinding binding= ((Name) expression).resolveBinding();
+					if (binding != expressionTypeBinding)
+						res.add(createBinding(expression, binding));
+				}
+			}
 
 			// expressions:
 			if (expression instanceof Name) {
-				IBinding binding= ((Name) expression).resolveBinding();
-				if (binding != expressionTypeBinding)
-					res.add(createBinding(expression, binding));
+				if (fLazy) {
+					// don't resolve to compare with the expression type binding
+					res.add(createBinding(expression, "resolveBinding", ((Name) expression)::resolveBinding)); //$NON-NLS-1$
+				}
 			} else if (expression instanceof MethodInvocation) {
 				MethodInvocation methodInvocation= (MethodInvocation) expression;
-				IMethodBinding binding= methodInvocation.resolveMethodBinding();
-				res.add(createBinding(expression, binding));
+				res.add(createBinding(expression, "resolveMethodBinding", methodInvocation::resolveMethodBinding)); //$NON-NLS-1$
 				String inferred= String.valueOf(methodInvocation.isResolvedTypeInferredFromExpectedType());
 				res.add(new GeneralAttribute(expression, "ResolvedTypeInferredFromExpectedType", inferred)); //$NON-NLS-1$
 			} else if (expression instanceof SuperMethodInvocation) {
 				SuperMethodInvocation superMethodInvocation= (SuperMethodInvocation) expression;
-				IMethodBinding binding= superMethodInvocation.resolveMethodBinding();
-				res.add(createBinding(expression, binding));
+				res.add(createBinding(expression, "resolveMethodBinding", superMethodInvocation::resolveMethodBinding)); //$NON-NLS-1$
 				String inferred= String.valueOf(superMethodInvocation.isResolvedTypeInferredFromExpectedType());
 				res.add(new GeneralAttribute(expression, "ResolvedTypeInferredFromExpectedType", inferred)); //$NON-NLS-1$
 			} else if (expression instanceof ClassInstanceCreation) {
 				ClassInstanceCreation classInstanceCreation= (ClassInstanceCreation) expression;
-				IMethodBinding binding= classInstanceCreation.resolveConstructorBinding();
-				res.add(createBinding(expression, binding));
+				res.add(createBinding(expression, "resolveConstructorBinding", classInstanceCreation::resolveConstructorBinding)); //$NON-NLS-1$
 				String inferred= String.valueOf(classInstanceCreation.isResolvedTypeInferredFromExpectedType());
 				res.add(new GeneralAttribute(expression, "ResolvedTypeInferredFromExpectedType", inferred)); //$NON-NLS-1$
 			} else if (expression instanceof FieldAccess) {
-				IVariableBinding binding= ((FieldAccess) expression).resolveFieldBinding();
-				res.add(createBinding(expression, binding));
+				res.add(createBinding(expression, "resolveFieldBinding", ((FieldAccess) expression)::resolveFieldBinding)); //$NON-NLS-1$
 			} else if (expression instanceof SuperFieldAccess) {
-				IVariableBinding binding= ((SuperFieldAccess) expression).resolveFieldBinding();
-				res.add(createBinding(expression, binding));
+				res.add(createBinding(expression, "resolveFieldBinding", ((SuperFieldAccess) expression)::resolveFieldBinding)); //$NON-NLS-1$
 			} else if (expression instanceof Annotation) {
-				IAnnotationBinding binding= ((Annotation) expression).resolveAnnotationBinding();
-				res.add(createBinding(expression, binding));
+				res.add(createBinding(expression, "resolveAnnotationBinding", ((Annotation) expression)::resolveAnnotationBinding)); //$NON-NLS-1$
 			} else if (expression instanceof LambdaExpression) {
-				ASTAttribute bindingAttribute;
-				try {
-					IMethodBinding binding= ((LambdaExpression) expression).resolveMethodBinding();
-					bindingAttribute= createBinding(expression, binding);
-				} catch (RuntimeException e) {
-					bindingAttribute= new Error(res, ">binding: Error: " + e.getMessage(), e);
-					ASTViewPlugin.log("Exception thrown in LambdaExpression#resolveMethodBinding() for \"" + expression + "\"", e);
+				if (fLazy) {
+					// exceptions are reported by the binding when it is resolved
+					res.add(createBinding(expression, "resolveMethodBinding", ((LambdaExpression) expression)::resolveMethodBinding)); //$NON-NLS-1$
+				} else {
+					ASTAttribute bindingAttribute;
+					try {
+						IMethodBinding binding= ((LambdaExpression) expression).resolveMethodBinding();
+						bindingAttribute= createBinding(expression, binding);
+					} catch (RuntimeException e) {
+						bindingAttribute= new Error(res, ">binding: Error: " + e.getMessage(), e);
+						ASTViewPlugin.log("Exception thrown in LambdaExpression#resolveMethodBinding() for \"" + expression + "\"", e);
+					}
+					res.add(bindingAttribute);
 				}
-				res.add(bindingAttribute);
 			} else if (expression instanceof MethodReference) {
-				IMethodBinding binding= ((MethodReference) expression).resolveMethodBinding();
-				res.add(createBinding(expression, binding));
+				res.add(createBinding(expression, "resolveMethodBinding", ((MethodReference) expression)::resolveMethodBinding)); //$NON-NLS-1$
 			}
 			// Expression attributes:
 			res.add(new GeneralAttribute(expression, "Boxing: " + expression.resolveBoxing() + "; Unboxing: " + expression.resolveUnboxing())); //$NON-NLS-1$ //$NON-NLS-2$
@@ -157,57 +219,40 @@ public class ASTViewContentProvider implements ITreeContentProvider {
 
 		// references:
 		} else if (node instanceof ConstructorInvocation) {
-			IMethodBinding binding= ((ConstructorInvocation) node).resolveConstructorBinding();
-			res.add(createBinding(node, binding));
+			res.add(createBinding(node, "resolveConstructorBinding", ((ConstructorInvocation) node)::resolveConstructorBinding)); //$NON-NLS-1$
 		} else if (node instanceof SuperConstructorInvocation) {
-			IMethodBinding binding= ((SuperConstructorInvocation) node).resolveConstructorBinding();
-			res.add(createBinding(node, binding));
+			res.add(createBinding(node, "resolveConstructorBinding", ((SuperConstructorInvocation) node)::resolveConstructorBinding)); //$NON-NLS-1$
 		} else if (node instanceof MethodRef) {
-			IBinding binding= ((MethodRef) node).resolveBinding();
-			res.add(createBinding(node, binding));
+			res.add(createBinding(node, "resolveBinding", ((MethodRef) node)::resolveBinding)); //$NON-NLS-1$
 		} else if (node instanceof MemberRef) {
-			IBinding binding= ((MemberRef) node).resolveBinding();
-			res.add(createBinding(node, binding));
+			res.add(createBinding(node, "resolveBinding", ((MemberRef) node)::resolveBinding)); //$NON-NLS-1$
 		} else if (node instanceof Type) {
-			IBinding binding= ((Type) node).resolveBinding();
-			res.add(createBinding(node, binding));
+			res.add(createBinding(node, "resolveBinding", ((Type) node)::resolveBinding)); //$NON-NLS-1$
 
 		// declarations:
 		} else if (node instanceof AbstractTypeDeclaration) {
-			IBinding binding= ((AbstractTypeDeclaration) node).resolveBinding();
-			res.add(createBinding(node, binding));
+			res.add(createBinding(node, "resolveBinding", ((AbstractTypeDeclaration) node)::resolveBinding)); //$NON-NLS-1$
 		} else if (node instanceof AnnotationTypeMemberDeclaration) {
-			IBinding binding= ((AnnotationTypeMemberDeclaration) node).resolveBinding();
-			res.add(createBinding(node, binding));
+			res.add(createBinding(node, "resolveBinding", ((AnnotationTypeMemberDeclaration) node)::resolveBinding)); //$NON-NLS-1$
 		} else if (node instanceof EnumConstantDeclaration) {
-			IBinding binding= ((EnumConstantDeclaration) node).resolveVariable();
-			res.add(createBinding(node, binding));
-			IBinding binding2= ((EnumConstantDeclaration) node).resolveConstructorBinding();
-			res.add(createBinding(node, binding2));
+			res.add(createBinding(node, "resolveVariable", ((EnumConstantDeclaration) node)::resolveVariable)); //$NON-NLS-1$
+			res.add(createBinding(node, "resolveConstructorBinding", ((EnumConstantDeclaration) node)::resolveConstructorBinding)); //$NON-NLS-1$
 		} else if (node instanceof MethodDeclaration) {
-			IBinding binding= ((MethodDeclaration) node).resolveBinding();
-			res.add(createBinding(node, binding));
+			res.add(createBinding(node, "resolveBinding", ((MethodDeclaration) node)::resolveBinding)); //$NON-NLS-1$
 		} else if (node instanceof VariableDeclaration) {
-			IBinding binding= ((VariableDeclaration) node).resolveBinding();
-			res.add(createBinding(node, binding));
+			res.add(createBinding(node, "resolveBinding", ((VariableDeclaration) node)::resolveBinding)); //$NON-NLS-1$
 		} else if (node instanceof AnonymousClassDeclaration) {
-			IBinding binding= ((AnonymousClassDeclaration) node).resolveBinding();
-			res.add(createBinding(node, binding));
+			res.add(createBinding(node, "resolveBinding", ((AnonymousClassDeclaration) node)::resolveBinding)); //$NON-NLS-1$
 		} else if (node instanceof ImportDeclaration) {
-			IBinding binding= ((ImportDeclaration) node).resolveBinding();
-			res.add(createBinding(node, binding));
+			res.add(createBinding(node, "resolveBinding", ((ImportDeclaration) node)::resolveBinding)); //$NON-NLS-1$
 		} else if (node instanceof PackageDeclaration) {
-			IBinding binding= ((PackageDeclaration) node).resolveBinding();
-			res.add(createBinding(node, binding));
+			res.add(createBinding(node, "resolveBinding", ((PackageDeclaration) node)::resolveBinding)); //$NON-NLS-1$
 		} else if (node instanceof TypeParameter) {
-			IBinding binding= ((TypeParameter) node).resolveBinding();
-			res.add(createBinding(node, binding));
+			res.add(createBinding(node, "resolveBinding", ((TypeParameter) node)::resolveBinding)); //$NON-NLS-1$
 		} else if (node instanceof MemberValuePair) {
-			IBinding binding= ((MemberValuePair) node).resolveMemberValuePairBinding();
-			res.add(createBinding(node, binding));
+			res.add(createBinding(node, "resolveMemberValuePairBinding", ((MemberValuePair) node)::resolveMemberValuePairBinding)); //$NON-NLS-1$
 		} else if (node instanceof ModuleDeclaration) {
-			IBinding binding= ((ModuleDeclaration) node).resolveBinding();
-			res.add(createBinding(node, binding));
+			res.add(createBinding(node, "resolveBinding", ((ModuleDeclaration) node)::resolveBinding)); //$NON-NLS-1$
 		}
 
 
@@ -229,11 +274,23 @@ public class ASTViewContentProvider implements ITreeContentProvider {
 		return res.toArray();
 	}
 
+	private Binding createBinding(ASTNode parent, String property, Supplier<? extends IBinding> resolver) {
+		if (fLazy) {
+			return new Binding(parent, null, property, resolver, true);
+		}
+		return createBinding(parent, resolver.get());
+	}
+
 	private Binding createBinding(ASTNode parent, IBinding binding) {
 		String label= Binding.getBindingLabel(binding);
 		return new Binding(parent, label, binding, true);
 	}
 
+	private Object createExpressionTypeBinding(ASTNode parent, String property, Supplier<ITypeBinding> resolver) {
+		String label= "> (Expression) type binding"; //$NON-NLS-1$
+		return new Binding(parent, label, property, resolver, true);
+	}
+
 	private Object createExpressionTypeBinding(ASTNode parent, ITypeBinding binding) {
 		String label= "> (Expression) type binding"; //$NON-NLS-1$
 		return new Binding(parent, label, binding, true);
@@ -241,6 +298,14 @@ public class ASTViewContentProvider implements ITreeContentProvider {
 
 	@Override
 	public boolean hasChildren(Object parent) {
+		if (fLazy) {
+			if (parent instanceof ASTNode) {
+				return true; // every node has structural properties
+			} else if (parent instanceof Binding) {
+				Binding binding= (Binding) parent;
+				return !binding.isResolved() || binding.getChildren().length > 0;
+			}
+		}
 		return getChildren(parent).length > 0;
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.jdt.astview.views;
 import java.util.ArrayList;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.astview.ASTViewPlugin;
 
@@ -38,7 +39,10 @@ import org.eclipse.jdt.core.dom.StringLiteral;
 
 public class Binding extends ASTAttribute {
 
-	private final IBinding fBinding;
+	private IBinding fBinding;
+	private Supplier<? extends IBinding> fResolver;
+	private final String fProperty;
+	private RuntimeException fResolveException;
 	private final String fLabel;
 	private final Object fParent;
 	private final boolean fIsRelevant;
@@ -46,6 +50,27 @@ public class Binding extends ASTAttribute {
 	public Binding(Object parent, String label, IBinding binding, boolean isRelevant) {
 		fParent= parent;
 		fBinding= binding;
+		fProperty= null;
+		fLabel= label;
+		fIsRelevant= isRelevant;
+	}
+
+	/**
+	 * Creates a binding attribute that resolves the binding only when it is first needed,
+	 * e.g. when the node is expanded.
+	 *
+	 * @param parent the parent
+	 * @param label the label, or <code>null</code> to use {@link #getBindingLabel(IBinding)}
+	 * @param property identifies the binding among the bindings of the parent, e.g. the name of
+	 *            the resolve method. Used instead of the binding for equality, so that comparing
+	 *            does not resolve
+	 * @param resolver resolves the binding
+	 * @param isRelevant whether the binding is relevant
+	 */
+	public Binding(Object parent, String label, String property, Supplier<? extends IBinding> resolver, boolean isRelevant) {
+		fParent= parent;
+		fProperty= property;
+		fResolver= resolver;
 		fLabel= label;
 		fIsRelevant= isRelevant;
 	}
@@ -56,11 +81,28 @@ public class Binding extends ASTAttribute {
 	}
 
 	public IBinding getBinding() {
+		resolve();
 		return fBinding;
 	}
 
+	public boolean isResolved() {
+		return fResolver == null;
+	}
+
+	private void resolve() {
+		if (fResolver != null) {
+			try {
+				fBinding= fResolver.get();
+			} catch (RuntimeException e) {
+				fResolveException= e;
+				ASTViewPlugin.log("Exception thrown while resolving binding of \"" + fParent + "\"", e);
+			}
+			fResolver= null;
+		}
+	}
 
 	public boolean hasBindingProperties() {
+		resolve();
 		return fBinding != null;
 	}
 
@@ -75,6 +117,10 @@ public class Binding extends ASTAttribute {
 
 	@Override
 	public Object[] getChildren() {
+		resolve();
+		if (fResolveException != null) {
+			return new Object[] { new Error(this, "Error: " + fResolveException.getMessage(), fResolveException) };
+		}
 		try {
 			if (fBinding != null) {
 				fBinding.getKey();
@@ -344,7 +390,14 @@ public class Binding extends ASTAttribute {
 	@SuppressWarnings("incomplete-switch")
 	@Override
 	public String getLabel() {
-		StringBuffer buf= new StringBuffer(fLabel);
+		String label= fLabel != null ? fLabel : getBindingLabel(fBinding);
+		if (fResolver != null) {
+			return label + ": (expand to resolve)"; //$NON-NLS-1$
+		}
+		if (fResolveException != null) {
+			return label + ": Error: " + fResolveException.getMessage(); //$NON-NLS-1$
+		}
+		StringBuffer buf= new StringBuffer(label);
 		buf.append(": "); //$NON-NLS-1$
 		if (fBinding != null) {
 			switch (fBinding.getKind()) {
@@ -437,11 +490,16 @@ public class Binding extends ASTAttribute {
 			return false;
 		}
 
-		if (!Objects.equals(fBinding, other.fBinding)) {
+		if (!Objects.equals(fLabel, other.fLabel)) {
 			return false;
 		}
 
-		if (!Objects.equals(fLabel, other.fLabel)) {
+		if (!Objects.equals(fProperty, other.fProperty)) {
+			return false;
+		}
+
+		// a deferred binding is identified by its parent node and property, it must not be resolved here
+		if (fProperty == null && !Objects.equals(fBinding, other.fBinding)) {
 			return false;
 		}
 
@@ -453,9 +511,10 @@ public class Binding extends ASTAttribute {
 	 */
 	@Override
 	public int hashCode() {
+		// must not resolve a deferred binding, and must not change when it gets resolved
 		int result= fParent != null ? fParent.hashCode() : 0;
-		result+= (fBinding != null && fBinding.getKey() != null) ? fBinding.getKey().hashCode() : 0;
 		result+= fLabel != null ? fLabel.hashCode() : 0;
+		result+= fProperty != null ? fProperty.hashCode() : 0;
 		return result;
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -81,6 +81,10 @@ public class NodeProperty extends ASTAttribute {
 		return fParent.getStructuralProperty(fProperty);
 	}
 
+	public StructuralPropertyDescriptor getProperty() {
+		return fProperty;
+	}
+
 	public String getPropertyName() {
 		return toConstantName(fProperty.getId());
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eric Bruneton and others.
+ * Copyright (c) 2023, 2026 Eric Bruneton and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,15 +15,15 @@
 package org.eclipse.jdt.bcoview.asm;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.tree.ClassNode;
 
-import org.eclipse.jdt.bcoview.ui.JdtUtils;
-
 import org.eclipse.jface.text.ITextSelection;
 
 import org.eclipse.jdt.core.IClassFile;
@@ -31,12 +31,10 @@ import org.eclipse.jdt.core.IJavaElement;
 
 public class DecompiledClass {
 
-	/** key is DecompiledMethod, value is IJavaElement (Member) */
-	private final Map<DecompiledMethod, IJavaElement> methodToJavaElt;
-
 	private final List<Object> text;
 
-	private String value;
+	/** the text, computed lazily; instances are shared between threads by the cache */
+	private volatile String value;
 
 	private final ClassNode classNode;
 
@@ -44,11 +42,98 @@ public class DecompiledClass {
 
 	private final DecompiledClassInfo classInfo;
 
+	/** the methods, in text order */
+	private final DecompiledMethod[] methods;
+
+	/** class absolute decompiled line of the first line of each method */
+	private final int[] methodStartLines;
+
+	/** class absolute decompiled line after the last line of each method, not decreasing */
+	private final int[] methodEndLines;
+
+	/** key is DecompiledMethod (identity), value is the decompiled line of its first line */
+	private final Map<DecompiledMethod, Integer> methodLines;
+
+	/** key is method signature, value is the decompiled line of the first method with it */
+	private final Map<String, Integer> signatureLines;
+
+	/** source lines with bytecode, ascending */
+	private final int[] sourceLineIndex;
+
+	/** class absolute decompiled line of the first bytecode of each source line in sourceLineIndex */
+	private final int[] decompiledLineIndex;
+
 	public DecompiledClass(final List<Object> text, DecompiledClassInfo classInfo, ClassNode classNode) {
 		this.text = text;
 		this.classInfo = classInfo;
 		this.classNode = classNode;
-		methodToJavaElt = new HashMap<>();
+
+		int methodCount = 0;
+		for (Object o : text) {
+			if (o instanceof DecompiledMethod) {
+				methodCount++;
+			}
+		}
+		methods = new DecompiledMethod[methodCount];
+		methodStartLines = new int[methodCount];
+		methodEndLines = new int[methodCount];
+		methodLines = new IdentityHashMap<>();
+		signatureLines = new HashMap<>();
+		// the first method with bytecode for a source line wins
+		Map<Integer, Integer> decompiledLines = new HashMap<>();
+		int currentDecompiledLine = 0;
+		int i = 0;
+		for (Object o : text) {
+			if (o instanceof DecompiledMethod) {
+				DecompiledMethod m = (DecompiledMethod) o;
+				Integer startLine = Integer.valueOf(currentDecompiledLine);
+				methods[i] = m;
+				methodStartLines[i] = currentDecompiledLine;
+				methodEndLines[i] = currentDecompiledLine + m.getLineCount();
+				methodLines.putIfAbsent(m, startLine);
+				signatureLines.putIfAbsent(m.getSignature(), startLine);
+				int[] sourceLines = m.getSourceLineIndex();
+				int[] methodDecompiledLines = m.getDecompiledLineIndex();
+				for (int j = 0; j < sourceLines.length; j++) {
+					decompiledLines.putIfAbsent(Integer.valueOf(sourceLines[j]), Integer.valueOf(currentDecompiledLine + methodDecompiledLines[j]));
+				}
+				currentDecompiledLine += m.getLineCount();
+				i++;
+			} else {
+				currentDecompiledLine++;
+			}
+		}
+		sourceLineIndex = new int[decompiledLines.size()];
+		i = 0;
+		for (Integer sourceLine : decompiledLines.keySet()) {
+			sourceLineIndex[i++] = sourceLine.intValue();
+		}
+		Arrays.sort(sourceLineIndex);
+		decompiledLineIndex = new int[sourceLineIndex.length];
+		for (i = 0; i < sourceLineIndex.length; i++) {
+			decompiledLineIndex[i] = decompiledLines.get(Integer.valueOf(sourceLineIndex[i])).intValue();
+		}
+	}
+
+	/**
+	 * Method relative decompiled lines range from 0 to the line count of the method, so only the
+	 * methods returned by this and the following indices can contain a class absolute line.
+	 *
+	 * @param decompiledLine class absolute decompiled line
+	 * @return index of the first method which ends at or after the given line
+	 */
+	private int getFirstMethodAt(int decompiledLine) {
+		int low = 0;
+		int high = methods.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (methodEndLines[mid] < decompiledLine) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
 	}
 
 	/**
@@ -64,7 +149,8 @@ public class DecompiledClass {
 	}
 
 	public String getText() {
-		if (value == null) {
+		String result = value;
+		if (result == null) {
 			StringBuffer buf = new StringBuffer();
 			for (Object o : text) {
 				if (o instanceof DecompiledMethod) {
@@ -73,9 +159,10 @@ public class DecompiledClass {
 					buf.append(o);
 				}
 			}
-			value = buf.toString();
+			result = buf.toString();
+			value = result;
 		}
-		return value;
+		return result;
 	}
 
 	public String[][] getTextTable() {
@@ -95,68 +182,39 @@ public class DecompiledClass {
 	}
 
 	public int getBytecodeOffset(final int decompiledLine) {
-		int currentDecompiledLine = 0;
-		for (Object o : text) {
-			if (o instanceof DecompiledMethod) {
-				DecompiledMethod m = (DecompiledMethod) o;
-				Integer offset = m.getBytecodeOffset(decompiledLine - currentDecompiledLine);
-				if (offset != null) {
-					return offset.intValue();
-				}
-				currentDecompiledLine += m.getLineCount();
-			} else {
-				currentDecompiledLine++;
+		for (int i = getFirstMethodAt(decompiledLine); i < methods.length && methodStartLines[i] <= decompiledLine; i++) {
+			Integer offset = methods[i].getBytecodeOffset(decompiledLine - methodStartLines[i]);
+			if (offset != null) {
+				return offset.intValue();
 			}
 		}
 		return -1;
 	}
 
 	public int getBytecodeInsn(final int decompiledLine) {
-		int currentDecompiledLine = 0;
-		for (Object o : text) {
-			if (o instanceof DecompiledMethod) {
-				DecompiledMethod m = (DecompiledMethod) o;
-				Integer opcode = m.getBytecodeInsn(decompiledLine - currentDecompiledLine);
-				if (opcode != null) {
-					return opcode.intValue();
-				}
-				currentDecompiledLine += m.getLineCount();
-			} else {
-				currentDecompiledLine++;
+		for (int i = getFirstMethodAt(decompiledLine); i < methods.length && methodStartLines[i] <= decompiledLine; i++) {
+			Integer opcode = methods[i].getBytecodeInsn(decompiledLine - methodStartLines[i]);
+			if (opcode != null) {
+				return opcode.intValue();
 			}
 		}
 		return -1;
 	}
 
 	public int getSourceLine(final int decompiledLine) {
-		int currentDecompiledLine = 0;
-		for (Object o : text) {
-			if (o instanceof DecompiledMethod) {
-				DecompiledMethod m = (DecompiledMethod) o;
-				int l = m.getSourceLine(decompiledLine - currentDecompiledLine);
-				if (l != -1) {
-					return l;
-				}
-				currentDecompiledLine += m.getLineCount();
-			} else {
-				currentDecompiledLine++;
+		for (int i = getFirstMethodAt(decompiledLine); i < methods.length && methodStartLines[i] <= decompiledLine; i++) {
+			int l = methods[i].getSourceLine(decompiledLine - methodStartLines[i]);
+			if (l != -1) {
+				return l;
 			}
 		}
 		return -1;
 	}
 
 	public DecompiledMethod getMethod(final int decompiledLine) {
-		int currentDecompiledLine = 0;
-		for (Object o : text) {
-			if (o instanceof DecompiledMethod) {
-				DecompiledMethod m = (DecompiledMethod) o;
-				int l = m.getSourceLine(decompiledLine - currentDecompiledLine);
-				if (l != -1) {
-					return m;
-				}
-				currentDecompiledLine += m.getLineCount();
-			} else {
-				currentDecompiledLine++;
+		for (int i = getFirstMethodAt(decompiledLine); i < methods.length && methodStartLines[i] <= decompiledLine; i++) {
+			if (methods[i].getSourceLine(decompiledLine - methodStartLines[i]) != -1) {
+				return methods[i];
 			}
 		}
 		return null;
@@ -165,34 +223,16 @@ public class DecompiledClass {
 	public IJavaElement getJavaElement(int decompiledLine, IClassFile clazz) {
 		DecompiledMethod method = getMethod(decompiledLine);
 		if (method != null) {
-			IJavaElement javaElement = methodToJavaElt.get(method);
-			if (javaElement == null) {
-				javaElement = JdtUtils.getMethod(clazz, method.getSignature());
-				if (javaElement != null) {
-					methodToJavaElt.put(method, javaElement);
-				} else {
-					javaElement = clazz;
-				}
-			}
-			return javaElement;
+			// the element belongs to the class file, not to this instance which may be shared
+			IJavaElement javaElement = DecompiledClassCache.getDefault().getMethod(clazz, method.getSignature());
+			return javaElement != null ? javaElement : clazz;
 		}
 		return clazz;
 	}
 
 	public int getDecompiledLine(String methSignature) {
-		int currentDecompiledLine = 0;
-		for (Object o : text) {
-			if (o instanceof DecompiledMethod) {
-				DecompiledMethod m = (DecompiledMethod) o;
-				if (methSignature.equals(m.getSignature())) {
-					return currentDecompiledLine;
-				}
-				currentDecompiledLine += m.getLineCount();
-			} else {
-				currentDecompiledLine++;
-			}
-		}
-		return 0;
+		Integer line = signatureLines.get(methSignature);
+		return line == null ? 0 : line.intValue();
 	}
 
 	public String[][][] getFrameTablesForInsn(final int insn, boolean useQualifiedNames) {
@@ -209,37 +249,18 @@ public class DecompiledClass {
 	}
 
 	public String[][][] getFrameTables(final int decompiledLine, boolean useQualifiedNames) {
-		int currentDecompiledLine = 0;
-		for (Object o : text) {
-			if (o instanceof DecompiledMethod) {
-				DecompiledMethod m = (DecompiledMethod) o;
-				String[][][] frame = m.getFrameTables(decompiledLine - currentDecompiledLine, useQualifiedNames);
-				if (frame != null) {
-					return frame;
-				}
-				currentDecompiledLine += m.getLineCount();
-			} else {
-				currentDecompiledLine++;
+		for (int i = getFirstMethodAt(decompiledLine); i < methods.length && methodStartLines[i] <= decompiledLine; i++) {
+			String[][][] frame = methods[i].getFrameTables(decompiledLine - methodStartLines[i], useQualifiedNames);
+			if (frame != null) {
+				return frame;
 			}
 		}
 		return null;
 	}
 
 	public int getDecompiledLine(final int sourceLine) {
-		int currentDecompiledLine = 0;
-		for (Object o : text) {
-			if (o instanceof DecompiledMethod) {
-				DecompiledMethod m = (DecompiledMethod) o;
-				int l = m.getDecompiledLine(sourceLine);
-				if (l != -1) {
-					return l + currentDecompiledLine;
-				}
-				currentDecompiledLine += m.getLineCount();
-			} else {
-				currentDecompiledLine++;
-			}
-		}
-		return -1;
+		int i = Arrays.binarySearch(sourceLineIndex, sourceLine);
+		return i < 0 ? -1 : decompiledLineIndex[i];
 	}
 
 	/**
@@ -250,19 +271,8 @@ public class DecompiledClass {
 	 * @return class absolute decompiled line
 	 */
 	public int getDecompiledLine(final DecompiledMethod m1, final int decompiledLine) {
-		int currentDecompiledLine = 0;
-		for (Object o : text) {
-			if (o instanceof DecompiledMethod) {
-				if (o == m1) {
-					return currentDecompiledLine + decompiledLine;
-				}
-				DecompiledMethod m = (DecompiledMethod) o;
-				currentDecompiledLine += m.getLineCount();
-			} else {
-				currentDecompiledLine++;
-			}
-		}
-		return -1;
+		Integer line = methodLines.get(m1);
+		return line == null ? -1 : line.intValue() + decompiledLine;
 	}
 
 	public List<Integer> getErrorLines() {
@@ -362,6 +372,13 @@ public class DecompiledClass {
 		return new LineRange(startDecompiledLine, endDecompiledLine);
 	}
 
+	/**
+	 * @return the decompiled methods, in text order
+	 */
+	public List<DecompiledMethod> getMethods() {
+		return List.of(methods);
+	}
+
 	public ClassNode getClassNode() {
 		return classNode;
 	}
@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.bcoview.asm;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.jdt.bcoview.ui.JdtUtils;
+
+import org.eclipse.jdt.core.IClassFile;
+import org.eclipse.jdt.core.IJavaElement;
+
+/**
+ * Decompiled classes, keyed by the content of the class file and the decompiler options. A class
+ * file which is rewritten by the builder gets a new entry, the old one is evicted eventually.
+ * <p>
+ * The least recently used entries are evicted if the total size of the cached class files exceeds
+ * the limit. The decompiled form of a class uses a multiple of the memory of its class file.
+ * <p>
+ * The Java elements of the methods are kept apart from the decompiled classes, keyed by the class
+ * file they belong to, since equal bytecode can be read from different class files.
+ */
+public class DecompiledClassCache {
+
+	/** limit of the total size of the cached class files, in bytes */
+	private static final long MAX_SIZE = 2 * 1024 * 1024;
+
+	/** limit of the number of class files whose Java elements are cached */
+	private static final int MAX_CLASS_FILES = 64;
+
+	private static final DecompiledClassCache INSTANCE = new DecompiledClassCache(MAX_SIZE);
+
+	private final long maxSize;
+
+	private final Map<Key, DecompiledClass> entries;
+
+	private long size;
+
+	/** key is class file, value maps method signatures to the Java elements */
+	private final Map<IClassFile, Map<String, IJavaElement>> javaElements;
+
+	/**
+	 * Creates a cache. Clients should use the shared cache from {@link #getDefault()}.
+	 *
+	 * @param maxSize limit of the total size of the cached class files, in bytes
+	 */
+	public DecompiledClassCache(long maxSize) {
+		this.maxSize = maxSize;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true);
+		this.javaElements = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<IClassFile, Map<String, IJavaElement>> eldest) {
+				return size() > MAX_CLASS_FILES;
+			}
+		};
+	}
+
+	public static DecompiledClassCache getDefault() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns the decompiled class from the cache, or decompiles the class and adds it to the cache.
+	 * Clients must not modify the returned class.
+	 *
+	 * @param bytes content of the class file
+	 * @param options decompiler options, the modes are copied
+	 * @return decompiled class, never null
+	 * @throws UnsupportedClassVersionError if the class file version is not supported
+	 */
+	public DecompiledClass getDecompiledClass(byte[] bytes, DecompilerOptions options) throws UnsupportedClassVersionError {
+		Key key = new Key(bytes, options);
+		synchronized (this) {
+			DecompiledClass decompiledClass = entries.get(key);
+			if (decompiledClass != null) {
+				return decompiledClass;
+			}
+		}
+		DecompiledClass decompiledClass = DecompilerHelper.getDecompiledClass(bytes, new DecompilerOptions(key.fieldFilter, key.methodFilter, key.modes));
+		decompiledClass.setClassSize(bytes.length);
+		if (bytes.length <= maxSize) {
+			synchronized (this) {
+				if (entries.put(key, decompiledClass) == null) {
+					size += bytes.length;
+				}
+				evict();
+			}
+		}
+		return decompiledClass;
+	}
+
+	/**
+	 * Returns the method or initializer with the given signature in the given class file.
+	 *
+	 * @param clazz class file
+	 * @param signature method signature, as returned by {@link DecompiledMethod#getSignature()}
+	 * @return Java element, or null if the class file has no such method
+	 */
+	public IJavaElement getMethod(IClassFile clazz, String signature) {
+		synchronized (this) {
+			Map<String, IJavaElement> methods = javaElements.get(clazz);
+			if (methods != null) {
+				IJavaElement javaElement = methods.get(signature);
+				if (javaElement != null) {
+					return javaElement;
+				}
+			}
+		}
+		IJavaElement javaElement = JdtUtils.getMethod(clazz, signature);
+		if (javaElement != null) {
+			synchronized (this) {
+				javaElements.computeIfAbsent(clazz, c -> new HashMap<>()).put(signature, javaElement);
+			}
+		}
+		return javaElement;
+	}
+
+	private void evict() {
+		Iterator<Key> iterator = entries.keySet().iterator();
+		while (size > maxSize && iterator.hasNext()) {
+			size -= iterator.next().bytes.length;
+			iterator.remove();
+		}
+	}
+
+	private static final class Key {
+
+		final byte[] bytes;
+
+		final int hash;
+
+		final String fieldFilter;
+
+		final String methodFilter;
+
+		final BitSet modes;
+
+		Key(byte[] bytes, DecompilerOptions options) {
+			this.bytes = bytes;
+			this.fieldFilter = options.fieldFilter;
+			this.methodFilter = options.methodFilter;
+			this.modes = (BitSet) options.modes.clone();
+			this.hash = Objects.hash(Integer.valueOf(Arrays.hashCode(bytes)), fieldFilter, methodFilter, modes);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return hash == other.hash
+					&& Objects.equals(fieldFilter, other.fieldFilter)
+					&& Objects.equals(methodFilter, other.methodFilter)
+					&& modes.equals(other.modes)
+					&& Arrays.equals(bytes, other.bytes);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+}
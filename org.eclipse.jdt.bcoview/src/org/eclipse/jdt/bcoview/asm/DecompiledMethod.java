@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eric Bruneton and others.
+ * Copyright (c) 2023, 2026 Eric Bruneton and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,10 +15,10 @@
 package org.eclipse.jdt.bcoview.asm;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import org.objectweb.asm.Label;
 import org.objectweb.asm.Opcodes;
@@ -55,6 +55,16 @@ public class DecompiledMethod {
 	 */
 	private final Map<Integer, Integer> decompiledLines;
 
+	/**
+	 * source lines with bytecode, ascending
+	 */
+	private int[] sourceLineIndex;
+
+	/**
+	 * decompiled line of the first bytecode of each source line in sourceLineIndex
+	 */
+	private int[] decompiledLineIndex;
+
 	/**
 	 * decompiled line -> insn
 	 */
@@ -113,6 +123,8 @@ public class DecompiledMethod {
 		this.insns = new HashMap<>();
 		this.opcodes = new HashMap<>();
 		this.insnLines = new HashMap<>();
+		this.sourceLineIndex = new int[0];
+		this.decompiledLineIndex = new int[0];
 	}
 
 	void setText(List<?> inputText) {
@@ -151,27 +163,15 @@ public class DecompiledMethod {
 		if (!containsSource(sourceLine)) {
 			return -1;
 		}
-		Set<Integer> set = decompiledLines.keySet();
-		if (set.size() == 0) {
-			return -1;
-		}
-		int bestMatch = -1;
-		for (Integer integer : set) {
-			int line = integer.intValue();
-			int delta = sourceLine - line;
-			if (delta < 0) {
-				continue;
-			} else if (delta == 0) {
-				return line;
-			}
-			if (bestMatch < 0 || delta < sourceLine - bestMatch) {
-				bestMatch = line;
+		int i = Arrays.binarySearch(sourceLineIndex, sourceLine);
+		if (i < 0) {
+			// the nearest source line above
+			i = -i - 2;
+			if (i < 0) {
+				return -1;
 			}
 		}
-		if (bestMatch < 0) {
-			return -1;
-		}
-		return decompiledLines.get(Integer.valueOf(bestMatch)).intValue();
+		return decompiledLineIndex[i];
 	}
 
 	private void analyzeMethod() {
@@ -306,6 +306,35 @@ public class DecompiledMethod {
 		lineCount = currentDecompiledLine;
 		firstSourceLine = firstLine;
 		lastSourceLine = lastLine;
+		computeIndex();
+	}
+
+	private void computeIndex() {
+		sourceLineIndex = new int[decompiledLines.size()];
+		int i = 0;
+		for (Integer sourceLine : decompiledLines.keySet()) {
+			sourceLineIndex[i++] = sourceLine.intValue();
+		}
+		Arrays.sort(sourceLineIndex);
+		decompiledLineIndex = new int[sourceLineIndex.length];
+		for (i = 0; i < sourceLineIndex.length; i++) {
+			decompiledLineIndex[i] = decompiledLines.get(Integer.valueOf(sourceLineIndex[i])).intValue();
+		}
+	}
+
+	/**
+	 * @return source lines with bytecode, ascending
+	 */
+	int[] getSourceLineIndex() {
+		return sourceLineIndex;
+	}
+
+	/**
+	 * @return method relative decompiled line of the first bytecode of each source line in
+	 *         {@link #getSourceLineIndex()}
+	 */
+	int[] getDecompiledLineIndex() {
+		return decompiledLineIndex;
 	}
 
 	public String getText() {
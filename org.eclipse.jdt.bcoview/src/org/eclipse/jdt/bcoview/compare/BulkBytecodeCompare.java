@@ -0,0 +1,337 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.bcoview.compare;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.jdt.bcoview.asm.DecompiledClass;
+import org.eclipse.jdt.bcoview.asm.DecompiledMethod;
+import org.eclipse.jdt.bcoview.asm.DecompilerHelper;
+import org.eclipse.jdt.bcoview.asm.DecompilerOptions;
+import org.eclipse.jdt.bcoview.internal.Messages;
+import org.eclipse.jdt.bcoview.preferences.BCOConstants;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+/**
+ * Compares all class files of two output folders or JAR files, for example to verify which
+ * classes changed after a compiler or JDK upgrade. Does not depend on the workbench, so it can
+ * be used headless.
+ * <p>
+ * Class files with the same name are decompiled in parallel and compared by their decompiled
+ * text, so differences which are not shown with the given decompiler options (like line numbers
+ * or local variable names) are ignored. Class files with identical content are not decompiled at
+ * all.
+ */
+public class BulkBytecodeCompare {
+
+	public enum Kind {
+		/** the class exists on the right side only */
+		ADDED,
+		/** the class exists on the left side only */
+		REMOVED,
+		/** the decompiled class differs */
+		CHANGED
+	}
+
+	/**
+	 * A class which differs between both sides.
+	 */
+	public static final class ClassDifference {
+
+		/** path of the class file in the folder or JAR, like "p/A$B.class" */
+		public final String name;
+
+		public final Kind kind;
+
+		/**
+		 * signatures (name and descriptor) of the methods which are added, removed or changed.
+		 * Empty if the class was added or removed, or if only the class declaration or fields
+		 * changed.
+		 */
+		public final List<String> methods;
+
+		ClassDifference(String name, Kind kind, List<String> methods) {
+			this.name = name;
+			this.kind = kind;
+			this.methods = methods;
+		}
+
+		@Override
+		public String toString() {
+			return kind + " " + name + (methods.isEmpty() ? "" : " " + methods); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	private static final String CLASS_FILE_EXTENSION = ".class"; //$NON-NLS-1$
+
+	private final File left;
+
+	private final File right;
+
+	private final DecompilerOptions options;
+
+	/**
+	 * @param left output folder or JAR file
+	 * @param right output folder or JAR file
+	 * @param options decompiler options, the field and method filters are ignored
+	 */
+	public BulkBytecodeCompare(File left, File right, DecompilerOptions options) {
+		this.left = left;
+		this.right = right;
+		BitSet modes = (BitSet) options.modes.clone();
+		// the verifier frames are not part of the text
+		modes.clear(BCOConstants.F_SHOW_ANALYZER);
+		this.options = new DecompilerOptions(null, null, modes);
+	}
+
+	public File getLeft() {
+		return left;
+	}
+
+	public File getRight() {
+		return right;
+	}
+
+	public DecompilerOptions getOptions() {
+		return options;
+	}
+
+	/**
+	 * Compares all class files of both sides. The listener is notified about each difference as
+	 * soon as it is found, so the order of the notifications is not defined. The listener is never
+	 * called concurrently.
+	 *
+	 * @param listener receives the differences, can be null
+	 * @param monitor progress monitor, checked for cancellation
+	 * @return the differences, sorted by class name
+	 * @throws IOException if a class file cannot be read
+	 * @throws OperationCanceledException if the monitor was cancelled
+	 */
+	public List<ClassDifference> compare(Consumer<ClassDifference> listener, IProgressMonitor monitor) throws IOException {
+		try (ClassContainer leftContainer = open(left); ClassContainer rightContainer = open(right)) {
+			TreeSet<String> names = new TreeSet<>(leftContainer.getClassNames());
+			names.addAll(rightContainer.getClassNames());
+			monitor.beginTask(Messages.BytecodeCompare_comparing, names.size());
+			List<ClassDifference> result = new ArrayList<>();
+			Object lock = new Object();
+			try {
+				names.parallelStream().forEach(name -> {
+					if (monitor.isCanceled()) {
+						throw new OperationCanceledException();
+					}
+					ClassDifference difference = compareClass(name, leftContainer, rightContainer);
+					synchronized (lock) {
+						if (difference != null) {
+							result.add(difference);
+							if (listener != null) {
+								listener.accept(difference);
+							}
+						}
+						monitor.worked(1);
+					}
+				});
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+			result.sort(Comparator.comparing(difference -> difference.name));
+			return result;
+		} finally {
+			monitor.done();
+		}
+	}
+
+	private ClassDifference compareClass(String name, ClassContainer leftContainer, ClassContainer rightContainer) {
+		try {
+			byte[] leftBytes = leftContainer.read(name);
+			byte[] rightBytes = rightContainer.read(name);
+			if (leftBytes == null) {
+				return new ClassDifference(name, Kind.ADDED, Collections.emptyList());
+			}
+			if (rightBytes == null) {
+				return new ClassDifference(name, Kind.REMOVED, Collections.emptyList());
+			}
+			if (Arrays.equals(leftBytes, rightBytes)) {
+				return null;
+			}
+			DecompiledClass leftClass = decompile(leftBytes);
+			DecompiledClass rightClass = decompile(rightBytes);
+			if (leftClass == null || rightClass == null) {
+				// not readable by ASM, but different
+				return new ClassDifference(name, Kind.CHANGED, Collections.emptyList());
+			}
+			if (leftClass.getText().equals(rightClass.getText())) {
+				return null;
+			}
+			return new ClassDifference(name, Kind.CHANGED, getChangedMethods(leftClass, rightClass));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private DecompiledClass decompile(byte[] bytes) {
+		try {
+			return DecompilerHelper.getDecompiledClass(bytes, options);
+		} catch (RuntimeException | UnsupportedClassVersionError e) {
+			return null;
+		}
+	}
+
+	private static List<String> getChangedMethods(DecompiledClass leftClass, DecompiledClass rightClass) {
+		Map<String, String> leftMethods = getMethodTexts(leftClass);
+		Map<String, String> rightMethods = getMethodTexts(rightClass);
+		List<String> changed = new ArrayList<>();
+		for (Map.Entry<String, String> entry : leftMethods.entrySet()) {
+			if (!Objects.equals(entry.getValue(), rightMethods.get(entry.getKey()))) {
+				changed.add(entry.getKey());
+			}
+		}
+		for (String signature : rightMethods.keySet()) {
+			if (!leftMethods.containsKey(signature)) {
+				changed.add(signature);
+			}
+		}
+		return changed;
+	}
+
+	private static Map<String, String> getMethodTexts(DecompiledClass decompiledClass) {
+		Map<String, String> texts = new LinkedHashMap<>();
+		for (DecompiledMethod method : decompiledClass.getMethods()) {
+			texts.putIfAbsent(method.getSignature(), method.getText());
+		}
+		return texts;
+	}
+
+	/**
+	 * Reads a class file from an output folder or JAR file.
+	 *
+	 * @param container output folder or JAR file
+	 * @param name path of the class file in the container
+	 * @return the content of the class file, or null if it does not exist
+	 * @throws IOException if the class file cannot be read
+	 */
+	public static byte[] readClass(File container, String name) throws IOException {
+		try (ClassContainer classContainer = open(container)) {
+			return classContainer.read(name);
+		}
+	}
+
+	private static ClassContainer open(File file) throws IOException {
+		if (file.isDirectory()) {
+			return new FolderContainer(file.toPath());
+		}
+		return new JarContainer(new ZipFile(file));
+	}
+
+	/**
+	 * Class files of an output folder or JAR file. Must be thread safe.
+	 */
+	private interface ClassContainer extends Closeable {
+
+		List<String> getClassNames() throws IOException;
+
+		/**
+		 * @return null if the class file does not exist
+		 */
+		byte[] read(String name) throws IOException;
+	}
+
+	private static final class FolderContainer implements ClassContainer {
+
+		private final Path root;
+
+		FolderContainer(Path root) {
+			this.root = root;
+		}
+
+		@Override
+		public List<String> getClassNames() throws IOException {
+			try (Stream<Path> files = Files.walk(root)) {
+				return files.filter(file -> file.getFileName().toString().endsWith(CLASS_FILE_EXTENSION) && Files.isRegularFile(file))
+						.map(file -> root.relativize(file).toString().replace(File.separatorChar, '/'))
+						.toList();
+			}
+		}
+
+		@Override
+		public byte[] read(String name) throws IOException {
+			Path file = root.resolve(name);
+			return Files.isRegularFile(file) ? Files.readAllBytes(file) : null;
+		}
+
+		@Override
+		public void close() {
+			// nothing to do
+		}
+	}
+
+	private static final class JarContainer implements ClassContainer {
+
+		private final ZipFile jar;
+
+		JarContainer(ZipFile jar) {
+			this.jar = jar;
+		}
+
+		@Override
+		public List<String> getClassNames() {
+			List<String> names = new ArrayList<>();
+			for (Enumeration<? extends ZipEntry> entries = jar.entries(); entries.hasMoreElements();) {
+				ZipEntry entry = entries.nextElement();
+				if (!entry.isDirectory() && entry.getName().endsWith(CLASS_FILE_EXTENSION)) {
+					names.add(entry.getName());
+				}
+			}
+			return names;
+		}
+
+		@Override
+		public byte[] read(String name) throws IOException {
+			ZipEntry entry = jar.getEntry(name);
+			if (entry == null) {
+				return null;
+			}
+			try (InputStream stream = jar.getInputStream(entry)) {
+				return stream.readAllBytes();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			jar.close();
+		}
+	}
+}
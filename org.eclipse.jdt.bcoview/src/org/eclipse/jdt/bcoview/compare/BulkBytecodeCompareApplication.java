@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.bcoview.compare;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.eclipse.jdt.bcoview.asm.DecompilerOptions;
+import org.eclipse.jdt.bcoview.compare.BulkBytecodeCompare.ClassDifference;
+import org.eclipse.jdt.bcoview.preferences.BCOConstants;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.equinox.app.IApplication;
+import org.eclipse.equinox.app.IApplicationContext;
+
+/**
+ * Compares the class files of two output folders or JAR files without a workbench, for build
+ * verification. Prints each class that differs and the changed methods, and exits with 1 if any
+ * class differs.
+ * <p>
+ * Usage: <code>-application org.eclipse.jdt.bcoview.bulkCompare [-showLineInfo] [-showVariables]
+ * [-showStackmap] &lt;left&gt; &lt;right&gt;</code>. Line numbers, local variables and stack map
+ * frames are ignored unless requested.
+ */
+public class BulkBytecodeCompareApplication implements IApplication {
+
+	/** exit code if at least one class differs */
+	private static final Integer EXIT_DIFFERENT = Integer.valueOf(1);
+
+	/** exit code for wrong arguments */
+	private static final Integer EXIT_USAGE = Integer.valueOf(2);
+
+	private static final String USAGE = "Usage: -application org.eclipse.jdt.bcoview.bulkCompare" //$NON-NLS-1$
+			+ " [-showLineInfo] [-showVariables] [-showStackmap] <left folder or JAR> <right folder or JAR>"; //$NON-NLS-1$
+
+	@Override
+	public Object start(IApplicationContext context) throws Exception {
+		Object arguments = context.getArguments().get(IApplicationContext.APPLICATION_ARGS);
+		// null if the application is started without arguments
+		String[] args = arguments instanceof String[] ? (String[]) arguments : new String[0];
+		BitSet modes = new BitSet();
+		List<File> files = new ArrayList<>();
+		for (String arg : args) {
+			switch (arg) {
+				case "-showLineInfo": //$NON-NLS-1$
+					modes.set(BCOConstants.F_SHOW_LINE_INFO);
+					break;
+				case "-showVariables": //$NON-NLS-1$
+					modes.set(BCOConstants.F_SHOW_VARIABLES);
+					break;
+				case "-showStackmap": //$NON-NLS-1$
+					modes.set(BCOConstants.F_SHOW_STACKMAP);
+					break;
+				default:
+					if (arg.startsWith("-")) { //$NON-NLS-1$
+						System.err.println(USAGE);
+						return EXIT_USAGE;
+					}
+					files.add(new File(arg));
+					break;
+			}
+		}
+		if (files.size() != 2 || !files.get(0).exists() || !files.get(1).exists()) {
+			System.err.println(USAGE);
+			return EXIT_USAGE;
+		}
+
+		BulkBytecodeCompare compare = new BulkBytecodeCompare(files.get(0), files.get(1), new DecompilerOptions(null, null, modes));
+		List<ClassDifference> differences = compare.compare(difference -> System.out.println(difference), new NullProgressMonitor());
+		System.out.println(differences.size() + " class files differ"); //$NON-NLS-1$
+		return differences.isEmpty() ? IApplication.EXIT_OK : EXIT_DIFFERENT;
+	}
+
+	@Override
+	public void stop() {
+		// nothing to do
+	}
+}
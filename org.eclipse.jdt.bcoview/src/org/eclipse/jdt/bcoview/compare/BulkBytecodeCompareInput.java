@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.bcoview.compare;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+
+import org.eclipse.jdt.bcoview.compare.BulkBytecodeCompare.ClassDifference;
+import org.eclipse.jdt.bcoview.compare.BulkBytecodeCompare.Kind;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.compare.CompareConfiguration;
+import org.eclipse.compare.CompareEditorInput;
+import org.eclipse.compare.ITypedElement;
+import org.eclipse.compare.structuremergeviewer.DiffNode;
+import org.eclipse.compare.structuremergeviewer.Differencer;
+
+/**
+ * Shows the classes and methods which differ between two output folders or JAR files in the
+ * compare editor. Selecting a class or method shows the differences of its decompiled bytecode.
+ */
+public class BulkBytecodeCompareInput extends CompareEditorInput {
+
+	private final BulkBytecodeCompare compare;
+
+	public BulkBytecodeCompareInput(BulkBytecodeCompare compare) {
+		super(new CompareConfiguration());
+		this.compare = compare;
+	}
+
+	@Override
+	protected Object prepareInput(IProgressMonitor monitor) throws InvocationTargetException, InterruptedException {
+		initLabels();
+		List<ClassDifference> differences;
+		try {
+			differences = compare.compare(difference -> monitor.subTask(difference.toString()), monitor);
+		} catch (IOException e) {
+			throw new InvocationTargetException(e);
+		} catch (OperationCanceledException e) {
+			throw new InterruptedException(e.getMessage());
+		}
+		if (differences.isEmpty()) {
+			return null;
+		}
+		File left = compare.getLeft();
+		File right = compare.getRight();
+		DiffNode root = new DiffNode(Differencer.NO_CHANGE);
+		for (ClassDifference difference : differences) {
+			ITypedElement leftElement = null;
+			ITypedElement rightElement = null;
+			int kind;
+			if (difference.kind == Kind.ADDED) {
+				kind = Differencer.ADDITION;
+			} else if (difference.kind == Kind.REMOVED) {
+				kind = Differencer.DELETION;
+			} else {
+				kind = Differencer.CHANGE;
+			}
+			if (difference.kind != Kind.ADDED) {
+				leftElement = new ClassFileElement(left, difference.name, null, compare.getOptions());
+			}
+			if (difference.kind != Kind.REMOVED) {
+				rightElement = new ClassFileElement(right, difference.name, null, compare.getOptions());
+			}
+			DiffNode node = new DiffNode(root, kind, null, leftElement, rightElement);
+			for (String method : difference.methods) {
+				new DiffNode(node, Differencer.CHANGE, null,
+						new ClassFileElement(left, difference.name, method, compare.getOptions()),
+						new ClassFileElement(right, difference.name, method, compare.getOptions()));
+			}
+		}
+		return root;
+	}
+
+	/**
+	 * Sets up the title and pane labels for the comparison view.
+	 */
+	private void initLabels() {
+		CompareConfiguration cc = getCompareConfiguration();
+		cc.setLeftLabel(compare.getLeft().getPath());
+		cc.setRightLabel(compare.getRight().getPath());
+		setTitle("Bytecode compare: " + compare.getLeft().getName() + " - " + compare.getRight().getName()); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
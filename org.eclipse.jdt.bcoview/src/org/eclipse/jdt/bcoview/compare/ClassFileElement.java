@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.bcoview.compare;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.jdt.bcoview.asm.DecompiledClass;
+import org.eclipse.jdt.bcoview.asm.DecompilerHelper;
+import org.eclipse.jdt.bcoview.asm.DecompilerOptions;
+
+import org.eclipse.swt.graphics.Image;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.compare.BufferedContent;
+import org.eclipse.compare.CompareUI;
+import org.eclipse.compare.ITypedElement;
+
+/**
+ * The decompiled bytecode of a class file in an output folder or JAR file, which is not
+ * necessarily part of the Java model. Used to show the details of a {@link BulkBytecodeCompare}.
+ */
+public class ClassFileElement extends BufferedContent implements ITypedElement {
+
+	private final File container;
+
+	private final String className;
+
+	private final String methodName;
+
+	private final DecompilerOptions options;
+
+	/**
+	 * @param container output folder or JAR file
+	 * @param className path of the class file in the container
+	 * @param methodName signature of the method to show, null to show the whole class
+	 * @param options decompiler options, the field and method filters are ignored
+	 */
+	public ClassFileElement(File container, String className, String methodName, DecompilerOptions options) {
+		this.container = container;
+		this.className = className;
+		this.methodName = methodName;
+		this.options = new DecompilerOptions(null, methodName, options.modes);
+	}
+
+	@Override
+	public String getName() {
+		return methodName != null ? methodName : className;
+	}
+
+	@Override
+	public String getType() {
+		return TypedElement.TYPE_BYTECODE;
+	}
+
+	@Override
+	public Image getImage() {
+		// default image for .class files
+		return CompareUI.getImage("class"); //$NON-NLS-1$
+	}
+
+	@Override
+	protected InputStream createStream() throws CoreException {
+		byte[] classBytes;
+		try {
+			classBytes = BulkBytecodeCompare.readClass(container, className);
+		} catch (IOException e) {
+			classBytes = null;
+		}
+		if (classBytes == null) {
+			throw new CoreException(new Status(
+					IStatus.ERROR, "org.eclipse.jdt.bcoview", -1, //$NON-NLS-1$
+					"Can't read bytecode for: " + container + '/' + className, null)); //$NON-NLS-1$
+		}
+		DecompiledClass decompiledClass;
+		try {
+			decompiledClass = DecompilerHelper.getDecompiledClass(classBytes, options);
+		} catch (UnsupportedClassVersionError e) {
+			throw new CoreException(new Status(
+					IStatus.ERROR, "org.eclipse.jdt.bcoview", -1, //$NON-NLS-1$
+					"Error caused by attempt to load class compiled with Java version which" //$NON-NLS-1$
+					+ " is not supported by current JVM", //$NON-NLS-1$
+					e));
+		}
+		return new ByteArrayInputStream(decompiledClass.getText().getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Andrey Loskutov and others.
+ * Copyright (c) 2023, 2026 Andrey Loskutov and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,7 +19,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.BitSet;
 
 import org.eclipse.jdt.bcoview.asm.DecompiledClass;
-import org.eclipse.jdt.bcoview.asm.DecompilerHelper;
+import org.eclipse.jdt.bcoview.asm.DecompiledClassCache;
 import org.eclipse.jdt.bcoview.asm.DecompilerOptions;
 import org.eclipse.jdt.bcoview.ui.JdtUtils;
 
@@ -103,7 +103,7 @@ public class TypedElement extends BufferedContent implements ITypedElement, IStr
 		}
 		DecompiledClass decompiledClass = null;
 		try {
-			decompiledClass = DecompilerHelper.getDecompiledClass(classBytes, new DecompilerOptions(null, methodName, modes));
+			decompiledClass = DecompiledClassCache.getDefault().getDecompiledClass(classBytes, new DecompilerOptions(null, methodName, modes));
 		} catch (UnsupportedClassVersionError e) {
 			throw new CoreException(new Status(
 					IStatus.ERROR, "org.eclipse.jdt.bcoview", -1, //$NON-NLS-1$
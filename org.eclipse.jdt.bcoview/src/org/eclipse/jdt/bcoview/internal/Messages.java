@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Andrey Loskutov and others.
+ * Copyright (c) 2023, 2026 Andrey Loskutov and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -57,6 +57,7 @@ public class Messages extends NLS {
 
 	public static String BytecodeOutline_Title;
 	public static String BytecodeOutline_Error;
+	public static String BytecodeOutlineView_decompiling;
 	public static String BytecodeOutlineView_lvt_tooltip;
 	public static String BytecodeOutlineView_stack_tooltip;
 	public static String BytecodeOutlineView_lvt_header;
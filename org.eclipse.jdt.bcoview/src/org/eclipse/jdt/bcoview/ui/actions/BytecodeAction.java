@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Andrey Loskutov and others.
+ * Copyright (c) 2023, 2026 Andrey Loskutov and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -89,7 +89,7 @@ public abstract class BytecodeAction implements IObjectActionDelegate {
 		return new TypedElement(name, methodName, TypedElement.TYPE_BYTECODE, javaElement, modes);
 	}
 
-	private static BitSet getModes() {
+	protected static BitSet getModes() {
 		IPreferenceStore store = BytecodeOutlinePlugin.getDefault().getPreferenceStore();
 		BitSet modes = new BitSet();
 		modes.set(BCOConstants.F_LINK_VIEW_TO_EDITOR, store.getBoolean(BCOConstants.LINK_VIEW_TO_EDITOR));
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.bcoview.ui.actions;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.bcoview.BytecodeOutlinePlugin;
+import org.eclipse.jdt.bcoview.asm.DecompilerOptions;
+import org.eclipse.jdt.bcoview.compare.BulkBytecodeCompare;
+import org.eclipse.jdt.bcoview.compare.BulkBytecodeCompareInput;
+
+import org.eclipse.core.runtime.Adapters;
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jface.action.IAction;
+
+import org.eclipse.compare.CompareUI;
+
+/**
+ * Compares all class files of two selected output folders or JAR files.
+ */
+public class CompareBytecodeFoldersAction extends BytecodeAction {
+
+	@Override
+	public void run(IAction action) {
+		List<File> files = getSelectedFiles();
+		if (files.size() != 2) {
+			return;
+		}
+		try {
+			BulkBytecodeCompare compare = new BulkBytecodeCompare(files.get(0), files.get(1), new DecompilerOptions(null, null, getModes()));
+			CompareUI.openCompareEditor(new BulkBytecodeCompareInput(compare));
+		} catch (Exception e) {
+			BytecodeOutlinePlugin.error("Failed to run Compare: " + e.getMessage(), e); //$NON-NLS-1$
+		}
+	}
+
+	private List<File> getSelectedFiles() {
+		List<File> files = new ArrayList<>();
+		for (Object next : selection) {
+			File file = getFile(next);
+			if (file != null) {
+				files.add(file);
+			}
+		}
+		return files;
+	}
+
+	private static File getFile(Object element) {
+		IResource resource = Adapters.adapt(element, IResource.class);
+		if (resource == null) {
+			return null;
+		}
+		IPath location = resource.getLocation();
+		return location == null ? null : location.toFile();
+	}
+}
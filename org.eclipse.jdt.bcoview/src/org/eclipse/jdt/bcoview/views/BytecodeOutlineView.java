@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Andrey Loskutov and others.
+ * Copyright (c) 2023, 2026 Andrey Loskutov and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,8 +28,8 @@ import org.objectweb.asm.util.Printer;
 
 import org.eclipse.jdt.bcoview.BytecodeOutlinePlugin;
 import org.eclipse.jdt.bcoview.asm.DecompiledClass;
+import org.eclipse.jdt.bcoview.asm.DecompiledClassCache;
 import org.eclipse.jdt.bcoview.asm.DecompiledMethod;
-import org.eclipse.jdt.bcoview.asm.DecompilerHelper;
 import org.eclipse.jdt.bcoview.asm.DecompilerOptions;
 import org.eclipse.jdt.bcoview.asm.LineRange;
 import org.eclipse.jdt.bcoview.internal.Messages;
@@ -234,6 +234,9 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 
 	private DecompiledClass lastDecompiledResult;
 
+	/** the job which decompiles the current input, null if the result is shown already */
+	private DecompileJob decompileJob;
+
 	protected Map<String, IAction> globalActions;
 
 	protected List<String> selectionActions;
@@ -826,6 +829,7 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 		javaEditor = null;
 		setJavaInput(null);
 		lastChildElement = null;
+		cancelDecompileJob();
 		lastDecompiledResult = null;
 
 		linkWithEditorAction.dispose();
@@ -1019,6 +1023,7 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 			updateStatus(null, -1, -1);
 		}
 		currentSelection = null;
+		cancelDecompileJob();
 		lastDecompiledResult = null;
 		javaEditor = null;
 		setJavaInput(null);
@@ -1045,37 +1050,78 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 			return;
 		}
 
-		boolean clearOutput = false;
-
 		if (inputChanged || isSelectedElementChanged(childEl)) {
-			DecompiledClass result = decompileBytecode(childEl);
-			if (result == null) {
-				clearOutput = true;
-			} else {
-				boolean hasMethods = !result.isAbstractOrInterface() || result.isDefaultMethodPossible();
-				if (modes.get(BCOConstants.F_SHOW_ANALYZER) && hasMethods) {
-					refreshVerifyView(result);
-				} else {
-					toggleVerifierAction.setEnabled(hasMethods);
-					refreshTextView(result);
-				}
-			}
-			lastDecompiledResult = result;
-		} else if (childEl == null && modes.get(BCOConstants.F_SHOW_ONLY_SELECTED_ELEMENT)) {
-			clearOutput = true;
+			// the old output stays visible until the new one is ready, but the
+			// selection is not mapped anymore
+			lastDecompiledResult = null;
+			lastChildElement = childEl;
+			inputChanged = false;
+			decompileInBackground(childEl);
+			return;
+		}
+		if (childEl == null && modes.get(BCOConstants.F_SHOW_ONLY_SELECTED_ELEMENT)) {
+			clearOutput();
 		}
 
 		lastChildElement = childEl;
-		if (clearOutput) {
-			if (!modes.get(BCOConstants.F_SHOW_ANALYZER)) {
-				IDocument document = new Document(""); //$NON-NLS-1$
-				textViewer.setDocument(document);
+		setSelectionInBytecodeView();
+		inputChanged = false;
+	}
+
+	private void decompileInBackground(IJavaElement childEl) {
+		cancelDecompileJob();
+		// check here for inner classes too
+		IJavaElement type = JdtUtils.getEnclosingType(childEl);
+		if (type == null) {
+			type = javaInput;
+		}
+		decompileJob = new DecompileJob(type, createDecompilerOptions(childEl), DecompiledClassCache.getDefault(), getSite().getShell().getDisplay(), this::decompiled);
+		decompileJob.schedule();
+	}
+
+	private void cancelDecompileJob() {
+		if (decompileJob != null) {
+			decompileJob.cancel();
+			decompileJob = null;
+		}
+	}
+
+	/**
+	 * Shows the result of the decompile job, if it is still the current one. Runs in the UI thread.
+	 *
+	 * @param job finished decompile job
+	 */
+	private void decompiled(DecompileJob job) {
+		if (job != decompileJob) {
+			return;
+		}
+		decompileJob = null;
+		if (job.getErrorMessage() != null) {
+			BytecodeOutlinePlugin.error(job.getErrorMessage(), job.getError());
+		}
+		DecompiledClass result = job.getDecompiledClass();
+		if (result == null) {
+			clearOutput();
+		} else {
+			boolean hasMethods = !result.isAbstractOrInterface() || result.isDefaultMethodPossible();
+			if (modes.get(BCOConstants.F_SHOW_ANALYZER) && hasMethods) {
+				refreshVerifyView(result);
 			} else {
-				setVerifyTableItems(null);
+				toggleVerifierAction.setEnabled(hasMethods);
+				refreshTextView(result);
 			}
 		}
+		lastDecompiledResult = result;
 		setSelectionInBytecodeView();
-		inputChanged = false;
+	}
+
+	private void clearOutput() {
+		if (!modes.get(BCOConstants.F_SHOW_ANALYZER)) {
+			IDocument document = new Document(""); //$NON-NLS-1$
+			textViewer.setDocument(document);
+		} else {
+			setVerifyTableItems(null);
+		}
 	}
 
 	private void refreshTextView(DecompiledClass result) {
@@ -1422,60 +1468,22 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 
 	/**
 	 * @param childEl can be null
-	 * @return return null if type is not known or bytecode is not written or cannot be found
+	 * @return options to decompile the given element, with a copy of the current modes
 	 */
-	private DecompiledClass decompileBytecode(IJavaElement childEl) {
-		// check here for inner classes too
-		IJavaElement type = JdtUtils.getEnclosingType(childEl);
-		if (type == null) {
-			type = javaInput;
-		}
-		if (type == null) {
-			return null;
-		}
-		byte[] bytes = JdtUtils.readClassBytes(type);
-		if (bytes == null) {
-			return null;
-		}
-		DecompiledClass decompiledClass = null;
-		int available = bytes.length;
-		try {
-			String fieldName = null;
-			String methodName = null;
-			/*
-			 * find out, which name we should use for selected element
-			 */
-			if (modes.get(BCOConstants.F_SHOW_ONLY_SELECTED_ELEMENT) && childEl != null) {
-				if (childEl.getElementType() == IJavaElement.FIELD) {
-					fieldName = childEl.getElementName();
-				} else {
-					methodName = JdtUtils.getMethodSignature(childEl);
-				}
-			}
-			decompiledClass = DecompilerHelper.getDecompiledClass(bytes, new DecompilerOptions(fieldName, methodName, modes));
-		} catch (Exception e) {
-			try {
-				// check if compilation unit is ok - then this is the user problem
-				if (type.isStructureKnown()) {
-					BytecodeOutlinePlugin.error("Cannot decompile: " + type, e); //$NON-NLS-1$
-				} else {
-					BytecodeOutlinePlugin.log(e, IStatus.ERROR);
-				}
-			} catch (JavaModelException e1) {
-				// this is compilation problem - don't show the message
-				BytecodeOutlinePlugin.log(e1, IStatus.WARNING);
+	private DecompilerOptions createDecompilerOptions(IJavaElement childEl) {
+		String fieldName = null;
+		String methodName = null;
+		/*
+		 * find out, which name we should use for selected element
+		 */
+		if (modes.get(BCOConstants.F_SHOW_ONLY_SELECTED_ELEMENT) && childEl != null) {
+			if (childEl.getElementType() == IJavaElement.FIELD) {
+				fieldName = childEl.getElementName();
+			} else {
+				methodName = JdtUtils.getMethodSignature(childEl);
 			}
-		} catch (UnsupportedClassVersionError e) {
-			BytecodeOutlinePlugin.error("Cannot decompile: " + type //$NON-NLS-1$
-					+ ". Error was caused by attempt to " //$NON-NLS-1$
-					+ "load a class compiled with the Java version which is not " //$NON-NLS-1$
-					+ "supported by the current JVM. ", e); //$NON-NLS-1$
-		}
-		// remember class file size to show it later in UI
-		if (decompiledClass != null) {
-			decompiledClass.setClassSize(available);
 		}
-		return decompiledClass;
+		return new DecompilerOptions(fieldName, methodName, (BitSet) modes.clone());
 	}
 
 	private void setVerifyTableItems(String[][] items) {
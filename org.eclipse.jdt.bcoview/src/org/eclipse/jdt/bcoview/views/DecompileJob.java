@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.bcoview.views;
+
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.bcoview.BytecodeOutlinePlugin;
+import org.eclipse.jdt.bcoview.asm.DecompiledClass;
+import org.eclipse.jdt.bcoview.asm.DecompiledClassCache;
+import org.eclipse.jdt.bcoview.asm.DecompilerOptions;
+import org.eclipse.jdt.bcoview.internal.Messages;
+import org.eclipse.jdt.bcoview.ui.JdtUtils;
+
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Reads and decompiles the bytecode of a type, or takes it from the cache if the class file did
+ * not change, and passes the result to the UI thread. A job which is cancelled because the input
+ * changed in the meantime drops its result.
+ */
+public final class DecompileJob extends Job {
+
+	private final IJavaElement type;
+
+	private final DecompilerOptions options;
+
+	private final DecompiledClassCache cache;
+
+	private final Display display;
+
+	private final Consumer<DecompileJob> callback;
+
+	/** null if type is not known or bytecode is not written or cannot be found */
+	private DecompiledClass result;
+
+	/** message to show to the user, if decompiling failed */
+	private String errorMessage;
+
+	private Throwable error;
+
+	/**
+	 * @param type type to decompile, may be null
+	 * @param options decompiler options
+	 * @param cache cache of decompiled classes
+	 * @param display display of the UI thread
+	 * @param callback called in the UI thread with the finished job, unless the job was cancelled
+	 */
+	public DecompileJob(IJavaElement type, DecompilerOptions options, DecompiledClassCache cache, Display display, Consumer<DecompileJob> callback) {
+		super(Messages.BytecodeOutlineView_decompiling);
+		this.type = type;
+		this.options = options;
+		this.cache = cache;
+		this.display = display;
+		this.callback = callback;
+		setSystem(true);
+	}
+
+	/**
+	 * @return decompiled class, or null if type is not known or bytecode is not written or cannot
+	 *         be found or decompiled
+	 */
+	public DecompiledClass getDecompiledClass() {
+		return result;
+	}
+
+	/**
+	 * @return message to show to the user, or null if decompiling did not fail
+	 */
+	public String getErrorMessage() {
+		return errorMessage;
+	}
+
+	/**
+	 * @return the reason why decompiling failed, or null
+	 */
+	public Throwable getError() {
+		return error;
+	}
+
+	@Override
+	protected IStatus run(IProgressMonitor monitor) {
+		if (type != null) {
+			byte[] bytes = JdtUtils.readClassBytes(type);
+			if (monitor.isCanceled()) {
+				return Status.CANCEL_STATUS;
+			}
+			if (bytes != null) {
+				decompile(bytes);
+			}
+		}
+		if (monitor.isCanceled()) {
+			return Status.CANCEL_STATUS;
+		}
+		if (!display.isDisposed()) {
+			display.asyncExec(() -> callback.accept(this));
+		}
+		return Status.OK_STATUS;
+	}
+
+	private void decompile(byte[] bytes) {
+		try {
+			result = cache.getDecompiledClass(bytes, options);
+		} catch (Exception e) {
+			try {
+				// check if compilation unit is ok - then this is the user problem
+				if (type.isStructureKnown()) {
+					errorMessage = "Cannot decompile: " + type; //$NON-NLS-1$
+					error = e;
+				} else {
+					BytecodeOutlinePlugin.log(e, IStatus.ERROR);
+				}
+			} catch (JavaModelException e1) {
+				// this is compilation problem - don't show the message
+				BytecodeOutlinePlugin.log(e1, IStatus.WARNING);
+			}
+		} catch (UnsupportedClassVersionError e) {
+			errorMessage = "Cannot decompile: " + type //$NON-NLS-1$
+					+ ". Error was caused by attempt to " //$NON-NLS-1$
+					+ "load a class compiled with the Java version which is not " //$NON-NLS-1$
+					+ "supported by the current JVM. "; //$NON-NLS-1$
+			error = e;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 IBM Corporation and others.
+ * Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,11 @@
  *******************************************************************************/
 package org.eclipse.jdt.core.manipulation;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -22,6 +26,7 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.JavaModelException;
@@ -30,7 +35,9 @@ import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationMessages;
 import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+import org.eclipse.jdt.internal.core.manipulation.SharedASTCache;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 
@@ -63,6 +70,22 @@ public final class CoreASTProvider {
 	private Object fWaitLock= new Object();
 	private volatile boolean fIsReconciling;
 	private volatile Runnable fFinishReconciling;
+	private final SharedASTCache fRecentASTs= new SharedASTCache(SharedASTCache.DEFAULT_BUDGET_MB * 1024L * 1024L);
+	private final List<PendingAST> fPendingASTs= new ArrayList<>();
+
+	/**
+	 * A future waiting for the AST of the active element to be reconciled.
+	 */
+	private static final class PendingAST {
+		final ITypeRoot fInput;
+		final WAIT_FLAG fWaitFlag;
+		final CompletableFuture<CompilationUnit> fFuture= new CompletableFuture<>();
+
+		PendingAST(ITypeRoot input, WAIT_FLAG waitFlag) {
+			fInput= input;
+			fWaitFlag= waitFlag;
+		}
+	}
 
 	/**
 	 * Wait flag class.
@@ -107,7 +130,8 @@ public final class CoreASTProvider {
 	 * Wait flag indicating that a client requesting an AST
 	 * only wants the already available shared AST.
 	 * <p>
-	 * No AST will be created by the AST provider.
+	 * No AST will be created by the AST provider. For an element other than the active one, the
+	 * AST of a recently active element or of a recent request is returned if it is still valid.
 	 * </p>
 	 */
 	public static final WAIT_FLAG WAIT_NO= new WAIT_FLAG("don't wait"); //$NON-NLS-1$
@@ -117,6 +141,12 @@ public final class CoreASTProvider {
 	 * <p>
 	 * Clients are not allowed to modify the AST and must synchronize all access to its nodes.
 	 * </p>
+	 * <p>
+	 * Since 1.23, the ASTs of recently active elements and of recent requests for other elements
+	 * are kept while neither the element nor its project and the projects on its classpath
+	 * change. They are returned for all wait flags, including {@link #WAIT_NO}, which used to
+	 * return <code>null</code> for all elements but the active one.
+	 * </p>
 	 *
 	 * @param input the Java element, must not be <code>null</code>
 	 * @param waitFlag org.eclipse.jdt.ui.SharedASTProvider#WAIT_YES,
@@ -152,6 +182,12 @@ public final class CoreASTProvider {
 			}
 		}
 
+		if (!isActiveElement) {
+			CompilationUnit recentAST= getRecentAST(input);
+			if (recentAST != null)
+				return recentAST;
+		}
+
 		final boolean canReturnNull= waitFlag == CoreASTProvider.WAIT_NO || (waitFlag == CoreASTProvider.WAIT_ACTIVE_ONLY && (!isActiveElement || fAST != null));
 		boolean isReconciling= false;
 		final ITypeRoot activeElement;
@@ -194,6 +230,7 @@ public final class CoreASTProvider {
 			return null;
 
 
+		long generation= fRecentASTs.getGeneration();
 		CompilationUnit ast= null;
 		try {
 			ast= createAST(input, progressMonitor);
@@ -212,11 +249,146 @@ public final class CoreASTProvider {
 					return fAST;
 				} else
 					reconciled(ast, input, null);
+			} else if (ast != null) {
+				fRecentASTs.put(input, ast, generation);
 			}
 		}
 		return ast;
 	}
 
+	/**
+	 * Returns a future for a shared compilation unit AST for the given Java element.
+	 * <p>
+	 * Unlike {@link #getAST(ITypeRoot, WAIT_FLAG, IProgressMonitor)} this method never blocks the
+	 * calling thread: if the AST of the active element is being reconciled, the returned future is
+	 * completed once the reconciler provides the AST; if an AST has to be created, it is created
+	 * in a job.
+	 * </p>
+	 * <p>
+	 * Clients are not allowed to modify the AST and must synchronize all access to its nodes.
+	 * </p>
+	 *
+	 * @param input the Java element, must not be <code>null</code>
+	 * @param waitFlag {@link #WAIT_YES}, {@link #WAIT_NO} or {@link #WAIT_ACTIVE_ONLY}
+	 * @return a future for the AST, the future's value is <code>null</code> if the AST is not
+	 *         available
+	 * @since 1.23
+	 */
+	public CompletableFuture<CompilationUnit> getASTAsync(final ITypeRoot input, final WAIT_FLAG waitFlag) {
+		if (input == null || waitFlag == null)
+			throw new IllegalArgumentException("input or wait flag are null"); //$NON-NLS-1$
+
+		boolean isActiveElement;
+		synchronized (this) {
+			isActiveElement= input.equals(fActiveJavaElement);
+			if (isActiveElement && fAST != null)
+				return CompletableFuture.completedFuture(fAST);
+		}
+
+		if (!isActiveElement) {
+			CompilationUnit recentAST= getRecentAST(input);
+			if (recentAST != null)
+				return CompletableFuture.completedFuture(recentAST);
+			if (waitFlag != CoreASTProvider.WAIT_YES)
+				return CompletableFuture.completedFuture(null);
+		} else if (waitFlag == CoreASTProvider.WAIT_NO) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		if (isActiveElement && isReconciling(input)) {
+			PendingAST pending= new PendingAST(input, waitFlag);
+			synchronized (fPendingASTs) {
+				fPendingASTs.add(pending);
+			}
+			if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+				System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "registered AST future for: " + input.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$
+
+			// the reconciler may have finished before the future got registered
+			if (!isReconciling(input))
+				completePendingASTs(input, null);
+			else
+				notifyReconciler();
+			return pending.fFuture;
+		}
+		CompletableFuture<CompilationUnit> future= new CompletableFuture<>();
+		completeInJob(future, monitor -> getAST(input, waitFlag, monitor));
+		return future;
+	}
+
+	/**
+	 * Completes the futures waiting for the AST of the given element.
+	 *
+	 * @param javaElement the Java element or <code>null</code> to complete all futures
+	 * @param ast the AST or <code>null</code> if the futures have to compute the AST themselves
+	 */
+	private void completePendingASTs(ITypeRoot javaElement, CompilationUnit ast) {
+		List<PendingAST> completed= new ArrayList<>();
+		synchronized (fPendingASTs) {
+			for (Iterator<PendingAST> iter= fPendingASTs.iterator(); iter.hasNext();) {
+				PendingAST pending= iter.next();
+				if (javaElement == null || javaElement.equals(pending.fInput)) {
+					completed.add(pending);
+					iter.remove();
+				}
+			}
+		}
+		// complete asynchronously, callers hold the reconcile lock
+		for (PendingAST pending : completed) {
+			if (ast != null)
+				completeInJob(pending.fFuture, monitor -> ast);
+			else
+				completeInJob(pending.fFuture, monitor -> getAST(pending.fInput, pending.fWaitFlag, monitor));
+		}
+	}
+
+	/**
+	 * Completes the given future in a system job, so that the computation of an AST, which may
+	 * wait for the reconciler, does not block a thread of a shared pool. The future is completed
+	 * with <code>null</code> if the job is canceled.
+	 *
+	 * @param future the future to complete
+	 * @param computation computes the AST
+	 */
+	private static void completeInJob(CompletableFuture<CompilationUnit> future, Function<IProgressMonitor, CompilationUnit> computation) {
+		Job job= new Job(JavaManipulationMessages.CoreASTProvider_creating_ast) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				try {
+					future.complete(computation.apply(monitor));
+				} catch (RuntimeException e) {
+					future.completeExceptionally(e);
+					throw e;
+				}
+				return Status.OK_STATUS;
+			}
+
+			@Override
+			protected void canceling() {
+				future.complete(null);
+			}
+		};
+		job.setSystem(true);
+		job.setPriority(Job.SHORT);
+		job.schedule();
+	}
+
+	/**
+	 * Returns the AST of a recently active or recently requested element from the cache.
+	 *
+	 * @param input the Java element
+	 * @return the AST or <code>null</code> if there is no valid cached AST
+	 */
+	private CompilationUnit getRecentAST(ITypeRoot input) {
+		CompilationUnit recentAST= fRecentASTs.get(input);
+		if (JavaManipulationPlugin.DEBUG_AST_PROVIDER) {
+			if (recentAST != null)
+				System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "recent AST cache hit:" + toString(recentAST) + " for: " + input.getElementName() + " [" + fRecentASTs.getStatistics() + "]"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+			else
+				System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "recent AST cache miss for: " + input.getElementName() + " [" + fRecentASTs.getStatistics() + "]"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		}
+		return recentAST;
+	}
+
 	private void notifyReconciler() {
 		Runnable finishReconciling= fFinishReconciling;
 		if (finishReconciling!=null) {
@@ -330,15 +502,21 @@ public final class CoreASTProvider {
 				if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
 					System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "  ignoring AST of out-dated editor"); //$NON-NLS-1$ //$NON-NLS-2$
 
+				// Keep the AST of a non-active editor, e.g. of a split editor
+				if (javaElement != null && ast != null)
+					fRecentASTs.put(javaElement, ast, fRecentASTs.getGeneration());
+
 				// Signal - threads might wait for wrong element
 				synchronized (fWaitLock) {
 					fWaitLock.notifyAll();
 				}
+				completePendingASTs(javaElement, null);
 
 				return;
 			}
 			cache(ast, javaElement);
 		}
+		completePendingASTs(javaElement, ast);
 	}
 
 	/**
@@ -495,7 +673,18 @@ public final class CoreASTProvider {
 	 * @param activeJavaElement the java element.
 	 */
 	public void setActiveJavaElement (ITypeRoot activeJavaElement) {
-		fActiveJavaElement = activeJavaElement;
+		ITypeRoot previousElement;
+		CompilationUnit previousAST;
+		synchronized (this) {
+			previousElement= fActiveJavaElement;
+			previousAST= fAST;
+			fActiveJavaElement = activeJavaElement;
+		}
+		// Keep the AST of the previously active element for hovers, split editors etc.
+		if (previousAST != null && previousElement != null && !previousElement.equals(activeJavaElement))
+			fRecentASTs.put(previousElement, previousAST, fRecentASTs.getGeneration());
+		if (activeJavaElement != null)
+			fRecentASTs.remove(activeJavaElement);
 	}
 
 	/**
@@ -523,6 +712,18 @@ public final class CoreASTProvider {
 			fReconcilingJavaElement = null;
 			fFinishReconciling = null;
 		}
+		completePendingASTs(null, null);
+	}
+
+	/**
+	 * Disposes the ASTs kept for recently active or recently requested Java elements.
+	 *
+	 * @since 1.23
+	 */
+	public void disposeRecentASTs() {
+		if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+			System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "disposing recent ASTs [" + fRecentASTs.getStatistics() + "]"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		fRecentASTs.clear();
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -99,7 +99,8 @@ public class SharedASTProviderCore {
 	 * Wait flag indicating that a client requesting an AST
 	 * only wants the already available shared AST.
 	 * <p>
-	 * No AST will be created by the AST provider.
+	 * No AST will be created by the AST provider. Since 1.23, a valid AST kept for a recently used
+	 * element is returned for elements other than the active one.
 	 * </p>
 	 */
 	public static final WAIT_FLAG WAIT_NO= new WAIT_FLAG("don't wait"); //$NON-NLS-1$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,7 +27,6 @@ import org.eclipse.jface.text.templates.Template;
 import org.eclipse.jface.text.templates.TemplateBuffer;
 import org.eclipse.jface.text.templates.TemplateContext;
 import org.eclipse.jface.text.templates.TemplateException;
-import org.eclipse.jface.text.templates.TemplateTranslator;
 import org.eclipse.jface.text.templates.TemplateVariableResolver;
 
 import org.eclipse.jdt.core.ICompilationUnit;
@@ -74,15 +73,10 @@ public class CodeTemplateContext extends TemplateContext {
 		if (!canEvaluate(template))
 			return null;
 
-		String pattern= changeLineDelimiter(template.getPattern(), fLineDelimiter);
-
-		TemplateTranslator translator= new TemplateTranslator();
-		TemplateBuffer buffer= translator.translate(pattern);
-		getContextType().resolve(buffer, this);
-		return buffer;
+		return CompiledCodeTemplate.get(template.getPattern(), fLineDelimiter).evaluate(this);
 	}
 
-	private static String changeLineDelimiter(String code, String lineDelim) {
+	static String changeLineDelimiter(String code, String lineDelim) {
 		try {
 			ILineTracker tracker= new DefaultLineTracker();
 			tracker.set(code);
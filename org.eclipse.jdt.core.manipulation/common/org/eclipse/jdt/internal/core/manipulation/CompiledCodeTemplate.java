@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jface.text.templates.TemplateBuffer;
+import org.eclipse.jface.text.templates.TemplateContext;
+import org.eclipse.jface.text.templates.TemplateContextType;
+import org.eclipse.jface.text.templates.TemplateException;
+import org.eclipse.jface.text.templates.TemplateTranslator;
+import org.eclipse.jface.text.templates.TemplateVariable;
+import org.eclipse.jface.text.templates.TemplateVariableType;
+
+/**
+ * A code template pattern that is translated once into a list of literals and variable slots.
+ * Evaluating it resolves each variable once and concatenates the literals and the values, instead
+ * of translating the pattern again and replacing the variables with text edits.
+ * <p>
+ * Compiled templates are shared and keyed by the pattern and the line delimiter, so a template
+ * that was changed in the preferences or in the project settings is compiled again.
+ * </p>
+ */
+final class CompiledCodeTemplate {
+
+	private static final int MAX_CACHE_SIZE= 256;
+
+	private record Key(String pattern, String lineDelimiter) {
+	}
+
+	private static final Map<Key, CompiledCodeTemplate> fgCache= new ConcurrentHashMap<>();
+
+	/** the literals between the slots, one more than slots */
+	private final String[] fLiterals;
+
+	/** the index of the variable of each slot */
+	private final int[] fSlots;
+
+	private final TemplateVariableType[] fTypes;
+	private final String[] fNames;
+	private final String[] fInitialValues;
+
+	/** the number of slots of each variable */
+	private final int[] fSlotCounts;
+
+	private CompiledCodeTemplate(TemplateBuffer buffer) {
+		String text= buffer.getString();
+		TemplateVariable[] variables= buffer.getVariables();
+
+		int slotCount= 0;
+		for (TemplateVariable variable : variables) {
+			slotCount+= variable.getOffsets().length;
+		}
+		long[] slots= new long[slotCount]; // offset << 32 | variable index, sorted by offset
+		int k= 0;
+		fTypes= new TemplateVariableType[variables.length];
+		fNames= new String[variables.length];
+		fInitialValues= new String[variables.length];
+		fSlotCounts= new int[variables.length];
+		for (int i= 0; i < variables.length; i++) {
+			TemplateVariable variable= variables[i];
+			fTypes[i]= variable.getVariableType();
+			fNames[i]= variable.getName();
+			fInitialValues[i]= variable.getDefaultValue();
+			fSlotCounts[i]= variable.getOffsets().length;
+			for (int offset : variable.getOffsets()) {
+				slots[k++]= ((long) offset << 32) | i;
+			}
+		}
+		Arrays.sort(slots);
+
+		fLiterals= new String[slotCount + 1];
+		fSlots= new int[slotCount];
+		int start= 0;
+		for (int i= 0; i < slotCount; i++) {
+			int offset= (int) (slots[i] >>> 32);
+			int index= (int) slots[i];
+			fLiterals[i]= text.substring(start, offset);
+			fSlots[i]= index;
+			start= offset + fInitialValues[index].length();
+		}
+		fLiterals[slotCount]= text.substring(start);
+	}
+
+	/**
+	 * Returns the compiled form of a pattern.
+	 *
+	 * @param pattern the template pattern
+	 * @param lineDelimiter the line delimiter to use in the result
+	 * @return the compiled template
+	 * @throws TemplateException if the pattern is not a valid template
+	 */
+	static CompiledCodeTemplate get(String pattern, String lineDelimiter) throws TemplateException {
+		Key key= new Key(pattern, lineDelimiter);
+		CompiledCodeTemplate compiled= fgCache.get(key);
+		if (compiled == null) {
+			compiled= new CompiledCodeTemplate(new TemplateTranslator().translate(CodeTemplateContext.changeLineDelimiter(pattern, lineDelimiter)));
+			if (fgCache.size() >= MAX_CACHE_SIZE) {
+				fgCache.clear(); // the patterns of templates that were changed
+			}
+			fgCache.put(key, compiled);
+		}
+		return compiled;
+	}
+
+	/**
+	 * Resolves the variables in the given context and returns the resulting buffer. The variables
+	 * of the buffer have the resolved values and their offsets in the result.
+	 *
+	 * @param context the context to resolve the variables in
+	 * @return the evaluated template
+	 */
+	TemplateBuffer evaluate(TemplateContext context) {
+		TemplateContextType contextType= context.getContextType();
+		TemplateVariable[] variables= new TemplateVariable[fNames.length];
+		int[][] offsets= new int[fNames.length][];
+		for (int i= 0; i < variables.length; i++) {
+			offsets[i]= new int[fSlotCounts[i]];
+			TemplateVariable variable= new TemplateVariable(fTypes[i], fNames[i], fInitialValues[i], offsets[i]);
+			contextType.resolve(variable, context);
+			variables[i]= variable;
+		}
+
+		StringBuilder buf= new StringBuilder();
+		int[] next= new int[variables.length];
+		for (int i= 0; i < fSlots.length; i++) {
+			buf.append(fLiterals[i]);
+			int index= fSlots[i];
+			offsets[index][next[index]++]= buf.length();
+			buf.append(variables[index].getDefaultValue());
+		}
+		buf.append(fLiterals[fSlots.length]);
+
+		for (int i= 0; i < variables.length; i++) {
+			variables[i].setOffsets(offsets[i]);
+		}
+		return new TemplateBuffer(buf.toString(), variables);
+	}
+}
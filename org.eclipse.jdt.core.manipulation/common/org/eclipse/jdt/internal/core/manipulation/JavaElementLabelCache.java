@@ -0,0 +1,273 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IOpenable;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+/**
+ * A cache for the labels of Java elements, keyed by the element handle and the rendering flags.
+ * The keys are weakly referenced, so a label is kept as long as the element handle it was
+ * computed for is in use, for example by a viewer.
+ * <p>
+ * The labels of an element are discarded when a Java element delta reports a change of the
+ * element, of its compilation unit or class file, or of the package, root or project it belongs
+ * to. The labels are grouped by the openable of their element, so a change of a compilation unit
+ * or class file only touches the labels of that unit. Clients that render labels depending on
+ * other state must {@link #clear()} the cache when that state changes. The cache can be used by
+ * several threads.
+ * </p>
+ *
+ * @since 1.23
+ */
+public final class JavaElementLabelCache {
+
+	private static final int MAX_SIZE= 100000;
+
+	private static final long CHANGED_CHILDREN= IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_CONTENT;
+
+	private static final class Key extends WeakReference<IJavaElement> {
+
+		private final IOpenable fOpenable;
+		private final long fFlags;
+		private final int fHashCode;
+
+		Key(IJavaElement element, IOpenable openable, long flags, ReferenceQueue<IJavaElement> queue) {
+			super(element, queue);
+			fOpenable= openable;
+			fFlags= flags;
+			fHashCode= element.hashCode() * 31 + Long.hashCode(flags);
+		}
+
+		@Override
+		public int hashCode() {
+			return fHashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key other) || fHashCode != other.fHashCode || fFlags != other.fFlags) {
+				return false;
+			}
+			IJavaElement element= get();
+			return element != null && element.equals(other.get());
+		}
+	}
+
+	/**
+	 * The labels, grouped by the openable of their element. A group is removed when it becomes
+	 * empty, all changes of a group are done atomically with {@link Map#compute}.
+	 */
+	private final Map<IOpenable, Map<Key, String>> fLabels= new ConcurrentHashMap<>();
+
+	private final AtomicInteger fSize= new AtomicInteger();
+
+	private final ReferenceQueue<IJavaElement> fQueue= new ReferenceQueue<>();
+
+	private final LongAdder fHits= new LongAdder();
+
+	private final LongAdder fMisses= new LongAdder();
+
+	private final IElementChangedListener fListener= this::elementChanged;
+
+	private volatile boolean fDisposed;
+
+	/**
+	 * Creates a new label cache that listens to the changes of the Java model.
+	 */
+	public JavaElementLabelCache() {
+		JavaCore.addElementChangedListener(fListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	/**
+	 * Returns the label of the given element, computes it if it is not in the cache.
+	 *
+	 * @param element the element to render
+	 * @param flags the rendering flags
+	 * @param composer computes the label if it is not in the cache
+	 * @return the label of the element
+	 */
+	public String getLabel(IJavaElement element, long flags, Supplier<String> composer) {
+		if (fDisposed || getFlag(flags, JavaElementLabelsCore.USE_RESOLVED) && isResolved(element)) {
+			return composer.get(); // resolved handles are equal to the unresolved ones
+		}
+		IOpenable openable= element.getOpenable();
+		Map<Key, String> labels= fLabels.get(openable);
+		String label= labels != null ? labels.get(new Key(element, openable, flags, null)) : null;
+		if (label != null) {
+			fHits.increment();
+			return label;
+		}
+		fMisses.increment();
+		expungeStaleEntries();
+		String computed= composer.get();
+		if (fSize.get() >= MAX_SIZE) {
+			clear();
+		}
+		Key key= new Key(element, openable, flags, fQueue);
+		fLabels.compute(openable, (o, group) -> {
+			Map<Key, String> result= group != null ? group : new ConcurrentHashMap<>();
+			if (result.put(key, computed) == null) {
+				fSize.incrementAndGet();
+			}
+			return result;
+		});
+		return computed;
+	}
+
+	/**
+	 * Removes all labels from the cache.
+	 */
+	public void clear() {
+		for (IOpenable openable : fLabels.keySet()) {
+			removeGroup(openable);
+		}
+	}
+
+	/**
+	 * Stops listening to the changes of the Java model and removes all labels. Labels that are
+	 * requested afterwards are computed but not cached.
+	 */
+	public void dispose() {
+		fDisposed= true;
+		JavaCore.removeElementChangedListener(fListener);
+		clear();
+	}
+
+	/**
+	 * @return the number of labels that were found in the cache
+	 */
+	public long getHitCount() {
+		return fHits.sum();
+	}
+
+	/**
+	 * @return the number of labels that were computed
+	 */
+	public long getMissCount() {
+		return fMisses.sum();
+	}
+
+	/**
+	 * @return the number of labels in the cache
+	 */
+	public int size() {
+		return fSize.get();
+	}
+
+	private void expungeStaleEntries() {
+		Reference<? extends IJavaElement> ref;
+		while ((ref= fQueue.poll()) != null) {
+			Key key= (Key) ref;
+			fLabels.computeIfPresent(key.fOpenable, (o, group) -> {
+				if (group.remove(key) != null) {
+					fSize.decrementAndGet();
+				}
+				return group.isEmpty() ? null : group;
+			});
+		}
+	}
+
+	private void removeGroup(IOpenable openable) {
+		Map<Key, String> group= fLabels.remove(openable);
+		if (group != null) {
+			fSize.addAndGet(-group.size());
+		}
+	}
+
+	private void elementChanged(ElementChangedEvent event) {
+		if (!fLabels.isEmpty()) {
+			processDelta(event.getDelta());
+		}
+	}
+
+	private void processDelta(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() == IJavaElementDelta.CHANGED && (delta.getFlags() & ~CHANGED_CHILDREN) == 0) {
+					for (IJavaElementDelta child : delta.getAffectedChildren()) {
+						processDelta(child);
+					}
+					return;
+				}
+				break;
+			default:
+				break;
+		}
+		invalidate(element);
+	}
+
+	private void invalidate(IJavaElement changed) {
+		switch (changed.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				clear();
+				break;
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				// the groups of the openables inside the changed container
+				for (IOpenable openable : fLabels.keySet()) {
+					for (IJavaElement curr= (IJavaElement) openable; curr != null; curr= curr.getParent()) {
+						if (curr.equals(changed)) {
+							removeGroup(openable);
+							break;
+						}
+					}
+				}
+				break;
+			default:
+				// a compilation unit, class file or one of their children
+				removeGroup(changed.getOpenable());
+				break;
+		}
+	}
+
+	private static boolean getFlag(long flags, long flag) {
+		return (flags & flag) != 0;
+	}
+
+	private static boolean isResolved(IJavaElement element) {
+		for (IJavaElement curr= element; curr != null; curr= curr.getParent()) {
+			if (curr instanceof IType type && type.isResolved()
+					|| curr instanceof IMethod method && method.isResolved()
+					|| curr instanceof IField field && field.isResolved()) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
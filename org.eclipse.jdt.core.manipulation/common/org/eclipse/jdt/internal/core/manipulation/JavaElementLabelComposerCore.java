@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 IBM Corporation and others.
+ * Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -118,6 +118,42 @@ public class JavaElementLabelComposerCore {
 		}
 	}
 
+	/**
+	 * A buffer based on an unsynchronized {@link StringBuilder}, for labels that are composed by
+	 * one thread.
+	 *
+	 * @since 1.23
+	 */
+	public static class FlexibleStringBuilderCore extends FlexibleBufferCore {
+		private final StringBuilder fStringBuilder;
+
+		public FlexibleStringBuilderCore(StringBuilder stringBuilder) {
+			fStringBuilder= stringBuilder;
+		}
+
+		@Override
+		public FlexibleBufferCore append(char ch) {
+			fStringBuilder.append(ch);
+			return this;
+		}
+
+		@Override
+		public FlexibleBufferCore append(String string) {
+			fStringBuilder.append(string);
+			return this;
+		}
+
+		@Override
+		public int length() {
+			return fStringBuilder.length();
+		}
+
+		@Override
+		public String toString() {
+			return fStringBuilder.toString();
+		}
+	}
+
 	final static long QUALIFIER_FLAGS= JavaElementLabelsCore.P_COMPRESSED | JavaElementLabelsCore.USE_RESOLVED;
 
 	/*
@@ -152,6 +188,16 @@ public class JavaElementLabelComposerCore {
 		this(new FlexibleStringBufferCore(buffer));
 	}
 
+	/**
+	 * Creates a new java element composer based on the given buffer.
+	 *
+	 * @param buffer the string builder
+	 * @since 1.23
+	 */
+	public JavaElementLabelComposerCore(StringBuilder buffer) {
+		this(new FlexibleStringBuilderCore(buffer));
+	}
+
 	/**
 	 * Appends the label for a Java element with the flags as defined by this class.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 IBM Corporation and others.
+ * Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -382,9 +382,34 @@ public final class JavaElementLabelsCore {
 	 */
 	public final static String DEFAULT_PACKAGE= JavaElementLabelsMessages.JavaElementLabels_default_package;
 
+	private static JavaElementLabelCache fgLabelCache;
+
 	private JavaElementLabelsCore() {
 	}
 
+	/**
+	 * Returns the cache of the labels returned by {@link #getElementLabel(IJavaElement, long)}.
+	 *
+	 * @return the label cache
+	 * @since 1.23
+	 */
+	public static synchronized JavaElementLabelCache getLabelCache() {
+		if (fgLabelCache == null) {
+			fgLabelCache= new JavaElementLabelCache();
+		}
+		return fgLabelCache;
+	}
+
+	/**
+	 * Disposes the label cache. The disposed cache is kept, so that labels requested while the
+	 * plug-in stops do not register a new cache.
+	 */
+	static synchronized void disposeLabelCache() {
+		if (fgLabelCache != null) {
+			fgLabelCache.dispose();
+		}
+	}
+
 	/**
 	 * Returns the label of the given object. The object must be of type {@link IJavaElement} or adapt to IWorkbenchAdapter.
 	 * If the element type is not known, the empty string is returned.
@@ -416,9 +441,11 @@ public final class JavaElementLabelsCore {
 	 * @return the label of the Java element
 	 */
 	public static String getElementLabel(IJavaElement element, long flags) {
-		StringBuffer result= new StringBuffer();
-		getElementLabel(element, flags, result);
-		return org.eclipse.jdt.internal.core.manipulation.util.Strings.markJavaElementLabelLTR(result.toString());
+		return getLabelCache().getLabel(element, flags, () -> {
+			StringBuilder result= new StringBuilder();
+			new JavaElementLabelComposerCore(result).appendElementLabel(element, flags);
+			return org.eclipse.jdt.internal.core.manipulation.util.Strings.markJavaElementLabelLTR(result.toString());
+		});
 	}
 
 	/**
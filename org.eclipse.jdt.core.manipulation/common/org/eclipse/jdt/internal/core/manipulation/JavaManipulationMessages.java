@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,7 @@ public class JavaManipulationMessages extends NLS {
 	}
 
 	public static String JavaManipulationMessages_internalError;
+	public static String CoreASTProvider_creating_ast;
 	public static String UndoCompilationUnitChange_no_file;
 
 	public static String OrganizeImportsOperation_description;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -88,6 +88,8 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 			fTypeFilter.dispose();
 			fTypeFilter= null;
 		}
+		ProjectTemplateStore.dispose();
+		JavaElementLabelsCore.disposeLabelCache();
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,7 +18,9 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.osgi.service.prefs.BackingStoreException;
 
@@ -26,7 +28,10 @@ import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
 import org.eclipse.core.resources.ProjectScope;
+import org.eclipse.core.resources.ResourcesPlugin;
 
 import org.eclipse.text.templates.TemplatePersistenceData;
 import org.eclipse.text.templates.TemplateReaderWriter;
@@ -43,6 +48,21 @@ public final class ProjectTemplateStore {
 
 	private static final String KEY= "org.eclipse.jdt.ui.text.custom_code_templates"; //$NON-NLS-1$
 
+	/**
+	 * The loaded stores of the projects with project specific templates, with the project settings
+	 * they were loaded from
+	 */
+	private static final Map<IProject, LoadedStore> fgLoadedStores= new ConcurrentHashMap<>();
+
+	private record LoadedStore(String settings, ProjectTemplateStore store) {
+	}
+
+	/**
+	 * Drops the loaded store of a project that is closed or deleted, <code>null</code> until the
+	 * first store is loaded
+	 */
+	private static IResourceChangeListener fgProjectListener;
+
 	private final TemplateStoreCore fInstanceStore;
 	private final TemplateStoreCore fProjectStore;
 
@@ -109,6 +129,59 @@ public final class ProjectTemplateStore {
 	}
 
 
+	/**
+	 * Returns the template with the given id that applies to the given project. Unlike creating
+	 * and loading a store, this reads the project specific templates only once and again after
+	 * the project settings have changed.
+	 *
+	 * @param project the project
+	 * @param id the template id
+	 * @return the template or <code>null</code> if there is no template with this id
+	 */
+	public static Template findTemplateById(IProject project, String id) {
+		TemplateStoreCore instanceStore= JavaManipulation.getCodeTemplateStore();
+		String settings= new ProjectScope(project).getNode(JavaManipulation.getPreferenceNodeId()).get(KEY, null);
+		if (settings == null || settings.trim().isEmpty()) {
+			fgLoadedStores.remove(project);
+			return instanceStore.findTemplateById(id);
+		}
+		LoadedStore loaded= fgLoadedStores.get(project);
+		if (loaded == null || !loaded.settings().equals(settings) || loaded.store().fInstanceStore != instanceStore) {
+			ProjectTemplateStore store= new ProjectTemplateStore(project);
+			try {
+				store.load();
+			} catch (IOException e) {
+				JavaManipulationPlugin.log(e);
+			}
+			loaded= new LoadedStore(settings, store);
+			addProjectListener();
+			fgLoadedStores.put(project, loaded);
+		}
+		return loaded.store().findTemplateById(id);
+	}
+
+	private static synchronized void addProjectListener() {
+		if (fgProjectListener == null) {
+			fgProjectListener= event -> {
+				if (event.getResource() instanceof IProject project) {
+					fgLoadedStores.remove(project);
+				}
+			};
+			ResourcesPlugin.getWorkspace().addResourceChangeListener(fgProjectListener, IResourceChangeEvent.PRE_CLOSE | IResourceChangeEvent.PRE_DELETE);
+		}
+	}
+
+	/**
+	 * Forgets the loaded stores of all projects and stops listening to the workspace.
+	 */
+	static synchronized void dispose() {
+		if (fgProjectListener != null) {
+			ResourcesPlugin.getWorkspace().removeResourceChangeListener(fgProjectListener);
+			fgProjectListener= null;
+		}
+		fgLoadedStores.clear();
+	}
+
 	public TemplatePersistenceData[] getTemplateData() {
 		if (fProjectStore != null) {
 			return fProjectStore.getTemplateData(true);
@@ -0,0 +1,320 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation;
+
+import java.lang.ref.SoftReference;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+/**
+ * Least recently used cache of resolved compilation unit ASTs for Java elements that are not
+ * the active one of the {@link org.eclipse.jdt.core.manipulation.CoreASTProvider}.
+ * <p>
+ * The bindings of a resolved AST depend on the other elements of its project and of the projects
+ * on its classpath. The cache listens to the Java element deltas and removes the ASTs of all
+ * elements whose project is affected by a change, including changes of working copies reported
+ * when they are reconciled. In addition, an AST is only cached and returned while its element
+ * is consistent with its buffer, i.e. has no edits that have not been reconciled yet, and while
+ * the source of the element is the source the AST was cached with. A change of a buffer that is
+ * not reported by a delta, e.g. an edit of a working copy that is made consistent without a
+ * reconcile, can therefore not return an outdated AST.
+ * </p>
+ * <p>
+ * The cache is bounded by a memory budget. Since the real size of an AST and its bindings can't
+ * be measured cheaply, the size of an entry is estimated from the length of its source plus a
+ * fixed amount for the binding environment it retains. The estimate includes the copy of the
+ * source that is kept to validate the entry. The ASTs are softly referenced, so they
+ * are released under memory pressure even if the estimate is too low.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @since 1.23
+ */
+public final class SharedASTCache {
+
+	/**
+	 * Memory budget in megabytes of the cache used by the shared AST provider. A budget of
+	 * <code>0</code> disables the cache.
+	 */
+	public static final int DEFAULT_BUDGET_MB= Integer.getInteger("jdt.sharedASTCacheBudget", 64).intValue(); //$NON-NLS-1$
+
+	/**
+	 * Rough number of bytes retained by the nodes of an AST per character of source.
+	 */
+	private static final int ESTIMATED_BYTES_PER_CHAR= 48 + 2;
+
+	/**
+	 * Rough number of bytes retained by the binding environment of a resolved AST, i.e. by the
+	 * bindings of the types it references.
+	 */
+	private static final long ESTIMATED_BINDINGS_SIZE= 4L * 1024 * 1024;
+
+	private static final int CHANGED_CHILDREN= IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_CONTENT;
+
+	private static final int UNCHANGED_SOURCE= IJavaElementDelta.F_PRIMARY_WORKING_COPY | IJavaElementDelta.F_AST_AFFECTED;
+
+	private static final class Entry {
+		final SoftReference<CompilationUnit> fAST;
+		final char[] fSource;
+		final long fEstimatedSize;
+
+		Entry(CompilationUnit ast, char[] source, long estimatedSize) {
+			fAST= new SoftReference<>(ast);
+			fSource= source;
+			fEstimatedSize= estimatedSize;
+		}
+	}
+
+	private final LinkedHashMap<ITypeRoot, Entry> fEntries= new LinkedHashMap<>(16, 0.75f, true);
+	private final long fBudget;
+	private final IElementChangedListener fListener= this::elementChanged;
+	private long fUsed;
+
+	/** incremented whenever a change of the Java model can invalidate ASTs */
+	private long fGeneration;
+
+	private long fHits;
+	private long fMisses;
+	private long fEvictions;
+	private long fInvalidations;
+
+	/**
+	 * Creates a new cache that listens to the changes of the Java model.
+	 *
+	 * @param budget the memory budget in bytes
+	 */
+	public SharedASTCache(long budget) {
+		fBudget= budget;
+		if (fBudget > 0)
+			JavaCore.addElementChangedListener(fListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	/**
+	 * Returns the cached AST for the given element if neither the element nor the elements its
+	 * bindings depend on have changed since the AST was cached, and the element has no changes
+	 * that are not reconciled yet.
+	 *
+	 * @param input the Java element
+	 * @return the cached AST or <code>null</code>
+	 */
+	public CompilationUnit get(ITypeRoot input) {
+		if (fBudget <= 0)
+			return null;
+
+		char[] source= getConsistentSource(input);
+		synchronized (this) {
+			Entry entry= fEntries.get(input);
+			CompilationUnit ast= entry != null ? entry.fAST.get() : null;
+			if (ast != null && source != null && Arrays.equals(entry.fSource, source)) {
+				fHits++;
+				return ast;
+			}
+			if (entry != null)
+				remove(input);
+			fMisses++;
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the current generation of the cache. The generation changes whenever a change of
+	 * the Java model can invalidate ASTs. Clients that create an AST read the generation before
+	 * they start, so that an AST of outdated source is not cached.
+	 *
+	 * @return the current generation
+	 */
+	public synchronized long getGeneration() {
+		return fGeneration;
+	}
+
+	/**
+	 * Caches the given AST for the given element. The AST is not cached if the Java model has
+	 * changed since the given generation, or if the element has changes that are not reconciled
+	 * yet.
+	 *
+	 * @param input the Java element
+	 * @param ast the AST, can be <code>null</code> in which case a cached AST is removed
+	 * @param generation the {@link #getGeneration() generation} before the source of the AST was
+	 *            read
+	 */
+	public void put(ITypeRoot input, CompilationUnit ast, long generation) {
+		if (fBudget <= 0 || input == null)
+			return;
+
+		if (ast == null) {
+			remove(input);
+			return;
+		}
+
+		char[] source= getConsistentSource(input);
+		if (source == null || ast.getLength() != source.length) {
+			remove(input);
+			return;
+		}
+		source= source.clone(); // the buffer may return its own array
+
+		long size= source.length * (long) ESTIMATED_BYTES_PER_CHAR + ESTIMATED_BINDINGS_SIZE;
+		synchronized (this) {
+			if (generation != fGeneration) {
+				remove(input);
+				return;
+			}
+			Entry old= fEntries.put(input, new Entry(ast, source, size));
+			if (old != null)
+				fUsed-= old.fEstimatedSize;
+			fUsed+= size;
+
+			Iterator<Map.Entry<ITypeRoot, Entry>> iter= fEntries.entrySet().iterator();
+			while (fUsed > fBudget && iter.hasNext()) {
+				Map.Entry<ITypeRoot, Entry> eldest= iter.next();
+				if (eldest.getKey().equals(input) && fEntries.size() == 1)
+					break; // always keep the most recent AST
+				fUsed-= eldest.getValue().fEstimatedSize;
+				iter.remove();
+				fEvictions++;
+			}
+		}
+	}
+
+	/**
+	 * Removes the cached AST of the given element.
+	 *
+	 * @param input the Java element
+	 */
+	public synchronized void remove(ITypeRoot input) {
+		Entry entry= fEntries.remove(input);
+		if (entry != null)
+			fUsed-= entry.fEstimatedSize;
+	}
+
+	/**
+	 * Removes all cached ASTs.
+	 */
+	public synchronized void clear() {
+		fEntries.clear();
+		fUsed= 0;
+	}
+
+	/**
+	 * Stops listening to the changes of the Java model and removes all cached ASTs.
+	 */
+	public void dispose() {
+		JavaCore.removeElementChangedListener(fListener);
+		clear();
+	}
+
+	/**
+	 * @return the number of lookups that returned an AST
+	 */
+	public synchronized long getHits() {
+		return fHits;
+	}
+
+	/**
+	 * @return the number of lookups that did not return an AST
+	 */
+	public synchronized long getMisses() {
+		return fMisses;
+	}
+
+	/**
+	 * Returns a string describing the state of the cache used for debugging.
+	 *
+	 * @return the statistics string
+	 */
+	public synchronized String getStatistics() {
+		return "entries: " + fEntries.size() + ", estimated size: " + (fUsed / 1024) + "KB/" + (fBudget / 1024) + "KB, hits: " + fHits + ", misses: " + fMisses + ", evictions: " + fEvictions + ", invalidations: " + fInvalidations; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+	}
+
+	private void elementChanged(ElementChangedEvent event) {
+		processDelta(event.getDelta());
+	}
+
+	private void processDelta(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() == IJavaElementDelta.CHANGED && (delta.getFlags() & ~CHANGED_CHILDREN) == 0) {
+					for (IJavaElementDelta child : delta.getAffectedChildren()) {
+						processDelta(child);
+					}
+					return;
+				}
+				break;
+			default:
+				if (delta.getKind() == IJavaElementDelta.CHANGED && (delta.getFlags() & ~UNCHANGED_SOURCE) == 0)
+					return;
+				break;
+		}
+		invalidate(element);
+	}
+
+	private synchronized void invalidate(IJavaElement changed) {
+		fGeneration++;
+		if (changed.getElementType() == IJavaElement.JAVA_MODEL) {
+			fInvalidations+= fEntries.size();
+			clear();
+			return;
+		}
+		IJavaProject changedProject= changed.getJavaProject();
+		for (Iterator<Map.Entry<ITypeRoot, Entry>> iter= fEntries.entrySet().iterator(); iter.hasNext();) {
+			Map.Entry<ITypeRoot, Entry> entry= iter.next();
+			IJavaProject project= entry.getKey().getJavaProject();
+			if (project == null || project.equals(changedProject) || project.isOnClasspath(changed)) {
+				fUsed-= entry.getValue().fEstimatedSize;
+				iter.remove();
+				fInvalidations++;
+			}
+		}
+	}
+
+	/**
+	 * Returns the current source of the given element if the element is consistent with its
+	 * buffer. The returned array must not be modified.
+	 *
+	 * @param input the Java element
+	 * @return the source or <code>null</code> if the source is not available or has changes that
+	 *         are not reconciled yet
+	 */
+	private static char[] getConsistentSource(ITypeRoot input) {
+		if (input == null || !input.exists())
+			return null;
+		try {
+			if (!input.isConsistent())
+				return null;
+			IBuffer buffer= input.getBuffer();
+			return buffer != null ? buffer.getCharacters() : null;
+		} catch (JavaModelException e) {
+			return null;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,7 +17,6 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.core.manipulation;
 
-import java.io.IOException;
 import java.lang.reflect.Modifier;
 import java.util.AbstractList;
 import java.util.ArrayList;
@@ -1649,13 +1648,7 @@ public class StubUtility {
 	public static Template getCodeTemplate(String id, IJavaProject project) {
 		if (project == null)
 			return JavaManipulation.getCodeTemplateStore().findTemplateById(id);
-		ProjectTemplateStore projectStore= new ProjectTemplateStore(project.getProject());
-		try {
-			projectStore.load();
-		} catch (IOException e) {
-			JavaManipulationPlugin.log(e);
-		}
-		return projectStore.findTemplateById(id);
+		return ProjectTemplateStore.findTemplateById(project.getProject(), id);
 	}
 
 
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.fix;
+
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.ui.cleanup.CleanUpContext;
+import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
+
+/**
+ * A multi fix whose clean up is computed by a {@link CleanUpVisitor}, so that it can share the
+ * traversal of the AST with other clean ups.
+ */
+public abstract class AbstractFusibleMultiFix extends AbstractMultiFix implements IFusibleCleanUp {
+
+	protected AbstractFusibleMultiFix() {
+	}
+
+	protected AbstractFusibleMultiFix(Map<String, String> settings) {
+		super(settings);
+	}
+
+	@Override
+	public CleanUpVisitor createCleanUpVisitor(CleanUpContext context) throws CoreException {
+		CompilationUnit unit= context.getAST();
+		if (unit == null)
+			return null;
+
+		return createVisitor(unit);
+	}
+
+	@Override
+	protected final ICleanUpFix createFix(CompilationUnit unit) throws CoreException {
+		CleanUpVisitor visitor= createVisitor(unit);
+		if (visitor == null)
+			return null;
+
+		unit.accept(visitor);
+		return visitor.createFix();
+	}
+
+	/**
+	 * @param unit the AST to clean up
+	 * @return the visitor computing the fix of this clean up, or <code>null</code> if the clean up
+	 *         is not enabled
+	 * @throws CoreException if the visitor cannot be created
+	 */
+	protected abstract CleanUpVisitor createVisitor(CompilationUnit unit) throws CoreException;
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.fix;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
+import org.eclipse.jdt.internal.common.VisitorEnum;
+import org.eclipse.jdt.internal.corext.fix.CompilationUnitRewriteOperationsFixCore;
+import org.eclipse.jdt.internal.corext.fix.CompilationUnitRewriteOperationsFixCore.CompilationUnitRewriteOperationWithSourceRange;
+
+import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
+
+/**
+ * Collects the rewrite operations of an {@link IFusibleCleanUp} while visiting an AST. The visitor
+ * is run together with the visitors of the other clean ups in one {@link FusedASTVisitor
+ * traversal}, and must therefore not modify the AST.
+ */
+public abstract class CleanUpVisitor extends ASTVisitor {
+
+	private final String fName;
+	private final CompilationUnit fUnit;
+	private final Set<VisitorEnum> fNodeTypes;
+	private final List<CompilationUnitRewriteOperationWithSourceRange> fOperations= new ArrayList<>();
+
+	/**
+	 * @param name the name of the fix
+	 * @param unit the AST to visit
+	 * @param nodeTypes the types of the nodes this visitor overrides <code>visit</code> or
+	 *            <code>endVisit</code> methods for, the visitor is not called for any other node.
+	 *            No types means all nodes.
+	 */
+	protected CleanUpVisitor(String name, CompilationUnit unit, VisitorEnum... nodeTypes) {
+		fName= name;
+		fUnit= unit;
+		fNodeTypes= nodeTypes.length == 0 ? null : EnumSet.of(nodeTypes[0], nodeTypes);
+	}
+
+	/**
+	 * @return the types of the nodes this visitor is interested in, or <code>null</code> for all
+	 *         nodes
+	 */
+	public Set<VisitorEnum> getNodeTypes() {
+		return fNodeTypes;
+	}
+
+	protected void addOperation(CompilationUnitRewriteOperationWithSourceRange operation) {
+		fOperations.add(operation);
+	}
+
+	/**
+	 * @return the fix for the operations collected during the traversal, or <code>null</code> if
+	 *         there is nothing to fix
+	 */
+	public ICleanUpFix createFix() {
+		if (fOperations.isEmpty())
+			return null;
+		return new CompilationUnitRewriteOperationsFixCore(fName, fUnit, fOperations.toArray(new CompilationUnitRewriteOperationWithSourceRange[fOperations.size()]));
+	}
+}
@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.fix;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.ui.cleanup.CleanUpContext;
+import org.eclipse.jdt.ui.cleanup.ICleanUp;
+
+/**
+ * A clean up whose fix is computed by a {@link CleanUpVisitor}. The clean up refactoring runs the
+ * visitors of all fusible clean ups that work on the same AST in a single traversal, instead of
+ * calling {@link ICleanUp#createFix(CleanUpContext)} for each of them.
+ */
+public interface IFusibleCleanUp extends ICleanUp {
+
+	/**
+	 * Creates the visitor that computes the fix of this clean up. Running the visitor on the AST of
+	 * the context and calling {@link CleanUpVisitor#createFix()} must be equivalent to
+	 * {@link #createFix(CleanUpContext)}.
+	 *
+	 * @param context the context, with an AST and without problem locations
+	 * @return the visitor, or <code>null</code> if there is nothing to fix
+	 * @throws CoreException if the visitor cannot be created
+	 */
+	CleanUpVisitor createCleanUpVisitor(CleanUpContext context) throws CoreException;
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -62,6 +62,10 @@ import org.eclipse.jdt.internal.ui.util.ASTHelper;
 /**
  * Evaluates all fields, methods and types available (declared) at a given offset
  * in a compilation unit (Code assist that returns IBindings)
+ * <p>
+ * The members of type bindings and the local declarations found are kept in {@link ScopeTables}
+ * attached to the AST, so further scope analyzers for the same AST reuse them.
+ * </p>
  */
 public class ScopeAnalyzer {
 
@@ -203,53 +207,33 @@ public class ScopeAnalyzer {
 	 * @return return <code>true</code> if the requestor has reported the binding as found and no further results are required
 	 */
 	private boolean addInherited(ITypeBinding binding, int flags, IBindingRequestor requestor) {
-		return addInherited(binding, false, flags, requestor);
-	}
-
-	private boolean addInherited(ITypeBinding binding, boolean isSuperInterfaceBinding, int flags, IBindingRequestor requestor) {
-		if (!fTypesVisited.add(binding)) {
+		if (fTypesVisited.contains(binding)) {
 			return false;
 		}
-		if (hasFlag(VARIABLES, flags)) {
-			for (IVariableBinding variableBinding : binding.getDeclaredFields()) {
-				if (requestor.acceptBinding(variableBinding)) {
-					return true;
+		for (ScopeTables.TypeMembers members : getTables().getHierarchy(binding, fRoot.getAST())) {
+			if (!fTypesVisited.add(members.getType())) {
+				continue;
+			}
+			if (hasFlag(VARIABLES, flags)) {
+				for (IVariableBinding variableBinding : members.getFields()) {
+					if (requestor.acceptBinding(variableBinding)) {
+						return true;
+					}
 				}
 			}
-		}
 
-		if (hasFlag(METHODS, flags)) {
-			for (IMethodBinding curr : binding.getDeclaredMethods()) {
-				if (isSuperInterfaceBinding && Modifier.isStatic(curr.getModifiers())) {
-					continue;
-				}
-				if (!curr.isSynthetic() && !curr.isConstructor()) {
+			if (hasFlag(METHODS, flags)) {
+				for (IMethodBinding curr : members.getMethods()) {
 					if (requestor.acceptBinding(curr))
 						return true;
 				}
 			}
-		}
-
-		if (hasFlag(TYPES, flags)) {
-			for (ITypeBinding curr : binding.getDeclaredTypes()) {
-				if (requestor.acceptBinding(curr))
-					return true;
-			}
-		}
-
-
-		ITypeBinding superClass= binding.getSuperclass();
-		if (superClass != null) {
-			if (addInherited(superClass, flags, requestor)) // recursive
-				return true;
-		} else if (binding.isArray()) {
-			if (addInherited(fRoot.getAST().resolveWellKnownType("java.lang.Object"), flags, requestor)) //$NON-NLS-1$
-				return true;
-		}
 
-		for (ITypeBinding intf : binding.getInterfaces()) {// includes looking for methods: abstract, unimplemented methods
-			if (addInherited(intf, true, flags, requestor)) {
-				return true;
+			if (hasFlag(TYPES, flags)) {
+				for (ITypeBinding curr : members.getTypes()) {
+					if (requestor.acceptBinding(curr))
+						return true;
+				}
 			}
 		}
 		return false;
@@ -895,14 +879,33 @@ public class ScopeAnalyzer {
 		if (hasFlag(VARIABLES, flags) || hasFlag(TYPES, flags)) {
 			BodyDeclaration declaration= ASTResolving.findParentBodyDeclaration(node);
 			if (declaration instanceof MethodDeclaration || declaration instanceof Initializer || declaration instanceof FieldDeclaration) {
-				ScopeAnalyzerVisitor visitor= new ScopeAnalyzerVisitor(offset, flags, requestor);
-				declaration.accept(visitor);
-				return visitor.fBreak;
+				int localFlags= flags & (VARIABLES | TYPES);
+				IBinding[] declarations= getTables().getLocalDeclarations(declaration, offset, localFlags, () -> collectLocalDeclarations(declaration, offset, localFlags));
+				for (IBinding curr : declarations) {
+					if (requestor.acceptBinding(curr)) {
+						return true;
+					}
+				}
 			}
 		}
 		return false;
 	}
 
+	private static IBinding[] collectLocalDeclarations(BodyDeclaration declaration, int offset, int flags) {
+		List<IBinding> result= new ArrayList<>();
+		declaration.accept(new ScopeAnalyzerVisitor(offset, flags, binding -> {
+			if (binding != null) {
+				result.add(binding);
+			}
+			return false;
+		}));
+		return result.toArray(new IBinding[result.size()]);
+	}
+
+	private ScopeTables getTables() {
+		return ScopeTables.get(fRoot);
+	}
+
 	public Collection<String> getUsedVariableNames(int offset, int length) {
 		HashSet<String> result= new HashSet<>();
 		for (IBinding b : getDeclarationsInScope(offset, VARIABLES | CHECK_VISIBILITY)) {
@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.dom;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.BodyDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.Modifier;
+
+/**
+ * Scope tables shared by all {@link ScopeAnalyzer}s of the same {@link CompilationUnit}. The
+ * tables are attached to the AST root and contain the members of the type bindings and the local
+ * declarations visible at the offsets that were queried, so quick fixes and refactorings that
+ * create many scope analyzers for the same AST compute them only once.
+ * <p>
+ * The tables are discarded when the AST is modified. They can be used by several threads.
+ * </p>
+ */
+final class ScopeTables {
+
+	private static final String PROPERTY_SCOPE_TABLES= "scopeTables"; //$NON-NLS-1$
+
+	/**
+	 * The members declared in a type of a type hierarchy.
+	 */
+	static final class TypeMembers {
+
+		private final ITypeBinding fType;
+		private final boolean fIsSuperInterface;
+
+		private volatile IVariableBinding[] fFields;
+		private volatile IMethodBinding[] fMethods;
+		private volatile ITypeBinding[] fTypes;
+
+		private TypeMembers(ITypeBinding type, boolean isSuperInterface) {
+			fType= type;
+			fIsSuperInterface= isSuperInterface;
+		}
+
+		public ITypeBinding getType() {
+			return fType;
+		}
+
+		public IVariableBinding[] getFields() {
+			IVariableBinding[] fields= fFields;
+			if (fields == null) {
+				fields= fType.getDeclaredFields();
+				fFields= fields;
+			}
+			return fields;
+		}
+
+		/**
+		 * @return the declared methods without constructors and synthetic methods, and without the
+		 *         static methods of super interfaces, which are not inherited
+		 */
+		public IMethodBinding[] getMethods() {
+			IMethodBinding[] methods= fMethods;
+			if (methods == null) {
+				List<IMethodBinding> result= new ArrayList<>();
+				for (IMethodBinding curr : fType.getDeclaredMethods()) {
+					if (fIsSuperInterface && Modifier.isStatic(curr.getModifiers())) {
+						continue;
+					}
+					if (!curr.isSynthetic() && !curr.isConstructor()) {
+						result.add(curr);
+					}
+				}
+				methods= result.toArray(new IMethodBinding[result.size()]);
+				fMethods= methods;
+			}
+			return methods;
+		}
+
+		public ITypeBinding[] getTypes() {
+			ITypeBinding[] types= fTypes;
+			if (types == null) {
+				types= fType.getDeclaredTypes();
+				fTypes= types;
+			}
+			return types;
+		}
+	}
+
+	private record LocalScope(BodyDeclaration declaration, int offset, int flags) {
+	}
+
+	private final long fModificationCount;
+
+	private final Map<ITypeBinding, TypeMembers[]> fHierarchies= new ConcurrentHashMap<>();
+
+	private final Map<ITypeBinding, TypeMembers> fMembers= new ConcurrentHashMap<>();
+
+	private final Map<LocalScope, IBinding[]> fLocalDeclarations= new ConcurrentHashMap<>();
+
+	private ScopeTables(long modificationCount) {
+		fModificationCount= modificationCount;
+	}
+
+	/**
+	 * Returns the scope tables of the given AST, creates them if the AST has none or if it was
+	 * modified since they were created.
+	 *
+	 * @param root the AST root
+	 * @return the scope tables
+	 */
+	static ScopeTables get(CompilationUnit root) {
+		long modificationCount= root.getAST().modificationCount();
+		synchronized (root) {
+			Object property= root.getProperty(PROPERTY_SCOPE_TABLES);
+			if (property instanceof ScopeTables tables && tables.fModificationCount == modificationCount) {
+				return tables;
+			}
+			ScopeTables tables= new ScopeTables(modificationCount);
+			root.setProperty(PROPERTY_SCOPE_TABLES, tables);
+			return tables;
+		}
+	}
+
+	/**
+	 * Returns the types of the hierarchy of the given type in the order in which their members are
+	 * reported: the type itself, then depth first the super class and the super interfaces. Each
+	 * type is contained once.
+	 *
+	 * @param binding the type binding
+	 * @param ast the AST, to resolve <code>java.lang.Object</code> as super class of arrays
+	 * @return the types of the hierarchy with their members
+	 */
+	TypeMembers[] getHierarchy(ITypeBinding binding, AST ast) {
+		TypeMembers[] hierarchy= fHierarchies.get(binding);
+		if (hierarchy == null) {
+			List<TypeMembers> result= new ArrayList<>();
+			collectHierarchy(binding, false, ast, new HashSet<>(), result);
+			hierarchy= result.toArray(new TypeMembers[result.size()]);
+			fHierarchies.put(binding, hierarchy);
+		}
+		return hierarchy;
+	}
+
+	private void collectHierarchy(ITypeBinding binding, boolean isSuperInterface, AST ast, Set<ITypeBinding> visited, List<TypeMembers> result) {
+		if (!visited.add(binding)) {
+			return;
+		}
+		result.add(getMembers(binding, isSuperInterface));
+
+		ITypeBinding superClass= binding.getSuperclass();
+		if (superClass != null) {
+			collectHierarchy(superClass, false, ast, visited, result);
+		} else if (binding.isArray()) {
+			collectHierarchy(ast.resolveWellKnownType("java.lang.Object"), false, ast, visited, result); //$NON-NLS-1$
+		}
+		for (ITypeBinding intf : binding.getInterfaces()) {
+			collectHierarchy(intf, true, ast, visited, result);
+		}
+	}
+
+	private TypeMembers getMembers(ITypeBinding binding, boolean isSuperInterface) {
+		if (isSuperInterface) {
+			return new TypeMembers(binding, true); // rare, the members differ from the ones of the type itself
+		}
+		return fMembers.computeIfAbsent(binding, b -> new TypeMembers(b, false));
+	}
+
+	/**
+	 * Returns the local declarations of a body declaration that are visible at the given offset, the
+	 * innermost first.
+	 *
+	 * @param declaration the method, initializer or field declaration
+	 * @param offset the offset
+	 * @param flags the {@link ScopeAnalyzer#VARIABLES} and {@link ScopeAnalyzer#TYPES} flags
+	 * @param collector computes the declarations if they are not in the table yet
+	 * @return the bindings of the visible local declarations
+	 */
+	IBinding[] getLocalDeclarations(BodyDeclaration declaration, int offset, int flags, Supplier<IBinding[]> collector) {
+		return fLocalDeclarations.computeIfAbsent(new LocalScope(declaration, offset, flags), k -> collector.get());
+	}
+}
@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.dom;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.core.dom.ASTMatcher;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Assignment;
+import org.eclipse.jdt.core.dom.BooleanLiteral;
+import org.eclipse.jdt.core.dom.CharacterLiteral;
+import org.eclipse.jdt.core.dom.InfixExpression;
+import org.eclipse.jdt.core.dom.Modifier;
+import org.eclipse.jdt.core.dom.NumberLiteral;
+import org.eclipse.jdt.core.dom.PostfixExpression;
+import org.eclipse.jdt.core.dom.PrefixExpression;
+import org.eclipse.jdt.core.dom.PrimitiveType;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.SimplePropertyDescriptor;
+import org.eclipse.jdt.core.dom.StringLiteral;
+import org.eclipse.jdt.core.dom.StructuralPropertyDescriptor;
+
+/**
+ * Bottom-up structural hashes of AST subtrees. The hash of a node is computed from its node type,
+ * its operators and literal values and the hashes of its children, so it is computed once for each
+ * node of a subtree.
+ * <p>
+ * Subtrees that match with an {@link ASTMatcher} have the same hash. The content of Javadoc comments
+ * is not part of the hash. Identifiers of names are only part of the hash if requested, so that the
+ * index can also be used with matchers that map local variables. Subtrees with different hashes
+ * therefore never match, and the full matcher only needs to run on the candidates with the same hash.
+ * </p>
+ * <p>
+ * The index is filled on demand and must not be used after the AST was modified.
+ * </p>
+ */
+public final class StructuralHashIndex {
+
+	/**
+	 * Simple properties which are compared by {@link ASTMatcher} for all API levels. Other simple
+	 * properties are left out, see the class comment.
+	 */
+	private static final Set<SimplePropertyDescriptor> HASHED_PROPERTIES= Set.of(
+			Assignment.OPERATOR_PROPERTY,
+			BooleanLiteral.BOOLEAN_VALUE_PROPERTY,
+			CharacterLiteral.ESCAPED_VALUE_PROPERTY,
+			InfixExpression.OPERATOR_PROPERTY,
+			Modifier.KEYWORD_PROPERTY,
+			NumberLiteral.TOKEN_PROPERTY,
+			PostfixExpression.OPERATOR_PROPERTY,
+			PrefixExpression.OPERATOR_PROPERTY,
+			PrimitiveType.PRIMITIVE_TYPE_CODE_PROPERTY,
+			StringLiteral.ESCAPED_VALUE_PROPERTY);
+
+	private static final long PRIME= 0x100000001B3L;
+
+	private static final long[] NO_CHILD= { 0, 0 };
+
+	private final boolean fHashIdentifiers;
+
+	private final Map<ASTNode, long[]> fEntries= new IdentityHashMap<>();
+
+	private final ASTVisitor fHasher= new ASTVisitor() { // doesn't visit Javadoc tags
+
+		@Override
+		public boolean preVisit2(ASTNode node) {
+			return !fEntries.containsKey(node);
+		}
+
+		@Override
+		public void postVisit(ASTNode node) {
+			if (!fEntries.containsKey(node)) {
+				fEntries.put(node, computeEntry(node));
+			}
+		}
+	};
+
+	/**
+	 * Creates an index that leaves out the identifiers of names, for matchers that map names.
+	 */
+	public StructuralHashIndex() {
+		this(false);
+	}
+
+	/**
+	 * @param hashIdentifiers <code>true</code> if the identifiers of names are part of the hash,
+	 *            only for matchers that compare the identifiers
+	 */
+	public StructuralHashIndex(boolean hashIdentifiers) {
+		fHashIdentifiers= hashIdentifiers;
+	}
+
+	/**
+	 * Returns the structural hash of the subtree rooted at the given node. Computes the hashes of
+	 * all nodes of the subtree that are not indexed yet.
+	 *
+	 * @param node the root of the subtree
+	 * @return the structural hash
+	 */
+	public long getHash(ASTNode node) {
+		return getEntry(node)[0];
+	}
+
+	/**
+	 * Returns the number of nodes of the subtree rooted at the given node. Javadoc comments count
+	 * as one node.
+	 *
+	 * @param node the root of the subtree
+	 * @return the number of nodes
+	 */
+	public int getSize(ASTNode node) {
+		return (int) getEntry(node)[1];
+	}
+
+	/**
+	 * Tests whether the two subtrees can match. If this method returns <code>false</code>, the
+	 * subtrees don't match with any {@link ASTMatcher} supported by this index.
+	 *
+	 * @param node the first subtree
+	 * @param other the second subtree
+	 * @return <code>false</code> if the subtrees don't match, <code>true</code> if they have to be
+	 *         compared with a matcher
+	 */
+	public boolean mayMatch(ASTNode node, ASTNode other) {
+		long[] entry= getEntry(node);
+		long[] otherEntry= getEntry(other);
+		return entry[0] == otherEntry[0] && entry[1] == otherEntry[1];
+	}
+
+	private long[] getEntry(ASTNode node) {
+		long[] entry= fEntries.get(node);
+		if (entry == null) {
+			node.accept(fHasher);
+			entry= fEntries.get(node);
+		}
+		return entry;
+	}
+
+	private long[] computeEntry(ASTNode node) {
+		long hash= node.getNodeType();
+		long size= 1;
+		if (node.getNodeType() != ASTNode.JAVADOC) {
+			List<StructuralPropertyDescriptor> properties= node.structuralPropertiesForType();
+			for (StructuralPropertyDescriptor property : properties) {
+				Object value= node.getStructuralProperty(property);
+				if (property.isChildProperty()) {
+					long[] child= getChildEntry((ASTNode) value);
+					hash= (hash ^ child[0]) * PRIME;
+					size+= child[1];
+				} else if (property.isChildListProperty()) {
+					List<?> children= (List<?>) value;
+					hash= (hash ^ children.size()) * PRIME;
+					for (Object element : children) {
+						long[] child= getChildEntry((ASTNode) element);
+						hash= (hash ^ child[0]) * PRIME;
+						size+= child[1];
+					}
+				} else if (HASHED_PROPERTIES.contains(property) || (fHashIdentifiers && property == SimpleName.IDENTIFIER_PROPERTY)) {
+					hash= (hash ^ String.valueOf(value).hashCode()) * PRIME;
+				}
+			}
+		}
+		return new long[] { hash, size };
+	}
+
+	private long[] getChildEntry(ASTNode child) {
+		if (child == null) {
+			return NO_CHILD;
+		}
+		return getEntry(child); // already computed, as the children are visited first
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,8 @@ package org.eclipse.jdt.internal.corext.dom.fragments;
 
 import org.eclipse.jdt.core.dom.ASTNode;
 
+import org.eclipse.jdt.internal.corext.dom.StructuralHashIndex;
+
 /**
  * @see org.eclipse.jdt.internal.corext.dom.fragments.IASTFragment
  * @see org.eclipse.jdt.internal.corext.dom.fragments.ASTFragmentFactory
@@ -26,7 +28,11 @@ abstract class ASTFragment implements IASTFragment {
 	 * Tries to create or find as many fragments as possible
 	 * such that each fragment f matches
 	 * this fragment and f.getNode() is <code>node</code>
+	 *
+	 * @param node the node
+	 * @param hashIndex index to skip the nodes that cannot match
+	 * @return the matching fragments
 	 */
-	abstract IASTFragment[] getMatchingFragmentsWithNode(ASTNode node);
+	abstract IASTFragment[] getMatchingFragmentsWithNode(ASTNode node, StructuralHashIndex hashIndex);
 }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,22 +22,30 @@ import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.Javadoc;
 
 import org.eclipse.jdt.internal.corext.dom.GenericVisitor;
+import org.eclipse.jdt.internal.corext.dom.StructuralHashIndex;
 
 class ASTMatchingFragmentFinder extends GenericVisitor {
 
 	public static IASTFragment[] findMatchingFragments(ASTNode scope, ASTFragment toMatch) {
-		return new ASTMatchingFragmentFinder(toMatch).findMatches(scope);
+		return findMatchingFragments(scope, toMatch, new StructuralHashIndex(true));
+	}
+
+	public static IASTFragment[] findMatchingFragments(ASTNode scope, ASTFragment toMatch, StructuralHashIndex hashIndex) {
+		return new ASTMatchingFragmentFinder(toMatch, hashIndex).findMatches(scope);
 	}
 
 	private ASTFragment fFragmentToMatch;
+	private StructuralHashIndex fHashIndex;
 	private Set<IASTFragment> fMatches= new HashSet<>();
 
-	private ASTMatchingFragmentFinder(ASTFragment toMatch) {
+	private ASTMatchingFragmentFinder(ASTFragment toMatch, StructuralHashIndex hashIndex) {
 		super(true);
 		fFragmentToMatch= toMatch;
+		fHashIndex= hashIndex;
 	}
 	private IASTFragment[] findMatches(ASTNode scope) {
 		fMatches.clear();
+		fHashIndex.getHash(scope); // computes the hashes of all nodes in one pass
 		scope.accept(this);
 		return getMatches();
 	}
@@ -52,7 +60,7 @@ class ASTMatchingFragmentFinder extends GenericVisitor {
 
 	@Override
 	protected boolean visitNode(ASTNode node) {
-		IASTFragment[] localMatches= fFragmentToMatch.getMatchingFragmentsWithNode(node);
+		IASTFragment[] localMatches= fFragmentToMatch.getMatchingFragmentsWithNode(node, fHashIndex);
 		Collections.addAll(fMatches, localMatches);
 		return true;
 	}
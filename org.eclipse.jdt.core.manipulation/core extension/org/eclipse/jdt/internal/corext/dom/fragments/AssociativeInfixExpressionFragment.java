@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,6 +38,7 @@ import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.internal.corext.SourceRangeFactory;
 import org.eclipse.jdt.internal.corext.dom.GenericVisitor;
 import org.eclipse.jdt.internal.corext.dom.JdtASTMatcher;
+import org.eclipse.jdt.internal.corext.dom.StructuralHashIndex;
 
 class AssociativeInfixExpressionFragment extends ASTFragment implements IExpressionFragment {
 
@@ -153,11 +154,11 @@ class AssociativeInfixExpressionFragment extends ASTFragment implements IExpress
 	}
 
 	@Override
-	public IASTFragment[] getMatchingFragmentsWithNode(ASTNode node) {
+	public IASTFragment[] getMatchingFragmentsWithNode(ASTNode node, StructuralHashIndex hashIndex) {
 		IASTFragment fragmentForNode= ASTFragmentFactory.createFragmentForFullSubtree(node);
 		if (fragmentForNode instanceof AssociativeInfixExpressionFragment) {
 			AssociativeInfixExpressionFragment kin= (AssociativeInfixExpressionFragment)fragmentForNode;
-			return kin.getSubFragmentsWithMyNodeMatching(this);
+			return kin.getSubFragmentsWithMyNodeMatching(this, hashIndex);
 		} else {
 			return new IASTFragment[0];
 		}
@@ -168,15 +169,16 @@ class AssociativeInfixExpressionFragment extends ASTFragment implements IExpress
 	 *
 	 * @param source the source to look for matching subsequences
 	 * @param toMatch the sequence to match
+	 * @param hashIndex index to skip the operands that cannot match
 	 * @return returns a List of Lists of <code>Expression</code>s
 	 */
-	private static List<List<Expression>> getMatchingContiguousNodeSubsequences(List<Expression> source, List<Expression> toMatch) {
+	private static List<List<Expression>> getMatchingContiguousNodeSubsequences(List<Expression> source, List<Expression> toMatch, StructuralHashIndex hashIndex) {
 		//naive implementation:
 
 		List<List<Expression>> subsequences= new ArrayList<>();
 
 		for(int i= 0; i < source.size();) {
-			if(matchesAt(i, source, toMatch)) {
+			if(matchesAt(i, source, toMatch, hashIndex)) {
 				subsequences.add(source.subList(i, i + toMatch.size()));
 				i += toMatch.size();
 			} else
@@ -186,10 +188,12 @@ class AssociativeInfixExpressionFragment extends ASTFragment implements IExpress
 		return subsequences;
 	}
 
-	private static boolean matchesAt(int index, List<Expression> subject, List<Expression> toMatch) {
+	private static boolean matchesAt(int index, List<Expression> subject, List<Expression> toMatch, StructuralHashIndex hashIndex) {
 		if(index + toMatch.size() > subject.size())
 			return false;
 		for(int i= 0; i < toMatch.size(); i++, index++) {
+			if(!hashIndex.mayMatch(subject.get(index), toMatch.get(i)))
+				return false;
 			if(!JdtASTMatcher.doNodesMatch(
 			        subject.get(index), toMatch.get(i)
 			    )
@@ -262,13 +266,14 @@ class AssociativeInfixExpressionFragment extends ASTFragment implements IExpress
 
 	@Override
 	public IASTFragment[] getSubFragmentsMatching(IASTFragment toMatch) {
+		StructuralHashIndex hashIndex= new StructuralHashIndex(true);
 		return union(
-		               getSubFragmentsWithMyNodeMatching(toMatch),
-		               getSubFragmentsWithAnotherNodeMatching(toMatch)
+		               getSubFragmentsWithMyNodeMatching(toMatch, hashIndex),
+		               getSubFragmentsWithAnotherNodeMatching(toMatch, hashIndex)
 		             );
 	}
 
-	private IASTFragment[] getSubFragmentsWithMyNodeMatching(IASTFragment toMatch) {
+	private IASTFragment[] getSubFragmentsWithMyNodeMatching(IASTFragment toMatch, StructuralHashIndex hashIndex) {
 		if(toMatch.getClass() != getClass())
 			return new IASTFragment[0];
 
@@ -279,7 +284,8 @@ class AssociativeInfixExpressionFragment extends ASTFragment implements IExpress
 		List<List<Expression>> matchingSubsequences=
 			getMatchingContiguousNodeSubsequences(
 				getOperands(),
-				kinToMatch.getOperands()
+				kinToMatch.getOperands(),
+				hashIndex
 			);
 
 		IASTFragment[] matches= new IASTFragment[matchingSubsequences.size()];
@@ -294,11 +300,11 @@ class AssociativeInfixExpressionFragment extends ASTFragment implements IExpress
 		return matches;
 	}
 
-	private IASTFragment[] getSubFragmentsWithAnotherNodeMatching(IASTFragment toMatch) {
+	private IASTFragment[] getSubFragmentsWithAnotherNodeMatching(IASTFragment toMatch, StructuralHashIndex hashIndex) {
 		IASTFragment[] result= new IASTFragment[0];
 		for (Expression expression : getOperands()) {
 			ASTNode operand= expression;
-			result= union(result, ASTMatchingFragmentFinder.findMatchingFragments(operand, (ASTFragment)toMatch));
+			result= union(result, ASTMatchingFragmentFinder.findMatchingFragments(operand, (ASTFragment)toMatch, hashIndex));
 		}
 		return result;
 	}
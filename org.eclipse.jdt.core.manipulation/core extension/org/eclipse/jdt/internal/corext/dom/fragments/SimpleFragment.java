@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import org.eclipse.jdt.core.dom.ParenthesizedExpression;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 
 import org.eclipse.jdt.internal.corext.dom.JdtASTMatcher;
+import org.eclipse.jdt.internal.corext.dom.StructuralHashIndex;
 
 class SimpleFragment extends ASTFragment {
 	private final ASTNode fNode;
@@ -34,8 +35,8 @@ class SimpleFragment extends ASTFragment {
 	}
 
 	@Override
-	public IASTFragment[] getMatchingFragmentsWithNode(ASTNode node) {
-		if (! JdtASTMatcher.doNodesMatch(getAssociatedNode(), node))
+	public IASTFragment[] getMatchingFragmentsWithNode(ASTNode node, StructuralHashIndex hashIndex) {
+		if (! hashIndex.mayMatch(getAssociatedNode(), node) || ! JdtASTMatcher.doNodesMatch(getAssociatedNode(), node))
 			return new IASTFragment[0];
 
 		IASTFragment match= ASTFragmentFactory.createFragmentForFullSubtree(node);
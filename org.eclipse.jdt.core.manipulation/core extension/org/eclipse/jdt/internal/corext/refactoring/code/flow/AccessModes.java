@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.code.flow;
+
+import java.util.Arrays;
+
+/**
+ * The access modes of the local variables managed by a {@link FlowContext}, indexed like
+ * {@link FlowContext#getLocalFromIndex(int)}.
+ * <p>
+ * Only the variables that are not {@link FlowInfo#UNUSED} are stored, sorted by index. A flow info
+ * of a node that touches a few of the hundreds of locals in scope therefore stays small, and merging
+ * two flow infos only visits the variables that at least one of them accesses.
+ * </p>
+ */
+final class AccessModes {
+
+	private static final int INITIAL_CAPACITY= 4;
+
+	private int[] fIndices;
+	private int[] fModes;
+	private int fSize;
+
+	AccessModes() {
+		fIndices= new int[INITIAL_CAPACITY];
+		fModes= new int[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * @return the number of variables that are not unused
+	 */
+	int size() {
+		return fSize;
+	}
+
+	/**
+	 * @param position a position between <code>0</code> and {@link #size()}
+	 * @return the index of the variable stored at the given position
+	 */
+	int indexAt(int position) {
+		return fIndices[position];
+	}
+
+	/**
+	 * @param position a position between <code>0</code> and {@link #size()}
+	 * @return the access mode of the variable stored at the given position
+	 */
+	int modeAt(int position) {
+		return fModes[position];
+	}
+
+	/**
+	 * Changes the access mode of the variable stored at the given position.
+	 *
+	 * @param position a position between <code>0</code> and {@link #size()}
+	 * @param mode the new access mode, must not be {@link FlowInfo#UNUSED}
+	 */
+	void setModeAt(int position, int mode) {
+		fModes[position]= mode;
+	}
+
+	int get(int index) {
+		int position= Arrays.binarySearch(fIndices, 0, fSize, index);
+		return position < 0 ? FlowInfo.UNUSED : fModes[position];
+	}
+
+	void set(int index, int mode) {
+		int position= Arrays.binarySearch(fIndices, 0, fSize, index);
+		if (position >= 0) {
+			if (mode == FlowInfo.UNUSED) {
+				System.arraycopy(fIndices, position + 1, fIndices, position, fSize - position - 1);
+				System.arraycopy(fModes, position + 1, fModes, position, fSize - position - 1);
+				fSize--;
+			} else {
+				fModes[position]= mode;
+			}
+		} else if (mode != FlowInfo.UNUSED) {
+			position= -(position + 1);
+			if (fSize == fIndices.length) {
+				fIndices= Arrays.copyOf(fIndices, fSize * 2);
+				fModes= Arrays.copyOf(fModes, fSize * 2);
+			}
+			System.arraycopy(fIndices, position, fIndices, position + 1, fSize - position);
+			System.arraycopy(fModes, position, fModes, position + 1, fSize - position);
+			fIndices[position]= index;
+			fModes[position]= mode;
+			fSize++;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -104,11 +104,11 @@ public class FlowContext {
 	public int getIndexFromLocal(IVariableBinding local) {
 		if (fLocals == null)
 			return -1;
-		for (int i= 0; i < fLocals.length; i++) {
-			if (fLocals[i] == local)
-				return i;
-		}
-		return -1;
+		// manageLocal(..) stores a local at the index derived from its variable id
+		int index= local.getVariableId() - fStart;
+		if (index < 0 || index >= fLocals.length)
+			return -1;
+		return fLocals[index] == local ? index : -1;
 	}
 
 	void manageLocal(IVariableBinding local) {
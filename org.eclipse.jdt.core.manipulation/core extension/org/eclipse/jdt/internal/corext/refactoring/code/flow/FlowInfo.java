@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,6 @@
 package org.eclipse.jdt.internal.corext.refactoring.code.flow;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -90,7 +89,7 @@ public abstract class FlowInfo {
 	protected static final IVariableBinding[] EMPTY_ARRAY= new IVariableBinding[0];
 
 	protected int fReturnKind;
-	protected int[] fAccessModes;
+	protected AccessModes fAccessModes;
 	protected Set<String> fBranches;
 	//protected Set<ITypeBinding> fExceptions;
 	protected Set<ITypeBinding> fTypeVariables;
@@ -258,13 +257,19 @@ public abstract class FlowInfo {
 	 */
 	public IVariableBinding[] get(FlowContext context, int mode) {
 		List<IVariableBinding> result= new ArrayList<>();
-		int[] locals= getAccessModes();
+		AccessModes locals= getAccessModes();
 		if (locals == null)
 			return EMPTY_ARRAY;
-		for (int i= 0; i < locals.length; i++) {
-			int accessMode= locals[i];
-			if ((accessMode & mode) != 0)
-				result.add(context.getLocalFromIndex(i));
+		if ((mode & UNUSED) != 0) {
+			for (int i= 0; i < context.getArrayLength(); i++) {
+				if ((locals.get(i) & mode) != 0)
+					result.add(context.getLocalFromIndex(i));
+			}
+		} else {
+			for (int k= 0; k < locals.size(); k++) {
+				if ((locals.modeAt(k) & mode) != 0)
+					result.add(context.getLocalFromIndex(locals.indexAt(k)));
+			}
 		}
 		return result.toArray(new IVariableBinding[result.size()]);
 	}
@@ -282,12 +287,12 @@ public abstract class FlowInfo {
 	 */
 	public boolean hasAccessMode(FlowContext context, IVariableBinding local, int mode) {
 		boolean unusedMode= (mode & UNUSED) != 0;
-		if (fAccessModes == null && unusedMode)
-			return true;
+		if (fAccessModes == null)
+			return unusedMode;
 		int index= context.getIndexFromLocal(local);
 		if (index == -1)
 			return unusedMode;
-		return (fAccessModes[index] & mode) != 0;
+		return (fAccessModes.get(index) & mode) != 0;
 	}
 
 	/**
@@ -303,32 +308,32 @@ public abstract class FlowInfo {
 		int index= context.getIndexFromLocal(local);
 		if (index == -1)
 			return UNUSED;
-		return fAccessModes[index];
+		return fAccessModes.get(index);
 	}
 
-	protected int[] getAccessModes() {
+	protected AccessModes getAccessModes() {
 		return fAccessModes;
 	}
 
 	protected void clearAccessMode(IVariableBinding binding, FlowContext context) {
 		if (fAccessModes == null)	// all are unused
 			return;
-		fAccessModes[binding.getVariableId() - context.getStartingIndex()]= UNUSED;
+		fAccessModes.set(binding.getVariableId() - context.getStartingIndex(), UNUSED);
 	}
 
 	protected void mergeAccessModeSequential(FlowInfo otherInfo, FlowContext context) {
 		if (!context.considerAccessMode())
 			return;
 
-		int[] others= otherInfo.fAccessModes;
+		AccessModes others= otherInfo.fAccessModes;
 		if (others == null)	// others are all unused. So nothing to do
 			return;
 
 		// Must not consider return kind since a return statement can't control execution flow
 		// inside a method. It always leaves the method.
 		if (branches()) {
-			for (int i= 0; i < others.length; i++)
-				others[i]= ACCESS_MODE_OPEN_BRANCH_TABLE[getIndex(others[i])];
+			for (int k= 0; k < others.size(); k++)
+				others.setModeAt(k, ACCESS_MODE_OPEN_BRANCH_TABLE[getIndex(others.modeAt(k))]);
 		}
 
 		if (fAccessModes == null) {	// all current variables are unused
@@ -341,82 +346,86 @@ public abstract class FlowInfo {
 		} else if (context.computeReturnValues()) {
 			handleComputeReturnValues(others);
 		} else if (context.computeMerge()) {
-			handleMergeValues(others);
+			mergeAccessModes(others);
 		}
 	}
 
-	private void handleComputeReturnValues(int[] others) {
-		for (int i= 0; i < fAccessModes.length; i++) {
-			int accessmode= fAccessModes[i];
-			int othermode= others[i];
+	// Only variables used by others can change, so it suffices to visit them.
+	private void handleComputeReturnValues(AccessModes others) {
+		for (int k= 0; k < others.size(); k++) {
+			int index= others.indexAt(k);
+			int accessmode= fAccessModes.get(index);
+			int othermode= others.modeAt(k);
 			if (accessmode == WRITE)
 				continue;
 			if (accessmode == WRITE_POTENTIAL) {
 				if (othermode == WRITE)
-					fAccessModes[i]= WRITE;
+					fAccessModes.set(index, WRITE);
 				continue;
 			}
 
-			if (others[i] != UNUSED)
-				fAccessModes[i]= othermode;
+			fAccessModes.set(index, othermode);
 		}
 	}
 
-	private void handleComputeArguments(int[] others) {
-		for (int i= 0; i < fAccessModes.length; i++) {
-			int accessMode= fAccessModes[i];
-			int otherMode= others[i];
+	// Only variables used by others can change, so it suffices to visit them.
+	private void handleComputeArguments(AccessModes others) {
+		for (int k= 0; k < others.size(); k++) {
+			int index= others.indexAt(k);
+			int accessMode= fAccessModes.get(index);
+			int otherMode= others.modeAt(k);
 			if (accessMode == UNUSED
 					|| (accessMode == WRITE_POTENTIAL && (otherMode == READ || otherMode == READ_POTENTIAL))) {
 				// Read always supersedes a potential write even if the read is potential as well
 				// (we have to consider the potential read as an argument then).
-				fAccessModes[i]= otherMode;
+				fAccessModes.set(index, otherMode);
 			} else if (accessMode == WRITE_POTENTIAL && otherMode == WRITE) {
-				fAccessModes[i]= WRITE;
+				fAccessModes.set(index, WRITE);
 			}
 		}
 	}
 
-	private void handleMergeValues(int[] others) {
-		for (int i= 0; i < fAccessModes.length; i++) {
-			fAccessModes[i]= ACCESS_MODE_CONDITIONAL_TABLE
-				[getIndex(fAccessModes[i])]
-				[getIndex(others[i])];
+	/*
+	 * Merges the access modes of a conditional branch into the receiver's. others == null
+	 * means that all variables are unused in the branch.
+	 */
+	private void mergeAccessModes(AccessModes others) {
+		int unused_index= getIndex(UNUSED);
+		// ACCESS_MODE_CONDITIONAL_TABLE never maps a used variable to UNUSED, so the
+		// receiver's positions stay stable while updating them.
+		for (int k= 0; k < fAccessModes.size(); k++) {
+			int otherIndex= others == null ? unused_index : getIndex(others.get(fAccessModes.indexAt(k)));
+			fAccessModes.setModeAt(k, ACCESS_MODE_CONDITIONAL_TABLE
+				[getIndex(fAccessModes.modeAt(k))]
+				[otherIndex]);
+		}
+		if (others == null)
+			return;
+		for (int k= 0; k < others.size(); k++) {
+			int index= others.indexAt(k);
+			if (fAccessModes.get(index) == UNUSED)
+				fAccessModes.set(index, ACCESS_MODE_CONDITIONAL_TABLE[unused_index][getIndex(others.modeAt(k))]);
 		}
 	}
 
-	protected void createAccessModeArray(FlowContext context) {
-		fAccessModes= new int[context.getArrayLength()];
-		Arrays.fill(fAccessModes, UNUSED);
+	protected void createAccessModes() {
+		fAccessModes= new AccessModes();
 	}
 
 	protected void mergeAccessModeConditional(FlowInfo otherInfo, FlowContext context) {
 		if (!context.considerAccessMode())
 			return;
 
-		int[] others= otherInfo.fAccessModes;
+		AccessModes others= otherInfo.fAccessModes;
 		// first access
 		if (fAccessModes == null) {
 			if (others != null)
 				fAccessModes= others;
 			else
-				createAccessModeArray(context);
+				createAccessModes();
 			return;
 		} else {
-			if (others == null) {
-				for (int i= 0; i < fAccessModes.length; i++) {
-					int unused_index= getIndex(UNUSED);
-					fAccessModes[i]= ACCESS_MODE_CONDITIONAL_TABLE
-						[getIndex(fAccessModes[i])]
-						[unused_index];
-				}
-			} else {
-				for (int i= 0; i < fAccessModes.length; i++) {
-					fAccessModes[i]= ACCESS_MODE_CONDITIONAL_TABLE
-						[getIndex(fAccessModes[i])]
-						[getIndex(others[i])];
-				}
-			}
+			mergeAccessModes(others);
 		}
 	}
 
@@ -428,16 +437,11 @@ public abstract class FlowInfo {
 			return;
 
 		if (fAccessModes == null) {
-			createAccessModeArray(context);
+			createAccessModes();
 			return;
 		}
 
-		int unused_index= getIndex(UNUSED);
-		for (int i= 0; i < fAccessModes.length; i++) {
-			fAccessModes[i]= ACCESS_MODE_CONDITIONAL_TABLE
-				[getIndex(fAccessModes[i])]
-				[unused_index];
-		}
+		mergeAccessModes(null);
 	}
 
 	private static int getIndex(int accessMode) {
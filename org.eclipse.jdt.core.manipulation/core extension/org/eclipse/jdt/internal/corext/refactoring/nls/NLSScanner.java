@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -44,6 +44,21 @@ public class NLSScanner {
 	}
 
 	public static NLSLine[] scan(ICompilationUnit cu) throws JavaModelException, BadLocationException, InvalidInputException {
+		return scan(cu, cu.getBuffer().getCharacters());
+	}
+
+	/**
+	 * Scans the given content of a compilation unit, with the source level of its project.
+	 *
+	 * @param cu the compilation unit
+	 * @param content the content of the compilation unit, for example read from its file
+	 *            without opening the unit
+	 * @return the lines that contain string literals
+	 * @throws BadLocationException if a line cannot be computed
+	 * @throws InvalidInputException if the content cannot be scanned
+	 * @since 1.23
+	 */
+	public static NLSLine[] scan(ICompilationUnit cu, char[] content) throws BadLocationException, InvalidInputException {
 		IJavaProject javaProject= cu.getJavaProject();
 		IScanner scanner= null;
 		if (javaProject != null) {
@@ -53,7 +68,7 @@ public class NLSScanner {
 		} else {
 			scanner= ToolFactory.createScanner(true, true, false, true);
 		}
-		return scan(scanner, cu.getBuffer().getCharacters());
+		return scan(scanner, content);
 	}
 
 	public static NLSLine[] scan(String s) throws InvalidInputException, BadLocationException {
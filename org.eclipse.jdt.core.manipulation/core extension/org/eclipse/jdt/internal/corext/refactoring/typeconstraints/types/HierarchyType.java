@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,6 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types;
 
-import java.util.Map;
-
 import org.eclipse.core.runtime.Assert;
 
 import org.eclipse.jdt.core.IType;
@@ -26,6 +24,9 @@ public abstract class HierarchyType extends TType {
 	private HierarchyType[] fInterfaces;
 	private IType fJavaElementType;
 
+	/** The super types of this type, or <code>null</code> if not indexed yet */
+	SubTypeIndex.Ancestors fAncestors;
+
 	protected HierarchyType(TypeEnvironment environment) {
 		super(environment);
 	}
@@ -40,10 +41,11 @@ public abstract class HierarchyType extends TType {
 			fSuperclass= (HierarchyType)environment.create(superclass);
 		}
 		ITypeBinding[] interfaces= binding.getInterfaces();
-		fInterfaces= new HierarchyType[interfaces.length];
+		HierarchyType[] result= new HierarchyType[interfaces.length];
 		for (int i= 0; i < interfaces.length; i++) {
-			fInterfaces[i]= (HierarchyType)environment.create(interfaces[i]);
+			result[i]= (HierarchyType)environment.create(interfaces[i]);
 		}
+		fInterfaces= result; // only now the hierarchy is complete, see isHierarchyInitialized()
 	}
 
 	@Override
@@ -61,21 +63,17 @@ public abstract class HierarchyType extends TType {
 	}
 
 	public boolean isSubType(HierarchyType other) {
-		if (getEnvironment() == other.getEnvironment()) {
-			Map<TypeTuple, Boolean> cache= getEnvironment().getSubTypeCache();
-			TypeTuple key= new TypeTuple(this, other);
-			Boolean value= cache.get(key);
-			if (value != null)
-				return value;
-			boolean isSub= doIsSubType(other);
-			value= isSub;
-			cache.put(key, value);
-			return isSub;
-		}
+		SubTypeIndex index= getEnvironment().getSubTypeIndex();
+		if (index != null && getEnvironment() == other.getEnvironment())
+			return index.isSubType(this, other);
 		return doIsSubType(other);
 	}
 
-	private boolean doIsSubType(HierarchyType other) {
+	boolean isHierarchyInitialized() {
+		return fInterfaces != null;
+	}
+
+	boolean doIsSubType(HierarchyType other) {
 		if (fSuperclass != null && (other.isTypeEquivalentTo(fSuperclass) || fSuperclass.doIsSubType(other)))
 			return true;
 		for (HierarchyType intf : fInterfaces) {
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Answers {@link HierarchyType#isSubType(HierarchyType)} queries of one {@link TypeEnvironment}
+ * with bit set lookups instead of walking the type hierarchy.
+ * <p>
+ * Every hierarchy type that takes part in a query gets a dense id. Types that are equal share
+ * their id, since the same type can be created for different projects. The first query on a type
+ * computes the ids of all its (transitive) super types from the already indexed direct super
+ * types, so the index grows incrementally with the types created in the environment. Types whose
+ * hierarchy is not completely initialized yet are answered by walking the hierarchy.
+ * </p>
+ */
+public final class SubTypeIndex {
+
+	/**
+	 * The super types of an indexed type.
+	 */
+	static final class Ancestors {
+		/** Ids of all super types */
+		final BitSet fTypes= new BitSet();
+		/** Ids of the erasures of the generic and raw super types */
+		final BitSet fGenericOrRawErasures= new BitSet();
+		/** Ids of the erasures of the generic, raw and parameterized super types */
+		final BitSet fErasures= new BitSet();
+
+		void addAll(Ancestors other) {
+			fTypes.or(other.fTypes);
+			fGenericOrRawErasures.or(other.fGenericOrRawErasures);
+			fErasures.or(other.fErasures);
+		}
+	}
+
+	private final Map<HierarchyType, Integer> fIds= new HashMap<>();
+
+	private long fQueries= 0;
+	private long fIndexedTypes= 0;
+	private long fHierarchyWalks= 0;
+
+	SubTypeIndex() {
+	}
+
+	boolean isSubType(HierarchyType type, HierarchyType other) {
+		fQueries++;
+		Ancestors ancestors= getAncestors(type);
+		if (ancestors == null) {
+			fHierarchyWalks++;
+			return type.doIsSubType(other);
+		}
+		// mirrors the isTypeEquivalentTo(..) implementations of the hierarchy types
+		switch (other.getKind()) {
+			case TType.PARAMETERIZED_TYPE:
+				return contains(ancestors.fTypes, other) || contains(ancestors.fGenericOrRawErasures, (HierarchyType) other.getErasure());
+			case TType.GENERIC_TYPE:
+			case TType.RAW_TYPE:
+				return contains(ancestors.fErasures, (HierarchyType) other.getErasure());
+			default:
+				return contains(ancestors.fTypes, other);
+		}
+	}
+
+	/**
+	 * Returns the super types of the given type, computing them if necessary.
+	 *
+	 * @param type the type
+	 * @return the super types, or <code>null</code> if the hierarchy of the type is not
+	 *         completely initialized yet
+	 */
+	private Ancestors getAncestors(HierarchyType type) {
+		Ancestors ancestors= type.fAncestors;
+		if (ancestors != null)
+			return ancestors;
+		if (!type.isHierarchyInitialized())
+			return null;
+		ancestors= new Ancestors();
+		HierarchyType superclass= (HierarchyType) type.getSuperclass();
+		if (superclass != null && !addSuperType(ancestors, superclass))
+			return null;
+		for (TType intf : type.getInterfaces()) {
+			if (!addSuperType(ancestors, (HierarchyType) intf))
+				return null;
+		}
+		type.fAncestors= ancestors;
+		fIndexedTypes++;
+		return ancestors;
+	}
+
+	private boolean addSuperType(Ancestors ancestors, HierarchyType superType) {
+		Ancestors inherited= getAncestors(superType);
+		if (inherited == null)
+			return false;
+		ancestors.addAll(inherited);
+		ancestors.fTypes.set(getId(superType));
+		int kind= superType.getKind();
+		if (kind == TType.GENERIC_TYPE || kind == TType.RAW_TYPE) {
+			int erasure= getId((HierarchyType) superType.getErasure());
+			ancestors.fGenericOrRawErasures.set(erasure);
+			ancestors.fErasures.set(erasure);
+		} else if (kind == TType.PARAMETERIZED_TYPE) {
+			ancestors.fErasures.set(getId((HierarchyType) superType.getErasure()));
+		}
+		return true;
+	}
+
+	private int getId(HierarchyType type) {
+		Integer id= fIds.get(type);
+		if (id == null) {
+			id= Integer.valueOf(fIds.size());
+			fIds.put(type, id);
+		}
+		return id.intValue();
+	}
+
+	private boolean contains(BitSet ids, HierarchyType type) {
+		Integer id= fIds.get(type);
+		return id != null && ids.get(id.intValue());
+	}
+
+	/**
+	 * @return the number of subtype queries answered by this index
+	 */
+	public long getQueryCount() {
+		return fQueries;
+	}
+
+	/**
+	 * @return the number of types whose super types have been indexed
+	 */
+	public long getIndexedTypeCount() {
+		return fIndexedTypes;
+	}
+
+	/**
+	 * @return the number of queries that had to walk the hierarchy
+	 */
+	public long getHierarchyWalkCount() {
+		return fHierarchyWalks;
+	}
+
+	@Override
+	public String toString() {
+		return "SubTypeIndex: " + fQueries + " queries, " + fIndexedTypes + " indexed types, " + fHierarchyWalks + " hierarchy walks"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+}
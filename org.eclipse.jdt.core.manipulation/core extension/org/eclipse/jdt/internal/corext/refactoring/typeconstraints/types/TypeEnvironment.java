@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,6 @@ package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -117,14 +116,7 @@ public class TypeEnvironment {
 	private Map<TType, SuperWildcardType>    fSuperWildcardTypes= new HashMap<>();
 	private UnboundWildcardType fUnboundWildcardType= null;
 
-	private static final int MAX_ENTRIES= 1024;
-	private Map<TypeTuple, Boolean> fSubTypeCache= new LinkedHashMap<>(50, 0.75f, true) {
-		private static final long serialVersionUID= 1L;
-		@Override
-		protected boolean removeEldestEntry(Map.Entry<TypeTuple, Boolean> eldest) {
-			return size() > MAX_ENTRIES;
-		}
-	};
+	private final SubTypeIndex fSubTypeIndex;
 
 	/**
 	 * Map from TType to its known subtypes, or <code>null</code> iff subtype
@@ -176,14 +168,32 @@ public class TypeEnvironment {
 	}
 
 	public TypeEnvironment(boolean rememberSubtypes, boolean removeCapures) {
+		this(rememberSubtypes, removeCapures, true);
+	}
+
+	/**
+	 * @param rememberSubtypes whether the known subtypes of the created types are remembered
+	 * @param removeCapures whether capture types are replaced by their wildcard type
+	 * @param indexSubTypes if <code>true</code>, subtype queries between the hierarchy types of this
+	 *            environment are answered by a {@link SubTypeIndex}, otherwise by walking the
+	 *            type hierarchy
+	 */
+	public TypeEnvironment(boolean rememberSubtypes, boolean removeCapures, boolean indexSubTypes) {
 		if (rememberSubtypes) {
 			fSubTypes= new HashMap<>();
 		}
 		fRemoveCapures= removeCapures;
+		fSubTypeIndex= indexSubTypes ? new SubTypeIndex() : null;
 	}
 
-	Map<TypeTuple, Boolean> getSubTypeCache() {
-		return fSubTypeCache;
+	/**
+	 * Returns the index answering the subtype queries between the hierarchy types of this
+	 * environment. The index also keeps the statistics of these queries.
+	 *
+	 * @return the subtype index, or <code>null</code> if this environment does not index subtypes
+	 */
+	public SubTypeIndex getSubTypeIndex() {
+		return fSubTypeIndex;
 	}
 
 	public TType create(ITypeBinding binding) {
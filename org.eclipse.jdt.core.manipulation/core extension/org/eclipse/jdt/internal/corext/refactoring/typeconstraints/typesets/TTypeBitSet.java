@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
+
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
+
+/**
+ * A set of {@link TType}s stored as a bit set over the dense type ids handed out by a
+ * {@link TypeSetEnvironment}. Bulk operations with another bit set of the same environment are
+ * word-wise bit operations instead of per element hash lookups.
+ * <p>
+ * The set iterates in the order in which the environment has first seen the types.
+ * </p>
+ */
+public final class TTypeBitSet extends AbstractSet<TType> {
+
+	private final TypeSetEnvironment fEnvironment;
+	private final BitSet fBits;
+	private int fSize;
+
+	public TTypeBitSet(TypeSetEnvironment environment) {
+		fEnvironment= environment;
+		fBits= new BitSet();
+	}
+
+	TTypeBitSet(TTypeBitSet other) {
+		fEnvironment= other.fEnvironment;
+		fBits= (BitSet) other.fBits.clone();
+		fSize= other.fSize;
+	}
+
+	@Override
+	public int size() {
+		return fSize;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return fSize == 0;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		if (!(o instanceof TType))
+			return false;
+		int id= fEnvironment.lookupTypeId((TType) o);
+		return id >= 0 && fBits.get(id);
+	}
+
+	@Override
+	public boolean add(TType type) {
+		int id= fEnvironment.getTypeId(type);
+		if (fBits.get(id))
+			return false;
+		fBits.set(id);
+		fSize++;
+		return true;
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		if (!(o instanceof TType))
+			return false;
+		int id= fEnvironment.lookupTypeId((TType) o);
+		if (id < 0 || !fBits.get(id))
+			return false;
+		fBits.clear(id);
+		fSize--;
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		fBits.clear();
+		fSize= 0;
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends TType> c) {
+		if (!isCompatible(c))
+			return super.addAll(c);
+		fBits.or(((TTypeBitSet) c).fBits);
+		return updateSize();
+	}
+
+	@Override
+	public boolean retainAll(Collection<?> c) {
+		if (!isCompatible(c))
+			return super.retainAll(c);
+		fBits.and(((TTypeBitSet) c).fBits);
+		return updateSize();
+	}
+
+	@Override
+	public boolean removeAll(Collection<?> c) {
+		if (!isCompatible(c))
+			return super.removeAll(c);
+		fBits.andNot(((TTypeBitSet) c).fBits);
+		return updateSize();
+	}
+
+	@Override
+	public boolean containsAll(Collection<?> c) {
+		if (!isCompatible(c))
+			return super.containsAll(c);
+		TTypeBitSet other= (TTypeBitSet) c;
+		if (other.fSize > fSize)
+			return false;
+		BitSet missing= (BitSet) other.fBits.clone();
+		missing.andNot(fBits);
+		return missing.isEmpty();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this)
+			return true;
+		if (isCompatible(o))
+			return fSize == ((TTypeBitSet) o).fSize && fBits.equals(((TTypeBitSet) o).fBits);
+		return super.equals(o);
+	}
+
+	@Override
+	public int hashCode() {
+		return super.hashCode(); // must agree with other Set implementations
+	}
+
+	@Override
+	public Iterator<TType> iterator() {
+		return new Iterator<>() {
+			private int fNext= fBits.nextSetBit(0);
+			private int fLast= -1;
+
+			@Override
+			public boolean hasNext() {
+				return fNext >= 0;
+			}
+
+			@Override
+			public TType next() {
+				if (fNext < 0)
+					throw new NoSuchElementException();
+				fLast= fNext;
+				fNext= fBits.nextSetBit(fNext + 1);
+				return fEnvironment.getType(fLast);
+			}
+
+			@Override
+			public void remove() {
+				if (fLast < 0)
+					throw new IllegalStateException();
+				fBits.clear(fLast);
+				fSize--;
+				fLast= -1;
+			}
+		};
+	}
+
+	private boolean isCompatible(Object o) {
+		return o instanceof TTypeBitSet && ((TTypeBitSet) o).fEnvironment == fEnvironment;
+	}
+
+	private boolean updateSize() {
+		int size= fBits.cardinality();
+		boolean changed= size != fSize;
+		fSize= size;
+		return changed;
+	}
+}
@@ -14,8 +14,13 @@
 
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TypeEnvironment;
@@ -24,6 +29,12 @@ import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TypeEnv
 
 public class TypeSetEnvironment {
 
+	/**
+	 * System property to store the members of {@link EnumeratedTypeSet}s as bit sets over dense
+	 * type ids instead of hash sets.
+	 */
+	public static final String BIT_SET_TYPE_SETS= "jdt.typeConstraints.bitSetTypeSets"; //$NON-NLS-1$
+
 	private final TypeEnvironment fTypeEnvironment;
 	private final TypeUniverseSet fUniverse;
 	private final EmptyTypeSet fEmptyTypeSet;
@@ -33,11 +44,24 @@ public class TypeSetEnvironment {
 	private final Map<TType, SuperTypesOfSingleton> fSuperTypesOfSingletons= new LinkedHashMap<>();//@perf
 	private final Map<Object, SuperTypesSet> fSuperTypesSets= new LinkedHashMap<>();//@perf
 
+	private final boolean fUseBitSets;
+	private final Map<TType, Integer> fTypeIds= new HashMap<>();
+	private final List<TType> fTypes= new ArrayList<>();
+
 	private int fgCommonExprHits= 0;
 	private int fgCommonExprMisses= 0;
 
 	public TypeSetEnvironment(TypeEnvironment typeEnvironment) {
+		this(typeEnvironment, Boolean.getBoolean(BIT_SET_TYPE_SETS));
+	}
+
+	/**
+	 * @param typeEnvironment the type environment
+	 * @param useBitSets <code>true</code> to store the members of enumerated type sets as bit sets
+	 */
+	public TypeSetEnvironment(TypeEnvironment typeEnvironment, boolean useBitSets) {
 		fTypeEnvironment= typeEnvironment;
+		fUseBitSets= useBitSets;
 		fUniverse= new TypeUniverseSet(this);
 		fEmptyTypeSet= new EmptyTypeSet(this);
 	}
@@ -119,9 +143,56 @@ public class TypeSetEnvironment {
 		}
 	}
 
+	public boolean usesBitSets() {
+		return fUseBitSets;
+	}
+
+	Set<TType> createMemberSet() {
+		return fUseBitSets ? new TTypeBitSet(this) : new LinkedHashSet<>();
+	}
+
+	Set<TType> copyMemberSet(Set<TType> members) {
+		if (members instanceof TTypeBitSet)
+			return new TTypeBitSet((TTypeBitSet) members);
+		Set<TType> result= createMemberSet();
+		result.addAll(members);
+		return result;
+	}
+
+	/**
+	 * Returns the dense id of the given type, assigning the next free id if the type has not been
+	 * seen before.
+	 *
+	 * @param type the type
+	 * @return the id of the type
+	 */
+	int getTypeId(TType type) {
+		Integer id= fTypeIds.get(type);
+		if (id == null) {
+			id= Integer.valueOf(fTypes.size());
+			fTypeIds.put(type, id);
+			fTypes.add(type);
+		}
+		return id.intValue();
+	}
+
+	/**
+	 * @param type the type
+	 * @return the id of the type, or <code>-1</code> if no id has been assigned to it yet
+	 */
+	int lookupTypeId(TType type) {
+		Integer id= fTypeIds.get(type);
+		return id == null ? -1 : id.intValue();
+	}
+
+	TType getType(int id) {
+		return fTypes.get(id);
+	}
+
 	public void dumpStats() {
 		System.out.println("Common expression hits:   " + fgCommonExprHits); //$NON-NLS-1$
 		System.out.println("Common expression misses: " + fgCommonExprMisses); //$NON-NLS-1$
+		System.out.println("Type ids:                 " + fTypes.size()); //$NON-NLS-1$
 	}
 
 }
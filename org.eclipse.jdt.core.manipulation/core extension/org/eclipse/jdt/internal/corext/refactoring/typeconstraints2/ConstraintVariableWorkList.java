@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.typeconstraints2;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * The work list of a type constraint solver: a first-in first-out queue of the constraint variables
+ * whose type estimates have changed and whose constraints must be (re-)processed.
+ * <p>
+ * A variable is queued at most once. Adding a variable that is already waiting to be processed has
+ * no effect, since processing it once will already see its latest type estimate. A variable can be
+ * queued again after it has been removed.
+ * </p>
+ */
+public final class ConstraintVariableWorkList {
+
+	private final ArrayDeque<ConstraintVariable2> fQueue= new ArrayDeque<>();
+
+	private final Set<ConstraintVariable2> fQueued= Collections.newSetFromMap(new IdentityHashMap<>());
+
+	/**
+	 * Queues the given variable unless it is already queued.
+	 *
+	 * @param variable the variable to add
+	 * @return <code>true</code> if the variable has been queued, <code>false</code> if it was queued already
+	 */
+	public boolean add(ConstraintVariable2 variable) {
+		if (fQueued.add(variable)) {
+			fQueue.addLast(variable);
+			return true;
+		}
+		return false;
+	}
+
+	public void addAll(ConstraintVariable2[] variables) {
+		for (ConstraintVariable2 variable : variables)
+			add(variable);
+	}
+
+	public void addAll(Collection<? extends ConstraintVariable2> variables) {
+		for (ConstraintVariable2 variable : variables)
+			add(variable);
+	}
+
+	/**
+	 * Removes the variable that has been queued first.
+	 *
+	 * @return the removed variable
+	 * @throws java.util.NoSuchElementException if the work list is empty
+	 */
+	public ConstraintVariable2 removeFirst() {
+		ConstraintVariable2 variable= fQueue.removeFirst();
+		fQueued.remove(variable);
+		return variable;
+	}
+
+	public boolean isEmpty() {
+		return fQueue.isEmpty();
+	}
+
+	public int size() {
+		return fQueue.size();
+	}
+}
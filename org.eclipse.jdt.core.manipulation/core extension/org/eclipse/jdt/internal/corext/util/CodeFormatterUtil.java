@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import org.eclipse.text.edits.TextEdit;
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Position;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
@@ -253,6 +254,73 @@ public class CodeFormatterUtil {
 	 */
 	public static String format(int kind, String source, int indentationLevel, String lineSeparator, Map<String, String> options) {
 		TextEdit edit= format2(kind, source, indentationLevel, lineSeparator, options);
+		return applyFormatEdit(source, edit);
+	}
+
+	/**
+	 * Formats several code snippets of the same kind in one formatter pass. Each snippet is
+	 * formatted as by {@link #format(int, String, int, String, Map)}, the text between the
+	 * snippets is not part of the result. If the snippets cannot be formatted together, for example
+	 * because one of them has syntax errors, they are formatted one by one with the same formatter.
+	 *
+	 * @param kind
+	 *        Use to specify the kind of the code snippets to format.
+	 *        It can be any of the kind constants defined in {@link CodeFormatter}
+	 *        that accepts a sequence of snippets, e.g. {@link CodeFormatter#K_CLASS_BODY_DECLARATIONS}
+	 * @param sources
+	 *        The snippets to format
+	 * @param indentationLevel
+	 *        The initial indentation level, used to shift left/right the entire source fragment.
+	 *        An initial indentation level of zero or below has no effect.
+	 * @param lineSeparator
+	 *        The line separator to use in formatted source,
+	 *        if set to <code>null</code>, then the platform default one will be used.
+	 * @param options
+	 *        The options map to use for formatting with the default code formatter.
+	 *        Recognized options are documented on {@link JavaCore#getDefaultOptions()}.
+	 *        If set to <code>null</code>, then use the current settings from {@link JavaCore#getOptions()}.
+	 * @return the formatted snippets, in the order of <code>sources</code>
+	 */
+	public static String[] format(int kind, String[] sources, int indentationLevel, String lineSeparator, Map<String, String> options) {
+		CodeFormatter formatter= ToolFactory.createCodeFormatter(options);
+		String[] result= new String[sources.length];
+		if (sources.length > 1) {
+			String separator= lineSeparator != null ? lineSeparator : System.lineSeparator();
+			StringBuilder buf= new StringBuilder();
+			Position[] positions= new Position[sources.length];
+			for (int i= 0; i < sources.length; i++) {
+				if (i > 0) {
+					buf.append(separator).append(separator);
+				}
+				positions[i]= new Position(buf.length(), sources[i].length());
+				buf.append(sources[i]);
+			}
+			String source= buf.toString();
+			TextEdit edit= formatter.format(kind, source, 0, source.length(), indentationLevel, lineSeparator);
+			if (edit != null) {
+				// the positions of the snippets are updated while the edit is applied
+				Document document= new Document(source);
+				try {
+					for (Position position : positions) {
+						document.addPosition(position);
+					}
+					edit.apply(document, TextEdit.NONE);
+					for (int i= 0; i < positions.length; i++) {
+						result[i]= document.get(positions[i].getOffset(), positions[i].getLength());
+					}
+					return result;
+				} catch (BadLocationException e) {
+					JavaManipulationPlugin.log(e); // bug in the formatter
+				}
+			}
+		}
+		for (int i= 0; i < sources.length; i++) {
+			result[i]= applyFormatEdit(sources[i], formatter.format(kind, sources[i], 0, sources[i].length(), indentationLevel, lineSeparator));
+		}
+		return result;
+	}
+
+	private static String applyFormatEdit(String source, TextEdit edit) {
 		if (edit == null) {
 			return source;
 		} else {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.util;
 
+import java.util.function.Supplier;
+
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.JavaCore;
@@ -23,6 +25,8 @@ import org.eclipse.jdt.core.search.SearchPattern;
 
 public class SearchUtils {
 
+	private static volatile Supplier<SearchParticipant> fgSearchParticipantFactory;
+
 	/**
 	 * @param match the search match
 	 * @return the enclosing {@link IJavaElement}, or null iff none
@@ -56,7 +60,21 @@ public class SearchUtils {
 	}
 
 	public static SearchParticipant[] getDefaultSearchParticipants() {
-		return new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() };
+		Supplier<SearchParticipant> factory= fgSearchParticipantFactory;
+		return new SearchParticipant[] { factory != null ? factory.get() : SearchEngine.getDefaultSearchParticipant() };
+	}
+
+	/**
+	 * Replaces the participant returned by {@link #getDefaultSearchParticipants()}.
+	 * <p>
+	 * For tests only, e.g. to count the searches a refactoring performs.
+	 * </p>
+	 *
+	 * @param factory creates the search participant, or <code>null</code> to restore the default
+	 *            search participant
+	 */
+	public static void setSearchParticipantFactory(Supplier<SearchParticipant> factory) {
+		fgSearchParticipantFactory= factory;
 	}
 
     /**
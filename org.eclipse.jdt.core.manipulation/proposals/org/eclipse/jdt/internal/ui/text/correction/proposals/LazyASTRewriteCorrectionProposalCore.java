@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.correction.proposals;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
+
+import org.eclipse.jdt.ui.text.java.correction.ASTRewriteCorrectionProposalCore;
+
+/**
+ * An AST rewrite proposal whose rewrite is only created when the proposal is previewed or
+ * applied. Processors check the applicability of the proposal and compute its label and relevance
+ * up front; the (possibly expensive) rewrite is deferred to the given {@link IRewriteCreator}.
+ * <p>
+ * The rewrite is created at most once, even if the proposal is previewed and applied
+ * concurrently.
+ * </p>
+ */
+public class LazyASTRewriteCorrectionProposalCore extends ASTRewriteCorrectionProposalCore {
+
+	/**
+	 * Creates the rewrite of a {@link LazyASTRewriteCorrectionProposalCore}.
+	 */
+	@FunctionalInterface
+	public interface IRewriteCreator {
+		/**
+		 * Creates the rewrite for the given proposal.
+		 *
+		 * @param proposal the proposal, can be used to create an import rewrite
+		 * @return the rewrite
+		 * @throws CoreException when the rewrite could not be created
+		 */
+		ASTRewrite createRewrite(LazyASTRewriteCorrectionProposalCore proposal) throws CoreException;
+	}
+
+	private IRewriteCreator fRewriteCreator;
+	private ASTRewrite fCreatedRewrite;
+
+	public LazyASTRewriteCorrectionProposalCore(String name, ICompilationUnit cu, int relevance, IRewriteCreator rewriteCreator) {
+		super(name, cu, null, relevance);
+		fRewriteCreator= rewriteCreator;
+	}
+
+	@Override
+	protected synchronized ASTRewrite getRewrite() throws CoreException {
+		if (fCreatedRewrite == null) {
+			fCreatedRewrite= fRewriteCreator.createRewrite(this);
+			fRewriteCreator= null;
+		}
+		return fCreatedRewrite;
+	}
+}
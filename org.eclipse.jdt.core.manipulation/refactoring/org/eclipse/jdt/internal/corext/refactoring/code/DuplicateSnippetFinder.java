@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.code;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Statement;
+
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+import org.eclipse.jdt.internal.corext.dom.StructuralHashIndex;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
+
+/**
+ * Finds statements that occur more than once in a set of compilation units, for example to find
+ * candidates for Extract Method in a whole project.
+ * <p>
+ * Statements are grouped by their {@link StructuralHashIndex structural hash} including the
+ * identifiers, so the compilation units are parsed one after the other and only the hashes and
+ * source ranges are kept. Statements that only differ in whitespace or comments are duplicates,
+ * statements with renamed variables are not. As the ASTs are not kept, the statements are not
+ * compared with a matcher; a 64 bit hash collision of two statements of the same size and kind is
+ * accepted as very unlikely.
+ * </p>
+ */
+public class DuplicateSnippetFinder {
+
+	/**
+	 * The source range of a duplicated statement.
+	 */
+	public static final class Occurrence {
+
+		private final ICompilationUnit fUnit;
+		private final int fOffset;
+		private final int fLength;
+
+		Occurrence(ICompilationUnit unit, int offset, int length) {
+			fUnit= unit;
+			fOffset= offset;
+			fLength= length;
+		}
+
+		public ICompilationUnit getCompilationUnit() {
+			return fUnit;
+		}
+
+		public int getOffset() {
+			return fOffset;
+		}
+
+		public int getLength() {
+			return fLength;
+		}
+
+		boolean covers(Occurrence other) {
+			return fUnit.equals(other.fUnit) && fOffset <= other.fOffset && other.fOffset + other.fLength <= fOffset + fLength;
+		}
+	}
+
+	/**
+	 * A statement that occurs at least twice.
+	 */
+	public static final class Duplicate {
+
+		private final int fSize;
+		private final List<Occurrence> fOccurrences;
+
+		Duplicate(int size, List<Occurrence> occurrences) {
+			fSize= size;
+			fOccurrences= Collections.unmodifiableList(occurrences);
+		}
+
+		/**
+		 * @return the number of AST nodes of the statement
+		 */
+		public int getSize() {
+			return fSize;
+		}
+
+		/**
+		 * @return the occurrences in the order in which they were found, at least two
+		 */
+		public List<Occurrence> getOccurrences() {
+			return fOccurrences;
+		}
+	}
+
+	private record Key(long hash, int size, int nodeType) {
+	}
+
+	private final int fMinimumSize;
+	private final Map<Key, List<Occurrence>> fCandidates= new HashMap<>();
+
+	private DuplicateSnippetFinder(int minimumSize) {
+		fMinimumSize= minimumSize;
+	}
+
+	/**
+	 * Finds the statements that occur more than once in the given compilation units. Statements
+	 * nested in a reported duplicate are only reported if they occur in other places as well.
+	 *
+	 * @param units the compilation units to search
+	 * @param minimumSize the minimal number of AST nodes of a reported statement
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @return the duplicates, the largest statements first
+	 * @throws OperationCanceledException if the monitor was cancelled
+	 */
+	public static List<Duplicate> perform(ICompilationUnit[] units, int minimumSize, IProgressMonitor monitor) {
+		SubMonitor progress= SubMonitor.convert(monitor, units.length);
+		DuplicateSnippetFinder finder= new DuplicateSnippetFinder(minimumSize);
+		RefactoringASTParser parser= new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL);
+		for (ICompilationUnit unit : units) {
+			if (progress.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			CompilationUnit root= parser.parse(unit, false, progress.split(1));
+			finder.collect(unit, root);
+		}
+		return finder.getDuplicates();
+	}
+
+	private void collect(ICompilationUnit unit, CompilationUnit root) {
+		StructuralHashIndex hashIndex= new StructuralHashIndex(true);
+		hashIndex.getHash(root); // computes the hashes of all nodes in one pass
+		root.accept(new ASTVisitor() {
+			@Override
+			public void postVisit(ASTNode node) {
+				if (node instanceof Statement && !(node instanceof Block && ((Block) node).statements().size() <= 1)) {
+					int size= hashIndex.getSize(node);
+					if (size >= fMinimumSize) {
+						Key key= new Key(hashIndex.getHash(node), size, node.getNodeType());
+						fCandidates.computeIfAbsent(key, k -> new ArrayList<>(2)).add(new Occurrence(unit, node.getStartPosition(), node.getLength()));
+					}
+				}
+			}
+		});
+	}
+
+	private List<Duplicate> getDuplicates() {
+		List<Duplicate> candidates= new ArrayList<>();
+		for (Map.Entry<Key, List<Occurrence>> entry : fCandidates.entrySet()) {
+			if (entry.getValue().size() > 1) {
+				candidates.add(new Duplicate(entry.getKey().size(), entry.getValue()));
+			}
+		}
+		candidates.sort(Comparator.comparingInt(Duplicate::getSize).reversed());
+
+		List<Duplicate> result= new ArrayList<>();
+		List<Occurrence> reported= new ArrayList<>();
+		for (Duplicate candidate : candidates) {
+			if (!isCovered(candidate, reported)) {
+				result.add(candidate);
+				reported.addAll(candidate.getOccurrences());
+			}
+		}
+		return result;
+	}
+
+	private static boolean isCovered(Duplicate duplicate, List<Occurrence> reported) {
+		for (Occurrence occurrence : duplicate.getOccurrences()) {
+			boolean covered= false;
+			for (Occurrence curr : reported) {
+				if (curr.covers(occurrence)) {
+					covered= true;
+					break;
+				}
+			}
+			if (!covered) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
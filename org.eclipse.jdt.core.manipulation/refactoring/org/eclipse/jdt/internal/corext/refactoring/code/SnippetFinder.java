@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -44,6 +44,7 @@ import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.dom.Bindings;
 import org.eclipse.jdt.internal.corext.dom.GenericVisitor;
+import org.eclipse.jdt.internal.corext.dom.StructuralHashIndex;
 
 
 public class SnippetFinder extends GenericVisitor {
@@ -153,18 +154,22 @@ public class SnippetFinder extends GenericVisitor {
 	private ASTNode[] fSnippet;
 	private int fIndex;
 	private Matcher fMatcher;
+	private StructuralHashIndex fHashIndex;
 	private int fTypes;
 
-	private SnippetFinder(ASTNode[] snippet) {
+	private SnippetFinder(ASTNode[] snippet, StructuralHashIndex hashIndex) {
 		super(true);
 		fSnippet= snippet;
 		fMatcher= new Matcher();
+		fHashIndex= hashIndex;
 		reset();
 	}
 
 	public static List<Match> perform(ASTNode start, ASTNode[] snippet) {
 		Assert.isTrue(start instanceof AbstractTypeDeclaration || start instanceof AnonymousClassDeclaration);
-		SnippetFinder finder= new SnippetFinder(snippet);
+		StructuralHashIndex hashIndex= new StructuralHashIndex();
+		hashIndex.getHash(start); // computes the hashes of all nodes in one pass
+		SnippetFinder finder= new SnippetFinder(snippet, hashIndex);
 		start.accept(finder);
 		for (Iterator<Match> iter = finder.fResult.iterator(); iter.hasNext();) {
 			Match match = iter.next();
@@ -258,6 +263,8 @@ public class SnippetFinder extends GenericVisitor {
 	private boolean matches(ASTNode node) {
 		if (isSnippetNode(node))
 			return false;
+		if (!fHashIndex.mayMatch(node, fSnippet[fIndex]))
+			return false;
 		if (node.subtreeMatch(fMatcher, fSnippet[fIndex]) && fMatch.hasCorrectNesting(node)) {
 			fMatch.add(node);
 			fIndex++;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -50,6 +50,8 @@ public final class JUnitMessages extends NLS {
 
 	public static String JUnitLaunchConfigurationDelegate_error_junitnotonpath;
 
+	public static String JUnitLaunchConfigurationDelegate_error_no_affected_tests;
+
 	public static String JUnitLaunchConfigurationDelegate_error_no_socket;
 
 	public static String JUnitLaunchConfigurationDelegate_error_notests_kind;
@@ -0,0 +1,349 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.launcher;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+
+/**
+ * An index of the source compilation units that reference the types of each compilation unit,
+ * used to run only the tests that can reach a compilation unit that changed since the last
+ * completed launch.
+ * <p>
+ * The referencing units of a unit are found with a reference search when they are first needed
+ * and cached. The index listens to the Java element deltas to collect the changed units. The
+ * entries of a changed unit are updated with a search for the types it references the next time
+ * the index is queried. A change of a classpath or of a package fragment root discards the index,
+ * and the next launch runs all tests.
+ * </p>
+ * <p>
+ * Querying the index does not change the state of a launch. The launch takes the stamp with
+ * {@link #getStamp()} before it queries the index and reports it with
+ * {@link #launchCompleted(String, long)} when its test run ended, so that a launch which is
+ * stopped, fails to start or only shows its command line runs the same tests the next time.
+ * </p>
+ */
+public final class AffectedTestsIndex {
+
+	private static final int FULL_CHANGE_FLAGS= IJavaElementDelta.F_CLASSPATH_CHANGED
+			| IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+			| IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+			| IJavaElementDelta.F_ADDED_TO_CLASSPATH
+			| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+			| IJavaElementDelta.F_OPENED
+			| IJavaElementDelta.F_CLOSED;
+
+	private final IElementChangedListener fListener= this::elementChanged;
+
+	/** the units that reference the types of a unit, by unit */
+	private final Map<ICompilationUnit, Set<ICompilationUnit>> fReferencingUnits= new HashMap<>();
+
+	/** the units whose types a unit references, for the units in the values of <code>fReferencingUnits</code> */
+	private final Map<ICompilationUnit, Set<ICompilationUnit>> fReferencedUnits= new HashMap<>();
+
+	/** guards the fields below, which are updated by the element change listener */
+	private final Object fChangesLock= new Object();
+
+	/** the units that changed since the index was last queried */
+	private final Set<ICompilationUnit> fStaleUnits= new HashSet<>();
+
+	/** the stamp of the last change of a unit, by unit, for the changes after the oldest completed launch */
+	private final Map<ICompilationUnit, Long> fChangeStamps= new HashMap<>();
+
+	/** the stamp taken by the last completed launch, by launch configuration name */
+	private final Map<String, Long> fLaunchStamps= new HashMap<>();
+
+	private long fStamp;
+
+	/** the stamp of the last change that can affect all tests */
+	private long fFullChangeStamp;
+
+	private boolean fDiscard;
+
+	/**
+	 * Creates a new index that listens to the changes of the Java model.
+	 */
+	public AffectedTestsIndex() {
+		JavaCore.addElementChangedListener(fListener, ElementChangedEvent.POST_CHANGE);
+	}
+
+	/**
+	 * Stops listening to the changes of the Java model.
+	 */
+	public void dispose() {
+		JavaCore.removeElementChangedListener(fListener);
+	}
+
+	/**
+	 * Returns the stamp of the last change. A launch takes it before it queries the affected tests
+	 * and passes it to {@link #launchCompleted(String, long)} when its test run ended.
+	 *
+	 * @return the current stamp
+	 */
+	public long getStamp() {
+		synchronized (fChangesLock) {
+			return fStamp;
+		}
+	}
+
+	/**
+	 * Records that the test run of a launch ended. The changes up to the given stamp are not
+	 * reported for the launch anymore.
+	 *
+	 * @param launchName the name of the launch configuration
+	 * @param stamp the stamp that the launch took with {@link #getStamp()} before it queried
+	 *            the affected tests
+	 */
+	public void launchCompleted(String launchName, long stamp) {
+		synchronized (fChangesLock) {
+			if (stamp < fFullChangeStamp) {
+				return; // all tests have to run again
+			}
+			fLaunchStamps.merge(launchName, Long.valueOf(stamp), Long::max);
+			long oldest= Long.MAX_VALUE;
+			for (Long launchStamp : fLaunchStamps.values()) {
+				oldest= Math.min(oldest, launchStamp.longValue());
+			}
+			long pruneStamp= oldest;
+			fChangeStamps.values().removeIf(changeStamp -> changeStamp.longValue() <= pruneStamp);
+		}
+	}
+
+	/**
+	 * Returns the tests that can reach a compilation unit that changed since the last completed
+	 * launch of the given configuration. The state of the launch is not changed.
+	 *
+	 * @param launchName the name of the launch configuration
+	 * @param tests the tests of the launch
+	 * @param monitor the progress monitor
+	 * @return the affected tests in the order of <code>tests</code>, or <code>null</code> if the
+	 *         changes since the last completed launch are not known and all tests have to run
+	 * @throws CoreException if the search for references fails
+	 */
+	public IType[] getAffectedTests(String launchName, IType[] tests, IProgressMonitor monitor) throws CoreException {
+		Set<ICompilationUnit> stale;
+		Set<ICompilationUnit> changed= null;
+		boolean discard;
+		synchronized (fChangesLock) {
+			Long lastStamp= fLaunchStamps.get(launchName);
+			if (lastStamp != null && lastStamp.longValue() >= fFullChangeStamp) {
+				changed= new HashSet<>();
+				for (Entry<ICompilationUnit, Long> entry : fChangeStamps.entrySet()) {
+					if (entry.getValue().longValue() > lastStamp.longValue()) {
+						changed.add(entry.getKey());
+					}
+				}
+			}
+			stale= new HashSet<>(fStaleUnits);
+			fStaleUnits.clear();
+			discard= fDiscard;
+			fDiscard= false;
+		}
+
+		synchronized (this) {
+			SubMonitor subMonitor= SubMonitor.convert(monitor, 2);
+			if (discard) {
+				fReferencingUnits.clear();
+				fReferencedUnits.clear();
+			} else {
+				update(stale, subMonitor.split(1));
+			}
+			if (changed == null) {
+				return null;
+			}
+			Set<ICompilationUnit> affected= getReferencingClosure(changed, subMonitor.split(1));
+			List<IType> result= new ArrayList<>();
+			for (IType test : tests) {
+				if (affected.contains(test.getCompilationUnit())) {
+					result.add(test);
+				}
+			}
+			return result.toArray(new IType[result.size()]);
+		}
+	}
+
+	private void update(Set<ICompilationUnit> units, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor= SubMonitor.convert(monitor, units.size());
+		for (ICompilationUnit unit : units) {
+			Set<ICompilationUnit> referenced= fReferencedUnits.remove(unit);
+			if (referenced != null) {
+				for (ICompilationUnit referencedUnit : referenced) {
+					Set<ICompilationUnit> referencing= fReferencingUnits.get(referencedUnit);
+					if (referencing != null) {
+						referencing.remove(unit);
+					}
+				}
+			}
+			if (!unit.exists()) {
+				// keep the referencing units of a removed unit, they are affected by the removal
+				subMonitor.worked(1);
+				continue;
+			}
+			fReferencingUnits.remove(unit); // the unit may declare other types now
+			if (fReferencingUnits.isEmpty()) {
+				subMonitor.worked(1);
+				continue;
+			}
+			for (ICompilationUnit referencedUnit : searchReferencedUnits(unit, subMonitor.split(1))) {
+				Set<ICompilationUnit> referencing= fReferencingUnits.get(referencedUnit);
+				if (referencing != null) {
+					referencing.add(unit);
+					fReferencedUnits.computeIfAbsent(unit, u -> new HashSet<>()).add(referencedUnit);
+				}
+			}
+		}
+	}
+
+	private Set<ICompilationUnit> getReferencingClosure(Set<ICompilationUnit> units, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor= SubMonitor.convert(monitor, units.size());
+		Set<ICompilationUnit> result= new HashSet<>(units);
+		ArrayDeque<ICompilationUnit> queue= new ArrayDeque<>(units);
+		while (!queue.isEmpty()) {
+			subMonitor.setWorkRemaining(queue.size());
+			for (ICompilationUnit referencing : getReferencingUnits(queue.poll(), subMonitor.split(1))) {
+				if (result.add(referencing)) {
+					queue.add(referencing);
+				}
+			}
+		}
+		return result;
+	}
+
+	private Set<ICompilationUnit> getReferencingUnits(ICompilationUnit unit, IProgressMonitor monitor) throws CoreException {
+		Set<ICompilationUnit> referencing= fReferencingUnits.get(unit);
+		if (referencing == null) {
+			referencing= searchReferencingUnits(unit, monitor);
+			fReferencingUnits.put(unit, referencing);
+			for (ICompilationUnit referencingUnit : referencing) {
+				fReferencedUnits.computeIfAbsent(referencingUnit, u -> new HashSet<>()).add(unit);
+			}
+		}
+		return referencing;
+	}
+
+	private static Set<ICompilationUnit> searchReferencingUnits(ICompilationUnit unit, IProgressMonitor monitor) throws CoreException {
+		Set<ICompilationUnit> result= new HashSet<>();
+		if (!unit.exists()) {
+			return result;
+		}
+		SearchPattern pattern= null;
+		for (IType type : unit.getAllTypes()) {
+			SearchPattern typePattern= SearchPattern.createPattern(type, IJavaSearchConstants.REFERENCES);
+			pattern= pattern == null ? typePattern : SearchPattern.createOrPattern(pattern, typePattern);
+		}
+		if (pattern == null) {
+			return result;
+		}
+		SearchRequestor requestor= new SearchRequestor() {
+			@Override
+			public void acceptSearchMatch(SearchMatch match) {
+				if (match.getElement() instanceof IJavaElement element) {
+					ICompilationUnit referencing= (ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT);
+					if (referencing != null && !referencing.equals(unit)) {
+						result.add(referencing.getPrimary());
+					}
+				}
+			}
+		};
+		new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, SearchEngine.createWorkspaceScope(), requestor, monitor);
+		return result;
+	}
+
+	private static Set<ICompilationUnit> searchReferencedUnits(ICompilationUnit unit, IProgressMonitor monitor) throws CoreException {
+		Set<ICompilationUnit> result= new HashSet<>();
+		SearchRequestor requestor= new SearchRequestor() {
+			@Override
+			public void acceptSearchMatch(SearchMatch match) {
+				if (match.getElement() instanceof IType type) {
+					ICompilationUnit referenced= type.getCompilationUnit();
+					if (referenced != null && !referenced.equals(unit)) {
+						result.add(referenced.getPrimary());
+					}
+				}
+			}
+		};
+		new SearchEngine().searchDeclarationsOfReferencedTypes(unit, requestor, monitor);
+		return result;
+	}
+
+	private void elementChanged(ElementChangedEvent event) {
+		synchronized (fChangesLock) {
+			processDelta(event.getDelta());
+		}
+	}
+
+	private void processDelta(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & FULL_CHANGE_FLAGS) != 0) {
+					fullChange();
+					fDiscard= true;
+					return;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| (delta.getFlags() & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_PRIMARY_RESOURCE)) != 0) {
+					ICompilationUnit unit= ((ICompilationUnit) element).getPrimary();
+					fChangeStamps.put(unit, Long.valueOf(++fStamp));
+					fStaleUnits.add(unit);
+				}
+				return;
+			case IJavaElement.CLASS_FILE:
+				fullChange(); // a class folder on the classpath changed
+				return;
+			default:
+				return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			processDelta(child);
+		}
+	}
+
+	private void fullChange() {
+		fFullChangeStamp= ++fStamp;
+		// all launches run all tests the next time
+		fChangeStamps.clear();
+		fLaunchStamps.clear();
+	}
+}
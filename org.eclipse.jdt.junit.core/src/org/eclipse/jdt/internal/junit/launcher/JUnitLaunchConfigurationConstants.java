@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -42,6 +42,36 @@ public class JUnitLaunchConfigurationConstants {
 
 	public static final String ATTR_PORT= JUnitCorePlugin.PLUGIN_ID+".PORT"; //$NON-NLS-1$
 
+	/**
+	 * The comma-separated ports of the runtime VMs of a launch whose test classes are distributed
+	 * to several VMs, or <code>null</code> if the tests run in a single VM.
+	 */
+	public static final String ATTR_SHARD_PORTS= JUnitCorePlugin.PLUGIN_ID + ".SHARD_PORTS"; //$NON-NLS-1$
+
+	/**
+	 * The number of runtime VMs the test classes are distributed to. The default is 1.
+	 */
+	public static final String ATTR_SHARD_COUNT= JUnitCorePlugin.PLUGIN_ID + ".SHARD_COUNT"; //$NON-NLS-1$
+
+	/**
+	 * The maximum value of {@link #ATTR_SHARD_COUNT}.
+	 */
+	public static final int MAX_SHARD_COUNT= 16;
+
+	/**
+	 * Whether only the test classes that can reach a compilation unit changed since the last launch
+	 * of the configuration, and the classes that failed in its last run, are run. The default is
+	 * <code>false</code>.
+	 */
+	public static final String ATTR_AFFECTED_TESTS_ONLY= JUnitCorePlugin.PLUGIN_ID + ".AFFECTED_TESTS_ONLY"; //$NON-NLS-1$
+
+	/**
+	 * The stamp of the affected tests index that a launch of a configuration with
+	 * {@link #ATTR_AFFECTED_TESTS_ONLY} took before it selected the tests. It is recorded in the
+	 * index when the test run of the launch ended.
+	 */
+	public static final String ATTR_AFFECTED_TESTS_STAMP= JUnitCorePlugin.PLUGIN_ID + ".AFFECTED_TESTS_STAMP"; //$NON-NLS-1$
+
 	public static final String ATTR_DONT_ADD_MISSING_JUNIT5_DEPENDENCY= JUnitCorePlugin.PLUGIN_ID + ".DONT_ADD_MISSING_JUNIT5_DEPENDENCY"; //$NON-NLS-1$
 
 	/**
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.launcher;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Distributes test classes to the runtime VMs of a launch so that the VMs need about the same
+ * time. The classes are assigned longest first to the VM with the least estimated time, using
+ * the elapsed times of the classes in past test runs. Classes without a past elapsed time are
+ * estimated with the average time of the classes that have one.
+ */
+public final class TestShardBalancer {
+
+	private TestShardBalancer() {
+	}
+
+	/**
+	 * Distributes the given tests to shards.
+	 *
+	 * @param <T> the type of the tests
+	 * @param tests the tests to distribute
+	 * @param getClassName returns the class name of a test
+	 * @param shardCount the number of shards
+	 * @param durations the elapsed times in seconds of past test runs, by class name
+	 * @return the non-empty shards, each with the tests in the order of <code>tests</code>
+	 */
+	public static <T> List<List<T>> split(List<T> tests, Function<T, String> getClassName, int shardCount, Map<String, Double> durations) {
+		int count= Math.max(1, Math.min(shardCount, tests.size()));
+		double known= 0;
+		int knownCount= 0;
+		for (T test : tests) {
+			Double duration= durations.get(getClassName.apply(test));
+			if (duration != null) {
+				known+= duration.doubleValue();
+				knownCount++;
+			}
+		}
+		double defaultDuration= knownCount == 0 ? 1 : known / knownCount;
+
+		int[] shardOf= new int[tests.size()];
+		double[] estimates= new double[tests.size()];
+		List<Integer> indices= new ArrayList<>(tests.size());
+		for (int i= 0; i < tests.size(); i++) {
+			Double duration= durations.get(getClassName.apply(tests.get(i)));
+			estimates[i]= duration != null ? duration.doubleValue() : defaultDuration;
+			indices.add(Integer.valueOf(i));
+		}
+		indices.sort(Comparator.comparingDouble((Integer i) -> -estimates[i.intValue()]).thenComparing(i -> getClassName.apply(tests.get(i.intValue()))));
+
+		double[] loads= new double[count];
+		for (Integer index : indices) {
+			int lightest= 0;
+			for (int shard= 1; shard < count; shard++) {
+				if (loads[shard] < loads[lightest]) {
+					lightest= shard;
+				}
+			}
+			loads[lightest]+= estimates[index.intValue()];
+			shardOf[index.intValue()]= lightest;
+		}
+
+		List<List<T>> shards= new ArrayList<>(count);
+		for (int shard= 0; shard < count; shard++) {
+			shards.add(new ArrayList<>());
+		}
+		for (int i= 0; i < tests.size(); i++) {
+			shards.get(shardOf[i]).add(tests.get(i));
+		}
+		shards.removeIf(List::isEmpty);
+		return shards;
+	}
+}
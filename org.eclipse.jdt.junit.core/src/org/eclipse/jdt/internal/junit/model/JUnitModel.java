@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,15 +16,21 @@
 package org.eclipse.jdt.internal.junit.model;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
@@ -42,6 +48,7 @@ import org.xml.sax.SAXException;
 
 import org.eclipse.jdt.junit.ITestRunListener;
 import org.eclipse.jdt.junit.TestRunListener;
+import org.eclipse.jdt.junit.model.ITestElement;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -122,20 +129,26 @@ public final class JUnitModel {
 				return;
 
 			// test whether the launch defines the JUnit attributes
-			String portStr= launch.getAttribute(JUnitLaunchConfigurationConstants.ATTR_PORT);
+			String portStr= launch.getAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_PORTS);
+			if (portStr == null)
+				portStr= launch.getAttribute(JUnitLaunchConfigurationConstants.ATTR_PORT);
 			if (portStr == null)
 				return;
 			try {
-				final int port= Integer.parseInt(portStr);
+				String[] portStrs= portStr.split(","); //$NON-NLS-1$
+				final int[] ports= new int[portStrs.length];
+				for (int i= 0; i < portStrs.length; i++) {
+					ports[i]= Integer.parseInt(portStrs[i]);
+				}
 				fTrackedLaunches.remove(launch);
-				connectTestRunner(launch, javaProject, port);
+				connectTestRunner(launch, javaProject, ports);
 			} catch (NumberFormatException e) {
 				return;
 			}
 		}
 
-		private void connectTestRunner(ILaunch launch, IJavaProject javaProject, int port) {
-			TestRunSession testRunSession= new TestRunSession(launch, javaProject, port);
+		private void connectTestRunner(ILaunch launch, IJavaProject javaProject, int[] ports) {
+			TestRunSession testRunSession= new TestRunSession(launch, javaProject, ports);
 			addTestRunSession(testRunSession);
 
 			for (TestRunListener listener : JUnitCorePlugin.getDefault().getNewTestRunListeners()) {
@@ -256,6 +269,13 @@ public final class JUnitModel {
 	 */
 	private final LinkedList<TestRunSession> fTestRunSessions= new LinkedList<>();
 	private final ILaunchListener fLaunchListener= new JUnitLaunchListener();
+	/**
+	 * Elapsed time in seconds of the test classes in the last test run that ran them, by class name.
+	 * Kept across workbench sessions in a file in the state location.
+	 */
+	private final Map<String, Double> fTestClassDurations= new ConcurrentHashMap<>();
+
+	private static final String TEST_CLASS_DURATIONS_FILE_NAME= "testClassDurations.properties"; //$NON-NLS-1$
 
 	/**
 	 * Starts the model (called by the {@link JUnitCorePlugin} on startup).
@@ -263,6 +283,7 @@ public final class JUnitModel {
 	public void start() {
 		ILaunchManager launchManager= DebugPlugin.getDefault().getLaunchManager();
 		launchManager.addLaunchListener(fLaunchListener);
+		loadTestClassDurations();
 
 /*
  * TODO: restore on restart:
@@ -301,6 +322,7 @@ public final class JUnitModel {
 	public void stop() {
 		ILaunchManager launchManager= DebugPlugin.getDefault().getLaunchManager();
 		launchManager.removeLaunchListener(fLaunchListener);
+		saveTestClassDurations();
 
 		File historyDirectory= JUnitCorePlugin.getHistoryDirectory();
 		File[] swapFiles= historyDirectory.listFiles();
@@ -342,6 +364,85 @@ public final class JUnitModel {
 		return new ArrayList<>(fTestRunSessions);
 	}
 
+	/**
+	 * Returns the elapsed times of the test classes in the test run sessions that ended, also in
+	 * earlier workbench sessions. The launch uses them to distribute the test classes to several
+	 * runtime VMs.
+	 *
+	 * @return a copy of the elapsed times in seconds, by class name
+	 */
+	public Map<String, Double> getTestClassDurations() {
+		return new HashMap<>(fTestClassDurations);
+	}
+
+	/**
+	 * Remembers the elapsed times of the test classes of a test run session that ended.
+	 *
+	 * @param testRunSession the session
+	 */
+	void recordTestClassDurations(TestRunSession testRunSession) {
+		for (ITestElement child : testRunSession.getTestRoot().getChildren()) {
+			if (child instanceof TestSuiteElement suite && !"-2".equals(suite.getId())) { //$NON-NLS-1$
+				double time= suite.getElapsedTimeInSeconds();
+				if (!Double.isNaN(time)) {
+					fTestClassDurations.put(suite.getClassName(), Double.valueOf(time));
+				}
+			}
+		}
+	}
+
+	private static File getTestClassDurationsFile() {
+		return JUnitCorePlugin.getDefault().getStateLocation().append(TEST_CLASS_DURATIONS_FILE_NAME).toFile();
+	}
+
+	private void loadTestClassDurations() {
+		File file= getTestClassDurationsFile();
+		if (!file.isFile())
+			return;
+		Properties properties= new Properties();
+		try (InputStream stream= new FileInputStream(file)) {
+			properties.load(stream);
+		} catch (IOException e) {
+			JUnitCorePlugin.log(e);
+			return;
+		}
+		for (String className : properties.stringPropertyNames()) {
+			try {
+				fTestClassDurations.put(className, Double.valueOf(properties.getProperty(className)));
+			} catch (NumberFormatException e) {
+				// skip the broken entry, the class gets a new duration when it runs again
+			}
+		}
+	}
+
+	private void saveTestClassDurations() {
+		Properties properties= new Properties();
+		fTestClassDurations.forEach((className, time) -> properties.setProperty(className, time.toString()));
+		try (OutputStream stream= new FileOutputStream(getTestClassDurationsFile())) {
+			properties.store(stream, null);
+		} catch (IOException e) {
+			JUnitCorePlugin.log(e);
+		}
+	}
+
+	/**
+	 * Records the stamp of the affected tests index that the launch of a test run session that
+	 * ended took, so that the next launch of the configuration runs only the tests affected by
+	 * later changes.
+	 *
+	 * @param testRunSession the session
+	 */
+	void recordAffectedTestsStamp(TestRunSession testRunSession) {
+		ILaunch launch= testRunSession.getLaunch();
+		if (launch == null || launch.getLaunchConfiguration() == null) {
+			return;
+		}
+		String stamp= launch.getAttribute(JUnitLaunchConfigurationConstants.ATTR_AFFECTED_TESTS_STAMP);
+		if (stamp != null) {
+			JUnitCorePlugin.getAffectedTestsIndex().launchCompleted(launch.getLaunchConfiguration().getName(), Long.parseLong(stamp));
+		}
+	}
+
 	/**
 	 * Adds the given {@link TestRunSession} and notifies all registered
 	 * {@link ITestRunSessionListener}s.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -67,9 +67,31 @@ public class TestRunSession implements ITestRunSession {
 	private final ITestKind fTestRunnerKind;
 
 	/**
-	 * Test runner client or <code>null</code>.
+	 * Test runner clients, one per runtime VM, or <code>null</code>.
 	 */
-	private RemoteTestRunnerClient fTestRunnerClient;
+	private RemoteTestRunnerClient[] fTestRunnerClients;
+
+	/**
+	 * The notifiers of the test runner clients, or <code>null</code>.
+	 */
+	private TestSessionNotifier[] fNotifiers;
+
+	/**
+	 * Serializes the events of the test runner clients.
+	 */
+	private final Object fEventLock= new Object();
+
+	/**
+	 * Number of runtime VMs that have started their test run.
+	 */
+	private int fStartedShardCount;
+
+	/**
+	 * Number of runtime VMs that have ended, stopped or terminated their test run.
+	 */
+	private int fDoneShardCount;
+
+	private boolean fShardStopped;
 
 	private final ListenerList<ITestSessionListener> fSessionListeners;
 
@@ -88,13 +110,6 @@ public class TestRunSession implements ITestRunSession {
 	 */
 	private HashMap<String, TestElement> fIdToTest;
 
-	/**
-	 * The TestSuites for which additional children are expected.
-	 */
-	private List<IncompleteTestSuite> fIncompleteTestSuites;
-
-	private List<IncompleteTestSuite> fFactoryTestSuites;
-
 	/**
 	 * Suite for unrooted test case elements, or <code>null</code>.
 	 */
@@ -169,14 +184,46 @@ public class TestRunSession implements ITestRunSession {
 		fTestRoot= new TestRoot(this);
 		fIdToTest= new HashMap<>();
 
-		fTestRunnerClient= null;
+		fTestRunnerClients= null;
 
 		fSessionListeners= new ListenerList<>();
 	}
 
 
+	/**
+	 * Creates a test run session that merges the events of the given number of runtime VMs, but
+	 * does not connect to them. For tests only, the events are fed with
+	 * {@link #getShardListener(int)}.
+	 *
+	 * @param testRunName name of the test run
+	 * @param project may be <code>null</code>
+	 * @param shardCount the number of runtime VMs
+	 */
+	public TestRunSession(String testRunName, IJavaProject project, int shardCount) {
+		this(testRunName, project);
+		Assert.isLegal(shardCount > 0);
+
+		fNotifiers= new TestSessionNotifier[shardCount];
+		for (int i= 0; i < shardCount; i++) {
+			fNotifiers[i]= new TestSessionNotifier(getIdPrefix(i, shardCount));
+		}
+	}
+
 	public TestRunSession(ILaunch launch, IJavaProject project, int port) {
+		this(launch, project, new int[] { port });
+	}
+
+	/**
+	 * Creates a test run session for a launch whose tests are distributed to several runtime VMs.
+	 * The events of all VMs are merged into this session.
+	 *
+	 * @param launch the launch
+	 * @param project the launched project
+	 * @param ports the ports of the runtime VMs, one per shard
+	 */
+	public TestRunSession(ILaunch launch, IJavaProject project, int[] ports) {
 		Assert.isNotNull(launch);
+		Assert.isLegal(ports.length > 0);
 
 		fLaunch= launch;
 		fProject= project;
@@ -193,26 +240,27 @@ public class TestRunSession implements ITestRunSession {
 		fTestRoot= new TestRoot(this);
 		fIdToTest= new HashMap<>();
 
-		fTestRunnerClient= new RemoteTestRunnerClient();
-		fTestRunnerClient.startListening(new ITestRunListener2[] { new TestSessionNotifier() }, port);
+		fTestRunnerClients= new RemoteTestRunnerClient[ports.length];
+		fNotifiers= new TestSessionNotifier[ports.length];
+		for (int i= 0; i < ports.length; i++) {
+			fNotifiers[i]= new TestSessionNotifier(getIdPrefix(i, ports.length));
+			fTestRunnerClients[i]= new RemoteTestRunnerClient();
+			fTestRunnerClients[i].startListening(new ITestRunListener2[] { fNotifiers[i] }, ports[i]);
+		}
 
 		final ILaunchManager launchManager= DebugPlugin.getDefault().getLaunchManager();
 		launchManager.addLaunchListener(new ILaunchesListener2() {
 			@Override
 			public void launchesTerminated(ILaunch[] launches) {
 				if (Arrays.asList(launches).contains(fLaunch)) {
-					if (fTestRunnerClient != null) {
-						fTestRunnerClient.stopWaiting();
-					}
+					stopWaiting();
 					launchManager.removeLaunchListener(this);
 				}
 			}
 			@Override
 			public void launchesRemoved(ILaunch[] launches) {
 				if (Arrays.asList(launches).contains(fLaunch)) {
-					if (fTestRunnerClient != null) {
-						fTestRunnerClient.stopWaiting();
-					}
+					stopWaiting();
 					launchManager.removeLaunchListener(this);
 				}
 			}
@@ -228,6 +276,19 @@ public class TestRunSession implements ITestRunSession {
 		addTestSessionListener(new TestRunListenerAdapter(this));
 	}
 
+	private static String getIdPrefix(int shard, int shardCount) {
+		return shardCount == 1 ? EMPTY_STRING : shard + ":"; //$NON-NLS-1$
+	}
+
+	private void stopWaiting() {
+		RemoteTestRunnerClient[] clients= fTestRunnerClients;
+		if (clients != null) {
+			for (RemoteTestRunnerClient client : clients) {
+				client.stopWaiting();
+			}
+		}
+	}
+
 	void reset() {
 		fStartedCount= 0;
 		fFailureCount= 0;
@@ -336,6 +397,41 @@ public class TestRunSession implements ITestRunSession {
 		return fTotalCount;
 	}
 
+	/**
+	 * @return the number of runtime VMs the tests of this session are distributed to, or
+	 *         <code>0</code> if the session was not launched
+	 */
+	public int getShardCount() {
+		TestSessionNotifier[] notifiers= fNotifiers;
+		return notifiers == null ? 0 : notifiers.length;
+	}
+
+	/**
+	 * @param shard the index of the runtime VM
+	 * @return the number of tests started in the given runtime VM
+	 */
+	public int getShardStartedCount(int shard) {
+		return fNotifiers[shard].fShardStartedCount;
+	}
+
+	/**
+	 * @param shard the index of the runtime VM
+	 * @return the total number of tests to run in the given runtime VM
+	 */
+	public int getShardTotalCount(int shard) {
+		return fNotifiers[shard].fShardTotalCount;
+	}
+
+	/**
+	 * For tests only.
+	 *
+	 * @param shard the index of the runtime VM
+	 * @return the listener that receives the events of the given runtime VM
+	 */
+	public ITestRunListener2 getShardListener(int shard) {
+		return fNotifiers[shard];
+	}
+
 	public long getStartTime() {
 		return fStartTime;
 	}
@@ -373,10 +469,8 @@ public class TestRunSession implements ITestRunSession {
 			JUnitModel.exportTestRunSession(this, swapFile);
 			fTestResult= fTestRoot.getTestResult(true);
 			fTestRoot= null;
-			fTestRunnerClient= null;
+			fTestRunnerClients= null;
 			fIdToTest= new HashMap<>();
-			fIncompleteTestSuites= null;
-			fFactoryTestSuites= null;
 			fUnrootedSuite= null;
 
 		} catch (IllegalStateException | CoreException e) {
@@ -419,17 +513,23 @@ public class TestRunSession implements ITestRunSession {
 	public void stopTestRun() {
 		if (isRunning() || ! isKeptAlive())
 			fIsStopped= true;
-		if (fTestRunnerClient != null)
-			fTestRunnerClient.stopTest();
+		RemoteTestRunnerClient[] clients= fTestRunnerClients;
+		if (clients != null) {
+			for (RemoteTestRunnerClient client : clients) {
+				client.stopTest();
+			}
+		}
 	}
 
 	/**
 	 * @return <code>true</code> iff the runtime VM of this test session is still alive
 	 */
 	public boolean isKeptAlive() {
-		if (fTestRunnerClient != null
+		RemoteTestRunnerClient[] clients= fTestRunnerClients;
+		if (clients != null
+				&& clients.length == 1
 				&& fLaunch != null
-				&& fTestRunnerClient.isRunning()
+				&& clients[0].isRunning()
 				&& ILaunchManager.DEBUG_MODE.equals(fLaunch.getLaunchMode())) {
 			ILaunchConfiguration config= fLaunch.getLaunchConfiguration();
 			try {
@@ -467,7 +567,7 @@ public class TestRunSession implements ITestRunSession {
 			} else if (status == Status.FAILURE) {
 				fFailureCount--;
 			}
-			fTestRunnerClient.rerunTest(testId, className, testName);
+			fTestRunnerClients[0].rerunTest(testId, className, testName);
 			return true;
 		}
 		return false;
@@ -477,92 +577,6 @@ public class TestRunSession implements ITestRunSession {
 		return fIdToTest.get(id);
 	}
 
-	private TestElement addTreeEntry(String treeEntry) {
-		// format: testId","testName","isSuite","testcount","isDynamicTest","parentId","displayName","parameterTypes","uniqueId
-		int index0= treeEntry.indexOf(',');
-		String id= treeEntry.substring(0, index0);
-
-		StringBuilder testNameBuffer= new StringBuilder(100);
-		int index1= scanTestName(treeEntry, index0 + 1, testNameBuffer);
-		String testName= testNameBuffer.toString().trim();
-
-		int index2= treeEntry.indexOf(',', index1 + 1);
-		boolean isSuite= "true".equals(treeEntry.substring(index1 + 1, index2)); //$NON-NLS-1$
-
-		int testCount;
-		boolean isDynamicTest;
-		String parentId;
-		String displayName;
-		StringBuilder displayNameBuffer= new StringBuilder(100);
-		String[] parameterTypes;
-		StringBuilder parameterTypesBuffer= new StringBuilder(200);
-		String uniqueId;
-		StringBuilder uniqueIdBuffer= new StringBuilder(200);
-		int index3= treeEntry.indexOf(',', index2 + 1);
-		if (index3 == -1) {
-			testCount= Integer.parseInt(treeEntry.substring(index2 + 1));
-			isDynamicTest= false;
-			parentId= null;
-			displayName= null;
-			parameterTypes= null;
-			uniqueId= null;
-		} else {
-			testCount= Integer.parseInt(treeEntry.substring(index2 + 1, index3));
-
-			int index4= treeEntry.indexOf(',', index3 + 1);
-			isDynamicTest= "true".equals(treeEntry.substring(index3 + 1, index4)); //$NON-NLS-1$
-
-			int index5= treeEntry.indexOf(',', index4 + 1);
-			parentId= treeEntry.substring(index4 + 1, index5);
-			if ("-1".equals(parentId)) { //$NON-NLS-1$
-				parentId= null;
-			}
-
-			int index6= scanTestName(treeEntry, index5 + 1, displayNameBuffer);
-			displayName= displayNameBuffer.toString().replace('\0', ' ').trim();
-			if (displayName.equals(testName)) {
-				displayName= null;
-			}
-
-			int index7= scanTestName(treeEntry, index6 + 1, parameterTypesBuffer);
-			String parameterTypesString= parameterTypesBuffer.toString().trim();
-			if (parameterTypesString.isEmpty()) {
-				parameterTypes= null;
-			} else {
-				parameterTypes= parameterTypesString.split(","); //$NON-NLS-1$
-				Arrays.parallelSetAll(parameterTypes, i -> parameterTypes[i].trim());
-			}
-
-			scanTestName(treeEntry, index7 + 1, uniqueIdBuffer);
-			uniqueId= uniqueIdBuffer.toString().trim();
-			if (uniqueId.isEmpty()) {
-				uniqueId= null;
-			}
-		}
-
-		if (isDynamicTest) {
-			if (parentId != null) {
-				for (IncompleteTestSuite suite : fFactoryTestSuites) {
-					if (parentId.equals(suite.fTestSuiteElement.getId())) {
-						return createTestElement(suite.fTestSuiteElement, id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId);
-					}
-				}
-			}
-			return createTestElement(getUnrootedSuite(), id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId); // should not reach here
-		} else {
-			if (fIncompleteTestSuites.isEmpty()) {
-				return createTestElement(fTestRoot, id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId);
-			} else {
-				int suiteIndex= fIncompleteTestSuites.size() - 1;
-				IncompleteTestSuite openSuite= fIncompleteTestSuites.get(suiteIndex);
-				openSuite.fOutstandingChildren--;
-				if (openSuite.fOutstandingChildren <= 0)
-					fIncompleteTestSuites.remove(suiteIndex);
-				return createTestElement(openSuite.fTestSuiteElement, id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId);
-			}
-		}
-	}
-
 	public TestElement createTestElement(TestSuiteElement parent, String id, String testName, boolean isSuite, int testCount, boolean isDynamicTest, String displayName, String[] parameterTypes, String uniqueId) {
 		TestElement testElement;
 		if (parameterTypes != null && parameterTypes.length > 1) {
@@ -571,11 +585,6 @@ public class TestRunSession implements ITestRunSession {
 		if (isSuite) {
 			TestSuiteElement testSuiteElement= new TestSuiteElement(parent, id, testName, testCount, displayName, parameterTypes, uniqueId);
 			testElement= testSuiteElement;
-			if (testCount > 0) {
-				fIncompleteTestSuites.add(new IncompleteTestSuite(testSuiteElement, testCount));
-			} else if (fFactoryTestSuites != null) {
-				fFactoryTestSuites.add(new IncompleteTestSuite(testSuiteElement, testCount));
-			}
 		} else {
 			testElement= new TestCaseElement(parent, id, testName, displayName, isDynamicTest, parameterTypes, uniqueId);
 		}
@@ -620,69 +629,265 @@ public class TestRunSession implements ITestRunSession {
 
 	/**
 	 * An {@link ITestRunListener2} that listens to events from the
-	 * {@link RemoteTestRunnerClient} and translates them into high-level model
+	 * {@link RemoteTestRunnerClient} of one runtime VM and translates them into high-level model
 	 * events (broadcasted to {@link ITestSessionListener}s).
+	 * <p>
+	 * If the tests are distributed to several runtime VMs, the notifiers merge the events of all
+	 * VMs into this session: the test ids of each VM get a prefix, the events are serialized, and
+	 * the session ends when the test runs of all VMs are done.
+	 * </p>
 	 */
 	private class TestSessionNotifier implements ITestRunListener2 {
 
+		/**
+		 * Prefix of the test ids of this runtime VM.
+		 */
+		private final String fIdPrefix;
+
+		/**
+		 * The TestSuites for which additional children are expected.
+		 */
+		private List<IncompleteTestSuite> fIncompleteTestSuites;
+
+		private List<IncompleteTestSuite> fFactoryTestSuites;
+
+		volatile int fShardStartedCount;
+
+		volatile int fShardTotalCount;
+
+		private boolean fShardDone;
+
+		TestSessionNotifier(String idPrefix) {
+			fIdPrefix= idPrefix;
+		}
+
 		@Override
 		public void testRunStarted(int testCount) {
-			fIncompleteTestSuites= new ArrayList<>();
-			fFactoryTestSuites= new ArrayList<>();
+			synchronized (fEventLock) {
+				fIncompleteTestSuites= new ArrayList<>();
+				fFactoryTestSuites= new ArrayList<>();
+				fShardStartedCount= 0;
+				fShardTotalCount= testCount;
+				fShardDone= false;
+
+				if (fStartedShardCount++ > 0) {
+					fTotalCount+= testCount;
+					return;
+				}
 
-			fStartedCount= 0;
-			fIgnoredCount= 0;
-			fFailureCount= 0;
-			fAssumptionFailureCount = 0;
-			fErrorCount= 0;
-			fTotalCount= testCount;
+				fStartedCount= 0;
+				fIgnoredCount= 0;
+				fFailureCount= 0;
+				fAssumptionFailureCount = 0;
+				fErrorCount= 0;
+				fTotalCount= testCount;
 
-			fStartTime= System.currentTimeMillis();
-			fIsRunning= true;
+				fStartTime= System.currentTimeMillis();
+				fIsRunning= true;
 
-			for (ITestSessionListener listener : fSessionListeners) {
-				listener.sessionStarted();
+				for (ITestSessionListener listener : fSessionListeners) {
+					listener.sessionStarted();
+				}
 			}
 		}
 
 		@Override
 		public void testRunEnded(long elapsedTime) {
-			fIsRunning= false;
+			synchronized (fEventLock) {
+				if (!shardDone(false)) {
+					return;
+				}
+				fIsRunning= false;
+				if (fShardStopped) {
+					fShardStopped= false;
+					fIsStopped= true;
+					for (ITestSessionListener listener : fSessionListeners) {
+						listener.sessionStopped(getElapsedTime(elapsedTime));
+					}
+					return;
+				}
 
-			for (ITestSessionListener listener : fSessionListeners) {
-				listener.sessionEnded(elapsedTime);
+				JUnitCorePlugin.getModel().recordTestClassDurations(TestRunSession.this);
+				JUnitCorePlugin.getModel().recordAffectedTestsStamp(TestRunSession.this);
+				for (ITestSessionListener listener : fSessionListeners) {
+					listener.sessionEnded(getElapsedTime(elapsedTime));
+				}
 			}
 		}
 
 		@Override
 		public void testRunStopped(long elapsedTime) {
-			fIsRunning= false;
-			fIsStopped= true;
+			synchronized (fEventLock) {
+				if (!shardDone(true)) {
+					return;
+				}
+				fShardStopped= false;
+				fIsRunning= false;
+				fIsStopped= true;
 
-			for (ITestSessionListener listener : fSessionListeners) {
-				listener.sessionStopped(elapsedTime);
+				for (ITestSessionListener listener : fSessionListeners) {
+					listener.sessionStopped(getElapsedTime(elapsedTime));
+				}
 			}
 		}
 
 		@Override
 		public void testRunTerminated() {
-			fIsRunning= false;
-			fIsStopped= true;
+			synchronized (fEventLock) {
+				if (!shardDone(true)) {
+					return;
+				}
+				fShardStopped= false;
+				fIsRunning= false;
+				fIsStopped= true;
 
-			for (ITestSessionListener listener : fSessionListeners) {
-				listener.sessionTerminated();
+				for (ITestSessionListener listener : fSessionListeners) {
+					listener.sessionTerminated();
+				}
+			}
+		}
+
+		/**
+		 * Marks the test run of this runtime VM as done.
+		 *
+		 * @param stopped <code>true</code> if the test run was stopped or terminated
+		 * @return <code>true</code> iff the test runs of all runtime VMs are done
+		 */
+		private boolean shardDone(boolean stopped) {
+			fShardStopped|= stopped;
+			if (!fShardDone) {
+				fShardDone= true;
+				fDoneShardCount++;
+			}
+			if (fDoneShardCount < fNotifiers.length) {
+				return false;
+			}
+			fStartedShardCount= 0;
+			fDoneShardCount= 0;
+			for (TestSessionNotifier notifier : fNotifiers) {
+				notifier.fShardDone= false;
 			}
+			return true;
+		}
+
+		private long getElapsedTime(long elapsedTime) {
+			if (fNotifiers.length == 1) {
+				return elapsedTime;
+			}
+			return System.currentTimeMillis() - fStartTime;
 		}
 
 		@Override
 		public void testTreeEntry(String description) {
-			TestElement testElement= addTreeEntry(description);
+			synchronized (fEventLock) {
+				TestElement testElement= addTreeEntry(description);
 
-			for (ITestSessionListener listener : fSessionListeners) {
-				listener.testAdded(testElement);
+				for (ITestSessionListener listener : fSessionListeners) {
+					listener.testAdded(testElement);
+				}
+			}
+		}
+
+		private TestElement addTreeEntry(String treeEntry) {
+			// format: testId","testName","isSuite","testcount","isDynamicTest","parentId","displayName","parameterTypes","uniqueId
+			int index0= treeEntry.indexOf(',');
+			String id= fIdPrefix + treeEntry.substring(0, index0);
+
+			StringBuilder testNameBuffer= new StringBuilder(100);
+			int index1= scanTestName(treeEntry, index0 + 1, testNameBuffer);
+			String testName= testNameBuffer.toString().trim();
+
+			int index2= treeEntry.indexOf(',', index1 + 1);
+			boolean isSuite= "true".equals(treeEntry.substring(index1 + 1, index2)); //$NON-NLS-1$
+
+			int testCount;
+			boolean isDynamicTest;
+			String parentId;
+			String displayName;
+			StringBuilder displayNameBuffer= new StringBuilder(100);
+			String[] parameterTypes;
+			StringBuilder parameterTypesBuffer= new StringBuilder(200);
+			String uniqueId;
+			StringBuilder uniqueIdBuffer= new StringBuilder(200);
+			int index3= treeEntry.indexOf(',', index2 + 1);
+			if (index3 == -1) {
+				testCount= Integer.parseInt(treeEntry.substring(index2 + 1));
+				isDynamicTest= false;
+				parentId= null;
+				displayName= null;
+				parameterTypes= null;
+				uniqueId= null;
+			} else {
+				testCount= Integer.parseInt(treeEntry.substring(index2 + 1, index3));
+
+				int index4= treeEntry.indexOf(',', index3 + 1);
+				isDynamicTest= "true".equals(treeEntry.substring(index3 + 1, index4)); //$NON-NLS-1$
+
+				int index5= treeEntry.indexOf(',', index4 + 1);
+				parentId= treeEntry.substring(index4 + 1, index5);
+				if ("-1".equals(parentId)) { //$NON-NLS-1$
+					parentId= null;
+				} else {
+					parentId= fIdPrefix + parentId;
+				}
+
+				int index6= scanTestName(treeEntry, index5 + 1, displayNameBuffer);
+				displayName= displayNameBuffer.toString().replace('\0', ' ').trim();
+				if (displayName.equals(testName)) {
+					displayName= null;
+				}
+
+				int index7= scanTestName(treeEntry, index6 + 1, parameterTypesBuffer);
+				String parameterTypesString= parameterTypesBuffer.toString().trim();
+				if (parameterTypesString.isEmpty()) {
+					parameterTypes= null;
+				} else {
+					parameterTypes= parameterTypesString.split(","); //$NON-NLS-1$
+					Arrays.parallelSetAll(parameterTypes, i -> parameterTypes[i].trim());
+				}
+
+				scanTestName(treeEntry, index7 + 1, uniqueIdBuffer);
+				uniqueId= uniqueIdBuffer.toString().trim();
+				if (uniqueId.isEmpty()) {
+					uniqueId= null;
+				}
+			}
+
+			if (isDynamicTest) {
+				if (parentId != null) {
+					for (IncompleteTestSuite suite : fFactoryTestSuites) {
+						if (parentId.equals(suite.fTestSuiteElement.getId())) {
+							return createTestElement(suite.fTestSuiteElement, id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId);
+						}
+					}
+				}
+				return createTestElement(getUnrootedSuite(), id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId); // should not reach here
+			} else {
+				if (fIncompleteTestSuites.isEmpty()) {
+					return createTestElement(fTestRoot, id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId);
+				} else {
+					int suiteIndex= fIncompleteTestSuites.size() - 1;
+					IncompleteTestSuite openSuite= fIncompleteTestSuites.get(suiteIndex);
+					openSuite.fOutstandingChildren--;
+					if (openSuite.fOutstandingChildren <= 0)
+						fIncompleteTestSuites.remove(suiteIndex);
+					return createTestElement(openSuite.fTestSuiteElement, id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId);
+				}
 			}
 		}
 
+		private TestElement createTestElement(TestSuiteElement parent, String id, String testName, boolean isSuite, int testCount, boolean isDynamicTest, String displayName, String[] parameterTypes, String uniqueId) {
+			TestElement testElement= TestRunSession.this.createTestElement(parent, id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId);
+			if (testElement instanceof TestSuiteElement testSuiteElement) {
+				if (testCount > 0) {
+					fIncompleteTestSuites.add(new IncompleteTestSuite(testSuiteElement, testCount));
+				} else {
+					fFactoryTestSuites.add(new IncompleteTestSuite(testSuiteElement, testCount));
+				}
+			}
+			return testElement;
+		}
+
 		private TestElement createUnrootedTestElement(String testId, String testName) {
 			TestSuiteElement unrootedSuite= getUnrootedSuite();
 			TestElement testElement= createTestElement(unrootedSuite, testId, testName, false, 1, false, testName, null, null);
@@ -696,104 +901,118 @@ public class TestRunSession implements ITestRunSession {
 
 		@Override
 		public void testStarted(String testId, String testName) {
-			if (fStartedCount == 0) {
-				for (ITestSessionListener listener : fSessionListeners) {
-					listener.runningBegins();
+			synchronized (fEventLock) {
+				testId= fIdPrefix + testId;
+				if (fStartedCount == 0) {
+					for (ITestSessionListener listener : fSessionListeners) {
+						listener.runningBegins();
+					}
 				}
-			}
-			TestElement testElement= getTestElement(testId);
-			if (testElement == null) {
-				testElement= createUnrootedTestElement(testId, testName);
-			} else if (! (testElement instanceof TestCaseElement)) {
-				logUnexpectedTest(testId, testElement);
-				return;
-			}
-			TestCaseElement testCaseElement= (TestCaseElement) testElement;
-			setStatus(testCaseElement, Status.RUNNING);
+				TestElement testElement= getTestElement(testId);
+				if (testElement == null) {
+					testElement= createUnrootedTestElement(testId, testName);
+				} else if (! (testElement instanceof TestCaseElement)) {
+					logUnexpectedTest(testId, testElement);
+					return;
+				}
+				TestCaseElement testCaseElement= (TestCaseElement) testElement;
+				setStatus(testCaseElement, Status.RUNNING);
 
-			if (testCaseElement.isDynamicTest()) {
-				fTotalCount++;
-			}
+				if (testCaseElement.isDynamicTest()) {
+					fTotalCount++;
+					fShardTotalCount++;
+				}
 
-			fStartedCount++;
+				fStartedCount++;
+				fShardStartedCount++;
 
-			for (ITestSessionListener listener : fSessionListeners) {
-				listener.testStarted(testCaseElement);
+				for (ITestSessionListener listener : fSessionListeners) {
+					listener.testStarted(testCaseElement);
+				}
 			}
 		}
 
 		@Override
 		public void testEnded(String testId, String testName) {
-			boolean isIgnored= testName.startsWith(MessageIds.IGNORED_TEST_PREFIX);
-
-			TestElement testElement= getTestElement(testId);
-			if (testElement == null) {
-				testElement= createUnrootedTestElement(testId, testName);
-			} else if (! (testElement instanceof TestCaseElement)) {
+			synchronized (fEventLock) {
+				testId= fIdPrefix + testId;
+				boolean isIgnored= testName.startsWith(MessageIds.IGNORED_TEST_PREFIX);
+
+				TestElement testElement= getTestElement(testId);
+				if (testElement == null) {
+					testElement= createUnrootedTestElement(testId, testName);
+				} else if (! (testElement instanceof TestCaseElement)) {
+					if (isIgnored) {
+						testElement.setAssumptionFailed(true);
+						fAssumptionFailureCount++;
+						setStatus(testElement, Status.OK);
+					} else {
+						logUnexpectedTest(testId, testElement);
+					}
+					return;
+				}
+				TestCaseElement testCaseElement= (TestCaseElement) testElement;
 				if (isIgnored) {
-					testElement.setAssumptionFailed(true);
-					fAssumptionFailureCount++;
-					setStatus(testElement, Status.OK);
-				} else {
-					logUnexpectedTest(testId, testElement);
+					testCaseElement.setIgnored(true);
+					fIgnoredCount++;
 				}
-				return;
-			}
-			TestCaseElement testCaseElement= (TestCaseElement) testElement;
-			if (isIgnored) {
-				testCaseElement.setIgnored(true);
-				fIgnoredCount++;
-			}
 
-			if (testCaseElement.getStatus() == Status.RUNNING)
-				setStatus(testCaseElement, Status.OK);
+				if (testCaseElement.getStatus() == Status.RUNNING)
+					setStatus(testCaseElement, Status.OK);
 
-			for (ITestSessionListener listener : fSessionListeners) {
-				listener.testEnded(testCaseElement);
+				for (ITestSessionListener listener : fSessionListeners) {
+					listener.testEnded(testCaseElement);
+				}
 			}
 		}
 
 
 		@Override
 		public void testFailed(int statusCode, String testId, String testName, String trace, String expected, String actual) {
-			TestElement testElement= getTestElement(testId);
-			if (testElement == null) {
-				testElement= createUnrootedTestElement(testId, testName);
-			}
+			synchronized (fEventLock) {
+				testId= fIdPrefix + testId;
+				TestElement testElement= getTestElement(testId);
+				if (testElement == null) {
+					testElement= createUnrootedTestElement(testId, testName);
+				}
 
-			Status status;
-			if (testName.startsWith(MessageIds.ASSUMPTION_FAILED_TEST_PREFIX)) {
-				testElement.setAssumptionFailed(true);
-				fAssumptionFailureCount++;
-				status = Status.OK;
-			} else {
-				status= Status.convert(statusCode);
-			}
+				Status status;
+				if (testName.startsWith(MessageIds.ASSUMPTION_FAILED_TEST_PREFIX)) {
+					testElement.setAssumptionFailed(true);
+					fAssumptionFailureCount++;
+					status = Status.OK;
+				} else {
+					status= Status.convert(statusCode);
+				}
 
-			registerTestFailureStatus(testElement, status, trace, expected, actual);
+				registerTestFailureStatus(testElement, status, trace, expected, actual);
 
-			for (ITestSessionListener listener : fSessionListeners) {
-				listener.testFailed(testElement, status, trace, expected, actual);
+				for (ITestSessionListener listener : fSessionListeners) {
+					listener.testFailed(testElement, status, trace, expected, actual);
+				}
 			}
 		}
 
 		@Override
 		public void testReran(String testId, String className, String testName, int statusCode, String trace, String expectedResult, String actualResult) {
-			TestElement testElement= getTestElement(testId);
-			if (testElement == null) {
-				testElement= createUnrootedTestElement(testId, testName);
-			} else if (! (testElement instanceof TestCaseElement)) {
-				logUnexpectedTest(testId, testElement);
-				return;
-			}
-			TestCaseElement testCaseElement= (TestCaseElement) testElement;
+			synchronized (fEventLock) {
+				testId= fIdPrefix + testId;
+				TestElement testElement= getTestElement(testId);
+				if (testElement == null) {
+					testElement= createUnrootedTestElement(testId, testName);
+				} else if (! (testElement instanceof TestCaseElement)) {
+					logUnexpectedTest(testId, testElement);
+					return;
+				}
+				TestCaseElement testCaseElement= (TestCaseElement) testElement;
 
-			Status status= Status.convert(statusCode);
-			registerTestFailureStatus(testElement, status, trace, expectedResult, actualResult);
+				Status status= Status.convert(statusCode);
+				registerTestFailureStatus(testElement, status, trace, expectedResult, actualResult);
 
-			for (ITestSessionListener listener : fSessionListeners) {
-				//TODO: post old & new status?
-				listener.testReran(testCaseElement, status, trace, expectedResult, actualResult);
+				for (ITestSessionListener listener : fSessionListeners) {
+					//TODO: post old & new status?
+					listener.testReran(testCaseElement, status, trace, expectedResult, actualResult);
+				}
 			}
 		}
 
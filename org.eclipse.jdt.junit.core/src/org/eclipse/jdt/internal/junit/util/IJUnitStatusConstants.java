@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,4 +32,10 @@ public interface IJUnitStatusConstants {
 	 */
 	int ERR_JUNIT_NOT_ON_PATH = 10004;
 
+	/**
+	 * Status constant indicating that a launch which runs only the affected
+	 * tests has no test to run.
+	 */
+	int ERR_NO_AFFECTED_TESTS= 10005;
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,6 +31,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.StringJoiner;
 
 import org.osgi.framework.Bundle;
 import org.osgi.framework.Constants;
@@ -67,10 +68,14 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
 import org.eclipse.jdt.internal.junit.JUnitMessages;
 import org.eclipse.jdt.internal.junit.Messages;
+import org.eclipse.jdt.internal.junit.launcher.AffectedTestsIndex;
 import org.eclipse.jdt.internal.junit.launcher.ITestKind;
 import org.eclipse.jdt.internal.junit.launcher.JUnitLaunchConfigurationConstants;
 import org.eclipse.jdt.internal.junit.launcher.JUnitRuntimeClasspathEntry;
 import org.eclipse.jdt.internal.junit.launcher.TestKindRegistry;
+import org.eclipse.jdt.internal.junit.launcher.TestShardBalancer;
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
 import org.eclipse.jdt.internal.junit.util.CoreTestSearchEngine;
 import org.eclipse.jdt.internal.junit.util.IJUnitStatusConstants;
 
@@ -96,6 +101,8 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 	private boolean fKeepAlive= false;
 	private int fPort;
 	private IJavaElement[] fTestElements;
+	private List<IJavaElement[]> fShards;
+	private int[] fShardPorts;
 
 	private static final String DEFAULT= "<default>"; //$NON-NLS-1$
 
@@ -105,25 +112,31 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 			monitor = new NullProgressMonitor();
 		}
 		try {
-			VMRunnerConfiguration runConfig = getVMRunnerConfiguration(configuration, launch, mode, monitor);
-			if (runConfig == null) {
+			VMRunnerConfiguration[] runConfigs = getVMRunnerConfigurations(configuration, launch, mode, monitor);
+			if (runConfigs == null) {
 				return ""; //$NON-NLS-1$
 			}
 			IVMRunner runner = getVMRunner(configuration, mode);
-			String cmdLine = runner.showCommandLine(runConfig, launch, monitor);
+			StringJoiner cmdLines= new StringJoiner(System.lineSeparator());
+			for (VMRunnerConfiguration runConfig : runConfigs) {
+				cmdLines.add(runner.showCommandLine(runConfig, launch, monitor));
+			}
 
 			// check for cancellation
 			if (monitor.isCanceled()) {
 				return ""; //$NON-NLS-1$
 			}
-			return cmdLine;
+			return cmdLines.toString();
 		} finally {
 			monitor.done();
 		}
 	}
 
-	private VMRunnerConfiguration getVMRunnerConfiguration(ILaunchConfiguration configuration, ILaunch launch, String mode, IProgressMonitor monitor) throws CoreException {
-		SubMonitor subMon= SubMonitor.convert(monitor, JUnitMessages.JUnitLaunchConfigurationDelegate_verifying_attriburtes_description, 4);
+	/**
+	 * Returns the configurations of the runtime VMs, one per shard of the tests.
+	 */
+	private VMRunnerConfiguration[] getVMRunnerConfigurations(ILaunchConfiguration configuration, ILaunch launch, String mode, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMon= SubMonitor.convert(monitor, JUnitMessages.JUnitLaunchConfigurationDelegate_verifying_attriburtes_description, 5);
 		// check for cancellation
 		if (subMon.isCanceled()) {
 			return null;
@@ -149,22 +162,39 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 			}
 
 			fKeepAlive= ILaunchManager.DEBUG_MODE.equals(mode) && configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_KEEPRUNNING, false);
-			fPort= evaluatePort();
-			launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_PORT, String.valueOf(fPort));
 
 			ITestKind testKind= getTestRunnerKind(configuration);
 			IJavaProject javaProject= getJavaProject(configuration);
+			int shardCount= getShardCount(configuration);
+			boolean affectedTestsOnly= configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_AFFECTED_TESTS_ONLY, false);
 			if (TestKindRegistry.JUNIT3_TEST_KIND_ID.equals(testKind.getId()) || TestKindRegistry.JUNIT4_TEST_KIND_ID.equals(testKind.getId())) {
 				fTestElements= evaluateTests(configuration, subMon.newChild( 1));
 			} else {
 				IJavaElement testTarget= getTestTarget(configuration, javaProject);
-				if (testTarget instanceof IPackageFragment || testTarget instanceof IPackageFragmentRoot || testTarget instanceof IJavaProject) {
+				if ((testTarget instanceof IPackageFragment || testTarget instanceof IPackageFragmentRoot || testTarget instanceof IJavaProject) && shardCount == 1 && !affectedTestsOnly) {
 					fTestElements= new IJavaElement[] { testTarget };
 				} else {
 					fTestElements= evaluateTests(configuration, subMon.newChild(1));
 				}
 			}
 
+			if (affectedTestsOnly) {
+				fTestElements= selectAffectedTests(configuration, launch, subMon.newChild(1));
+			}
+
+			fShards= createShards(shardCount);
+			fShardPorts= new int[fShards.size()];
+			StringJoiner ports= new StringJoiner(","); //$NON-NLS-1$
+			for (int i= 0; i < fShardPorts.length; i++) {
+				fShardPorts[i]= evaluatePort(fShardPorts, i);
+				ports.add(String.valueOf(fShardPorts[i]));
+			}
+			if (fShardPorts.length > 1) {
+				launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_PORTS, ports.toString());
+			}
+			fPort= fShardPorts[0];
+			launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_PORT, String.valueOf(fPort));
+
 			String mainTypeName= verifyMainTypeName(configuration);
 
 
@@ -177,14 +207,6 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 			// Environment variables
 			String[] envp= getEnvironment(configuration);
 
-			ArrayList<String> vmArguments= new ArrayList<>();
-			ArrayList<String> programArguments= new ArrayList<>();
-			collectExecutionArguments(configuration, vmArguments, programArguments);
-			vmArguments.addAll(Arrays.asList(DebugPlugin.parseArguments(getVMArguments(configuration, mode))));
-			if (JavaRuntime.isModularProject(javaProject)) {
-				vmArguments.add("--add-modules=ALL-MODULE-PATH"); //$NON-NLS-1$
-			}
-
 			// VM-specific attributes
 			Map<String, Object> vmAttributesMap= getVMSpecificAttributesMap(configuration);
 
@@ -231,33 +253,48 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 				}
 			}
 
-			// Create VM config
-			VMRunnerConfiguration runConfig= new VMRunnerConfiguration(mainTypeName, classpath);
-			runConfig.setVMArguments(vmArguments.toArray(new String[vmArguments.size()]));
-			runConfig.setProgramArguments(programArguments.toArray(new String[programArguments.size()]));
-			runConfig.setEnvironment(envp);
-			runConfig.setWorkingDirectory(workingDirName);
-			runConfig.setVMSpecificAttributesMap(vmAttributesMap);
-			runConfig.setPreviewEnabled(supportsPreviewFeatures(configuration));
+			VMRunnerConfiguration[] runConfigs= new VMRunnerConfiguration[fShards.size()];
+			for (int i= 0; i < runConfigs.length; i++) {
+				fTestElements= fShards.get(i);
+				fPort= fShardPorts[i];
 
-			if (!JavaRuntime.isModularConfiguration(configuration)) {
-				// Bootpath
-				runConfig.setBootClassPath(getBootpath(configuration));
-			} else {
-				// module path
-				runConfig.setModulepath(modulepath);
-				if (!configuration.getAttribute(IJavaLaunchConfigurationConstants.ATTR_DEFAULT_MODULE_CLI_OPTIONS, true)) {
-					runConfig.setOverrideDependencies(configuration.getAttribute(IJavaLaunchConfigurationConstants.ATTR_MODULE_CLI_OPTIONS, "")); //$NON-NLS-1$
+				ArrayList<String> vmArguments= new ArrayList<>();
+				ArrayList<String> programArguments= new ArrayList<>();
+				collectExecutionArguments(configuration, vmArguments, programArguments);
+				vmArguments.addAll(Arrays.asList(DebugPlugin.parseArguments(getVMArguments(configuration, mode))));
+				if (JavaRuntime.isModularProject(javaProject)) {
+					vmArguments.add("--add-modules=ALL-MODULE-PATH"); //$NON-NLS-1$
+				}
+
+				// Create VM config
+				VMRunnerConfiguration runConfig= new VMRunnerConfiguration(mainTypeName, classpath);
+				runConfig.setVMArguments(vmArguments.toArray(new String[vmArguments.size()]));
+				runConfig.setProgramArguments(programArguments.toArray(new String[programArguments.size()]));
+				runConfig.setEnvironment(envp);
+				runConfig.setWorkingDirectory(workingDirName);
+				runConfig.setVMSpecificAttributesMap(vmAttributesMap);
+				runConfig.setPreviewEnabled(supportsPreviewFeatures(configuration));
+
+				if (!JavaRuntime.isModularConfiguration(configuration)) {
+					// Bootpath
+					runConfig.setBootClassPath(getBootpath(configuration));
 				} else {
-					runConfig.setOverrideDependencies(getModuleCLIOptions(configuration));
+					// module path
+					runConfig.setModulepath(modulepath);
+					if (!configuration.getAttribute(IJavaLaunchConfigurationConstants.ATTR_DEFAULT_MODULE_CLI_OPTIONS, true)) {
+						runConfig.setOverrideDependencies(configuration.getAttribute(IJavaLaunchConfigurationConstants.ATTR_MODULE_CLI_OPTIONS, "")); //$NON-NLS-1$
+					} else {
+						runConfig.setOverrideDependencies(getModuleCLIOptions(configuration));
+					}
 				}
+				runConfigs[i]= runConfig;
 			}
 
 			// check for cancellation
 			if (subMon.isCanceled()) {
 				return null;
 			}
-			return runConfig;
+			return runConfigs;
 		} finally {
 			// done the verification phase
 			subMon.worked(1);
@@ -272,8 +309,8 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 
 		try {
 
-			VMRunnerConfiguration runConfig = getVMRunnerConfiguration(configuration, launch, mode, monitor);
-			if ( monitor.isCanceled() || runConfig == null) {
+			VMRunnerConfiguration[] runConfigs = getVMRunnerConfigurations(configuration, launch, mode, monitor);
+			if ( monitor.isCanceled() || runConfigs == null) {
 				return;
 			}
 			IVMRunner runner= getVMRunner(configuration, mode);
@@ -283,26 +320,112 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 			monitor.worked(1);
 
 			// Launch the configuration - 1 unit of work
-			runner.run(runConfig, launch, monitor);
+			for (VMRunnerConfiguration runConfig : runConfigs) {
+				runner.run(runConfig, launch, monitor);
 
-			// check for cancellation
-			if (monitor.isCanceled()) {
-				return;
+				// check for cancellation
+				if (monitor.isCanceled()) {
+					return;
+				}
 			}
 		} finally {
 			fTestElements= null;
+			fShards= null;
+			fShardPorts= null;
 			monitor.done();
 		}
 	}
 
-	private int evaluatePort() throws CoreException {
-		int port= SocketUtil.findFreePort();
-		if (port == -1) {
-			abort(JUnitMessages.JUnitLaunchConfigurationDelegate_error_no_socket, null, IJavaLaunchConfigurationConstants.ERR_NO_SOCKET_AVAILABLE);
-		}
+	/**
+	 * Returns a free port that is not used by the runtime VMs before the given one.
+	 */
+	private int evaluatePort(int[] ports, int count) throws CoreException {
+		int port;
+		boolean used;
+		do {
+			port= SocketUtil.findFreePort();
+			if (port == -1) {
+				abort(JUnitMessages.JUnitLaunchConfigurationDelegate_error_no_socket, null, IJavaLaunchConfigurationConstants.ERR_NO_SOCKET_AVAILABLE);
+			}
+			used= false;
+			for (int i= 0; i < count; i++) {
+				used|= ports[i] == port;
+			}
+		} while (used);
 		return port;
 	}
 
+	private int getShardCount(ILaunchConfiguration configuration) throws CoreException {
+		if (fKeepAlive) {
+			return 1; // tests are rerun in the kept alive VM
+		}
+		int shardCount= configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_COUNT, 1);
+		return Math.max(1, Math.min(shardCount, JUnitLaunchConfigurationConstants.MAX_SHARD_COUNT));
+	}
+
+	/**
+	 * Returns the test types that can reach a compilation unit that changed since the last launch of
+	 * the configuration, and the types that failed in the last test run of the configuration. All
+	 * test elements are returned if they are not types or if the changes are not known. The stamp of
+	 * the index is stored in the launch, and recorded by the model when the test run ended.
+	 */
+	private IJavaElement[] selectAffectedTests(ILaunchConfiguration configuration, ILaunch launch, IProgressMonitor monitor) throws CoreException {
+		if (!Arrays.stream(fTestElements).allMatch(IType.class::isInstance)) {
+			return fTestElements;
+		}
+		IType[] tests= Arrays.copyOf(fTestElements, fTestElements.length, IType[].class);
+		AffectedTestsIndex index= JUnitCorePlugin.getAffectedTestsIndex();
+		launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_AFFECTED_TESTS_STAMP, String.valueOf(index.getStamp()));
+		IType[] affected= index.getAffectedTests(configuration.getName(), tests, monitor);
+		if (affected == null) {
+			return fTestElements;
+		}
+		Set<IType> affectedTypes= new HashSet<>(Arrays.asList(affected));
+		Set<String> failedClassNames= getFailedTestClassNames(configuration);
+		List<IJavaElement> result= new ArrayList<>();
+		for (IType test : tests) {
+			if (affectedTypes.contains(test) || failedClassNames.contains(test.getFullyQualifiedName('.'))) {
+				result.add(test);
+			}
+		}
+		if (result.isEmpty()) {
+			abort(JUnitMessages.JUnitLaunchConfigurationDelegate_error_no_affected_tests, null, IJUnitStatusConstants.ERR_NO_AFFECTED_TESTS);
+		}
+		return result.toArray(new IJavaElement[result.size()]);
+	}
+
+	private Set<String> getFailedTestClassNames(ILaunchConfiguration configuration) {
+		Set<String> result= new HashSet<>();
+		for (TestRunSession session : JUnitCorePlugin.getModel().getTestRunSessions()) {
+			if (session.getLaunch() != null && configuration.getName().equals(session.getTestRunName())) {
+				for (TestElement failure : session.getAllFailedTestElements()) {
+					result.add(failure.getClassName());
+				}
+				break; // the sessions are sorted youngest first
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Distributes the test types to the given number of runtime VMs, balanced by the elapsed times
+	 * of the types in past test runs. All test elements run in one VM if they are not types.
+	 */
+	private List<IJavaElement[]> createShards(int shardCount) {
+		if (shardCount > 1 && fTestElements.length > 1 && Arrays.stream(fTestElements).allMatch(IType.class::isInstance)) {
+			Map<String, Double> durations= JUnitCorePlugin.getModel().getTestClassDurations();
+			List<List<IJavaElement>> shards= TestShardBalancer.split(Arrays.asList(fTestElements), element -> ((IType) element).getFullyQualifiedName('.'), shardCount, durations);
+			List<IJavaElement[]> result= new ArrayList<>(shards.size());
+			for (List<IJavaElement> shard : shards) {
+				result.add(shard.toArray(new IJavaElement[shard.size()]));
+			}
+			return result;
+		}
+		List<IJavaElement[]> result= new ArrayList<>(1);
+		result.add(fTestElements);
+		return result;
+	}
+
 	/**
 	 * Performs a check on the launch configuration's attributes. If an attribute contains an invalid value, a {@link CoreException}
 	 * with the error is thrown.
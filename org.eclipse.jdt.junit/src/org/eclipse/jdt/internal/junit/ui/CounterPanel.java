@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -127,6 +127,25 @@ public class CounterPanel extends Composite {
 		fAssumptionFailedCount= assumptionFailureCount;
 	}
 
+	/**
+	 * Adds the progress of each runtime VM of a test run to the tooltip of the run count. Must be
+	 * called after {@link #setRunValue(int, int, int)}.
+	 *
+	 * @param startedCounts the number of started tests of each VM
+	 * @param totalCounts the total number of tests of each VM
+	 */
+	public void setShardRunValues(int[] startedCounts, int[] totalCounts) {
+		if (startedCounts.length < 2) {
+			return;
+		}
+		StringBuilder tooltip= new StringBuilder(fNumberOfRuns.getToolTipText());
+		for (int i= 0; i < startedCounts.length; i++) {
+			tooltip.append('\n');
+			tooltip.append(Messages.format(JUnitMessages.CounterPanel_shard_runcount, new String[] { Integer.toString(i + 1), Integer.toString(startedCounts[i]), Integer.toString(totalCounts[i]) }));
+		}
+		fNumberOfRuns.setToolTipText(tooltip.toString());
+	}
+
 	public void setErrorValue(int value) {
 		fNumberOfErrors.setText(Integer.toString(value));
 		redraw();
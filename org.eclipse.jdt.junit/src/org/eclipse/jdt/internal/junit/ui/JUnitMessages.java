@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -49,6 +49,7 @@ public final class JUnitMessages extends NLS {
 	public static String CounterPanel_runcount_ignored;
 	public static String CounterPanel_runcount_skipped;
 	public static String CounterPanel_runcount_ignored_assumptionsFailed;
+	public static String CounterPanel_shard_runcount;
 	public static String EnableStackFilterAction_action_description;
 	public static String EnableStackFilterAction_action_label;
 	public static String EnableStackFilterAction_action_tooltip;
@@ -134,7 +135,9 @@ public final class JUnitMessages extends NLS {
 
 	public static String JUnitLaunchConfigurationTab_label_containerTest;
 
+	public static String JUnitLaunchConfigurationTab_label_affected_tests;
 	public static String JUnitLaunchConfigurationTab_label_keeprunning;
+	public static String JUnitLaunchConfigurationTab_label_shards;
 
 	public static String JUnitLaunchConfigurationTab_label_method;
 
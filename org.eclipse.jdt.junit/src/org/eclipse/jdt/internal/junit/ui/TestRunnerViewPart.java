@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1782,6 +1782,16 @@ action enablement
 
 		fCounterPanel.setTotal(totalCount);
 		fCounterPanel.setRunValue(startedCount, ignoredCount, assumptionFailureCount);
+		if (fTestRunSession != null) {
+			int shardCount= fTestRunSession.getShardCount();
+			int[] shardStartedCounts= new int[shardCount];
+			int[] shardTotalCounts= new int[shardCount];
+			for (int i= 0; i < shardCount; i++) {
+				shardStartedCounts[i]= fTestRunSession.getShardStartedCount(i);
+				shardTotalCounts[i]= fTestRunSession.getShardTotalCount(i);
+			}
+			fCounterPanel.setShardRunValues(shardStartedCounts, shardTotalCounts);
+		}
 		fCounterPanel.setErrorValue(errorCount);
 		fCounterPanel.setFailureValue(failureCount);
 
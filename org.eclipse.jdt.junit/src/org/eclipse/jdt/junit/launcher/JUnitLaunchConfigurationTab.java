@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,7 @@ import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Spinner;
 import org.eclipse.swt.widgets.Text;
 
 import org.eclipse.core.runtime.CoreException;
@@ -138,6 +139,8 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 	private Button fProjButton;
 
 	private Button fKeepRunning;
+	private Spinner fShardCount;
+	private Button fAffectedTestsOnly;
 
 	// Test class UI widgets
 	private Text fTestText;
@@ -208,6 +211,12 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 		createTestLoaderGroup(comp);
 		createSpacer(comp);
 
+		createShardGroup(comp);
+		createSpacer(comp);
+
+		createAffectedTestsGroup(comp);
+		createSpacer(comp);
+
 		createKeepAliveGroup(comp);
 		Dialog.applyDialogFont(comp);
 		PlatformUI.getWorkbench().getHelpSystem().setHelp(getControl(), IJUnitHelpContextIds.LAUNCH_CONFIGURATION_DIALOG_JUNIT_MAIN_TAB);
@@ -439,6 +448,36 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 		updateLaunchConfigurationDialog();
 	}
 
+	private void createShardGroup(Composite comp) {
+		Label shardLabel= new Label(comp, SWT.NONE);
+		shardLabel.setText(JUnitMessages.JUnitLaunchConfigurationTab_label_shards);
+		shardLabel.setLayoutData(new GridData());
+
+		fShardCount= new Spinner(comp, SWT.BORDER);
+		fShardCount.setValues(1, 1, JUnitLaunchConfigurationConstants.MAX_SHARD_COUNT, 0, 1, 1);
+		fShardCount.addModifyListener(evt -> updateLaunchConfigurationDialog());
+		fShardCount.setLayoutData(new GridData());
+	}
+
+	private void createAffectedTestsGroup(Composite comp) {
+		fAffectedTestsOnly= new Button(comp, SWT.CHECK);
+		fAffectedTestsOnly.addSelectionListener(new SelectionListener() {
+			@Override
+			public void widgetSelected(SelectionEvent e) {
+				updateLaunchConfigurationDialog();
+			}
+
+			@Override
+			public void widgetDefaultSelected(SelectionEvent e) {
+			}
+		});
+		fAffectedTestsOnly.setText(JUnitMessages.JUnitLaunchConfigurationTab_label_affected_tests);
+		GridData gd= new GridData();
+		gd.horizontalAlignment= GridData.FILL;
+		gd.horizontalSpan= 2;
+		fAffectedTestsOnly.setLayoutData(gd);
+	}
+
 	private void createKeepAliveGroup(Composite comp) {
 		GridData gd;
 		fKeepRunning= new Button(comp, SWT.CHECK);
@@ -481,6 +520,8 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 				updateTestTypeFromConfig(config);
 			}
 			updateKeepRunning(config);
+			updateShardCount(config);
+			updateAffectedTestsOnly(config);
 			updateTestLoaderFromConfig(config);
 
 			calculateMethodsCache();
@@ -518,6 +559,24 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 		fKeepRunning.setSelection(running);
 	}
 
+	private void updateShardCount(ILaunchConfiguration config) {
+		int shardCount= 1;
+		try {
+			shardCount= config.getAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_COUNT, 1);
+		} catch (CoreException ce) {
+		}
+		fShardCount.setSelection(shardCount);
+	}
+
+	private void updateAffectedTestsOnly(ILaunchConfiguration config) {
+		boolean affectedTestsOnly= false;
+		try {
+			affectedTestsOnly= config.getAttribute(JUnitLaunchConfigurationConstants.ATTR_AFFECTED_TESTS_ONLY, false);
+		} catch (CoreException ce) {
+		}
+		fAffectedTestsOnly.setSelection(affectedTestsOnly);
+	}
+
 	private void updateProjectFromConfig(ILaunchConfiguration config) {
 		String projectName= ""; //$NON-NLS-1$
 		try {
@@ -588,6 +647,16 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 			config.setAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_NAME, fTestMethodText.getText());
 		}
 		config.setAttribute(JUnitLaunchConfigurationConstants.ATTR_KEEPRUNNING, fKeepRunning.getSelection());
+		if (fShardCount.getSelection() > 1) {
+			config.setAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_COUNT, fShardCount.getSelection());
+		} else {
+			config.removeAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_COUNT);
+		}
+		if (fAffectedTestsOnly.getSelection()) {
+			config.setAttribute(JUnitLaunchConfigurationConstants.ATTR_AFFECTED_TESTS_ONLY, true);
+		} else {
+			config.removeAttribute(JUnitLaunchConfigurationConstants.ATTR_AFFECTED_TESTS_ONLY);
+		}
 		try {
 			mapResources(config);
 		} catch (CoreException e) {
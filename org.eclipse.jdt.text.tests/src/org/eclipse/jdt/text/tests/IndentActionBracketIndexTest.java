@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.text.tests.performance.EditorTestHelper;
+import org.eclipse.jdt.text.tests.performance.ResourceTestHelper;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.text.edits.TextEdit;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
+
+import org.eclipse.jdt.ui.text.IJavaPartitions;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.actions.IndentAction;
+
+/**
+ * Indents documents once with the peers indexed in advance and once by scanning the scopes
+ * before every line, and compares the results.
+ */
+public class IndentActionBracketIndexTest {
+
+	private static final String PROJECT= "IndentBracketIndexTests";
+
+	private IJavaProject fJavaProject;
+
+	@Before
+	public void setUp() throws Exception {
+		fJavaProject= EditorTestHelper.createJavaProject(PROJECT, "testResources/indentation");
+		fJavaProject.setOption(DefaultCodeFormatterConstants.FORMATTER_TAB_CHAR, JavaCore.TAB);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (fJavaProject != null)
+			JavaProjectHelper.delete(fJavaProject);
+	}
+
+	@Test
+	public void testIndentationResources() throws Exception {
+		IFolder src= fJavaProject.getProject().getFolder("src");
+		int count= 0;
+		for (IResource member : src.members()) {
+			if (!(member instanceof IFolder))
+				continue;
+			IFile before= ((IFolder) member).getFile("Before.java");
+			if (!before.exists())
+				continue;
+			assertSameIndentation(member.getName(), ResourceTestHelper.read(before.getFullPath().toString()).toString());
+			count++;
+		}
+		assertTrue(count > 0);
+	}
+
+	@Test
+	public void testGeneratedSource() throws Exception {
+		assertSameIndentation("generated", createSource(200, false));
+	}
+
+	@Test
+	public void testGeneratedSourceWithoutIndentation() throws Exception {
+		assertSameIndentation("generated without indentation", createSource(200, true));
+	}
+
+	@Test
+	public void testUnbalancedPeers() throws Exception {
+		String source= """
+			class Unbalanced {
+			void m() {
+			int[] a= { 1, 2 ];
+			if (a.length > 0)) {
+			foo(a[0], (a[1]);
+			}
+			}
+			}
+			}
+			  void n() {
+			 String s= "}{)(";
+			    char c= '{';
+			 // ) ] }
+			  }
+			""";
+		assertSameIndentation("unbalanced", source);
+		assertSameIndentation("missing opening peers", source.substring(source.indexOf("int[]")));
+		assertSameIndentation("missing closing peers", source.substring(0, source.indexOf("void n()")));
+	}
+
+	@Test
+	public void testCommentsAfterOpeningPeers() throws Exception {
+		String source= """
+			class Comments {
+			void m(int a, /* c */
+			int b) { /* c */
+			int[] v= { /* c */ a,
+			b };
+			foo( /* c */ a,
+			b);
+			if (a > b) { // c
+			foo(v[ /* c */ 0],
+			"s" + ( /* c */
+			b));
+			}
+			Runnable r= () -> { /* c */ foo(a,
+			b); };
+			}
+			}
+			""";
+		assertSameIndentation("comments", source);
+	}
+
+	private void assertSameIndentation(String name, String source) throws Exception {
+		IDocument scanned= createDocument(source);
+		TextEdit scannedEdit= IndentAction.indent(scanned, fJavaProject, false);
+
+		IDocument indexed= createDocument(source);
+		TextEdit indexedEdit= IndentAction.indent(indexed, fJavaProject, true);
+
+		assertEquals(name, scanned.get(), indexed.get());
+
+		IDocument applied= createDocument(source);
+		if (indexedEdit != null)
+			indexedEdit.apply(applied);
+		assertEquals(name, scanned.get(), applied.get());
+		assertEquals(name, scannedEdit == null, indexedEdit == null);
+	}
+
+	private static IDocument createDocument(String source) {
+		IDocument document= new Document(source);
+		JavaPlugin.getDefault().getJavaTextTools().setupJavaDocumentPartitioner(document, IJavaPartitions.JAVA_PARTITIONING);
+		return document;
+	}
+
+	/**
+	 * Creates a type with nested blocks, anonymous classes, array initializers, switch statements,
+	 * lambdas and comments, strings and text blocks that contain peers.
+	 *
+	 * @param methods the number of methods
+	 * @param flat <code>true</code> to start all lines in the first column
+	 * @return the source
+	 */
+	public static String createSource(int methods, boolean flat) {
+		String indent= flat ? "" : "\t";
+		StringBuilder buf= new StringBuilder();
+		buf.append("package p;\n");
+		buf.append("public class Generated {\n");
+		for (int i= 0; i < methods; i++) {
+			String i1= indent;
+			String i2= indent + indent;
+			String i3= i2 + indent;
+			String i4= i3 + indent;
+			buf.append(i1).append("/**\n");
+			buf.append(i1).append(" * Method {@link #m").append(i).append("(int)} ( [ {\n");
+			buf.append(i1).append(" */\n");
+			buf.append(i1).append("public int m").append(i).append("(int a,\n");
+			buf.append(i3).append("int b) {\n");
+			buf.append(i2).append("int[] values= { a, b,\n");
+			buf.append(i4).append(i).append(" };\n");
+			buf.append(i2).append("String s= \"} ) ]\" + '{';\n");
+			buf.append(i2).append("switch (a) {\n");
+			buf.append(i2).append("case 0:\n");
+			buf.append(i3).append("a= values[b % values.length];\n");
+			buf.append(i3).append("break;\n");
+			buf.append(i2).append("default:\n");
+			buf.append(i3).append("if (a > b) { // ) }\n");
+			buf.append(i4).append("b= foo(a, new Object() {\n");
+			buf.append(i4).append(indent).append("public int hashCode() { return ").append(i).append("; }\n");
+			buf.append(i4).append("}.hashCode());\n");
+			buf.append(i3).append("} else\n");
+			buf.append(i4).append("b= a;\n");
+			buf.append(i2).append("}\n");
+			buf.append(i2).append("Runnable r= () -> {\n");
+			buf.append(i3).append("/* ( { */ foo(a,\n");
+			buf.append(i4).append("b);\n");
+			buf.append(i2).append("};\n");
+			buf.append(i2).append("String text= \"\"\"\n");
+			buf.append(i3).append("{ ( [\n");
+			buf.append(i3).append("\"\"\";\n");
+			buf.append(i2).append("return a + b + s.length() + text.length()\n");
+			buf.append(i4).append("+ (r == null ? 0 : 1);\n");
+			buf.append(i1).append("}\n");
+			buf.append("\n");
+		}
+		buf.append(indent).append("int foo(int a, Object b) {\n");
+		buf.append(indent).append(indent).append("return a;\n");
+		buf.append(indent).append("}\n");
+		buf.append("}\n");
+		return buf.toString();
+	}
+}
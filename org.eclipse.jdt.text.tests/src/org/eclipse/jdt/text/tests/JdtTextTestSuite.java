@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import org.eclipse.jdt.text.tests.codemining.ParameterNamesCodeMiningTest;
 import org.eclipse.jdt.text.tests.contentassist.ContentAssistTestSuite;
 import org.eclipse.jdt.text.tests.folding.FoldingTestSuite;
 import org.eclipse.jdt.text.tests.semantictokens.SemanticTokensProviderTest;
+import org.eclipse.jdt.text.tests.spelling.ProjectSpellCheckerTest;
 import org.eclipse.jdt.text.tests.spelling.SpellCheckEngineTestCase;
 import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 
@@ -53,6 +54,7 @@ import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 	MarkOccurrenceTest1d8.class,
 	BracketInserterTest.class,
 	SpellCheckEngineTestCase.class,
+	ProjectSpellCheckerTest.class,
 	SemanticHighlightingTest.class,
 	SemanticTokensProviderTest.class,
 	AutoboxingSemanticHighlightingTest.class,
@@ -67,6 +69,7 @@ import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 	ContentAssistTestSuite.class,
 	IndentActionTest.class,
 	IndentActionTest15.class,
+	IndentActionBracketIndexTest.class,
 	TemplatesTestSuite.class,
 	JavaElementPrefixPatternMatcherTest.class,
 	CodeMiningTriggerTest.class,
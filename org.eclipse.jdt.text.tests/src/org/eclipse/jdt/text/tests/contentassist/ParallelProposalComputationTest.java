@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.contentassist;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jface.text.contentassist.CompletionProposal;
+import org.eclipse.jface.text.contentassist.ICompletionProposal;
+
+import org.eclipse.jdt.internal.ui.text.java.ParallelProposalComputation;
+
+public class ParallelProposalComputationTest {
+
+	private static final long NO_DEADLINE= 60000;
+
+	@Test
+	public void testResultsInCategoryOrder() throws Exception {
+		ParallelProposalComputation computation= new ParallelProposalComputation(Arrays.asList(
+				delayed("a", 300),
+				delayed("b", 100),
+				delayed("c", 0)));
+		computation.schedule();
+
+		List<List<ICompletionProposal>> results= computation.getResults(System.currentTimeMillis() + NO_DEADLINE, new NullProgressMonitor());
+		assertEquals(3, results.size());
+		assertEquals(Arrays.asList("a"), getNames(results.get(0)));
+		assertEquals(Arrays.asList("b"), getNames(results.get(1)));
+		assertEquals(Arrays.asList("c"), getNames(results.get(2)));
+		assertFalse(computation.hasLateResults());
+	}
+
+	@Test
+	public void testLateCategories() throws Exception {
+		CountDownLatch latch= new CountDownLatch(1);
+		ParallelProposalComputation computation= new ParallelProposalComputation(Arrays.asList(
+				delayed("a", 0),
+				blocked("b", latch),
+				delayed("c", 0),
+				blocked("d", latch)));
+		computation.schedule();
+
+		List<List<ICompletionProposal>> results= computation.getResults(System.currentTimeMillis() + 500, new NullProgressMonitor());
+		assertEquals(Arrays.asList("a"), getNames(results.get(0)));
+		assertNull(results.get(1));
+		assertEquals(Arrays.asList("c"), getNames(results.get(2)));
+		assertNull(results.get(3));
+		assertTrue(computation.hasLateResults());
+
+		latch.countDown();
+		assertEquals(Arrays.asList("b", "d"), getNames(computation.getLateResults(new NullProgressMonitor())));
+		assertFalse(computation.hasLateResults());
+	}
+
+	@Test
+	public void testFailingCategory() throws Exception {
+		ParallelProposalComputation computation= new ParallelProposalComputation(Arrays.asList(
+				delayed("a", 100),
+				monitor -> {
+					throw new IllegalStateException("expected by ParallelProposalComputationTest");
+				},
+				delayed("c", 0)));
+		computation.schedule();
+
+		List<List<ICompletionProposal>> results= computation.getResults(System.currentTimeMillis() + NO_DEADLINE, new NullProgressMonitor());
+		assertEquals(Arrays.asList("a"), getNames(results.get(0)));
+		assertEquals(Collections.emptyList(), results.get(1));
+		assertEquals(Arrays.asList("c"), getNames(results.get(2)));
+	}
+
+	@Test
+	public void testCancel() throws Exception {
+		CountDownLatch started= new CountDownLatch(1);
+		ParallelProposalComputation computation= new ParallelProposalComputation(Arrays.asList(
+				delayed("a", 0),
+				monitor -> {
+					started.countDown();
+					while (!monitor.isCanceled()) {
+						sleep(10);
+					}
+					return Arrays.asList(new CompletionProposal("b", 0, 0, 1));
+				}));
+		computation.schedule();
+		assertTrue(started.await(NO_DEADLINE, TimeUnit.MILLISECONDS));
+
+		List<List<ICompletionProposal>> results= computation.getResults(System.currentTimeMillis() + 100, new NullProgressMonitor());
+		assertNull(results.get(1));
+
+		computation.cancel();
+		assertEquals(Arrays.asList("b"), getNames(computation.getLateResults(new NullProgressMonitor())));
+	}
+
+	private static Function<IProgressMonitor, List<ICompletionProposal>> delayed(String name, long delay) {
+		return monitor -> {
+			sleep(delay);
+			return Arrays.asList(new CompletionProposal(name, 0, 0, name.length()));
+		};
+	}
+
+	private static Function<IProgressMonitor, List<ICompletionProposal>> blocked(String name, CountDownLatch latch) {
+		return monitor -> {
+			try {
+				latch.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return Arrays.asList(new CompletionProposal(name, 0, 0, name.length()));
+		};
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static List<String> getNames(List<ICompletionProposal> proposals) {
+		List<String> names= new ArrayList<>();
+		for (ICompletionProposal proposal : proposals) {
+			names.add(proposal.getDisplayString());
+		}
+		return names;
+	}
+}
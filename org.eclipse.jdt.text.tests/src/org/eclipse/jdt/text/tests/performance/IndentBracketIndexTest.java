@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.performance;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.eclipse.jdt.text.tests.IndentActionBracketIndexTest;
+
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+
+import org.eclipse.jdt.ui.text.IJavaPartitions;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.actions.IndentAction;
+
+/**
+ * Measures the time to indent a generated compilation unit with about 20,000 lines, once by
+ * scanning the scopes before every line and once with the peers indexed in advance.
+ *
+ * @since 3.35
+ */
+public class IndentBracketIndexTest extends TextPerformanceTestCase {
+
+	private static final Class<IndentBracketIndexTest> THIS= IndentBracketIndexTest.class;
+
+	private static final int METHODS= 700;
+
+	private static final int WARM_UP_RUNS= 2;
+
+	private static final int MEASURED_RUNS= 5;
+
+	private String fSource;
+
+	public static Test suite() {
+		return new PerformanceTestSetup(new TestSuite(THIS));
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		setWarmUpRuns(WARM_UP_RUNS);
+		setMeasuredRuns(MEASURED_RUNS);
+		fSource= IndentActionBracketIndexTest.createSource(METHODS, true);
+	}
+
+	public void testIndentScanningScopes() throws Exception {
+		measure(false);
+	}
+
+	public void testIndentWithBracketIndex() throws Exception {
+		measure(true);
+	}
+
+	private void measure(boolean useBracketIndex) throws BadLocationException {
+		measure(getNullPerformanceMeter(), getWarmUpRuns(), useBracketIndex);
+		measure(createPerformanceMeter(), getMeasuredRuns(), useBracketIndex);
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	private void measure(PerformanceMeter performanceMeter, int runs, boolean useBracketIndex) throws BadLocationException {
+		for (int i= 0; i < runs; i++) {
+			IDocument document= new Document(fSource);
+			JavaPlugin.getDefault().getJavaTextTools().setupJavaDocumentPartitioner(document, IJavaPartitions.JAVA_PARTITIONING);
+			performanceMeter.start();
+			IndentAction.indent(document, null, useBracketIndex);
+			performanceMeter.stop();
+		}
+	}
+}
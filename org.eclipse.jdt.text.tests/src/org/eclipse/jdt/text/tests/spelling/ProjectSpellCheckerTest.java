@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.spelling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.equinox.app.IApplication;
+import org.eclipse.equinox.app.IApplicationContext;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jdt.core.IJavaProject;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+
+import org.eclipse.jdt.internal.ui.text.spelling.ProjectSpellChecker;
+import org.eclipse.jdt.internal.ui.text.spelling.SpellCheckApplication;
+import org.eclipse.jdt.internal.ui.text.spelling.SpellCheckEngine;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker;
+
+/**
+ * Tests {@link ProjectSpellChecker} and the {@link SpellCheckApplication} that uses it.
+ */
+public class ProjectSpellCheckerTest {
+
+	private static final String JAVA_SOURCE= """
+			package p;
+			/**
+			 * This is a mispeled word.
+			 */
+			public class A {
+				// not checked: mispeled
+				String s= "not checked: mispeled";
+			}
+			""";
+
+	private static final String PROPERTIES_SOURCE= """
+			key= Some mispeled value
+			""";
+
+	private final IPreferenceStore fPreferences= PreferenceConstants.getPreferenceStore();
+
+	private IJavaProject fProject;
+
+	private Path fReport;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		fPreferences.setValue(PreferenceConstants.SPELLING_LOCALE, Locale.US.toString());
+
+		fProject= JavaProjectHelper.createJavaProject("SpellCheckProject", "bin");
+		IFolder folder= ((IFolder) JavaProjectHelper.addSourceContainer(fProject, "src").getResource()).getFolder("p");
+		folder.create(true, true, null);
+		createFile(folder.getFile("A.java"), JAVA_SOURCE);
+		createFile(folder.getFile("messages.properties"), PROPERTIES_SOURCE);
+
+		fReport= Files.createTempFile("spelling", ".txt");
+	}
+
+	@AfterEach
+	public void tearDown() throws Exception {
+		Files.deleteIfExists(fReport);
+		JavaProjectHelper.delete(fProject);
+		fPreferences.setToDefault(PreferenceConstants.SPELLING_LOCALE);
+	}
+
+	@Test
+	public void testCheck() throws Exception {
+		ISpellChecker checker= SpellCheckEngine.getInstance().getSpellChecker();
+		assertNotNull(checker);
+
+		List<ProjectSpellChecker.Problem> problems= new ProjectSpellChecker(checker).check(fProject, null);
+
+		assertEquals(2, problems.size(), problems.toString());
+		assertProblem(problems.get(0), "/SpellCheckProject/src/p/A.java", 3, 14, JAVA_SOURCE);
+		assertProblem(problems.get(1), "/SpellCheckProject/src/p/messages.properties", 1, 11, PROPERTIES_SOURCE);
+	}
+
+	@Test
+	public void testCheckIgnoresProblemsThreshold() throws Exception {
+		IFolder folder= (IFolder) fProject.getProject().getFolder("src/p");
+		createFile(folder.getFile("B.java"), """
+				package p;
+				/**
+				 * mispeled mispeled mispeled mispeled
+				 */
+				public class B {
+				}
+				""");
+		createFile(folder.getFile("other.properties"), """
+				a= mispeled
+				b= mispeled
+				c= mispeled
+				d= mispeled
+				""");
+		fPreferences.setValue(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD, 1);
+		try {
+			ISpellChecker checker= SpellCheckEngine.getInstance().getSpellChecker();
+			List<ProjectSpellChecker.Problem> problems= new ProjectSpellChecker(checker).check(fProject, null);
+
+			assertEquals(10, problems.size(), problems.toString());
+		} finally {
+			fPreferences.setToDefault(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD);
+		}
+	}
+
+	@Test
+	public void testIsJavaProject() throws Exception {
+		assertTrue(ProjectSpellChecker.isJavaProject(fProject.getProject()));
+
+		IProject other= ResourcesPlugin.getWorkspace().getRoot().getProject("SpellCheckOther");
+		assertFalse(ProjectSpellChecker.isJavaProject(other));
+		other.create(null);
+		try {
+			other.open(null);
+			assertFalse(ProjectSpellChecker.isJavaProject(other));
+		} finally {
+			other.delete(true, null);
+		}
+
+		fProject.getProject().close(null);
+		assertFalse(ProjectSpellChecker.isJavaProject(fProject.getProject()));
+		fProject.getProject().open(null);
+	}
+
+	@Test
+	public void testApplicationReport() throws Exception {
+		Object exitCode= runApplication("-output", fReport.toString(), "SpellCheckProject");
+
+		assertEquals(IApplication.EXIT_OK, exitCode);
+		List<String> lines= Files.readAllLines(fReport, StandardCharsets.UTF_8);
+		assertEquals(3, lines.size(), lines.toString());
+		assertTrue(lines.get(0).startsWith("/SpellCheckProject/src/p/A.java:3:14: "), lines.get(0));
+		assertTrue(lines.get(1).startsWith("/SpellCheckProject/src/p/messages.properties:1:11: "), lines.get(1));
+		assertEquals("2 spelling problems", lines.get(2));
+	}
+
+	@Test
+	public void testApplicationFailOnProblems() throws Exception {
+		assertEquals(Integer.valueOf(1), runApplication("-failOnProblems", "-output", fReport.toString(), "SpellCheckProject"));
+	}
+
+	@Test
+	public void testApplicationSkipsOtherProjects() throws Exception {
+		Object exitCode= runApplication("-failOnProblems", "-output", fReport.toString(), "NoSuchProject");
+
+		assertEquals(IApplication.EXIT_OK, exitCode);
+		assertEquals(List.of("0 spelling problems"), Files.readAllLines(fReport, StandardCharsets.UTF_8));
+	}
+
+	private static Object runApplication(String... arguments) throws Exception {
+		IApplicationContext context= (IApplicationContext) Proxy.newProxyInstance(IApplicationContext.class.getClassLoader(), new Class<?>[] { IApplicationContext.class },
+				(proxy, method, args) -> "getArguments".equals(method.getName()) ? Map.of(IApplicationContext.APPLICATION_ARGS, arguments) : null);
+		return new SpellCheckApplication().start(context);
+	}
+
+	private static void assertProblem(ProjectSpellChecker.Problem problem, String path, int line, int column, String source) {
+		assertEquals(path, problem.getFile().getFullPath().toString());
+		assertEquals(line, problem.getLine());
+		assertEquals(column, problem.getColumn());
+		assertEquals("mispeled", source.substring(problem.getOffset(), problem.getOffset() + "mispeled".length()));
+	}
+
+	private static void createFile(IFile file, String contents) throws Exception {
+		file.create(new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8)), true, null);
+	}
+}
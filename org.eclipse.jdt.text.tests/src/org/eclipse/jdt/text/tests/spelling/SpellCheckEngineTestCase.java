@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,7 +21,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 
@@ -30,14 +32,21 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.Region;
 
 import org.eclipse.jdt.ui.PreferenceConstants;
 
 import org.eclipse.jdt.internal.ui.text.spelling.SpellCheckEngine;
+import org.eclipse.jdt.internal.ui.text.spelling.SpellCheckIterator;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.AbstractSpellDictionary;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.DefaultPhoneticDistanceAlgorithm;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellCheckEngine;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellCheckIterator;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellEvent;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellEventListener;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.RankedWordProposal;
 
 
@@ -260,4 +269,143 @@ public class SpellCheckEngineTestCase {
 		assertTrue(proposals.size() >= 1);
 		assertEquals(- DefaultPhoneticDistanceAlgorithm.COST_CASE, proposals.iterator().next().getRank());
 	}
+
+	@Test
+	public void testRememberedVerdicts() {
+		fPreferences.setValue(PreferenceConstants.SPELLING_LOCALE, Locale.US.toString());
+		final ISpellChecker checker= fEngine.getSpellChecker();
+		assertNotNull(checker);
+
+		assertFalse(checker.isCorrect(LASTWAGEN));
+		assertFalse(checker.isCorrect(LASTWAGEN));
+		fGlobalDictionary.addWord(LASTWAGEN);
+		assertTrue(checker.isCorrect(LASTWAGEN));
+
+		checker.removeDictionary(fGlobalDictionary);
+		assertFalse(checker.isCorrect(LASTWAGEN));
+		checker.addDictionary(fGlobalDictionary);
+		assertTrue(checker.isCorrect(LASTWAGEN));
+	}
+
+	@Test
+	public void testCheckWords() {
+		fPreferences.setValue(PreferenceConstants.SPELLING_LOCALE, Locale.US.toString());
+		final ISpellChecker checker= fEngine.getSpellChecker();
+		assertNotNull(checker);
+
+		StringBuilder buffer= new StringBuilder();
+		List<Region> regions= new ArrayList<>();
+		for (int i= 0; i < 20; i++) {
+			int offset= buffer.length();
+			buffer.append("Truck lorry global wagen").append(i % 3 == 0 ? " Lastwagen" : "").append(". ");
+			regions.add(new Region(offset, buffer.length() - offset));
+		}
+		IDocument document= new Document(buffer.toString());
+
+		List<ISpellEvent> expected= new ArrayList<>();
+		for (Region region : regions)
+			checker.execute(expected::add, createIterator(document, region));
+
+		List<ISpellCheckIterator> iterators= new ArrayList<>();
+		for (Region region : regions)
+			iterators.add(createIterator(document, region));
+		List<ISpellEvent> actual= new ArrayList<>();
+		checker.checkWords(actual::add, iterators);
+
+		assertFalse(expected.isEmpty());
+		assertEquals(expected.size(), actual.size());
+		for (int i= 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).getWord(), actual.get(i).getWord());
+			assertEquals(expected.get(i).getBegin(), actual.get(i).getBegin());
+			assertEquals(expected.get(i).getEnd(), actual.get(i).getEnd());
+		}
+	}
+
+	@Test
+	public void testCheckWordsStopsAtThreshold() {
+		fPreferences.setValue(PreferenceConstants.SPELLING_LOCALE, Locale.US.toString());
+		final ISpellChecker checker= fEngine.getSpellChecker();
+		assertNotNull(checker);
+
+		StringBuilder buffer= new StringBuilder();
+		List<Region> regions= new ArrayList<>();
+		for (int i= 0; i < 20; i++) {
+			int offset= buffer.length();
+			buffer.append("Truck wagen").append(i).append(" lastwagen. ");
+			regions.add(new Region(offset, buffer.length() - offset));
+		}
+		IDocument document= new Document(buffer.toString());
+
+		List<ISpellEvent> all= new ArrayList<>();
+		for (Region region : regions)
+			checker.execute(all::add, createIterator(document, region));
+		assertTrue(all.size() > 5);
+
+		List<ISpellCheckIterator> iterators= new ArrayList<>();
+		for (Region region : regions)
+			iterators.add(createIterator(document, region));
+		List<ISpellEvent> actual= new ArrayList<>();
+		checker.checkWords(new ISpellEventListener() {
+			@Override
+			public void handle(ISpellEvent event) {
+				assertFalse(isProblemsThresholdReached());
+				actual.add(event);
+			}
+
+			@Override
+			public boolean isProblemsThresholdReached() {
+				return actual.size() >= 5;
+			}
+		}, iterators);
+
+		assertEquals(5, actual.size());
+		for (int i= 0; i < actual.size(); i++) {
+			assertEquals(all.get(i).getWord(), actual.get(i).getWord());
+			assertEquals(all.get(i).getBegin(), actual.get(i).getBegin());
+		}
+	}
+
+	@Test
+	public void testCheckWordsLoadsDictionariesOnCallingThread() {
+		fPreferences.setValue(PreferenceConstants.SPELLING_LOCALE, Locale.US.toString());
+		final List<Thread> loadingThreads= new ArrayList<>();
+		final TestDictionary dictionary= new TestDictionary() {
+			@Override
+			protected synchronized boolean load(URL url) {
+				loadingThreads.add(Thread.currentThread());
+				hashWord("wagen");
+				return true;
+			}
+		};
+		fEngine.registerDictionary(Locale.US, dictionary);
+		try {
+			final ISpellChecker checker= fEngine.getSpellChecker();
+			assertNotNull(checker);
+
+			StringBuilder buffer= new StringBuilder();
+			List<Region> regions= new ArrayList<>();
+			for (int i= 0; i < 20; i++) {
+				int offset= buffer.length();
+				buffer.append("Truck wagen lorry. ");
+				regions.add(new Region(offset, buffer.length() - offset));
+			}
+			IDocument document= new Document(buffer.toString());
+			List<ISpellCheckIterator> iterators= new ArrayList<>();
+			for (Region region : regions)
+				iterators.add(createIterator(document, region));
+			List<ISpellEvent> actual= new ArrayList<>();
+			checker.checkWords(actual::add, iterators);
+
+			assertEquals(List.of(Thread.currentThread()), loadingThreads);
+			assertEquals(20, actual.size());
+			for (ISpellEvent event : actual)
+				assertEquals("lorry", event.getWord());
+		} finally {
+			fEngine.unregisterDictionary(dictionary);
+		}
+	}
+
+	private static ISpellCheckIterator createIterator(IDocument document, Region region) {
+		return new SpellCheckIterator(document, region, Locale.US, null);
+	}
 }
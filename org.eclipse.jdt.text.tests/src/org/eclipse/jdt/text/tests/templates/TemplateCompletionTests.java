@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2021 Red Hat Inc. and others.
+ * Copyright (c) 2019, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,12 +12,14 @@
  *******************************************************************************/
 package org.eclipse.jdt.text.tests.templates;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +33,8 @@ import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.ITextViewer;
 import org.eclipse.jface.text.TextViewer;
 import org.eclipse.jface.text.contentassist.ICompletionProposal;
+import org.eclipse.jface.text.templates.Template;
+import org.eclipse.jface.text.templates.persistence.TemplateStore;
 
 import org.eclipse.ui.IEditorPart;
 
@@ -42,8 +46,10 @@ import org.eclipse.jdt.core.JavaModelException;
 
 import org.eclipse.jdt.ui.text.java.JavaContentAssistInvocationContext;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
 import org.eclipse.jdt.internal.ui.text.java.TemplateCompletionProposalComputer;
+import org.eclipse.jdt.internal.ui.text.template.contentassist.TemplateIndex;
 import org.eclipse.jdt.internal.ui.text.template.contentassist.TemplateProposal;
 
 public class TemplateCompletionTests {
@@ -140,6 +146,41 @@ public class TemplateCompletionTests {
 		assertEquals(str, viewer.getDocument().get());
 	}
 
+	@Test
+	public void testUpperCasePrefix() throws Exception {
+		StringBuffer buf= new StringBuffer();
+		buf.append("""
+			class Sample {
+				void sample() {
+					SYS$
+				}
+			}""");
+
+		int completionIndex= getCompletionIndex(buf);
+		ICompilationUnit cu= getCompilationUnit(pkg, buf, "Sample.java");
+		List<ICompletionProposal> proposals= computeCompletionProposals(cu, completionIndex);
+
+		assertProposalsExist(Arrays.asList("sysout - print to standard out", "syserr - print to standard error"), proposals);
+		assertFalse(proposals.stream().anyMatch(p -> !((TemplateProposal) p).getTemplate().getName().toLowerCase().startsWith("sys")));
+	}
+
+	@Test
+	public void testTemplateIndex() throws Exception {
+		TemplateStore store= JavaPlugin.getDefault().getTemplateStore();
+		Template[] templates= store.getTemplates();
+		TemplateIndex index= TemplateIndex.get(store);
+		assertEquals(index, TemplateIndex.get(store));
+		assertArrayEquals(templates, index.getTemplates());
+
+		for (String prefix : new String[] { "", "s", "Sys", "for", "foreach", "xyz" }) {
+			Template[] expected= Stream.of(templates).filter(t -> t.getName().toLowerCase().startsWith(prefix.toLowerCase())).toArray(Template[]::new);
+			assertArrayEquals(expected, index.getTemplates(prefix), prefix);
+
+			Template[] expectedJava= Stream.of(expected).filter(t -> "java".equals(t.getContextTypeId())).toArray(Template[]::new);
+			assertArrayEquals(expectedJava, index.getTemplates("java", prefix), prefix);
+		}
+	}
+
 	private ITextViewer initializeViewer(ICompilationUnit cu) throws Exception {
 		IEditorPart editor= EditorUtility.openInEditor(cu);
 		ITextViewer viewer= new TextViewer(editor.getSite().getShell(), SWT.NONE);
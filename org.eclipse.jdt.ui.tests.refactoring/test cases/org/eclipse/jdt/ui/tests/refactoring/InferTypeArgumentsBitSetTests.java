@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import org.junit.After;
+import org.junit.Before;
+
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.TypeSetEnvironment;
+
+/**
+ * Runs the {@link InferTypeArgumentsTests} with type sets backed by bit sets.
+ */
+public class InferTypeArgumentsBitSetTests extends InferTypeArgumentsTests {
+
+	@Before
+	public void enableBitSets() {
+		System.setProperty(TypeSetEnvironment.BIT_SET_TYPE_SETS, "true");
+	}
+
+	@After
+	public void disableBitSets() {
+		System.clearProperty(TypeSetEnvironment.BIT_SET_TYPE_SETS);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -36,6 +36,7 @@ import org.junit.platform.suite.api.Suite;
 		NLSHolderTest.class,
 		NLSSubstitutionTest.class,
 		NLSHintStripQuotesTest.class,
+		NonExternalizedStringsCounterTest.class,
 })
 public class NLSTestSuite {
 }
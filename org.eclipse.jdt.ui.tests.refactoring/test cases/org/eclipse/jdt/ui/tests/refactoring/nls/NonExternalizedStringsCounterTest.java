@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.nls;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.actions.NonExternalizedStringsCounter;
+
+public class NonExternalizedStringsCounterTest {
+
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJavaProject;
+
+	private IPackageFragment fPackage;
+
+	@Before
+	public void setUp() throws Exception {
+		fJavaProject= pts.getProject();
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJavaProject, "src");
+		fPackage= sourceFolder.createPackageFragment("test", false, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.clear(fJavaProject, pts.getDefaultClasspath());
+	}
+
+	@Test
+	public void testCount() throws Exception {
+		ICompilationUnit tagged= createUnit("Tagged", """
+			package test;
+			public class Tagged {
+				String a= "a";
+				String b= "b"; //$NON-NLS-1$
+				String c= "c" + "d"; //$NON-NLS-1$
+			}
+			""");
+		ICompilationUnit noStrings= createUnit("NoStrings", """
+			package test;
+			public class NoStrings {
+				int i= 1;
+				char c= 'c';
+			}
+			""");
+		ICompilationUnit escapedQuotes= createUnit("EscapedQuotes", """
+			package test;
+			public class EscapedQuotes {
+				String s= \\u0022s\\u0022;
+			}
+			""");
+
+		int[] counts= count(tagged, noStrings, escapedQuotes);
+		assertArrayEquals(new int[] { 2, 0, 1 }, counts);
+	}
+
+	@Test
+	public void testCountReportsUnitsWithStrings() throws Exception {
+		ICompilationUnit first= createUnit("First", """
+			package test;
+			public class First {
+				String a= "a";
+				String b= "b";
+			}
+			""");
+		ICompilationUnit tagged= createUnit("Tagged", """
+			package test;
+			public class Tagged {
+				String a= "a"; //$NON-NLS-1$
+			}
+			""");
+		ICompilationUnit second= createUnit("Second", """
+			package test;
+			public class Second {
+				String a= "a";
+			}
+			""");
+
+		Map<ICompilationUnit, Integer> reported= new ConcurrentHashMap<>();
+		NonExternalizedStringsCounter.count(Arrays.asList(first, tagged, second), (cu, count) -> assertNull(reported.put(cu, Integer.valueOf(count))), new NullProgressMonitor());
+		assertEquals(Map.of(first, Integer.valueOf(2), second, Integer.valueOf(1)), reported);
+	}
+
+	@Test
+	public void testCountWorkingCopy() throws Exception {
+		ICompilationUnit cu= createUnit("Edited", """
+			package test;
+			public class Edited {
+				int i= 1;
+			}
+			""");
+		assertArrayEquals(new int[] { 0 }, count(cu));
+
+		cu.becomeWorkingCopy(null);
+		try {
+			cu.getBuffer().setContents("""
+				package test;
+				public class Edited {
+					String s= "s";
+					String t= "t"; //$NON-NLS-1$
+				}
+				""");
+			assertArrayEquals(new int[] { 1 }, count(cu));
+		} finally {
+			cu.discardWorkingCopy();
+		}
+	}
+
+	@Test
+	public void testUnreadableUnit() throws Exception {
+		ICompilationUnit cu= createUnit("Existing", """
+			package test;
+			public class Existing {
+				String s= "s";
+			}
+			""");
+		ICompilationUnit missing= fPackage.getCompilationUnit("Missing.java");
+
+		assertThrows(CoreException.class, () -> count(cu, missing));
+	}
+
+	private ICompilationUnit createUnit(String name, String source) throws Exception {
+		return fPackage.createCompilationUnit(name + ".java", source, false, null);
+	}
+
+	private static int[] count(ICompilationUnit... units) throws CoreException {
+		List<ICompilationUnit> list= Arrays.asList(units);
+		return NonExternalizedStringsCounter.count(list, new NullProgressMonitor());
+	}
+}
@@ -0,0 +1,371 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.scalability;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.Refactoring;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.participants.MoveRefactoring;
+import org.eclipse.ltk.core.refactoring.participants.ProcessorBasedRefactoring;
+import org.eclipse.ltk.core.refactoring.participants.RenameRefactoring;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.internal.core.search.JavaSearchParticipant;
+
+import org.eclipse.jdt.internal.corext.refactoring.ParameterInfo;
+import org.eclipse.jdt.internal.corext.refactoring.generics.InferTypeArgumentsRefactoring;
+import org.eclipse.jdt.internal.corext.refactoring.rename.RenamePackageProcessor;
+import org.eclipse.jdt.internal.corext.refactoring.rename.RenameTypeProcessor;
+import org.eclipse.jdt.internal.corext.refactoring.reorg.IReorgPolicy.IMovePolicy;
+import org.eclipse.jdt.internal.corext.refactoring.reorg.JavaMoveProcessor;
+import org.eclipse.jdt.internal.corext.refactoring.reorg.ReorgDestinationFactory;
+import org.eclipse.jdt.internal.corext.refactoring.reorg.ReorgPolicyFactory;
+import org.eclipse.jdt.internal.corext.refactoring.structure.ChangeSignatureProcessor;
+import org.eclipse.jdt.internal.corext.refactoring.structure.PullUpRefactoringProcessor;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.TypeSetEnvironment;
+import org.eclipse.jdt.internal.corext.util.SearchUtils;
+
+import org.eclipse.jdt.ui.tests.refactoring.ccp.MockReorgQueries;
+import org.eclipse.jdt.ui.tests.refactoring.infra.RefactoringPerformanceTestCaseCommon;
+import org.eclipse.jdt.ui.tests.refactoring.reorg.TestProject;
+
+import org.eclipse.jdt.internal.ui.preferences.JavaPreferencesSettings;
+
+/**
+ * Measures how the heavy refactorings scale with the size of the workspace. A project with
+ * {@link #getNumberOfCus()} compilation units is generated once per test class; every compilation
+ * unit references the types the refactorings work on.
+ * <p>
+ * Each test checks all conditions and creates the change, but does not perform it, so the project
+ * can be shared by all tests. Besides the elapsed time measured by the performance meter, the time
+ * spent in condition checking and change creation, the peak heap usage and the number of searches
+ * are reported.
+ * </p>
+ */
+public abstract class AbstractRefactoringScalabilityPerfTest extends RefactoringPerformanceTestCaseCommon {
+
+	private static final int CUS_PER_PACKAGE= 100;
+
+	private static final int SAMPLE_COUNT= 3;
+
+	private static TestProject fgTestProject;
+	private static int fgNumberOfCus;
+
+	/**
+	 * Counts the searches performed with the participants of
+	 * {@link SearchUtils#getDefaultSearchParticipants()}, the search engine calls
+	 * {@link #beginSearching()} once per search.
+	 */
+	private static final class CountingSearchParticipant extends JavaSearchParticipant {
+
+		private final AtomicLong fSearchCount;
+
+		CountingSearchParticipant(AtomicLong searchCount) {
+			fSearchCount= searchCount;
+		}
+
+		@Override
+		public void beginSearching() {
+			fSearchCount.incrementAndGet();
+			super.beginSearching();
+		}
+	}
+
+	/**
+	 * Configures a refactoring after its initial conditions have been checked.
+	 */
+	@FunctionalInterface
+	protected interface IFinalConditionsSetup {
+		void setUp() throws Exception;
+	}
+
+	/**
+	 * Creates a new refactoring for each sample.
+	 */
+	@FunctionalInterface
+	protected interface IRefactoringFactory {
+		Refactoring create() throws Exception;
+	}
+
+	/**
+	 * @return the number of compilation units of the generated project
+	 */
+	protected abstract int getNumberOfCus();
+
+	@Before
+	public void setUpProject() throws Exception {
+		if (fgTestProject != null && fgNumberOfCus == getNumberOfCus())
+			return;
+		deleteProject();
+		fgTestProject= new TestProject();
+		fgNumberOfCus= getNumberOfCus();
+		generateSources(fgTestProject, fgNumberOfCus);
+	}
+
+	@AfterClass
+	public static void deleteProject() throws Exception {
+		if (fgTestProject != null) {
+			fgTestProject.delete();
+			fgTestProject= null;
+		}
+	}
+
+	@Test
+	public void testRenameType() throws Exception {
+		IType api= getType("lib.Api");
+		measure(() -> {
+			RenameTypeProcessor processor= new RenameTypeProcessor(api);
+			processor.setNewElementName("Api2");
+			processor.setUpdateReferences(true);
+			return new RenameRefactoring(processor);
+		}, null);
+	}
+
+	@Test
+	public void testRenamePackage() throws Exception {
+		IPackageFragment lib= fgTestProject.getSourceFolder().getPackageFragment("lib");
+		measure(() -> {
+			RenamePackageProcessor processor= new RenamePackageProcessor(lib);
+			processor.setNewElementName("lib2");
+			processor.setUpdateReferences(true);
+			return new RenameRefactoring(processor);
+		}, null);
+	}
+
+	@Test
+	public void testPullUp() throws Exception {
+		IType top= getType("base.Top");
+		IMethod helper= getType("p0.C0").getMethod("helper", new String[0]);
+		PullUpRefactoringProcessor[] processor= new PullUpRefactoringProcessor[1];
+		measure(() -> {
+			processor[0]= new PullUpRefactoringProcessor(new IMember[] { helper }, JavaPreferencesSettings.getCodeGenerationSettings(helper.getJavaProject()));
+			return new ProcessorBasedRefactoring(processor[0]);
+		}, () -> processor[0].setDestinationType(top));
+	}
+
+	@Test
+	public void testChangeSignature() throws Exception {
+		IMethod work= getType("base.Top").getMethod("work", new String[] { "I", "QString;" });
+		measure(() -> {
+			ChangeSignatureProcessor processor= new ChangeSignatureProcessor(work);
+			processor.getParameterInfos().add(ParameterInfo.createInfoForAddedParameter("int", "c", "0"));
+			return new ProcessorBasedRefactoring(processor);
+		}, null);
+	}
+
+	@Test
+	public void testInferTypeArguments() throws Exception {
+		IJavaElement[] elements= { fgTestProject.getSourceFolder() };
+		measure(() -> new InferTypeArgumentsRefactoring(elements), null);
+	}
+
+	/**
+	 * Same as {@link #testInferTypeArguments()}, but the solver stores its type estimates as bit
+	 * sets, so the two type set representations can be compared.
+	 */
+	@Test
+	public void testInferTypeArgumentsBitSetTypeSets() throws Exception {
+		IJavaElement[] elements= { fgTestProject.getSourceFolder() };
+		System.setProperty(TypeSetEnvironment.BIT_SET_TYPE_SETS, "true");
+		try {
+			measure(() -> new InferTypeArgumentsRefactoring(elements), null);
+		} finally {
+			System.clearProperty(TypeSetEnvironment.BIT_SET_TYPE_SETS);
+		}
+	}
+
+	@Test
+	public void testMoveCompilationUnit() throws Exception {
+		ICompilationUnit api= getType("lib.Api").getCompilationUnit();
+		IPackageFragment destination= fgTestProject.getSourceFolder().getPackageFragment("base");
+		measure(() -> {
+			IMovePolicy policy= ReorgPolicyFactory.createMovePolicy(new IResource[0], new IJavaElement[] { api });
+			JavaMoveProcessor processor= new JavaMoveProcessor(policy);
+			processor.setDestination(ReorgDestinationFactory.createDestination(destination));
+			processor.setReorgQueries(new MockReorgQueries());
+			processor.setUpdateReferences(true);
+			return new MoveRefactoring(processor);
+		}, null);
+	}
+
+	private void measure(IRefactoringFactory factory, IFinalConditionsSetup setup) throws Exception {
+		measure(factory, setup, Performance.getDefault().getNullPerformanceMeter(), false);
+		for (int i= 0; i < SAMPLE_COUNT; i++) {
+			measure(factory, setup, fPerformanceMeter, true);
+		}
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	private void measure(IRefactoringFactory factory, IFinalConditionsSetup setup, PerformanceMeter performanceMeter, boolean report) throws Exception {
+		Refactoring refactoring= factory.create();
+		joinBackgroudActivities();
+		System.gc();
+		resetPeakHeapUsage();
+		AtomicLong searchCount= new AtomicLong();
+		SearchUtils.setSearchParticipantFactory(() -> new CountingSearchParticipant(searchCount));
+
+		RefactoringStatus status;
+		Change change;
+		long start, conditions, end;
+		try {
+			performanceMeter.start();
+			start= System.currentTimeMillis();
+			status= refactoring.checkInitialConditions(new NullProgressMonitor());
+			if (setup != null && !status.hasFatalError())
+				setup.setUp();
+			status.merge(refactoring.checkFinalConditions(new NullProgressMonitor()));
+			conditions= System.currentTimeMillis();
+			change= status.hasFatalError() ? null : refactoring.createChange(new NullProgressMonitor());
+			end= System.currentTimeMillis();
+			performanceMeter.stop();
+		} finally {
+			SearchUtils.setSearchParticipantFactory(null);
+		}
+
+		long peakHeap= getPeakHeapUsage();
+		if (change != null)
+			change.dispose();
+		assertTrue(status.toString(), status.getSeverity() <= RefactoringStatus.WARNING);
+
+		if (report) {
+			System.out.println(getClass().getSimpleName() + "#" + tn.getMethodName() + ": "
+					+ "conditions " + (conditions - start) + "ms, "
+					+ "change " + (end - conditions) + "ms, "
+					+ "peak heap " + (peakHeap / (1024 * 1024)) + "MB, "
+					+ "searches " + searchCount.get());
+		}
+	}
+
+	private static void resetPeakHeapUsage() {
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP && pool.isValid())
+				pool.resetPeakUsage();
+		}
+	}
+
+	/*
+	 * Sum of the peaks of the heap pools, which is an upper bound of the peak heap usage.
+	 */
+	private static long getPeakHeapUsage() {
+		long peak= 0;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP && pool.isValid())
+				peak+= pool.getPeakUsage().getUsed();
+		}
+		return peak;
+	}
+
+	private static IType getType(String fullyQualifiedName) throws Exception {
+		IType type= fgTestProject.getProject().findType(fullyQualifiedName);
+		assertTrue(fullyQualifiedName, type != null && type.exists());
+		return type;
+	}
+
+	/*
+	 * Creates the files directly in a single workspace operation, creating tens of thousands of
+	 * compilation units through the Java model would dominate the run time of the suite.
+	 */
+	private static void generateSources(TestProject project, int numberOfCus) throws Exception {
+		ResourcesPlugin.getWorkspace().run(monitor -> {
+			IFolder root= (IFolder) project.getSourceFolder().getResource();
+			createFile(root, "base", "Top", """
+				package base;
+
+				public class Top {
+				    public void work(int a, String b) {
+				    }
+				}
+				""");
+			createFile(root, "lib", "Api", """
+				package lib;
+
+				public class Api {
+				    public void call(int a) {
+				    }
+				}
+				""");
+			for (int i= 0; i < numberOfCus; i++) {
+				String packageName= "p" + (i / CUS_PER_PACKAGE);
+				createFile(root, packageName, "C" + i, createSource(packageName, "C" + i));
+			}
+		}, null);
+	}
+
+	private static String createSource(String packageName, String typeName) {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package ").append(packageName).append(";\n");
+		buf.append("\n");
+		buf.append("import java.util.ArrayList;\n");
+		buf.append("import java.util.List;\n");
+		buf.append("\n");
+		buf.append("import base.Top;\n");
+		buf.append("import lib.Api;\n");
+		buf.append("\n");
+		buf.append("public class ").append(typeName).append(" extends Top {\n");
+		buf.append("    private Api fApi= new Api();\n");
+		buf.append("\n");
+		buf.append("    @Override\n");
+		buf.append("    public void work(int a, String b) {\n");
+		buf.append("        fApi.call(a);\n");
+		buf.append("        helper();\n");
+		buf.append("    }\n");
+		buf.append("\n");
+		buf.append("    protected List helper() {\n");
+		buf.append("        List list= new ArrayList();\n");
+		buf.append("        list.add(\"").append(typeName).append("\");\n");
+		buf.append("        return list;\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		return buf.toString();
+	}
+
+	private static void createFile(IFolder root, String packageName, String typeName, String source) throws CoreException {
+		IFolder folder= root.getFolder(packageName);
+		if (!folder.exists())
+			folder.create(true, true, null);
+		IFile file= folder.getFile(typeName + ".java");
+		file.create(new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_8)), true, null);
+	}
+}
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.scalability;
+
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.Refactoring;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.dom.AST;
+
+import org.eclipse.jdt.internal.corext.refactoring.code.ExtractMethodRefactoring;
+import org.eclipse.jdt.internal.corext.refactoring.code.ExtractTempRefactoring;
+import org.eclipse.jdt.internal.corext.refactoring.code.InlineMethodRefactoring;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
+
+import org.eclipse.jdt.ui.tests.refactoring.infra.RefactoringPerformanceTestCaseCommon;
+import org.eclipse.jdt.ui.tests.refactoring.reorg.TestProject;
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringPerformanceTestSetup;
+
+/**
+ * Measures the refactorings that rely on the flow analysis of
+ * <code>org.eclipse.jdt.internal.corext.refactoring.code.flow</code> on a generated method with
+ * about 2,000 lines and several hundred locals in scope.
+ */
+public class HugeMethodFlowAnalysisPerfTest extends RefactoringPerformanceTestCaseCommon {
+
+	private static final int LOCAL_COUNT= 300;
+
+	private static final int BLOCK_COUNT= 200;
+
+	private static final int SAMPLE_COUNT= 10;
+
+	@Rule
+	public RefactoringPerformanceTestSetup rpts= new RefactoringPerformanceTestSetup();
+
+	private TestProject fTestProject;
+	private ICompilationUnit fUnit;
+	private String fSource;
+
+	@FunctionalInterface
+	private interface IRefactoringFactory {
+		Refactoring create() throws Exception;
+	}
+
+	@Before
+	public void setUpProject() throws Exception {
+		fTestProject= new TestProject();
+		IPackageFragment pack= fTestProject.getSourceFolder().createPackageFragment("p", false, null);
+		fSource= createSource();
+		fUnit= pack.createCompilationUnit("Huge.java", fSource, false, null);
+	}
+
+	@After
+	public void deleteProject() throws Exception {
+		if (fTestProject != null)
+			fTestProject.delete();
+	}
+
+	@Test
+	public void testExtractMethod() throws Exception {
+		int start= fSource.indexOf("if (", fSource.indexOf("// block " + BLOCK_COUNT / 4 + "\n"));
+		int end= fSource.indexOf("// block " + BLOCK_COUNT * 3 / 4 + "\n");
+		measure(() -> new ExtractMethodRefactoring(fUnit, start, end - start));
+	}
+
+	@Test
+	public void testExtractLocal() throws Exception {
+		String expression= "v" + (BLOCK_COUNT / 2 + 5) % LOCAL_COUNT + " - r";
+		int start= fSource.indexOf(expression, fSource.indexOf("// block " + BLOCK_COUNT / 2 + "\n"));
+		measure(() -> new ExtractTempRefactoring(fUnit, start, expression.length()));
+	}
+
+	@Test
+	public void testInlineMethod() throws Exception {
+		String invocation= "compute(1, 2)";
+		int start= fSource.indexOf(invocation);
+		measure(() -> InlineMethodRefactoring.create(fUnit, new RefactoringASTParser(AST.getJLSLatest()).parse(fUnit, true), start, invocation.length()));
+	}
+
+	private void measure(IRefactoringFactory factory) throws Exception {
+		measure(factory, Performance.getDefault().getNullPerformanceMeter());
+		measure(factory, Performance.getDefault().getNullPerformanceMeter());
+		for (int i= 0; i < SAMPLE_COUNT; i++) {
+			measure(factory, fPerformanceMeter);
+		}
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	private void measure(IRefactoringFactory factory, PerformanceMeter performanceMeter) throws Exception {
+		Refactoring refactoring= factory.create();
+		joinBackgroudActivities();
+		System.gc();
+
+		performanceMeter.start();
+		RefactoringStatus status= refactoring.checkAllConditions(new NullProgressMonitor());
+		Change change= status.hasFatalError() ? null : refactoring.createChange(new NullProgressMonitor());
+		performanceMeter.stop();
+
+		if (change != null)
+			change.dispose();
+		assertTrue(status.toString(), status.getSeverity() <= RefactoringStatus.WARNING);
+	}
+
+	/*
+	 * All locals are declared up front so that they are in scope of every statement. Only r is
+	 * written by the blocks, so the middle blocks can be extracted into a method returning r.
+	 */
+	private static String createSource() {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package p;\n");
+		buf.append("public class Huge {\n");
+		buf.append("    public int compute(int a, int b) {\n");
+		for (int i= 0; i < LOCAL_COUNT; i++) {
+			buf.append("        int v").append(i).append("= a + b * ").append(i).append(";\n");
+		}
+		buf.append("        int r= 0;\n");
+		for (int i= 0; i < BLOCK_COUNT; i++) {
+			buf.append("        // block ").append(i).append("\n");
+			buf.append("        if (v").append(i % LOCAL_COUNT).append(" > a) {\n");
+			buf.append("            r+= v").append((i + 1) % LOCAL_COUNT).append(" * 2;\n");
+			buf.append("        } else {\n");
+			buf.append("            r-= v").append((i + 2) % LOCAL_COUNT).append(";\n");
+			buf.append("        }\n");
+			buf.append("        for (int j= 0; j < v").append((i + 3) % LOCAL_COUNT).append("; j++) {\n");
+			buf.append("            r+= j * v").append((i + 4) % LOCAL_COUNT).append(";\n");
+			buf.append("        }\n");
+			buf.append("        int w").append(i).append("= v").append((i + 5) % LOCAL_COUNT).append(" - r;\n");
+			buf.append("        r= w").append(i).append(" > 0 ? w").append(i).append(" : -w").append(i).append(";\n");
+		}
+		buf.append("        return r;\n");
+		buf.append("    }\n");
+		buf.append("    public int caller() {\n");
+		buf.append("        return compute(1, 2);\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		return buf.toString();
+	}
+}
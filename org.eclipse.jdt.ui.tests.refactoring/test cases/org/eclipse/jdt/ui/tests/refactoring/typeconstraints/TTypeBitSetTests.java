@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.typeconstraints;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TypeEnvironment;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.TTypeBitSet;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.TypeSetEnvironment;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+/**
+ * Checks that {@link TTypeBitSet} behaves like a {@link HashSet} of the same types.
+ */
+public class TTypeBitSetTests {
+
+	private static final String[] TYPE_NAMES= {
+			"java.lang.Object", "java.lang.String", "java.lang.Integer", "java.lang.Number",
+			"java.lang.Cloneable", "java.io.Serializable", "int", "boolean", "char"
+	};
+
+	@Rule
+	public RefactoringTestSetup rts= new RefactoringTestSetup();
+
+	private TypeSetEnvironment fEnvironment;
+	private List<TType> fTypes;
+
+	@Before
+	public void setUp() throws Exception {
+		ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+		parser.setProject(rts.getProject());
+		parser.setResolveBindings(true);
+		parser.setUnitName("A.java");
+		parser.setSource("class A {}".toCharArray());
+		CompilationUnit ast= (CompilationUnit) parser.createAST(null);
+
+		TypeEnvironment typeEnvironment= new TypeEnvironment();
+		fEnvironment= new TypeSetEnvironment(typeEnvironment, true);
+		fTypes= new ArrayList<>();
+		for (String name : TYPE_NAMES) {
+			fTypes.add(typeEnvironment.create(ast.getAST().resolveWellKnownType(name)));
+		}
+	}
+
+	@Test
+	public void testAddRemoveContains() throws Exception {
+		TTypeBitSet bitSet= new TTypeBitSet(fEnvironment);
+		Set<TType> hashSet= new HashSet<>();
+		assertSameSet(hashSet, bitSet);
+
+		String[] operations= { "+0", "+3", "+3", "+8", "-3", "+5", "-0", "-0", "+1", "+2", "+4", "-8", "+6", "+7", "+8", "-5", "+0" };
+		for (String operation : operations) {
+			TType type= fTypes.get(Integer.parseInt(operation.substring(1)));
+			if (operation.charAt(0) == '+') {
+				assertEquals(hashSet.add(type), bitSet.add(type));
+			} else {
+				assertEquals(hashSet.remove(type), bitSet.remove(type));
+			}
+			assertSameSet(hashSet, bitSet);
+		}
+
+		assertFalse(bitSet.contains("java.lang.Object"));
+		assertFalse(bitSet.remove("java.lang.Object"));
+
+		bitSet.clear();
+		hashSet.clear();
+		assertSameSet(hashSet, bitSet);
+	}
+
+	@Test
+	public void testIteratorRemove() throws Exception {
+		TTypeBitSet bitSet= new TTypeBitSet(fEnvironment);
+		bitSet.addAll(fTypes);
+		Set<TType> hashSet= new HashSet<>(fTypes);
+
+		for (Iterator<TType> iter= bitSet.iterator(); iter.hasNext();) {
+			TType type= iter.next();
+			if (type.isPrimitiveType()) {
+				iter.remove();
+				hashSet.remove(type);
+			}
+		}
+		assertSameSet(hashSet, bitSet);
+	}
+
+	@Test
+	public void testBulkOperations() throws Exception {
+		List<TType> first= fTypes.subList(0, 5);
+		List<TType> second= fTypes.subList(3, fTypes.size());
+
+		for (boolean sameEnvironment : new boolean[] { true, false }) {
+			TypeSetEnvironment otherEnvironment= sameEnvironment ? fEnvironment : new TypeSetEnvironment(new TypeEnvironment(), true);
+
+			// addAll
+			TTypeBitSet bitSet= createBitSet(fEnvironment, first);
+			Set<TType> hashSet= new HashSet<>(first);
+			assertEquals(hashSet.addAll(second), bitSet.addAll(createBitSet(otherEnvironment, second)));
+			assertSameSet(hashSet, bitSet);
+			assertFalse(bitSet.addAll(createBitSet(otherEnvironment, second)));
+
+			// retainAll
+			bitSet= createBitSet(fEnvironment, first);
+			hashSet= new HashSet<>(first);
+			assertEquals(hashSet.retainAll(second), bitSet.retainAll(createBitSet(otherEnvironment, second)));
+			assertSameSet(hashSet, bitSet);
+			assertFalse(bitSet.retainAll(createBitSet(otherEnvironment, second)));
+
+			// removeAll
+			bitSet= createBitSet(fEnvironment, first);
+			hashSet= new HashSet<>(first);
+			assertEquals(hashSet.removeAll(second), bitSet.removeAll(createBitSet(otherEnvironment, second)));
+			assertSameSet(hashSet, bitSet);
+			assertFalse(bitSet.removeAll(createBitSet(otherEnvironment, second)));
+
+			// containsAll
+			bitSet= createBitSet(fEnvironment, fTypes);
+			assertTrue(bitSet.containsAll(createBitSet(otherEnvironment, first)));
+			assertFalse(createBitSet(fEnvironment, first).containsAll(createBitSet(otherEnvironment, second)));
+			assertTrue(createBitSet(fEnvironment, first).containsAll(createBitSet(otherEnvironment, first)));
+		}
+	}
+
+	@Test
+	public void testBulkOperationsWithHashSet() throws Exception {
+		List<TType> first= fTypes.subList(0, 5);
+		List<TType> second= fTypes.subList(3, fTypes.size());
+
+		TTypeBitSet bitSet= createBitSet(fEnvironment, first);
+		Set<TType> hashSet= new HashSet<>(first);
+		assertEquals(hashSet.addAll(second), bitSet.addAll(new HashSet<>(second)));
+		assertSameSet(hashSet, bitSet);
+
+		bitSet= createBitSet(fEnvironment, first);
+		hashSet= new HashSet<>(first);
+		assertEquals(hashSet.retainAll(second), bitSet.retainAll(new HashSet<>(second)));
+		assertSameSet(hashSet, bitSet);
+
+		bitSet= createBitSet(fEnvironment, first);
+		hashSet= new HashSet<>(first);
+		assertEquals(hashSet.removeAll(second), bitSet.removeAll(new HashSet<>(second)));
+		assertSameSet(hashSet, bitSet);
+
+		assertTrue(createBitSet(fEnvironment, fTypes).containsAll(new HashSet<>(second)));
+		assertFalse(createBitSet(fEnvironment, first).containsAll(new HashSet<>(second)));
+	}
+
+	@Test
+	public void testEquality() throws Exception {
+		List<TType> reversed= new ArrayList<>(fTypes.subList(2, 6));
+		Collections.reverse(reversed);
+
+		TTypeBitSet bitSet= createBitSet(fEnvironment, fTypes.subList(2, 6));
+		TTypeBitSet sameEnvironment= createBitSet(fEnvironment, reversed);
+		TTypeBitSet otherEnvironment= createBitSet(new TypeSetEnvironment(new TypeEnvironment(), true), reversed);
+		Set<TType> hashSet= new HashSet<>(reversed);
+
+		assertEquals(bitSet, sameEnvironment);
+		assertEquals(bitSet, otherEnvironment);
+		assertEquals(otherEnvironment, bitSet);
+		assertEquals(bitSet, hashSet);
+		assertEquals(hashSet, bitSet);
+		assertEquals(hashSet.hashCode(), bitSet.hashCode());
+		assertEquals(hashSet.hashCode(), otherEnvironment.hashCode());
+
+		sameEnvironment.add(fTypes.get(0));
+		assertNotEquals(bitSet, sameEnvironment);
+		assertNotEquals(sameEnvironment, hashSet);
+		assertNotEquals(hashSet, sameEnvironment);
+
+		assertEquals(new TTypeBitSet(fEnvironment), new HashSet<>());
+		assertNotEquals(new TTypeBitSet(fEnvironment), Arrays.asList());
+	}
+
+	private static TTypeBitSet createBitSet(TypeSetEnvironment environment, List<TType> types) {
+		TTypeBitSet result= new TTypeBitSet(environment);
+		for (TType type : types) {
+			result.add(type);
+		}
+		return result;
+	}
+
+	private static void assertSameSet(Set<TType> expected, TTypeBitSet actual) {
+		assertEquals(expected.size(), actual.size());
+		assertEquals(expected.isEmpty(), actual.isEmpty());
+		for (TType type : expected) {
+			assertTrue(actual.contains(type));
+		}
+		List<TType> iterated= new ArrayList<>();
+		for (TType type : actual) {
+			iterated.add(type);
+		}
+		assertEquals(expected.size(), iterated.size());
+		assertEquals(expected, new HashSet<>(iterated));
+	}
+}
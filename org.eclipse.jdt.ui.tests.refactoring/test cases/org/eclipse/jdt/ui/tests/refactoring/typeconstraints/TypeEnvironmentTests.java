@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.jdt.ui.tests.refactoring.typeconstraints;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
@@ -43,6 +44,7 @@ import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 
 import org.eclipse.jdt.internal.corext.dom.HierarchicalASTVisitor;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.HierarchyType;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TypeEnvironment;
 
@@ -238,6 +240,8 @@ public class TypeEnvironmentTests extends AbstractJunit4CUTestCase {
 		node.accept(collector);
 		testBindings(collector.getResult());
 		testAssignment(collector.getWildcards());
+		testSubTypeIndex(collector.getResult());
+		testSubTypeIndex(collector.getWildcards());
 	}
 
 	private void testBindings(ITypeBinding[] bindings) throws Exception {
@@ -304,6 +308,38 @@ public class TypeEnvironmentTests extends AbstractJunit4CUTestCase {
 		}
 	}
 
+	/*
+	 * Compares the subtype queries answered by the subtype index with the ones answered by walking
+	 * the hierarchy (HierarchyType#doIsSubType), both directly and through canAssignTo(..) of array,
+	 * wildcard and capture types.
+	 */
+	private void testSubTypeIndex(ITypeBinding[] bindings) {
+		TypeEnvironment indexed= new TypeEnvironment(false, false, true);
+		TypeEnvironment walking= new TypeEnvironment(false, false, false);
+		assertNull("Walking environment has index", walking.getSubTypeIndex());
+		TType[] indexedTypes= new TType[bindings.length];
+		TType[] walkingTypes= new TType[bindings.length];
+		for (int i= 0; i < bindings.length; i++) {
+			indexedTypes[i]= indexed.create(bindings[i]);
+			walkingTypes[i]= walking.create(bindings[i]);
+		}
+		long subTypeQueries= 0;
+		for (int o= 0; o < bindings.length; o++) {
+			for (int i= 0; i < bindings.length; i++) {
+				String rule= PrettySignatures.get(bindings[i]) + "= " + PrettySignatures.get(bindings[o]);
+				assertEquals("Different assignment rule(" + rule + "): ",
+						walkingTypes[o].canAssignTo(walkingTypes[i]), indexedTypes[o].canAssignTo(indexedTypes[i]));
+				if (indexedTypes[o] instanceof HierarchyType && indexedTypes[i] instanceof HierarchyType) {
+					boolean walkingResult= ((HierarchyType) walkingTypes[o]).isSubType((HierarchyType) walkingTypes[i]);
+					boolean indexedResult= ((HierarchyType) indexedTypes[o]).isSubType((HierarchyType) indexedTypes[i]);
+					assertEquals("Different subtype rule(" + rule + "): ", walkingResult, indexedResult);
+					subTypeQueries++;
+				}
+			}
+		}
+		assertTrue("Queries not answered by index", indexed.getSubTypeIndex().getQueryCount() >= subTypeQueries);
+	}
+
 	private void testFlags(ITypeBinding binding, TType type) {
 		assertEquals("Different class flag", binding.isClass(), type.isClass());
 		assertEquals("Different enum flag", binding.isEnum(), type.isEnum());
@@ -338,6 +374,7 @@ public class TypeEnvironmentTests extends AbstractJunit4CUTestCase {
 		CaptureTypeBindingCollector collector= new CaptureTypeBindingCollector();
 		node.accept(collector);
 		testBindings(collector.getResult());
+		testSubTypeIndex(collector.getResult());
 	}
 
 	public void _testAssignment() throws Exception {
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Measures the bytes allocated by the current thread between {@link #start()} and
+ * {@link #stop()}, summed up over all runs. Complements the time based
+ * {@link org.eclipse.test.performance.PerformanceMeter}, which does not report allocations.
+ * <p>
+ * The allocation counter of the platform's threading MXBean is accessed through the MBean server,
+ * so no JDK specific classes are required. If the VM does not support allocation counting, all
+ * values are <code>-1</code>.
+ * </p>
+ */
+public class AllocationMeter {
+
+	private static final String GET_THREAD_ALLOCATED_BYTES= "getThreadAllocatedBytes";
+
+	private final String fName;
+	private long fStart= -1;
+	private long fAllocated;
+	private int fRuns;
+
+	public AllocationMeter(String name) {
+		fName= name;
+	}
+
+	public void start() {
+		fStart= getThreadAllocatedBytes();
+	}
+
+	public void stop() {
+		long end= getThreadAllocatedBytes();
+		if (fStart == -1 || end == -1) {
+			fAllocated= -1;
+		} else if (fAllocated != -1) {
+			fAllocated+= end - fStart;
+		}
+		fRuns++;
+		fStart= -1;
+	}
+
+	/**
+	 * @return the bytes allocated by all runs, or <code>-1</code> if not supported
+	 */
+	public long getAllocatedBytes() {
+		return fAllocated;
+	}
+
+	/**
+	 * @return the average bytes allocated by a run, or <code>-1</code> if not supported
+	 */
+	public long getAllocatedBytesPerRun() {
+		if (fAllocated == -1 || fRuns == 0)
+			return -1;
+		return fAllocated / fRuns;
+	}
+
+	/**
+	 * Prints the allocation statistics to <code>System.out</code>, so that they show up next to
+	 * the timing results in the test log.
+	 */
+	public void report() {
+		System.out.println(fName + ": " + fRuns + " runs, " + (getAllocatedBytesPerRun() / 1024) + " KB allocated per run");
+	}
+
+	private static long getThreadAllocatedBytes() {
+		try {
+			MBeanServer server= ManagementFactory.getPlatformMBeanServer();
+			ObjectName threading= new ObjectName(ManagementFactory.THREAD_MXBEAN_NAME);
+			Object result= server.invoke(threading, GET_THREAD_ALLOCATED_BYTES, new Object[] { Long.valueOf(Thread.currentThread().threadId()) }, new String[] { long.class.getName() });
+			return result instanceof Long ? ((Long) result).longValue() : -1;
+		} catch (JMException | RuntimeException e) {
+			return -1;
+		}
+	}
+}
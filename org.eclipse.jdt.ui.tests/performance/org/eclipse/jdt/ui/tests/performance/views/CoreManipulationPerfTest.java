@@ -0,0 +1,341 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.test.performance.Performance;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.participants.ProcessorBasedRefactoring;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.Signature;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.rewrite.ImportRewrite;
+import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation;
+import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
+
+import org.eclipse.jdt.internal.common.HelperVisitor;
+import org.eclipse.jdt.internal.common.ReferenceHolder;
+import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelsCore;
+import org.eclipse.jdt.internal.core.manipulation.StubUtility;
+import org.eclipse.jdt.internal.corext.refactoring.generics.InferTypeArgumentsRefactoring;
+import org.eclipse.jdt.internal.corext.refactoring.structure.UseSuperTypeProcessor;
+
+import org.eclipse.jdt.ui.tests.performance.AllocationMeter;
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+import org.eclipse.jdt.internal.ui.text.ChainElement;
+import org.eclipse.jdt.internal.ui.text.ChainFinder;
+import org.eclipse.jdt.internal.ui.text.ChainType;
+
+/**
+ * Micro benchmarks for hot paths of <code>org.eclipse.jdt.core.manipulation</code> that are
+ * exercised directly, without editors or views, on a generated project. Besides the elapsed time
+ * measured by the performance meter, the bytes allocated by each benchmark are reported.
+ */
+public class CoreManipulationPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int CU_COUNT= 100;
+
+	private static final String[] IMPORTS_TO_ADD= {
+			"java.util.Set", "java.util.HashSet", "java.util.Optional", "java.util.concurrent.ConcurrentHashMap",
+			"java.util.function.Function", "java.util.stream.Collectors", "java.io.File", "java.io.IOException",
+			"java.net.URI", "java.nio.file.Path"
+	};
+
+	private static class MyTestSetup extends ExternalResource {
+		public static final String SRC_CONTAINER= "src";
+
+		public static IJavaProject fJProject1;
+		public static IPackageFragment fPackage;
+		public static ICompilationUnit[] fCompilationUnits;
+
+		@Override
+		public void before() throws Throwable {
+			fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+			assertNotNull("rt not found", JavaProjectHelper.addRTJar(fJProject1));
+			IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject1, SRC_CONTAINER);
+			fPackage= root.createPackageFragment("gen", false, null);
+			fPackage.createCompilationUnit("Base.java", "package gen;\npublic class Base {\n    public int foo() {\n        return 0;\n    }\n}\n", false, null);
+			fPackage.createCompilationUnit("Target.java", "package gen;\npublic class Target {\n}\n", false, null);
+			fCompilationUnits= new ICompilationUnit[CU_COUNT];
+			for (int i= 0; i < CU_COUNT; i++) {
+				fCompilationUnits[i]= fPackage.createCompilationUnit("C" + i + ".java", createSource(i), false, null);
+			}
+		}
+
+		@Override
+		public void after() {
+			try {
+				if (fJProject1 != null && fJProject1.exists())
+					JavaProjectHelper.delete(fJProject1);
+			} catch (CoreException e) {
+				e.printStackTrace();
+			}
+		}
+
+		/*
+		 * Each type references the next one, every third type can create a Target, which gives
+		 * the chain finder something to find. The raw collections are input for infer type
+		 * arguments, the local of the own type is input for use supertype.
+		 */
+		private static String createSource(int i) {
+			String name= "C" + i;
+			String next= "C" + ((i + 1) % CU_COUNT);
+			StringBuilder buf= new StringBuilder();
+			buf.append("package gen;\n");
+			buf.append("\n");
+			buf.append("import java.util.ArrayList;\n");
+			buf.append("import java.util.HashMap;\n");
+			buf.append("import java.util.List;\n");
+			buf.append("import java.util.Map;\n");
+			buf.append("\n");
+			buf.append("public class ").append(name).append(" extends Base implements Comparable<").append(name).append("> {\n");
+			buf.append("    private List<String> fNames= new ArrayList<>();\n");
+			buf.append("    private Map<String, Integer> fCounts= new HashMap<>();\n");
+			buf.append("    private String fLabel;\n");
+			buf.append("    private int fValue;\n");
+			buf.append("    private boolean fEnabled;\n");
+			buf.append("    public ").append(next).append(" next;\n");
+			buf.append("\n");
+			buf.append("    public ").append(next).append(" getNext() {\n");
+			buf.append("        return next;\n");
+			buf.append("    }\n");
+			if (i % 3 == 2) {
+				buf.append("    public Target getTarget() {\n");
+				buf.append("        return new Target();\n");
+				buf.append("    }\n");
+			}
+			buf.append("    public List getRaw() {\n");
+			buf.append("        ArrayList list= new ArrayList();\n");
+			buf.append("        list.add(fLabel);\n");
+			buf.append("        return list;\n");
+			buf.append("    }\n");
+			buf.append("    public void fill(List raw) {\n");
+			buf.append("        raw.addAll(getRaw());\n");
+			buf.append("        fNames.addAll(raw);\n");
+			buf.append("    }\n");
+			buf.append("    public int compareTo(").append(name).append(" other) {\n");
+			buf.append("        return fValue - other.fValue;\n");
+			buf.append("    }\n");
+			buf.append("    public int sum(").append(name).append(" other) {\n");
+			buf.append("        ").append(name).append(" local= other;\n");
+			buf.append("        return local.foo() + fCounts.size() + (fEnabled ? 1 : 0) + fLabel.length();\n");
+			buf.append("    }\n");
+			buf.append("}\n");
+			return buf.toString();
+		}
+	}
+
+	@FunctionalInterface
+	private interface IBenchmark {
+		void run() throws Exception;
+	}
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	@Test
+	public void testOrganizeImports() throws Exception {
+		CompilationUnit[] roots= getASTs();
+		measure(10, () -> {
+			for (int i= 0; i < roots.length; i++) {
+				OrganizeImportsOperation op= new OrganizeImportsOperation(MyTestSetup.fCompilationUnits[i], roots[i], true, false, true, null);
+				op.createTextEdit(new NullProgressMonitor());
+			}
+		});
+	}
+
+	@Test
+	public void testImportRewrite() throws Exception {
+		CompilationUnit[] roots= getASTs();
+		measure(10, () -> {
+			for (CompilationUnit root : roots) {
+				ImportRewrite rewrite= StubUtility.createImportRewrite(root, true);
+				for (String qualifiedTypeName : IMPORTS_TO_ADD) {
+					rewrite.addImport(qualifiedTypeName);
+				}
+				rewrite.addStaticImport("java.util.Collections", "emptyList", false);
+				assertTrue(rewrite.rewriteImports(null).hasChildren());
+			}
+		});
+	}
+
+	@Test
+	public void testStubUtility() throws Exception {
+		IField[] fields= getFields();
+		IJavaProject project= MyTestSetup.fJProject1;
+		measure(10, () -> {
+			for (IField field : fields) {
+				ICompilationUnit cu= field.getCompilationUnit();
+				String typeName= field.getDeclaringType().getElementName();
+				String fieldName= field.getElementName();
+				String fieldType= Signature.toString(field.getTypeSignature());
+				String baseName= StubUtility.getBaseName(field);
+				String getterName= "get" + baseName;
+				String setterName= "set" + baseName;
+				String[] argumentNames= StubUtility.getArgumentNameSuggestions(project, baseName, 0, new String[0]);
+				StubUtility.getGetterComment(cu, typeName, getterName, fieldName, fieldType, baseName, "\n");
+				StubUtility.getGetterMethodBodyContent(project, typeName, getterName, fieldName, "\n");
+				StubUtility.getSetterComment(cu, typeName, setterName, fieldName, fieldType, argumentNames[0], baseName, "\n");
+				StubUtility.getSetterMethodBodyContent(project, typeName, setterName, fieldName, argumentNames[0], "\n");
+			}
+		});
+	}
+
+	@Test
+	public void testJavaElementLabels() throws Exception {
+		List<IJavaElement> elements= new ArrayList<>();
+		for (ICompilationUnit cu : MyTestSetup.fCompilationUnits) {
+			elements.add(cu);
+			for (IType type : cu.getTypes()) {
+				elements.add(type);
+				Collections.addAll(elements, type.getChildren());
+			}
+		}
+		long[] flags= {
+				JavaElementLabelsCore.ALL_DEFAULT,
+				JavaElementLabelsCore.ALL_FULLY_QUALIFIED | JavaElementLabelsCore.M_PARAMETER_NAMES | JavaElementLabelsCore.M_APP_RETURNTYPE | JavaElementLabelsCore.F_APP_TYPE_SIGNATURE,
+				JavaElementLabelsCore.ALL_DEFAULT | JavaElementLabelsCore.ALL_POST_QUALIFIED
+		};
+		measure(10, () -> {
+			for (IJavaElement element : elements) {
+				for (long flag : flags) {
+					JavaElementLabelsCore.getElementLabel(element, flag);
+				}
+			}
+		});
+	}
+
+	@Test
+	public void testHelperVisitor() throws Exception {
+		CompilationUnit[] roots= getASTs();
+		measure(10, () -> {
+			for (CompilationUnit root : roots) {
+				ReferenceHolder<String, Integer> holder= new ReferenceHolder<>();
+				HelperVisitor<ReferenceHolder<String, Integer>, String, Integer> visitor= new HelperVisitor<>(null, holder);
+				visitor.addMethodInvocation((node, h) -> {
+					h.merge(node.getName().getIdentifier(), Integer.valueOf(1), Integer::sum);
+					return true;
+				});
+				visitor.addSimpleName((node, h) -> {
+					h.merge(node.getIdentifier(), Integer.valueOf(1), Integer::sum);
+					return true;
+				});
+				visitor.build(root);
+				assertFalse(holder.isEmpty());
+			}
+		});
+	}
+
+	@Test
+	public void testChainFinder() throws Exception {
+		IType invocationType= MyTestSetup.fCompilationUnits[0].getTypes()[0];
+		IType targetType= MyTestSetup.fJProject1.findType("gen.Target");
+		List<ChainElement> entrypoints= new ArrayList<>();
+		for (IMember member : new IMember[] { invocationType.getField("next"), invocationType.getMethod("getNext", new String[0]) }) {
+			entrypoints.add(new ChainElement(member, false));
+		}
+		measure(10, () -> {
+			ChainFinder finder= new ChainFinder(Collections.singletonList(new ChainType(targetType)), Collections.emptyList(), invocationType);
+			finder.startChainSearch(entrypoints, 20, 1, 4);
+			assertFalse(finder.getChains().isEmpty());
+		});
+	}
+
+	@Test
+	public void testInferTypeArgumentsConstraintsSolver() throws Exception {
+		measure(5, () -> {
+			InferTypeArgumentsRefactoring refactoring= new InferTypeArgumentsRefactoring(new IJavaElement[] { MyTestSetup.fPackage });
+			RefactoringStatus status= refactoring.checkAllConditions(new NullProgressMonitor());
+			assertFalse(status.toString(), status.hasFatalError());
+		});
+	}
+
+	@Test
+	public void testSuperTypeConstraintsSolver() throws Exception {
+		IType subType= MyTestSetup.fCompilationUnits[0].getTypes()[0];
+		IType superType= MyTestSetup.fJProject1.findType("gen.Base");
+		measure(5, () -> {
+			UseSuperTypeProcessor processor= new UseSuperTypeProcessor(subType);
+			processor.setSuperType(superType);
+			RefactoringStatus status= new ProcessorBasedRefactoring(processor).checkAllConditions(new NullProgressMonitor());
+			assertFalse(status.toString(), status.hasFatalError());
+		});
+	}
+
+	private void measure(int runs, IBenchmark benchmark) throws Exception {
+		// warm up
+		for (int i= 0; i < 2; i++) {
+			joinBackgroudActivities();
+			benchmark.run();
+		}
+
+		AllocationMeter allocationMeter= new AllocationMeter(getClass().getSimpleName() + "#" + tn.getMethodName());
+		for (int i= 0; i < runs; i++) {
+			joinBackgroudActivities();
+			fPerformanceMeter.start();
+			allocationMeter.start();
+			benchmark.run();
+			allocationMeter.stop();
+			fPerformanceMeter.stop();
+		}
+		allocationMeter.report();
+
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	private static CompilationUnit[] getASTs() {
+		CompilationUnit[] roots= new CompilationUnit[CU_COUNT];
+		for (int i= 0; i < CU_COUNT; i++) {
+			roots[i]= SharedASTProviderCore.getAST(MyTestSetup.fCompilationUnits[i], SharedASTProviderCore.WAIT_YES, new NullProgressMonitor());
+			assertNotNull(roots[i]);
+		}
+		return roots;
+	}
+
+	private static IField[] getFields() throws CoreException {
+		List<IField> fields= new ArrayList<>();
+		for (ICompilationUnit cu : MyTestSetup.fCompilationUnits) {
+			for (IType type : cu.getTypes()) {
+				Collections.addAll(fields, type.getFields());
+			}
+		}
+		return fields.toArray(new IField[fields.size()]);
+	}
+}
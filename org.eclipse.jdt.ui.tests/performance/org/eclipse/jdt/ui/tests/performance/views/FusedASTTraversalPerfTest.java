@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.test.performance.Performance;
+
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
+import org.eclipse.jdt.internal.common.VisitorEnum;
+
+import org.eclipse.jdt.ui.tests.performance.AllocationMeter;
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+/**
+ * Compares running clean up style visitors with a traversal each against serving all of them from
+ * one {@link FusedASTVisitor} traversal. The visitors run on the <code>java.util</code> sources
+ * of the running JDK, each of them matches one node type like most clean ups do.
+ */
+public class FusedASTTraversalPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int VISITOR_COUNT= 40;
+
+	private static final int SAMPLE_COUNT= 10;
+
+	private static final VisitorEnum[] NODE_TYPES= {
+			VisitorEnum.MethodInvocation, VisitorEnum.InfixExpression, VisitorEnum.QualifiedName, VisitorEnum.NumberLiteral,
+			VisitorEnum.IfStatement, VisitorEnum.ForStatement, VisitorEnum.EnhancedForStatement, VisitorEnum.WhileStatement,
+			VisitorEnum.ClassInstanceCreation, VisitorEnum.Assignment, VisitorEnum.PrefixExpression, VisitorEnum.ReturnStatement,
+			VisitorEnum.VariableDeclarationStatement, VisitorEnum.MethodDeclaration, VisitorEnum.FieldDeclaration, VisitorEnum.CastExpression,
+			VisitorEnum.ConditionalExpression, VisitorEnum.SwitchStatement, VisitorEnum.TryStatement, VisitorEnum.Block
+	};
+
+	private static List<CompilationUnit> fgUnits;
+
+	private static class NodeCounter extends ASTVisitor {
+		private final int fNodeType;
+		int fCount;
+
+		NodeCounter(VisitorEnum nodeType) {
+			fNodeType= nodeType.getValue();
+		}
+
+		@Override
+		public boolean preVisit2(ASTNode node) {
+			if (node.getNodeType() == fNodeType)
+				fCount++;
+			return true;
+		}
+	}
+
+	@FunctionalInterface
+	private interface ITraversal {
+		void run(CompilationUnit unit, NodeCounter[] counters);
+	}
+
+	@Before
+	public void parseSources() throws IOException {
+		if (fgUnits == null) {
+			fgUnits= parseJdkSources();
+		}
+		Assume.assumeFalse("No JDK sources found", fgUnits.isEmpty());
+	}
+
+	@Test
+	public void testSeparateTraversals() throws Exception {
+		measure((unit, counters) -> {
+			for (NodeCounter counter : counters) {
+				unit.accept(counter);
+			}
+		});
+	}
+
+	@Test
+	public void testFusedTraversal() throws Exception {
+		measure((unit, counters) -> {
+			FusedASTVisitor traversal= new FusedASTVisitor();
+			for (NodeCounter counter : counters) {
+				traversal.add(counter, EnumSet.of(VisitorEnum.fromNodetype(counter.fNodeType)));
+			}
+			unit.accept(traversal);
+		});
+	}
+
+	private void measure(ITraversal traversal) throws Exception {
+		int expected= countMatches();
+		// warm up
+		for (int i= 0; i < 2; i++) {
+			assertEquals(expected, run(traversal, createCounters()));
+		}
+
+		AllocationMeter allocationMeter= new AllocationMeter(getClass().getSimpleName() + "#" + tn.getMethodName());
+		for (int i= 0; i < SAMPLE_COUNT; i++) {
+			NodeCounter[] counters= createCounters();
+			joinBackgroudActivities();
+			fPerformanceMeter.start();
+			allocationMeter.start();
+			run(traversal, counters);
+			allocationMeter.stop();
+			fPerformanceMeter.stop();
+		}
+		allocationMeter.report();
+
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	/*
+	 * Returns the number of nodes matched by all counters.
+	 */
+	private static int run(ITraversal traversal, NodeCounter[] counters) {
+		for (CompilationUnit unit : fgUnits) {
+			traversal.run(unit, counters);
+		}
+		int count= 0;
+		for (NodeCounter counter : counters) {
+			count+= counter.fCount;
+		}
+		return count;
+	}
+
+	private static int countMatches() {
+		int count= 0;
+		for (int i= 0; i < VISITOR_COUNT; i++) {
+			NodeCounter counter= new NodeCounter(NODE_TYPES[i % NODE_TYPES.length]);
+			for (CompilationUnit unit : fgUnits) {
+				unit.accept(counter);
+			}
+			count+= counter.fCount;
+		}
+		return count;
+	}
+
+	private static NodeCounter[] createCounters() {
+		NodeCounter[] counters= new NodeCounter[VISITOR_COUNT];
+		for (int i= 0; i < VISITOR_COUNT; i++) {
+			counters[i]= new NodeCounter(NODE_TYPES[i % NODE_TYPES.length]);
+		}
+		return counters;
+	}
+
+	private static List<CompilationUnit> parseJdkSources() throws IOException {
+		List<CompilationUnit> units= new ArrayList<>();
+		File sources= new File(System.getProperty("java.home"), "lib/src.zip");
+		if (!sources.isFile())
+			return units;
+
+		Map<String, String> options= JavaCore.getOptions();
+		JavaCore.setComplianceOptions(JavaCore.latestSupportedJavaVersion(), options);
+		try (ZipFile zip= new ZipFile(sources)) {
+			for (ZipEntry entry : Collections.list(zip.entries())) {
+				String name= entry.getName();
+				if ((name.startsWith("java.base/java/util/") || name.startsWith("java/util/")) && name.endsWith(".java")) {
+					try (InputStream in= zip.getInputStream(entry)) {
+						ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+						parser.setCompilerOptions(options);
+						parser.setSource(new String(in.readAllBytes(), StandardCharsets.UTF_8).toCharArray());
+						units.add((CompilationUnit) parser.createAST(null));
+					}
+				}
+			}
+		}
+		return units;
+	}
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Modifier;
+
+import org.eclipse.jdt.internal.corext.codemanipulation.AddGetterSetterOperation;
+import org.eclipse.jdt.internal.corext.codemanipulation.CodeGenerationSettings;
+import org.eclipse.jdt.internal.corext.codemanipulation.IRequestQuery;
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+import org.eclipse.jdt.internal.ui.preferences.JavaPreferencesSettings;
+
+/**
+ * Measures Generate Getters and Setters with comments for a type with many fields. The edit is
+ * computed but not applied, so the code templates are evaluated twice per field in each run.
+ */
+public class GenerateGettersSettersPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int FIELD_COUNT= 1000;
+
+	private static class MyTestSetup extends ExternalResource {
+		public static final String SRC_CONTAINER= "src";
+
+		public static IJavaProject fJProject1;
+		public static ICompilationUnit fCompilationUnit;
+
+		@Override
+		public void before() throws Throwable {
+			fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+			assertNotNull("rt not found", JavaProjectHelper.addRTJar(fJProject1));
+			IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject1, SRC_CONTAINER);
+			IPackageFragment pack= root.createPackageFragment("test", false, null);
+			fCompilationUnit= pack.createCompilationUnit("E.java", createSource(), false, null);
+		}
+
+		@Override
+		public void after() {
+			try {
+				if (fJProject1 != null && fJProject1.exists())
+					JavaProjectHelper.delete(fJProject1);
+			} catch (CoreException e) {
+				e.printStackTrace();
+			}
+		}
+
+		private static String createSource() {
+			StringBuilder buf= new StringBuilder();
+			buf.append("package test;\n");
+			buf.append("public class E {\n");
+			for (int i= 0; i < FIELD_COUNT; i++) {
+				buf.append("    private ").append(i % 2 == 0 ? "int" : "String").append(" field").append(i).append(";\n");
+			}
+			buf.append("}\n");
+			return buf.toString();
+		}
+	}
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	@Test
+	public void testGenerateGettersAndSetters() throws Exception {
+		IType type= MyTestSetup.fCompilationUnit.getTypes()[0];
+		IField[] fields= type.getFields();
+		assertEquals(FIELD_COUNT, fields.length);
+		CompilationUnit astRoot= new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL).parse(MyTestSetup.fCompilationUnit, true);
+		CodeGenerationSettings settings= JavaPreferencesSettings.getCodeGenerationSettings(MyTestSetup.fJProject1);
+		settings.createComments= true;
+
+		generate(type, fields, astRoot, settings, Performance.getDefault().getNullPerformanceMeter());
+		generate(type, fields, astRoot, settings, Performance.getDefault().getNullPerformanceMeter());
+		for (int i= 0; i < 10; i++) {
+			generate(type, fields, astRoot, settings, fPerformanceMeter);
+		}
+
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	private void generate(IType type, IField[] fields, CompilationUnit astRoot, CodeGenerationSettings settings, PerformanceMeter performanceMeter) throws Exception {
+		joinBackgroudActivities();
+
+		IRequestQuery allYes= member -> IRequestQuery.YES_ALL;
+		AddGetterSetterOperation op= new AddGetterSetterOperation(type, new IField[0], new IField[0], fields, astRoot, allYes, null, settings, false, false);
+		op.setVisibility(Modifier.PUBLIC);
+		performanceMeter.start();
+		op.run(new NullProgressMonitor());
+		performanceMeter.stop();
+		assertTrue(op.getResultingEdit().hasChildren());
+	}
+}
@@ -0,0 +1,243 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
+
+import org.eclipse.jdt.ui.text.java.IInvocationContext;
+import org.eclipse.jdt.ui.text.java.IJavaCompletionProposal;
+import org.eclipse.jdt.ui.text.java.IProblemLocation;
+import org.eclipse.jdt.ui.text.java.IQuickAssistProcessor;
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+import org.eclipse.jdt.internal.ui.text.correction.AdvancedQuickAssistProcessor;
+import org.eclipse.jdt.internal.ui.text.correction.AssistContext;
+import org.eclipse.jdt.internal.ui.text.correction.JavaCorrectionProcessor;
+import org.eclipse.jdt.internal.ui.text.correction.QuickAssistProcessor;
+
+/**
+ * Measures the latency of Ctrl+1 (quick assist computation) and of the light bulb applicability
+ * check on a generated compilation unit with a huge method.
+ */
+public class QuickAssistPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int BLOCK_COUNT= 400;
+
+	private static class MyTestSetup extends ExternalResource {
+		public static final String SRC_CONTAINER= "src";
+
+		public static IJavaProject fJProject1;
+		public static ICompilationUnit fCompilationUnit;
+
+		@Override
+		public void before() throws Throwable {
+			fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+			assertNotNull("rt not found", JavaProjectHelper.addRTJar(fJProject1));
+			IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject1, SRC_CONTAINER);
+			IPackageFragment pack= root.createPackageFragment("test", false, null);
+			fCompilationUnit= pack.createCompilationUnit("E.java", createSource(), false, null);
+		}
+
+		@Override
+		public void after() {
+			try {
+				if (fJProject1 != null && fJProject1.exists())
+					JavaProjectHelper.delete(fJProject1);
+			} catch (CoreException e) {
+				e.printStackTrace();
+			}
+		}
+
+		private static String createSource() {
+			StringBuilder buf= new StringBuilder();
+			buf.append("package test;\n");
+			buf.append("public class E {\n");
+			buf.append("    public int foo(int a, Object o) {\n");
+			buf.append("        int r= 0;\n");
+			for (int i= 0; i < BLOCK_COUNT; i++) {
+				buf.append("        if (a > ").append(i).append(") {\n");
+				buf.append("            r++;\n");
+				buf.append("        } else {\n");
+				buf.append("            r--;\n");
+				buf.append("        }\n");
+				buf.append("        try {\n");
+				buf.append("            r+= o.hashCode();\n");
+				buf.append("        } catch (IllegalStateException | IllegalArgumentException e) {\n");
+				buf.append("            r= 0;\n");
+				buf.append("        }\n");
+				buf.append("        r= a == ").append(i).append(" ? r : -r;\n");
+			}
+			buf.append("        return r;\n");
+			buf.append("    }\n");
+			buf.append("}\n");
+			return buf.toString();
+		}
+	}
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	@Test
+	public void testQuickAssistProcessor() throws Exception {
+		measureGetAssists(new QuickAssistProcessor());
+	}
+
+	@Test
+	public void testAdvancedQuickAssistProcessor() throws Exception {
+		measureGetAssists(new AdvancedQuickAssistProcessor());
+	}
+
+	@Test
+	public void testAllQuickAssists() throws Exception {
+		CompilationUnit astRoot= getAST();
+		int[] offsets= getOffsets();
+
+		collectAllAssists(astRoot, offsets, Performance.getDefault().getNullPerformanceMeter());
+		collectAllAssists(astRoot, offsets, Performance.getDefault().getNullPerformanceMeter());
+		for (int i= 0; i < 10; i++) {
+			collectAllAssists(astRoot, offsets, fPerformanceMeter);
+		}
+
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	@Test
+	public void testHasAssists() throws Exception {
+		CompilationUnit astRoot= getAST();
+		int[] offsets= getOffsets();
+
+		hasAssists(astRoot, offsets, Performance.getDefault().getNullPerformanceMeter());
+		hasAssists(astRoot, offsets, Performance.getDefault().getNullPerformanceMeter());
+		for (int i= 0; i < 10; i++) {
+			hasAssists(astRoot, offsets, fPerformanceMeter);
+		}
+
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	private void measureGetAssists(IQuickAssistProcessor processor) throws Exception {
+		CompilationUnit astRoot= getAST();
+		int[] offsets= getOffsets();
+
+		getAssists(processor, astRoot, offsets, Performance.getDefault().getNullPerformanceMeter());
+		getAssists(processor, astRoot, offsets, Performance.getDefault().getNullPerformanceMeter());
+		for (int i= 0; i < 10; i++) {
+			getAssists(processor, astRoot, offsets, fPerformanceMeter);
+		}
+
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	private void getAssists(IQuickAssistProcessor processor, CompilationUnit astRoot, int[] offsets, PerformanceMeter performanceMeter) throws Exception {
+		IInvocationContext[] contexts= createContexts(astRoot, offsets);
+		joinBackgroudActivities();
+
+		int count= 0;
+		performanceMeter.start();
+		for (IInvocationContext context : contexts) {
+			IJavaCompletionProposal[] proposals= processor.getAssists(context, new IProblemLocation[0]);
+			if (proposals != null)
+				count+= proposals.length;
+		}
+		performanceMeter.stop();
+		assertTrue(count > 0);
+	}
+
+	private void collectAllAssists(CompilationUnit astRoot, int[] offsets, PerformanceMeter performanceMeter) throws Exception {
+		IInvocationContext[] contexts= createContexts(astRoot, offsets);
+		joinBackgroudActivities();
+
+		List<IJavaCompletionProposal> proposals= new ArrayList<>();
+		performanceMeter.start();
+		for (IInvocationContext context : contexts) {
+			JavaCorrectionProcessor.collectAssists(context, new IProblemLocation[0], proposals);
+		}
+		performanceMeter.stop();
+		assertTrue(proposals.size() > 0);
+	}
+
+	private void hasAssists(CompilationUnit astRoot, int[] offsets, PerformanceMeter performanceMeter) throws Exception {
+		IInvocationContext[] contexts= createContexts(astRoot, offsets);
+		joinBackgroudActivities();
+
+		boolean hasAssists= false;
+		performanceMeter.start();
+		for (IInvocationContext context : contexts) {
+			hasAssists|= JavaCorrectionProcessor.hasAssists(context);
+		}
+		performanceMeter.stop();
+		assertTrue(hasAssists);
+	}
+
+	private static CompilationUnit getAST() {
+		CompilationUnit astRoot= SharedASTProviderCore.getAST(MyTestSetup.fCompilationUnit, SharedASTProviderCore.WAIT_YES, new NullProgressMonitor());
+		assertNotNull(astRoot);
+		return astRoot;
+	}
+
+	private static IInvocationContext[] createContexts(CompilationUnit astRoot, int[] offsets) {
+		IInvocationContext[] contexts= new IInvocationContext[offsets.length];
+		for (int i= 0; i < offsets.length; i++) {
+			AssistContext context= new AssistContext(MyTestSetup.fCompilationUnit, offsets[i], 0);
+			context.setASTRoot(astRoot);
+			contexts[i]= context;
+		}
+		return contexts;
+	}
+
+	/*
+	 * Offsets of the if statements, catch clauses and conditional expressions
+	 */
+	private static int[] getOffsets() throws Exception {
+		String source= MyTestSetup.fCompilationUnit.getSource();
+		List<Integer> offsets= new ArrayList<>();
+		for (String pattern : new String[] { "if (a", "catch (", " ? " }) {
+			int index= source.indexOf(pattern);
+			while (index != -1) {
+				offsets.add(Integer.valueOf(index + 1));
+				index= source.indexOf(pattern, index + 1);
+			}
+		}
+		int[] result= new int[offsets.size()];
+		for (int i= 0; i < result.length; i++) {
+			result[i]= offsets.get(i).intValue();
+		}
+		return result;
+	}
+}
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.compiler.IProblem;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
+
+import org.eclipse.jdt.ui.text.java.IJavaCompletionProposal;
+import org.eclipse.jdt.ui.text.java.IProblemLocation;
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+import org.eclipse.jdt.internal.ui.text.correction.AssistContext;
+import org.eclipse.jdt.internal.ui.text.correction.JavaCorrectionProcessor;
+import org.eclipse.jdt.internal.ui.text.correction.ProblemLocation;
+
+/**
+ * Measures the computation of the quick fixes for unresolved variables and methods. Most of these
+ * quick fixes analyze the scope of the problem, so the scope analysis dominates the measurement.
+ */
+public class QuickFixPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int FIELD_COUNT= 50;
+
+	private static final int METHOD_COUNT= 40;
+
+	private static class MyTestSetup extends ExternalResource {
+		public static final String SRC_CONTAINER= "src";
+
+		public static IJavaProject fJProject1;
+		public static ICompilationUnit fCompilationUnit;
+
+		@Override
+		public void before() throws Throwable {
+			fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+			assertNotNull("rt not found", JavaProjectHelper.addRTJar(fJProject1));
+			IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject1, SRC_CONTAINER);
+			IPackageFragment pack= root.createPackageFragment("test", false, null);
+			fCompilationUnit= pack.createCompilationUnit("E.java", createSource(), false, null);
+		}
+
+		@Override
+		public void after() {
+			try {
+				if (fJProject1 != null && fJProject1.exists())
+					JavaProjectHelper.delete(fJProject1);
+			} catch (CoreException e) {
+				e.printStackTrace();
+			}
+		}
+
+		/*
+		 * A type with a deep super type hierarchy and many fields, and methods that reference
+		 * misspelled locals, fields and methods.
+		 */
+		private static String createSource() {
+			StringBuilder buf= new StringBuilder();
+			buf.append("package test;\n");
+			buf.append("import java.util.ArrayList;\n");
+			buf.append("public class E extends ArrayList<String> implements Runnable {\n");
+			for (int i= 0; i < FIELD_COUNT; i++) {
+				buf.append("    private int fValue").append(i).append(";\n");
+			}
+			buf.append("    public void run() {\n");
+			buf.append("    }\n");
+			for (int i= 0; i < METHOD_COUNT; i++) {
+				buf.append("    public int foo").append(i).append("(int count, String name) {\n");
+				buf.append("        int total= count;\n");
+				buf.append("        for (int k= 0; k < count; k++) {\n");
+				buf.append("            total+= fValu").append(i % FIELD_COUNT).append(" + totl;\n");
+				buf.append("        }\n");
+				buf.append("        nme.length();\n");
+				buf.append("        return total + sizee();\n");
+				buf.append("    }\n");
+			}
+			buf.append("}\n");
+			return buf.toString();
+		}
+	}
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	@Test
+	public void testUnresolvedElementsQuickFixes() throws Exception {
+		CompilationUnit astRoot= SharedASTProviderCore.getAST(MyTestSetup.fCompilationUnit, SharedASTProviderCore.WAIT_YES, new NullProgressMonitor());
+		assertNotNull(astRoot);
+		IProblem[] problems= astRoot.getProblems();
+		assertTrue(problems.length >= METHOD_COUNT * 4);
+
+		collectCorrections(astRoot, problems, Performance.getDefault().getNullPerformanceMeter());
+		collectCorrections(astRoot, problems, Performance.getDefault().getNullPerformanceMeter());
+		for (int i= 0; i < 10; i++) {
+			collectCorrections(astRoot, problems, fPerformanceMeter);
+		}
+
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	private void collectCorrections(CompilationUnit astRoot, IProblem[] problems, PerformanceMeter performanceMeter) throws Exception {
+		joinBackgroudActivities();
+
+		List<IJavaCompletionProposal> proposals= new ArrayList<>();
+		performanceMeter.start();
+		for (IProblem problem : problems) {
+			ProblemLocation location= new ProblemLocation(problem);
+			AssistContext context= new AssistContext(MyTestSetup.fCompilationUnit, location.getOffset(), location.getLength());
+			context.setASTRoot(astRoot);
+			JavaCorrectionProcessor.collectCorrections(context, new IProblemLocation[] { location }, proposals);
+		}
+		performanceMeter.stop();
+		assertTrue(proposals.size() > 0);
+	}
+}
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+
+import org.eclipse.jdt.internal.corext.dom.GenericVisitor;
+
+public class FusedASTVisitorTest {
+
+	private static CompilationUnit fgUnit;
+
+	private static class Tracer extends GenericVisitor {
+		final List<String> fTrace= new ArrayList<>();
+		private final int fPrunedNodeType;
+
+		Tracer(int prunedNodeType) {
+			super(true);
+			fPrunedNodeType= prunedNodeType;
+		}
+
+		@Override
+		protected boolean visitNode(ASTNode node) {
+			fTrace.add("visit " + ASTNode.nodeClassForType(node.getNodeType()).getSimpleName() + " " + node.getStartPosition());
+			return node.getNodeType() != fPrunedNodeType;
+		}
+
+		@Override
+		protected void endVisitNode(ASTNode node) {
+			fTrace.add("end " + ASTNode.nodeClassForType(node.getNodeType()).getSimpleName() + " " + node.getStartPosition());
+		}
+
+		@Override
+		public void postVisit(ASTNode node) {
+			fTrace.add("post " + node.getStartPosition());
+		}
+	}
+
+	@BeforeAll
+	public static void init() {
+		String code= """
+				package test;
+				import java.util.List;
+
+				/**
+				 * Comment with {@link List}.
+				 */
+				public class E {
+					private int count= 1;
+
+					public void foo(List<String> list, Object o) {
+						for (String s : list) {
+							if (s.isEmpty()) {
+								System.out.println(s.length() + count);
+							}
+						}
+						if (o instanceof String s && !s.isEmpty()) {
+							list.add(s);
+						}
+						Runnable r= () -> list.clear();
+						r.run();
+					}
+
+					int bar(int i) {
+						return switch (i) {
+							case 1 -> count;
+							default -> {
+								yield Math.max(i, count);
+							}
+						};
+					}
+				}
+				""";
+		ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+		Map<String, String> options= JavaCore.getOptions();
+		JavaCore.setComplianceOptions(JavaCore.latestSupportedJavaVersion(), options);
+		parser.setCompilerOptions(options);
+		parser.setSource(code.toCharArray());
+		fgUnit= (CompilationUnit) parser.createAST(null);
+	}
+
+	@Test
+	public void sameTraceAsSeparateTraversals() {
+		int[] prunedNodeTypes= { -1, ASTNode.METHOD_DECLARATION, ASTNode.IF_STATEMENT, ASTNode.BLOCK, ASTNode.JAVADOC, ASTNode.INSTANCEOF_EXPRESSION };
+		FusedASTVisitor fused= new FusedASTVisitor();
+		List<Tracer> fusedTracers= new ArrayList<>();
+		for (int prunedNodeType : prunedNodeTypes) {
+			Tracer tracer= new Tracer(prunedNodeType);
+			fusedTracers.add(tracer);
+			fused.add(tracer);
+		}
+		fgUnit.accept(fused);
+
+		for (int i= 0; i < prunedNodeTypes.length; i++) {
+			Tracer tracer= new Tracer(prunedNodeTypes[i]);
+			fgUnit.accept(tracer);
+			assertEquals(tracer.fTrace, fusedTracers.get(i).fTrace);
+			assertNull(fused.getFailure(fusedTracers.get(i)));
+		}
+	}
+
+	@Test
+	public void nodeTypeInterests() {
+		Tracer all= new Tracer(-1);
+		fgUnit.accept(all);
+		List<String> expected= new ArrayList<>();
+		for (String entry : all.fTrace) {
+			if (entry.startsWith("visit MethodInvocation") || entry.startsWith("end MethodInvocation"))
+				expected.add(entry);
+		}
+
+		Tracer invocations= new Tracer(-1) {
+			@Override
+			public void postVisit(ASTNode node) {
+				// only trace the typed visits
+			}
+		};
+		FusedASTVisitor fused= new FusedASTVisitor();
+		fused.add(new Tracer(ASTNode.METHOD_DECLARATION));
+		fused.add(invocations, EnumSet.of(VisitorEnum.MethodInvocation));
+		fgUnit.accept(fused);
+
+		assertEquals(expected, invocations.fTrace);
+	}
+
+	@Test
+	public void failingParticipant() {
+		RuntimeException failure= new IllegalStateException();
+		Tracer failing= new Tracer(-1) {
+			@Override
+			public boolean visit(MethodInvocation node) {
+				throw failure;
+			}
+		};
+		FusedASTVisitor fused= new FusedASTVisitor();
+		Tracer before= new Tracer(-1);
+		Tracer after= new Tracer(ASTNode.BLOCK);
+		fused.add(before);
+		fused.add(failing);
+		fused.add(after);
+		fgUnit.accept(fused);
+
+		assertSame(failure, fused.getFailure(failing));
+		Tracer expectedBefore= new Tracer(-1);
+		fgUnit.accept(expectedBefore);
+		assertEquals(expectedBefore.fTrace, before.fTrace);
+		Tracer expectedAfter= new Tracer(ASTNode.BLOCK);
+		fgUnit.accept(expectedAfter);
+		assertEquals(expectedAfter.fTrace, after.fTrace);
+	}
+}
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.internal.junit.launcher.AffectedTestsIndex;
+
+public class AffectedTestsIndexTest {
+	private IJavaProject fProject;
+	private IPackageFragment fPackage;
+	private AffectedTestsIndex fIndex;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject("TestProject", "bin");
+		JavaProjectHelper.addRTJar(fProject);
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fProject, "src");
+		fPackage= root.createPackageFragment("p", true, null);
+		fIndex= new AffectedTestsIndex();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fIndex.dispose();
+		JavaProjectHelper.delete(fProject);
+	}
+
+	@Test
+	public void testAffectedTests() throws Exception {
+		createType("A", "public int a() { return 1; }");
+		createType("B", "public int b() { return new A().a(); }");
+		createType("C", "public int c() { return 3; }");
+		IType bTest= createType("BTest", "public void testB() { new B().b(); }");
+		IType cTest= createType("CTest", "public void testC() { new C().c(); }");
+		IType[] tests= { bTest, cTest };
+
+		assertNull(launch("launch", tests));
+		assertArrayEquals(new IType[0], launch("launch", tests));
+
+		createType("A", "public int a() { return 2; }");
+		assertArrayEquals(new IType[] { bTest }, launch("launch", tests));
+
+		createType("C", "public int c() { return 4; }");
+		createType("BTest", "public void testB() { new B().b(); } public void testB2() { }");
+		assertArrayEquals(new IType[] { bTest, cTest }, launch("launch", tests));
+		assertArrayEquals(new IType[0], launch("launch", tests));
+	}
+
+	@Test
+	public void testQueryWithoutCompletedLaunch() throws Exception {
+		createType("A", "public int a() { return 1; }");
+		IType aTest= createType("ATest", "public void testA() { new A().a(); }");
+		IType[] tests= { aTest };
+
+		long stamp= fIndex.getStamp();
+		assertNull(fIndex.getAffectedTests("launch", tests, null));
+		assertNull(fIndex.getAffectedTests("launch", tests, null));
+		fIndex.launchCompleted("launch", stamp);
+
+		// a launch that did not complete, e.g. because it was stopped, does not consume the changes
+		createType("A", "public int a() { return 2; }");
+		stamp= fIndex.getStamp();
+		assertArrayEquals(new IType[] { aTest }, fIndex.getAffectedTests("launch", tests, null));
+		assertArrayEquals(new IType[] { aTest }, fIndex.getAffectedTests("launch", tests, null));
+
+		// changes during the test run are reported for the next launch
+		createType("A", "public int a() { return 3; }");
+		fIndex.launchCompleted("launch", stamp);
+		assertArrayEquals(new IType[] { aTest }, launch("launch", tests));
+		assertArrayEquals(new IType[0], launch("launch", tests));
+	}
+
+	@Test
+	public void testSeveralLaunches() throws Exception {
+		createType("A", "public int a() { return 1; }");
+		createType("B", "public int b() { return 1; }");
+		IType aTest= createType("ATest", "public void testA() { new A().a(); }");
+		IType bTest= createType("BTest", "public void testB() { new B().b(); }");
+		IType[] tests= { aTest, bTest };
+
+		assertNull(launch("first", tests));
+		assertNull(launch("second", tests));
+
+		createType("A", "public int a() { return 2; }");
+		assertArrayEquals(new IType[] { aTest }, launch("first", tests));
+		createType("B", "public int b() { return 2; }");
+		assertArrayEquals(new IType[] { bTest }, launch("first", tests));
+
+		// the changes seen by the first launch are kept for the second launch
+		assertArrayEquals(new IType[] { aTest, bTest }, launch("second", tests));
+		assertArrayEquals(new IType[0], launch("first", tests));
+		assertArrayEquals(new IType[0], launch("second", tests));
+	}
+
+	@Test
+	public void testClasspathChange() throws Exception {
+		IType aTest= createType("ATest", "public void testA() { }");
+		IType[] tests= { aTest };
+
+		assertNull(launch("launch", tests));
+		long stamp= fIndex.getStamp();
+		JavaProjectHelper.addSourceContainer(fProject, "src2");
+		assertNull(fIndex.getAffectedTests("launch", tests, null));
+		// a launch that started before the classpath change runs all tests again
+		fIndex.launchCompleted("launch", stamp);
+		assertNull(launch("launch", tests));
+		assertArrayEquals(new IType[0], launch("launch", tests));
+	}
+
+	private IType[] launch(String launchName, IType[] tests) throws Exception {
+		long stamp= fIndex.getStamp();
+		IType[] affected= fIndex.getAffectedTests(launchName, tests, null);
+		fIndex.launchCompleted(launchName, stamp);
+		return affected;
+	}
+
+	private IType createType(String name, String body) throws Exception {
+		String source= "package p;\npublic class " + name + " {\n\t" + body + "\n}\n";
+		return fPackage.createCompilationUnit(name + ".java", source, true, null).getType(name);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2021 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -43,6 +43,9 @@ JUnitTestFinderTest.class,
 JUnit4TestFinderTest16.class,
 JUnit5TestFinderJupiterTest.class,
 
+TestShardBalancerTest.class,
+TestRunSessionShardTest.class,
+AffectedTestsIndexTest.class,
 TestSorting.class
 //LegacyTestRunListenerTest.class
 })
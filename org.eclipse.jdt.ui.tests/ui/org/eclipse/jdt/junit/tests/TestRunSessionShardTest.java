@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.junit.model.ITestElement;
+
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.model.ITestRunListener2;
+import org.eclipse.jdt.internal.junit.model.ITestSessionListener;
+import org.eclipse.jdt.internal.junit.model.TestCaseElement;
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
+
+/**
+ * Tests a {@link TestRunSession} that merges the events of several runtime VMs.
+ */
+public class TestRunSessionShardTest {
+
+	private static class SessionEvents implements ITestSessionListener {
+		int fStarted;
+		int fEnded;
+		int fStopped;
+		int fTerminated;
+
+		@Override
+		public void sessionStarted() {
+			fStarted++;
+		}
+
+		@Override
+		public void sessionEnded(long elapsedTime) {
+			fEnded++;
+		}
+
+		@Override
+		public void sessionStopped(long elapsedTime) {
+			fStopped++;
+		}
+
+		@Override
+		public void sessionTerminated() {
+			fTerminated++;
+		}
+
+		@Override
+		public void testAdded(TestElement testElement) {
+		}
+
+		@Override
+		public void runningBegins() {
+		}
+
+		@Override
+		public void testStarted(TestCaseElement testCaseElement) {
+		}
+
+		@Override
+		public void testEnded(TestCaseElement testCaseElement) {
+		}
+
+		@Override
+		public void testFailed(TestElement testElement, Status status, String trace, String expected, String actual) {
+		}
+
+		@Override
+		public void testReran(TestCaseElement testCaseElement, Status status, String trace, String expectedResult, String actualResult) {
+		}
+
+		@Override
+		public boolean acceptsSwapToDisk() {
+			return false;
+		}
+	}
+
+	private TestRunSession fSession;
+
+	private SessionEvents fEvents;
+
+	private ITestRunListener2 fShard0;
+
+	private ITestRunListener2 fShard1;
+
+	@Before
+	public void setUp() {
+		fSession= new TestRunSession("shards", null, 2);
+		fEvents= new SessionEvents();
+		fSession.addTestSessionListener(fEvents);
+		fShard0= fSession.getShardListener(0);
+		fShard1= fSession.getShardListener(1);
+	}
+
+	@Test
+	public void testMergedTree() {
+		fShard0.testRunStarted(2);
+		fShard1.testRunStarted(1);
+		assertEquals(1, fEvents.fStarted);
+
+		// both runners use the same test ids, and their suites are open at the same time
+		fShard0.testTreeEntry("1,p.ATest,true,2");
+		fShard1.testTreeEntry("1,p.BTest,true,1");
+		fShard0.testTreeEntry("2,testA1(p.ATest),false,1");
+		fShard1.testTreeEntry("2,testB1(p.BTest),false,1");
+		fShard0.testTreeEntry("3,testA2(p.ATest),false,1");
+
+		fShard0.testStarted("2", "testA1(p.ATest)");
+		fShard1.testStarted("2", "testB1(p.BTest)");
+		fShard1.testFailed(ITestRunListener2.STATUS_FAILURE, "2", "testB1(p.BTest)", "trace", null, null);
+		fShard0.testEnded("2", "testA1(p.ATest)");
+		fShard1.testEnded("2", "testB1(p.BTest)");
+		fShard0.testStarted("3", "testA2(p.ATest)");
+		fShard0.testEnded("3", "testA2(p.ATest)");
+
+		fShard1.testRunEnded(10);
+		assertEquals(0, fEvents.fEnded);
+		assertTrue(fSession.isRunning());
+
+		fShard0.testRunEnded(20);
+		assertEquals(1, fEvents.fEnded);
+		assertEquals(0, fEvents.fStopped);
+		assertEquals(0, fEvents.fTerminated);
+		assertFalse(fSession.isRunning());
+		assertFalse(fSession.isStopped());
+
+		ITestElement[] suites= fSession.getTestRoot().getChildren();
+		assertEquals(2, suites.length);
+		assertSuite(suites[0], "0:1", "p.ATest", "0:2", "0:3");
+		assertSuite(suites[1], "1:1", "p.BTest", "1:2");
+		assertEquals(Status.FAILURE, fSession.getTestElement("1:2").getStatus());
+		assertEquals(Status.OK, fSession.getTestElement("0:3").getStatus());
+
+		assertEquals(3, fSession.getTotalCount());
+		assertEquals(3, fSession.getStartedCount());
+		assertEquals(1, fSession.getFailureCount());
+		assertEquals(0, fSession.getErrorCount());
+		assertEquals(2, fSession.getShardTotalCount(0));
+		assertEquals(2, fSession.getShardStartedCount(0));
+		assertEquals(1, fSession.getShardTotalCount(1));
+		assertEquals(1, fSession.getShardStartedCount(1));
+
+		Map<String, Double> durations= JUnitCorePlugin.getModel().getTestClassDurations();
+		assertTrue(durations.containsKey("p.ATest"));
+		assertTrue(durations.containsKey("p.BTest"));
+	}
+
+	@Test
+	public void testStoppedShard() {
+		fShard0.testRunStarted(1);
+		fShard1.testRunStarted(1);
+
+		fShard0.testRunStopped(5);
+		assertEquals(0, fEvents.fStopped);
+		assertTrue(fSession.isRunning());
+
+		fShard1.testRunEnded(5);
+		assertEquals(1, fEvents.fStopped);
+		assertEquals(0, fEvents.fEnded);
+		assertFalse(fSession.isRunning());
+		assertTrue(fSession.isStopped());
+	}
+
+	@Test
+	public void testTerminatedShard() {
+		fShard0.testRunStarted(1);
+		fShard1.testRunStarted(1);
+
+		fShard0.testRunEnded(5);
+		assertEquals(0, fEvents.fEnded);
+
+		fShard1.testRunTerminated();
+		assertEquals(1, fEvents.fTerminated);
+		assertEquals(0, fEvents.fEnded);
+		assertEquals(0, fEvents.fStopped);
+		assertFalse(fSession.isRunning());
+		assertTrue(fSession.isStopped());
+	}
+
+	private static void assertSuite(ITestElement element, String id, String className, String... testIds) {
+		TestSuiteElement suite= (TestSuiteElement) element;
+		assertEquals(id, suite.getId());
+		assertEquals(className, suite.getClassName());
+		ITestElement[] children= suite.getChildren();
+		assertEquals(testIds.length, children.length);
+		for (int i= 0; i < testIds.length; i++) {
+			assertEquals(testIds[i], ((TestElement) children[i]).getId());
+		}
+	}
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.junit.launcher.TestShardBalancer;
+
+public class TestShardBalancerTest {
+
+	@Test
+	public void testBalancedByDurations() {
+		List<String> tests= Arrays.asList("p.A", "p.B", "p.C", "p.D", "p.E");
+		Map<String, Double> durations= new HashMap<>();
+		durations.put("p.A", Double.valueOf(1));
+		durations.put("p.B", Double.valueOf(8));
+		durations.put("p.C", Double.valueOf(3));
+		durations.put("p.D", Double.valueOf(4));
+		durations.put("p.E", Double.valueOf(2));
+
+		List<List<String>> shards= TestShardBalancer.split(tests, Function.identity(), 2, durations);
+		assertEquals(2, shards.size());
+		assertEquals(Arrays.asList("p.A", "p.B"), shards.get(0));
+		assertEquals(Arrays.asList("p.C", "p.D", "p.E"), shards.get(1));
+	}
+
+	@Test
+	public void testUnknownDurations() {
+		List<String> tests= Arrays.asList("p.A", "p.B", "p.C", "p.D");
+
+		List<List<String>> shards= TestShardBalancer.split(tests, Function.identity(), 2, Collections.emptyMap());
+		assertEquals(Arrays.asList("p.A", "p.C"), shards.get(0));
+		assertEquals(Arrays.asList("p.B", "p.D"), shards.get(1));
+	}
+
+	@Test
+	public void testMoreShardsThanTests() {
+		List<String> tests= Arrays.asList("p.A", "p.B");
+
+		List<List<String>> shards= TestShardBalancer.split(tests, Function.identity(), 4, Collections.emptyMap());
+		assertEquals(2, shards.size());
+		assertEquals(Arrays.asList("p.A"), shards.get(0));
+		assertEquals(Arrays.asList("p.B"), shards.get(1));
+	}
+}
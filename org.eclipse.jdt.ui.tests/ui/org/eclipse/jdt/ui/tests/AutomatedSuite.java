@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import org.eclipse.jdt.testplugin.TestOptions;
 
 import org.eclipse.jdt.core.JavaCore;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitorTest;
 import org.eclipse.jdt.internal.common.VisitorTest;
 
 import org.eclipse.jdt.ui.tests.browsing.PackagesViewContentProviderTests;
@@ -42,6 +43,8 @@ import org.eclipse.jdt.ui.tests.packageview.PackageExplorerTests;
 import org.eclipse.jdt.ui.tests.quickfix.QuickFixTestSuite;
 import org.eclipse.jdt.ui.tests.refactoring.RefactoringTests;
 import org.eclipse.jdt.ui.tests.search.SearchTest;
+import org.eclipse.jdt.ui.tests.views.BulkBytecodeCompareTest;
+import org.eclipse.jdt.ui.tests.views.BytecodeOutlineDecompileTest;
 import org.eclipse.jdt.ui.tests.views.SmokeViewsTest;
 import org.eclipse.jdt.ui.tests.wizardapi.ImporterTest;
 import org.eclipse.jdt.ui.tests.wizardapi.NewJavaProjectWizardTest;
@@ -56,6 +59,7 @@ import org.eclipse.jdt.internal.ui.JavaPlugin;
 @Suite
 @SelectClasses({
 	VisitorTest.class,
+	FusedASTVisitorTest.class,
 	CoreTests.class,
 	CoreTestSuite.class,
 	QuickFixTestSuite.class,
@@ -87,7 +91,9 @@ import org.eclipse.jdt.internal.ui.JavaPlugin;
 	PackageJavadocTests.class,
 	JavadocHoverTests.class,
 	MarkdownCommentTests.class,
-	SmokeViewsTest.class
+	SmokeViewsTest.class,
+	BytecodeOutlineDecompileTest.class,
+	BulkBytecodeCompareTest.class
 })
 public class AutomatedSuite {
 	@BeforeEach
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,8 @@ package org.eclipse.jdt.ui.tests.core;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 import org.junit.After;
 import org.junit.Before;
@@ -41,6 +43,9 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+import org.eclipse.jdt.core.manipulation.CoreASTProvider;
 import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 
@@ -142,6 +147,118 @@ public class ASTProviderTest extends CoreTests {
 		cu.getBuffer().save(null, true);
 	}
 
+	@Test
+	public void testRecentASTOfInactiveElement() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class E1 {
+			}
+			""";
+		ICompilationUnit cu= pack1.createCompilationUnit("E1.java", str, false, null);
+
+		CoreASTProvider provider= CoreASTProvider.getInstance();
+		CompilationUnit ast1= provider.getAST(cu, CoreASTProvider.WAIT_YES, null);
+		assertNotNull(ast1);
+		assertSame(ast1, provider.getAST(cu, CoreASTProvider.WAIT_YES, null));
+		assertSame(ast1, provider.getAST(cu, CoreASTProvider.WAIT_NO, null));
+		assertSame(ast1, provider.getASTAsync(cu, CoreASTProvider.WAIT_NO).get());
+
+		cu.becomeWorkingCopy(null);
+		try {
+			cu.getBuffer().append("class E2 {}\n");
+			CompilationUnit ast2= provider.getASTAsync(cu, CoreASTProvider.WAIT_YES).get();
+			assertNotNull(ast2);
+			assertNotSame(ast1, ast2);
+			assertEquals(2, ast2.types().size());
+		} finally {
+			cu.discardWorkingCopy();
+			provider.disposeRecentASTs();
+		}
+	}
+
+	@Test
+	public void testRecentASTInvalidatedByDependency() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class E1 {
+				E2 e2;
+			}
+			""";
+		ICompilationUnit cu= pack1.createCompilationUnit("E1.java", str, false, null);
+		String str1= """
+			package test1;
+			public class E2 {
+			}
+			""";
+		pack1.createCompilationUnit("E2.java", str1, false, null);
+
+		CoreASTProvider provider= CoreASTProvider.getInstance();
+		try {
+			CompilationUnit ast1= provider.getAST(cu, CoreASTProvider.WAIT_YES, null);
+			assertNotNull(ast1);
+			assertSame(ast1, provider.getAST(cu, CoreASTProvider.WAIT_NO, null));
+
+			String str2= """
+				package test1;
+				public class E2 {
+					int f;
+				}
+				""";
+			pack1.createCompilationUnit("E2.java", str2, true, null);
+			CompilationUnit ast2= provider.getAST(cu, CoreASTProvider.WAIT_YES, null);
+			assertNotNull(ast2);
+			assertNotSame(ast1, ast2);
+		} finally {
+			provider.disposeRecentASTs();
+		}
+	}
+
+	@Test
+	public void testRecentASTOfSameLengthEdit() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class E1 {
+				int aa;
+			}
+			""";
+		ICompilationUnit cu= pack1.createCompilationUnit("E1.java", str, false, null);
+
+		CoreASTProvider provider= CoreASTProvider.getInstance();
+		cu.becomeWorkingCopy(null);
+		try {
+			CompilationUnit ast1= provider.getAST(cu, CoreASTProvider.WAIT_YES, null);
+			assertNotNull(ast1);
+			assertSame(ast1, provider.getAST(cu, CoreASTProvider.WAIT_NO, null));
+
+			// made consistent without a reconcile
+			cu.getBuffer().replace(str.indexOf("aa"), 2, "bb");
+			cu.makeConsistent(null);
+			CompilationUnit ast2= provider.getAST(cu, CoreASTProvider.WAIT_YES, null);
+			assertNotNull(ast2);
+			assertNotSame(ast1, ast2);
+			assertEquals("bb", getFieldName(ast2));
+			assertSame(ast2, provider.getAST(cu, CoreASTProvider.WAIT_NO, null));
+
+			// not reconciled yet
+			cu.getBuffer().replace(str.indexOf("aa"), 2, "cc");
+			CompilationUnit ast3= provider.getAST(cu, CoreASTProvider.WAIT_YES, null);
+			assertNotNull(ast3);
+			assertEquals("cc", getFieldName(ast3));
+		} finally {
+			cu.discardWorkingCopy();
+			provider.disposeRecentASTs();
+		}
+	}
+
+	private static String getFieldName(CompilationUnit ast) {
+		TypeDeclaration type= (TypeDeclaration) ast.types().get(0);
+		VariableDeclarationFragment fragment= (VariableDeclarationFragment) type.getFields()[0].fragments().get(0);
+		return fragment.getName().getIdentifier();
+	}
+
 	private static String getNormalizeNumber(int number) {
 		if (number < 10) {
 			return "000" + number;
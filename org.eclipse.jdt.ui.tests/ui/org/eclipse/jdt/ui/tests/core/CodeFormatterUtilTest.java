@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,11 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.core;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
 import java.util.Hashtable;
+import java.util.Map;
 
 import org.junit.After;
 import org.junit.Before;
@@ -595,6 +597,28 @@ public class CodeFormatterUtilTest extends CoreTests {
 
 	}
 
+	@Test
+	public void testFormatBodyDeclarations() throws Exception {
+		Map<String, String> options= fJProject1.getOptions(true);
+		String[] contents= {
+				"/**\n*@return the x\n*/\npublic int getX() {\nreturn x;\n}",
+				"public void setX(int x) {\nthis.x= x;\n}",
+				"private static final int CONSTANT=1;"
+		};
+		String[] formatted= CodeFormatterUtil.format(CodeFormatter.K_CLASS_BODY_DECLARATIONS, contents, 0, "\n", options);
+		assertEquals(contents.length, formatted.length);
+		for (int i= 0; i < contents.length; i++) {
+			assertEqualString(formatted[i], CodeFormatterUtil.format(CodeFormatter.K_CLASS_BODY_DECLARATIONS, contents[i], 0, "\n", options));
+		}
+		assertEqualString(formatted[1], "public void setX(int x) {\n    this.x = x;\n}");
+
+		// a snippet with syntax errors, the other snippets are formatted one by one
+		contents[1]= "public void setX(int x) {\nthis.x= x;";
+		formatted= CodeFormatterUtil.format(CodeFormatter.K_CLASS_BODY_DECLARATIONS, contents, 0, "\n", options);
+		assertEqualString(formatted[0], "/**\n * @return the x\n */\npublic int getX() {\n    return x;\n}");
+		assertEqualString(formatted[2], "private static final int CONSTANT = 1;");
+	}
+
 
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 IBM Corporation and others.
+ * Copyright (c) 2020, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -49,6 +49,7 @@ NameProposerTest.class,
 OverrideTest.class,
 PartialASTTest.class,
 ScopeAnalyzerTest.class,
+StructuralHashIndexTest.class,
 TemplateStoreTest.class,
 TypeHierarchyTest.class,
 TypeHierarchyViewPartTest.class,
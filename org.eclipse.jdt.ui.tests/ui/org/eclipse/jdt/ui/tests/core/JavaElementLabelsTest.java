@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.core;
 
+import static org.junit.Assert.assertEquals;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -34,6 +36,9 @@ import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeParameter;
 import org.eclipse.jdt.core.JavaModelException;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelCache;
+import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelsCore;
+
 import org.eclipse.jdt.ui.JavaElementLabels;
 import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
@@ -670,4 +675,80 @@ public class JavaElementLabelsTest extends CoreTests {
 		lab= JavaElementLabels.getTextLabel(foo2, JavaElementLabels.ALL_DEFAULT | JavaElementLabels.ALL_FULLY_QUALIFIED | JavaElementLabels.M_PARAMETER_ANNOTATIONS);
 		assertEqualString(lab, "org.test.Annotations.foo2(@Ann(value=\"\", cl=Annotations.class, ints={1, 2, -19}, ch='\\u0000', sh=32767, r=@Retention(value=RetentionPolicy.SOURCE)) String)");
 	}
+
+	@Test
+	public void testLabelCacheInvalidation() throws Exception {
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= sourceFolder.createPackageFragment("org.test", false, null);
+		String content= """
+			package org.test;
+			public class Outer {
+			    public void foo(int a) {
+			    }
+			}
+			""";
+		ICompilationUnit cu= pack1.createCompilationUnit("Outer.java", content, false, null);
+		IMethod foo= cu.getType("Outer").getMethod("foo", new String[] { "I" });
+		long flags= JavaElementLabelsCore.M_PARAMETER_TYPES | JavaElementLabelsCore.M_PARAMETER_NAMES;
+
+		JavaElementLabelCache cache= JavaElementLabelsCore.getLabelCache();
+		assertEqualString(JavaElementLabelsCore.getElementLabel(foo, flags), "foo(int a)");
+		long hits= cache.getHitCount();
+		assertEqualString(JavaElementLabelsCore.getElementLabel(foo, flags), "foo(int a)");
+		assertEquals(hits + 1, cache.getHitCount());
+		assertEqualString(JavaElementLabels.getElementLabel(foo, flags), "foo(int a)");
+
+		content= """
+			package org.test;
+			public class Outer {
+			    public void foo(int b) {
+			    }
+			}
+			""";
+		pack1.createCompilationUnit("Outer.java", content, true, null);
+		assertEqualString(JavaElementLabelsCore.getElementLabel(foo, flags), "foo(int b)");
+		assertEqualString(JavaElementLabels.getElementLabel(foo, flags), "foo(int b)");
+	}
+
+	@Test
+	public void testLabelCacheInvalidatesChangedUnitOnly() throws Exception {
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= sourceFolder.createPackageFragment("org.test", false, null);
+		ICompilationUnit cu1= pack1.createCompilationUnit("A.java", "package org.test;\npublic class A {\n    public void foo(int a) {\n    }\n}\n", false, null);
+		ICompilationUnit cu2= pack1.createCompilationUnit("B.java", "package org.test;\npublic class B {\n    public void bar(int a) {\n    }\n}\n", false, null);
+		IMethod foo= cu1.getType("A").getMethod("foo", new String[] { "I" });
+		IMethod bar= cu2.getType("B").getMethod("bar", new String[] { "I" });
+		long flags= JavaElementLabelsCore.M_PARAMETER_TYPES | JavaElementLabelsCore.M_PARAMETER_NAMES;
+
+		JavaElementLabelCache cache= JavaElementLabelsCore.getLabelCache();
+		assertEqualString(JavaElementLabelsCore.getElementLabel(foo, flags), "foo(int a)");
+		assertEqualString(JavaElementLabelsCore.getElementLabel(bar, flags), "bar(int a)");
+
+		pack1.createCompilationUnit("A.java", "package org.test;\npublic class A {\n    public void foo(int b) {\n    }\n}\n", true, null);
+
+		long hits= cache.getHitCount();
+		assertEqualString(JavaElementLabelsCore.getElementLabel(bar, flags), "bar(int a)");
+		assertEquals(hits + 1, cache.getHitCount());
+		long misses= cache.getMissCount();
+		assertEqualString(JavaElementLabelsCore.getElementLabel(foo, flags), "foo(int b)");
+		assertEquals(misses + 1, cache.getMissCount());
+	}
+
+	@Test
+	public void testDisposedLabelCache() throws Exception {
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= sourceFolder.createPackageFragment("org.test", false, null);
+		ICompilationUnit cu= pack1.createCompilationUnit("A.java", "package org.test;\npublic class A {\n}\n", false, null);
+		IType type= cu.getType("A");
+
+		JavaElementLabelCache cache= new JavaElementLabelCache();
+		assertEqualString(cache.getLabel(type, 0, () -> "A"), "A");
+		assertEqualString(cache.getLabel(type, 0, () -> "B"), "A");
+		assertEquals(1, cache.size());
+
+		cache.dispose();
+		assertEquals(0, cache.size());
+		assertEqualString(cache.getLabel(type, 0, () -> "B"), "B");
+		assertEquals(0, cache.size());
+	}
 }
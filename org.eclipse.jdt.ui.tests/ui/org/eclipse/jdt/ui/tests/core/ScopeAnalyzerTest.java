@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.core;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.fail;
 
 import java.util.Hashtable;
@@ -937,6 +938,47 @@ public class ScopeAnalyzerTest extends CoreTests {
 
 	}
 
+	@Test
+	public void testRepeatedQueriesOnSameAST() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String str1= """
+			package test1;
+			import java.util.ArrayList;
+			public class E extends ArrayList<String> {
+			    int fCount;
+			    public int goo(int param) {
+			        int local= param;
+			        if (local > 0) {
+			            String inner= get(0);
+			            return inner.length();
+			        }
+			        return local + fCount + size();
+			    }
+			}
+			""";
+		ICompilationUnit compilationUnit= pack1.createCompilationUnit("E.java", str1, false, null);
+
+		CompilationUnit astRoot= createAST(compilationUnit);
+		assertNoProblems(astRoot);
+
+		int offset= str1.indexOf("return inner.length();");
+		int flags= ScopeAnalyzer.VARIABLES | ScopeAnalyzer.METHODS | ScopeAnalyzer.CHECK_VISIBILITY;
+		IBinding[] first= new ScopeAnalyzer(astRoot).getDeclarationsInScope(offset, flags);
+		IBinding[] second= new ScopeAnalyzer(astRoot).getDeclarationsInScope(offset, flags);
+		assertArrayEquals(first, second);
+
+		IBinding[] variables= new ScopeAnalyzer(astRoot).getDeclarationsInScope(offset, ScopeAnalyzer.VARIABLES);
+		assertVariables(variables, new String[] { "param", "local", "inner", "fCount" });
+
+		IBinding[] afterReturn= new ScopeAnalyzer(astRoot).getDeclarationsInScope(str1.indexOf("return local"), ScopeAnalyzer.VARIABLES);
+		assertVariables(afterReturn, new String[] { "param", "local", "fCount" });
+
+		// modifying the AST discards the scope tables
+		astRoot.types().add(astRoot.getAST().newTypeDeclaration());
+		IBinding[] afterModification= new ScopeAnalyzer(astRoot).getDeclarationsInScope(offset, flags);
+		assertArrayEquals(first, afterModification);
+	}
+
 	private void assertVariables(IBinding[] res, String[] expectedNames) {
 		String[] names= new String[res.length];
 		for (int i= 0; i < res.length; i++) {
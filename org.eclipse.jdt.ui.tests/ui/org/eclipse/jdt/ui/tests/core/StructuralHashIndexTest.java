@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.dom.ASTMatcher;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Statement;
+
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+import org.eclipse.jdt.internal.corext.dom.StructuralHashIndex;
+import org.eclipse.jdt.internal.corext.refactoring.code.DuplicateSnippetFinder;
+import org.eclipse.jdt.internal.corext.refactoring.code.DuplicateSnippetFinder.Duplicate;
+import org.eclipse.jdt.internal.corext.refactoring.code.DuplicateSnippetFinder.Occurrence;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+public class StructuralHashIndexTest {
+
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+	private IPackageFragmentRoot fSourceFolder;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+		fSourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+	}
+
+	@Test
+	public void testMatchingStatementsHaveSameHash() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class E {
+			    int foo(int[] a, int b) {
+			        int sum= 0;
+			        for (int i= 0; i < a.length; i++) {
+			            sum+= a[i] * b;
+			        }
+			        if (sum > 10) {
+			            return sum - 1;
+			        }
+			        return sum;
+			    }
+			    int bar(int[] a, int b) {
+			        int sum= 0;
+			        for (int i= 0; i < a.length; i++) {
+			            sum+= a[i] * b;
+			        }
+			        if (sum > 10) {
+			            return sum + 1;
+			        }
+			        return sum;
+			    }
+			    int baz(int[] c, int d) {
+			        int total= 0;
+			        for (int j= 0; j < c.length; j++) {
+			            total+= c[j] * d;
+			        }
+			        return total;
+			    }
+			}
+			""";
+		ICompilationUnit cu= pack1.createCompilationUnit("E.java", str, false, null);
+		List<Statement> statements= getStatements(createAST(cu));
+
+		StructuralHashIndex withIdentifiers= new StructuralHashIndex(true);
+		StructuralHashIndex withoutIdentifiers= new StructuralHashIndex(false);
+		int matches= 0;
+		for (Statement statement : statements) {
+			for (Statement other : statements) {
+				if (statement.subtreeMatch(new ASTMatcher(), other)) {
+					matches++;
+					assertTrue(withIdentifiers.mayMatch(statement, other));
+					assertTrue(withoutIdentifiers.mayMatch(statement, other));
+				}
+			}
+		}
+		assertTrue(matches > statements.size());
+
+		Statement forInFoo= statements.get(2);
+		Statement forInBar= statements.get(11);
+		Statement forInBaz= statements.get(20);
+		assertEquals(forInFoo.toString(), forInBar.toString());
+		assertTrue(withIdentifiers.mayMatch(forInFoo, forInBar));
+		assertFalse(withIdentifiers.mayMatch(forInFoo, forInBaz));
+		assertTrue(withoutIdentifiers.mayMatch(forInFoo, forInBaz));
+
+		Statement ifInFoo= statements.get(5);
+		Statement ifInBar= statements.get(14);
+		assertFalse(ifInFoo.subtreeMatch(new ASTMatcher(), ifInBar));
+		assertFalse(withoutIdentifiers.mayMatch(ifInFoo, ifInBar)); // different operators
+		assertEquals(withoutIdentifiers.getSize(ifInFoo), withoutIdentifiers.getSize(ifInBar));
+	}
+
+	@Test
+	public void testFindDuplicates() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class E {
+			    void foo(java.util.List<String> list) {
+			        for (String s : list) {
+			            if (s.isEmpty()) {
+			                System.out.println("empty");
+			            }
+			        }
+			    }
+			    void bar(java.util.List<String> list) {
+			        for (String s : list) {
+			            if (s.isEmpty()) {
+			                System.out.println("empty");
+			            }
+			        }
+			        for (String t : list) {
+			            System.out.println(t);
+			        }
+			    }
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E.java", str, false, null);
+
+		str= """
+			package test1;
+			public class F {
+			    void baz(java.util.List<String> list) {
+			        for (String s : list) {
+			            if (s.isEmpty()) {
+			                System.out.println("empty"); // the same
+			            }
+			        }
+			        for (String u : list) {
+			            System.out.println(u);
+			        }
+			    }
+			}
+			""";
+		ICompilationUnit cu2= pack1.createCompilationUnit("F.java", str, false, null);
+
+		List<Duplicate> duplicates= DuplicateSnippetFinder.perform(new ICompilationUnit[] { cu1, cu2 }, 5, null);
+		assertEquals(1, duplicates.size());
+
+		List<Occurrence> occurrences= duplicates.get(0).getOccurrences();
+		assertEquals(3, occurrences.size());
+		assertEquals(cu1, occurrences.get(0).getCompilationUnit());
+		assertEquals(cu1, occurrences.get(1).getCompilationUnit());
+		assertEquals(cu2, occurrences.get(2).getCompilationUnit());
+		for (Occurrence occurrence : occurrences) {
+			String source= occurrence.getCompilationUnit().getSource().substring(occurrence.getOffset(), occurrence.getOffset() + occurrence.getLength());
+			assertTrue(source, source.startsWith("for (String s : list) {"));
+		}
+	}
+
+	private static List<Statement> getStatements(CompilationUnit root) {
+		List<Statement> statements= new ArrayList<>();
+		root.accept(new ASTVisitor() {
+			@Override
+			public void preVisit(ASTNode node) {
+				if (node instanceof Statement) {
+					statements.add((Statement) node);
+				}
+			}
+		});
+		return statements;
+	}
+
+	private static CompilationUnit createAST(ICompilationUnit compilationUnit) {
+		ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+		parser.setSource(compilationUnit);
+		parser.setResolveBindings(true);
+		return (CompilationUnit) parser.createAST(null);
+	}
+}
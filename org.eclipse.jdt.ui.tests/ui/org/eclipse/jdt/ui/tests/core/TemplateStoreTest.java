@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.core;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
@@ -27,11 +28,15 @@ import org.eclipse.jdt.testplugin.JavaProjectHelper;
 import org.eclipse.text.templates.TemplatePersistenceData;
 
 import org.eclipse.jface.text.templates.Template;
+import org.eclipse.jface.text.templates.TemplateBuffer;
+import org.eclipse.jface.text.templates.TemplateVariable;
 
 import org.eclipse.jdt.core.IJavaProject;
 
+import org.eclipse.jdt.internal.core.manipulation.CodeTemplateContext;
 import org.eclipse.jdt.internal.core.manipulation.CodeTemplateContextType;
 import org.eclipse.jdt.internal.core.manipulation.ProjectTemplateStore;
+import org.eclipse.jdt.internal.core.manipulation.StubUtility;
 
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
@@ -216,4 +221,64 @@ public class TemplateStoreTest extends CoreTests {
 		}
 	}
 
+	@Test
+	public void testProjectCodeTemplatesChanged() throws Exception {
+		fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		try {
+			String templateId= CodeTemplateContextType.SETTERCOMMENT_ID;
+			String instancePattern= StubUtility.getCodeTemplate(templateId, null).getPattern();
+			assertEquals(instancePattern, StubUtility.getCodeTemplate(templateId, fJProject1).getPattern());
+
+			ProjectTemplateStore projectStore= new ProjectTemplateStore(fJProject1.getProject());
+			projectStore.load();
+			projectStore.setProjectSpecific(templateId, true);
+			TemplatePersistenceData currData= find(templateId, projectStore.getTemplateData());
+			Template oldTemplate= currData.getTemplate();
+			currData.setTemplate(new Template(oldTemplate.getName(), oldTemplate.getDescription(), oldTemplate.getContextTypeId(), "//Hello4", oldTemplate.isAutoInsertable()));
+			projectStore.save();
+
+			assertEquals("//Hello4", StubUtility.getCodeTemplate(templateId, fJProject1).getPattern());
+			assertEquals("//Hello4", StubUtility.getCodeTemplate(templateId, fJProject1).getPattern());
+
+			currData.setTemplate(new Template(oldTemplate.getName(), oldTemplate.getDescription(), oldTemplate.getContextTypeId(), "//Hello5", oldTemplate.isAutoInsertable()));
+			projectStore.save();
+			assertEquals("//Hello5", StubUtility.getCodeTemplate(templateId, fJProject1).getPattern());
+
+			projectStore.setProjectSpecific(templateId, false);
+			projectStore.save();
+			assertEquals(instancePattern, StubUtility.getCodeTemplate(templateId, fJProject1).getPattern());
+		} finally {
+			JavaProjectHelper.delete(fJProject1);
+		}
+	}
+
+	@Test
+	public void testEvaluateTemplate() throws Exception {
+		String pattern= "/**\n * ${field} of ${enclosing_type}\n * @return ${field}\n */";
+		Template template= new Template("name", "", CodeTemplateContextType.GETTERCOMMENT_CONTEXTTYPE, pattern, true);
+		for (int i= 0; i < 2; i++) { // compiled once, evaluated twice
+			CodeTemplateContext context= new CodeTemplateContext(template.getContextTypeId(), null, "\r\n");
+			context.setVariable(CodeTemplateContextType.FIELD, "count" + i);
+			context.setVariable(CodeTemplateContextType.ENCLOSING_TYPE, "Counter");
+			context.setVariable(CodeTemplateContextType.ENCLOSING_METHOD, "getCount");
+			context.setVariable(CodeTemplateContextType.FIELD_TYPE, "int");
+			context.setVariable(CodeTemplateContextType.BARE_FIELD_NAME, "count");
+			context.setVariable(CodeTemplateContextType.FILENAME, "Counter.java");
+			context.setVariable(CodeTemplateContextType.PACKAGENAME, "p");
+			context.setVariable(CodeTemplateContextType.PROJECTNAME, "TestProject1");
+
+			TemplateBuffer buffer= context.evaluate(template);
+			String expected= "/**\r\n * count" + i + " of Counter\r\n * @return count" + i + "\r\n */";
+			assertEquals(expected, buffer.getString());
+
+			TemplateVariable field= null;
+			for (TemplateVariable variable : buffer.getVariables()) {
+				if (CodeTemplateContextType.FIELD.equals(variable.getType())) {
+					field= variable;
+				}
+			}
+			assertNotNull(field);
+			assertArrayEquals(new int[] { expected.indexOf("count"), expected.lastIndexOf("count") }, field.getOffsets());
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2023 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,9 +25,12 @@ import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 
+import org.eclipse.jface.dialogs.DialogSettings;
+
 import org.eclipse.ui.PartInitException;
 
 import org.eclipse.jdt.core.IClasspathEntry;
@@ -39,6 +42,7 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
 
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
+import org.eclipse.jdt.internal.corext.fix.CleanUpCostStatistics;
 import org.eclipse.jdt.internal.corext.fix.CleanUpPostSaveListener;
 import org.eclipse.jdt.internal.corext.fix.CleanUpPreferenceUtil;
 
@@ -46,6 +50,7 @@ import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jdt.ui.cleanup.CleanUpOptions;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
+import org.eclipse.jdt.internal.ui.fix.Java50CleanUp;
 import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
 import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
 
@@ -1247,4 +1252,58 @@ public class SaveParticipantTest extends CleanUpTestCase {
 
 		assertChangedFromTo(cu1, fileOnDisk, fileOnEditor, expected1);
 	}
+
+	@Test
+	public void testDeferredCleanUp() throws Exception {
+		// Given
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String fileOnDisk= """
+			package test1;
+			public class E1 {
+			    public String toString() {
+			        return "";
+			    }
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", fileOnDisk, false, null);
+
+		String fileOnEditor= """
+			package test1;
+			public class E1 {
+			    public String toString() {
+			        return "E1";
+			    }
+			}
+			""";
+
+		String expected1= """
+			package test1;
+			public class E1 {
+			    @Override
+			    public String toString() {
+			        return "E1";
+			    }
+			}
+			""";
+
+		enable(CleanUpConstants.ADD_MISSING_ANNOTATIONS);
+		enable(CleanUpConstants.ADD_MISSING_ANNOTATIONS_OVERRIDE);
+
+		// the clean up is known to exceed the budget, so it is run after the save
+		CleanUpCostStatistics statistics= new CleanUpCostStatistics(new DialogSettings("test"));
+		statistics.record(new Java50CleanUp(), 60000);
+		CleanUpCostStatistics previous= CleanUpCostStatistics.setDefault(statistics);
+		System.setProperty(CleanUpPostSaveListener.LATENCY_BUDGET, "1");
+		try {
+			// When
+			editCUInEditor(cu1, fileOnEditor);
+			Job.getJobManager().join(CleanUpPostSaveListener.DEFERRED_CLEAN_UPS_FAMILY, null);
+		} finally {
+			System.clearProperty(CleanUpPostSaveListener.LATENCY_BUDGET);
+			CleanUpCostStatistics.setDefault(previous);
+		}
+
+		// Then
+		assertChangedFromTo(cu1, fileOnDisk, fileOnEditor, expected1);
+	}
 }
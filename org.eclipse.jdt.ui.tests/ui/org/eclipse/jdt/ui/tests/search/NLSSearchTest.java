@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2023 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -41,10 +41,12 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
 
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
 import org.eclipse.jdt.internal.ui.refactoring.nls.search.NLSSearchQuery;
+import org.eclipse.jdt.internal.ui.refactoring.nls.search.NLSSearchResult;
 
 public class NLSSearchTest {
 
@@ -721,4 +723,48 @@ public class NLSSearchTest {
 		NLSSearchTestHelper.assertNumberOfProblems(accessor, propertiesFile, 1);
 	}
 
+	@Test
+	public void testSeveralAccessorClasses() throws Exception {
+		ICompilationUnit[] accessors= new ICompilationUnit[4];
+		IFile[] propertiesFiles= new IFile[4];
+		String[] packages= { "test1", "test2", "test3", "test4" };
+		String[] names= { "Accessor", "Accessor", "Messages", "OtherMessages" };
+		String[] properties= { "s1=x\n", "s2=y\nunused2=z\n", "", "s4=w\n" };
+		for (int i= 0; i < packages.length; i++) {
+			IPackageFragment pack= fSourceFolder.createPackageFragment(packages[i], false, null);
+			String str= "package " + packages[i] + ";\n"
+					+ "import org.eclipse.osgi.util.NLS;\n"
+					+ "public class " + names[i] + " extends NLS {\n"
+					+ "    public static String s" + (i + 1) + ";\n"
+					+ "    private " + names[i] + "() {}\n"
+					+ "    private static final String BUNDLE_NAME = \"" + packages[i] + "." + names[i] + "\"; //$NON-NLS-1$\n"
+					+ "    static {NLS.initializeMessages(BUNDLE_NAME, " + names[i] + ".class);}\n"
+					+ "}\n";
+			accessors[i]= pack.createCompilationUnit(names[i] + ".java", str, false, null);
+			propertiesFiles[i]= write((IFolder)pack.getCorrespondingResource(), properties[i], names[i] + ".properties");
+		}
+
+		IPackageFragment pack= fSourceFolder.createPackageFragment("test", false, null);
+		String str= """
+			package test;
+			import test2.Accessor;
+			public class Client {
+			    public String s1= test1.Accessor.s1;
+			    public String s2= Accessor.s2;
+			    public String s3= test3.Messages.s3;
+			    public String s4= test4.OtherMessages.s4;
+			}
+			""";
+		ICompilationUnit client= pack.createCompilationUnit("Client.java", str, false, null);
+
+		IType[] types= new IType[accessors.length];
+		for (int i= 0; i < accessors.length; i++)
+			types[i]= accessors[i].getType(names[i]);
+		NLSSearchResult result= NLSSearchTestHelper.searchProblems(types, propertiesFiles);
+
+		NLSSearchTestHelper.assertHasUndefinedKey(result, "s3", (IFile)client.getResource(), false);
+		NLSSearchTestHelper.assertHasUndefinedKey(result, "s3", (IFile)accessors[2].getResource(), true);
+		NLSSearchTestHelper.assertHasUnusedKey(result, "unused2", propertiesFiles[1], false);
+		NLSSearchTestHelper.assertNumberOfProblems(result, 3);
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2013 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -45,6 +45,32 @@ public class NLSSearchTestHelper {
 		assertResultHasUndefinedKey(key, file, isAccessor, searchProblems(accessor, propertiesFile));
 	}
 
+	/**
+	 * Searches the problems of several accessor classes at once.
+	 *
+	 * @param accessors the accessor classes
+	 * @param propertiesFiles the properties files of the accessor classes
+	 * @return the result
+	 * @since 3.35
+	 */
+	public static NLSSearchResult searchProblems(IType[] accessors, IFile[] propertiesFiles) {
+		NLSSearchQuery query= new NLSSearchQuery(accessors, propertiesFiles, SearchEngine.createWorkspaceScope(), ""); //$NON-NLS-1$
+		NewSearchUI.runQueryInForeground(new BusyIndicatorRunnableContext(), query);
+		return (NLSSearchResult)query.getSearchResult();
+	}
+
+	public static void assertNumberOfProblems(NLSSearchResult result, int expected) {
+		assertNumberResults(result, expected);
+	}
+
+	public static void assertHasUndefinedKey(NLSSearchResult result, String key, IFile file, boolean isAccessor) throws CoreException {
+		assertResultHasUndefinedKey(key, file, isAccessor, result);
+	}
+
+	public static void assertHasUnusedKey(NLSSearchResult result, String key, IFile file, boolean isAccessor) throws IOException, CoreException {
+		assertResultHasUnusedKey(key, file, isAccessor, result);
+	}
+
 	public static void assertHasUnusedKey(ICompilationUnit accessor, IFile propertiesFile, String key, IFile file, boolean isAccessor) throws IOException, CoreException {
 		assertResultHasUnusedKey(key, file, isAccessor, searchProblems(accessor, propertiesFile));
 	}
@@ -55,10 +81,7 @@ public class NLSSearchTestHelper {
 
 	private static NLSSearchResult searchProblems(ICompilationUnit accessor, IFile propertiesFile) {
 		IType type= accessor.getType("Accessor");
-		NLSSearchQuery query= new NLSSearchQuery((new IType[] {type}), (new IFile[] {propertiesFile}), SearchEngine.createWorkspaceScope(), ""); //$NON-NLS-1$
-		NewSearchUI.runQueryInForeground(new BusyIndicatorRunnableContext(), query);
-		NLSSearchResult result= (NLSSearchResult)query.getSearchResult();
-		return result;
+		return searchProblems(new IType[] {type}, new IFile[] {propertiesFile});
 	}
 
 	private static void assertNumberResults(NLSSearchResult result, int expected) {
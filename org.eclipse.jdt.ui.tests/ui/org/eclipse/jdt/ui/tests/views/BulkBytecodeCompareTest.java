@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.views;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.equinox.app.IApplication;
+import org.eclipse.equinox.app.IApplicationContext;
+
+import org.eclipse.jdt.core.compiler.batch.BatchCompiler;
+
+import org.eclipse.jdt.bcoview.asm.DecompilerOptions;
+import org.eclipse.jdt.bcoview.compare.BulkBytecodeCompare;
+import org.eclipse.jdt.bcoview.compare.BulkBytecodeCompare.ClassDifference;
+import org.eclipse.jdt.bcoview.compare.BulkBytecodeCompare.Kind;
+import org.eclipse.jdt.bcoview.compare.BulkBytecodeCompareApplication;
+
+/**
+ * Tests {@link BulkBytecodeCompare} and the {@link BulkBytecodeCompareApplication} with two
+ * output folders which differ in one class.
+ */
+public class BulkBytecodeCompareTest {
+
+	private static final String UNCHANGED= """
+			package p;
+			public class A {
+				public int a() {
+					return 1;
+				}
+			}
+			""";
+
+	private static final String LEFT= """
+			package p;
+			public class B {
+				public int b() {
+					return 1;
+				}
+				public int c() {
+					return 1;
+				}
+			}
+			""";
+
+	private static final String RIGHT= """
+			package p;
+			public class B {
+				public int b() {
+					return 2;
+				}
+				public int c() {
+					return 1;
+				}
+			}
+			""";
+
+	@Rule
+	public TemporaryFolder fTemporaryFolder= new TemporaryFolder();
+
+	@Test
+	public void testCompare() throws Exception {
+		File left= compile("left", LEFT);
+		File right= compile("right", RIGHT);
+
+		List<ClassDifference> notified= Collections.synchronizedList(new ArrayList<>());
+		BulkBytecodeCompare compare= new BulkBytecodeCompare(left, right, new DecompilerOptions(null, null, new BitSet()));
+		List<ClassDifference> differences= compare.compare(notified::add, new NullProgressMonitor());
+
+		assertEquals(1, differences.size());
+		ClassDifference difference= differences.get(0);
+		assertEquals("p/B.class", difference.name);
+		assertEquals(Kind.CHANGED, difference.kind);
+		assertEquals(List.of("b()I"), difference.methods);
+		assertEquals(differences, notified);
+	}
+
+	@Test
+	public void testApplication() throws Exception {
+		File left= compile("left", LEFT);
+		File right= compile("right", RIGHT);
+		File same= compile("same", LEFT);
+
+		assertEquals(Integer.valueOf(1), runApplication(left.getPath(), right.getPath()));
+		assertEquals(IApplication.EXIT_OK, runApplication(left.getPath(), same.getPath()));
+		assertEquals(IApplication.EXIT_OK, runApplication("-showLineInfo", left.getPath(), same.getPath()));
+	}
+
+	@Test
+	public void testApplicationUsage() throws Exception {
+		File left= compile("left", LEFT);
+
+		assertEquals(Integer.valueOf(2), runApplication((String[]) null));
+		assertEquals(Integer.valueOf(2), runApplication());
+		assertEquals(Integer.valueOf(2), runApplication(left.getPath()));
+		assertEquals(Integer.valueOf(2), runApplication("-unknown", left.getPath(), left.getPath()));
+		assertEquals(Integer.valueOf(2), runApplication(left.getPath(), new File(left, "missing").getPath()));
+	}
+
+	private File compile(String name, String classB) throws IOException {
+		File source= fTemporaryFolder.newFolder(name, "src", "p");
+		Files.writeString(new File(source, "A.java").toPath(), UNCHANGED, StandardCharsets.UTF_8);
+		Files.writeString(new File(source, "B.java").toPath(), classB, StandardCharsets.UTF_8);
+		File output= fTemporaryFolder.newFolder(name, "bin");
+
+		StringWriter errors= new StringWriter();
+		boolean compiled= BatchCompiler.compile(new String[] { "-proc:none", "-nowarn", "-d", output.getPath(), source.getParent() },
+				new PrintWriter(new StringWriter()), new PrintWriter(errors), null);
+		assertTrue(errors.toString(), compiled);
+		return output;
+	}
+
+	private static Object runApplication(String... arguments) throws Exception {
+		Map<String, Object> contextArguments= new HashMap<>();
+		contextArguments.put(IApplicationContext.APPLICATION_ARGS, arguments);
+		IApplicationContext context= (IApplicationContext) Proxy.newProxyInstance(IApplicationContext.class.getClassLoader(), new Class<?>[] { IApplicationContext.class },
+				(proxy, method, args) -> "getArguments".equals(method.getName()) ? contextArguments : null);
+		return new BulkBytecodeCompareApplication().start(context);
+	}
+}
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.views;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.util.DisplayHelper;
+
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.jdt.core.IClassFile;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.bcoview.asm.DecompiledClass;
+import org.eclipse.jdt.bcoview.asm.DecompiledClassCache;
+import org.eclipse.jdt.bcoview.asm.DecompilerOptions;
+import org.eclipse.jdt.bcoview.views.DecompileJob;
+
+/**
+ * Tests the {@link DecompiledClassCache} and the {@link DecompileJob} of the Bytecode Outline view.
+ */
+public class BytecodeOutlineDecompileTest {
+
+	private static final String TO_STRING= "toString()Ljava/lang/String;";
+
+	private IJavaProject fProject1;
+
+	private IJavaProject fProject2;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject1= JavaProjectHelper.createJavaProject("BytecodeOutline1", "bin");
+		JavaProjectHelper.addRTJar18(fProject1);
+		fProject2= JavaProjectHelper.createJavaProject("BytecodeOutline2", "bin");
+		JavaProjectHelper.addRTJar18(fProject2);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fProject1);
+		JavaProjectHelper.delete(fProject2);
+	}
+
+	@Test
+	public void testSameBytesAndOptions() throws Exception {
+		DecompiledClassCache cache= new DecompiledClassCache(1024 * 1024);
+		byte[] bytes= getClassFile(fProject1, "java.lang.String").getBytes();
+
+		DecompiledClass decompiledClass= cache.getDecompiledClass(bytes, createOptions(null));
+		assertNotNull(decompiledClass);
+		assertEquals(bytes.length, decompiledClass.getClassSize());
+		assertSame(decompiledClass, cache.getDecompiledClass(bytes.clone(), createOptions(null)));
+		assertSame(decompiledClass, cache.getDecompiledClass(getClassFile(fProject2, "java.lang.String").getBytes(), createOptions(null)));
+
+		assertNotSame(decompiledClass, cache.getDecompiledClass(bytes, createOptions("length()I")));
+		DecompilerOptions otherModes= createOptions(null);
+		otherModes.modes.set(0);
+		assertNotSame(decompiledClass, cache.getDecompiledClass(bytes, otherModes));
+	}
+
+	@Test
+	public void testEviction() throws Exception {
+		byte[] stringBytes= getClassFile(fProject1, "java.lang.String").getBytes();
+		byte[] objectBytes= getClassFile(fProject1, "java.lang.Object").getBytes();
+		assertTrue(objectBytes.length < stringBytes.length);
+		DecompiledClassCache cache= new DecompiledClassCache(stringBytes.length);
+
+		DecompiledClass stringClass= cache.getDecompiledClass(stringBytes, createOptions(null));
+		assertSame(stringClass, cache.getDecompiledClass(stringBytes, createOptions(null)));
+
+		// exceeds the limit, the least recently used String is evicted
+		DecompiledClass objectClass= cache.getDecompiledClass(objectBytes, createOptions(null));
+		assertSame(objectClass, cache.getDecompiledClass(objectBytes, createOptions(null)));
+		assertNotSame(stringClass, cache.getDecompiledClass(stringBytes, createOptions(null)));
+	}
+
+	@Test
+	public void testMethodsOfEqualClassFiles() throws Exception {
+		DecompiledClassCache cache= new DecompiledClassCache(1024 * 1024);
+		IClassFile classFile1= getClassFile(fProject1, "java.lang.Object");
+		IClassFile classFile2= getClassFile(fProject2, "java.lang.Object");
+		assertNotEquals(classFile1, classFile2);
+
+		DecompiledClass decompiledClass= cache.getDecompiledClass(classFile1.getBytes(), createOptions(null));
+		assertSame(decompiledClass, cache.getDecompiledClass(classFile2.getBytes(), createOptions(null)));
+
+		// the shared decompiled class must not hand out the elements of the first class file
+		for (int i= 0; i < 2; i++) {
+			IJavaElement method1= cache.getMethod(classFile1, TO_STRING);
+			IJavaElement method2= cache.getMethod(classFile2, TO_STRING);
+			assertEquals(classFile1, method1.getAncestor(IJavaElement.CLASS_FILE));
+			assertEquals(classFile2, method2.getAncestor(IJavaElement.CLASS_FILE));
+			assertEquals(classFile2, decompiledClass.getJavaElement(decompiledClass.getDecompiledLine(TO_STRING), classFile2).getAncestor(IJavaElement.CLASS_FILE));
+		}
+		assertNull(cache.getMethod(classFile1, "noSuchMethod()V"));
+	}
+
+	@Test
+	public void testDecompileJob() throws Exception {
+		DecompiledClassCache cache= new DecompiledClassCache(1024 * 1024);
+		IType type= fProject1.findType("java.lang.String");
+		DecompileJob job= runDecompileJob(type, cache);
+
+		assertNull(job.getErrorMessage());
+		assertNotNull(job.getDecompiledClass());
+		assertSame(job.getDecompiledClass(), cache.getDecompiledClass(type.getClassFile().getBytes(), createOptions(null)));
+		assertSame(job.getDecompiledClass(), runDecompileJob(type, cache).getDecompiledClass());
+	}
+
+	@Test
+	public void testDecompileJobWithoutType() throws Exception {
+		DecompileJob job= runDecompileJob(null, new DecompiledClassCache(1024 * 1024));
+
+		assertNull(job.getErrorMessage());
+		assertNull(job.getDecompiledClass());
+	}
+
+	private static DecompileJob runDecompileJob(IType type, DecompiledClassCache cache) throws InterruptedException {
+		Display display= Display.getDefault();
+		AtomicReference<DecompileJob> finished= new AtomicReference<>();
+		DecompileJob job= new DecompileJob(type, createOptions(null), cache, display, finished::set);
+		job.schedule();
+		job.join();
+		boolean called= new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return finished.get() != null;
+			}
+		}.waitForCondition(display, 10000);
+		assertTrue("callback not called", called);
+		assertSame(job, finished.get());
+		return job;
+	}
+
+	private static IClassFile getClassFile(IJavaProject project, String typeName) throws Exception {
+		IType type= project.findType(typeName);
+		assertNotNull(typeName, type);
+		return type.getClassFile();
+	}
+
+	private static DecompilerOptions createOptions(String methodFilter) {
+		return new DecompilerOptions(null, methodFilter, new BitSet());
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,12 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.codemanipulation;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
@@ -73,6 +77,15 @@ public final class AddGetterSetterOperation implements IWorkspaceRunnable {
 	/** The empty strings constant */
 	private static final String[] EMPTY_STRINGS= new String[0];
 
+	/**
+	 * A new accessor method, inserted when all accessors have been generated.
+	 *
+	 * @param contents the unformatted contents of the accessor method
+	 * @param insertion the node to insert the accessor before, or <code>null</code>
+	 */
+	private record NewAccessor(String contents, ASTNode insertion) {
+	}
+
 	/** The accessor fields */
 	private final IField[] fAccessorFields;
 
@@ -82,12 +95,18 @@ public final class AddGetterSetterOperation implements IWorkspaceRunnable {
 	/** The resulting text edit */
 	private TextEdit fEdit= null;
 
+	/** The existing methods of the type by name, built when the operation is run */
+	private Map<String, List<IMethod>> fExistingMethods;
+
 	/** The getter fields */
 	private final IField[] fGetterFields;
 
 	/** The insertion point, or <code>null</code> */
 	private final IJavaElement fInsert;
 
+	/** The new accessors, built when the operation is run */
+	private List<NewAccessor> fNewAccessors;
+
 	/** Should the compilation unit content be saved? */
 	private final boolean fSave;
 
@@ -146,24 +165,64 @@ public final class AddGetterSetterOperation implements IWorkspaceRunnable {
 	}
 
 	/**
-	 * Adds a new accessor for the specified field.
+	 * Adds a new accessor. The accessor is inserted by {@link #insertNewAccessors(ListRewrite)}.
 	 *
-	 * @param type the type
-	 * @param field the field
 	 * @param contents the contents of the accessor method
-	 * @param rewrite the list rewrite to use
 	 * @param insertion the insertion point
+	 */
+	private void addNewAccessor(final String contents, final ASTNode insertion) {
+		fNewAccessors.add(new NewAccessor(contents, insertion));
+	}
+
+	/**
+	 * Formats the new accessors in one pass and inserts them.
+	 *
+	 * @param rewrite the list rewrite to use
 	 * @throws JavaModelException if an error occurs
 	 */
-	private void addNewAccessor(final IType type, final IField field, final String contents, final ListRewrite rewrite, final ASTNode insertion) throws JavaModelException {
-		final String delimiter= StubUtility.getLineDelimiterUsed(type);
-		final MethodDeclaration declaration= (MethodDeclaration) rewrite.getASTRewrite().createStringPlaceholder(
-				CodeFormatterUtil.format(CodeFormatter.K_CLASS_BODY_DECLARATIONS, contents, 0, delimiter, FormatterProfileManager.getProjectSettings(field.getJavaProject())),
-				ASTNode.METHOD_DECLARATION);
-		if (insertion != null)
-			rewrite.insertBefore(declaration, insertion, null);
-		else
-			rewrite.insertLast(declaration, null);
+	private void insertNewAccessors(final ListRewrite rewrite) throws JavaModelException {
+		if (fNewAccessors.isEmpty())
+			return;
+		final String[] contents= new String[fNewAccessors.size()];
+		for (int i= 0; i < contents.length; i++) {
+			contents[i]= fNewAccessors.get(i).contents();
+		}
+		final String delimiter= StubUtility.getLineDelimiterUsed(fType);
+		final String[] formatted= CodeFormatterUtil.format(CodeFormatter.K_CLASS_BODY_DECLARATIONS, contents, 0, delimiter, FormatterProfileManager.getProjectSettings(fType.getJavaProject()));
+		for (int i= 0; i < formatted.length; i++) {
+			final MethodDeclaration declaration= (MethodDeclaration) rewrite.getASTRewrite().createStringPlaceholder(formatted[i], ASTNode.METHOD_DECLARATION);
+			final ASTNode insertion= fNewAccessors.get(i).insertion();
+			if (insertion != null)
+				rewrite.insertBefore(declaration, insertion, null);
+			else
+				rewrite.insertLast(declaration, null);
+		}
+	}
+
+	/**
+	 * Finds an existing method of the type. The methods of the type are looked up by name, so that
+	 * the lookups for all accessors take linear time.
+	 *
+	 * @param name the name of the method
+	 * @param paramTypes the type signatures of the parameters
+	 * @return the existing method, or <code>null</code>
+	 * @throws JavaModelException if an error occurs
+	 */
+	private IMethod findExistingMethod(final String name, final String[] paramTypes) throws JavaModelException {
+		if (fExistingMethods == null) {
+			fExistingMethods= new HashMap<>();
+			for (IMethod method : fType.getMethods()) {
+				fExistingMethods.computeIfAbsent(method.getElementName(), k -> new ArrayList<>(1)).add(method);
+			}
+		}
+		final List<IMethod> methods= fExistingMethods.get(name);
+		if (methods != null) {
+			for (IMethod method : methods) {
+				if (JavaModelUtil.isSameMethodSignature(name, paramTypes, false, method))
+					return method;
+			}
+		}
+		return null;
 	}
 
 	/**
@@ -175,9 +234,8 @@ public final class AddGetterSetterOperation implements IWorkspaceRunnable {
 	 * @throws OperationCanceledException if the operation has been cancelled
 	 */
 	private void generateGetterMethod(final IField field, final ListRewrite rewrite) throws CoreException, OperationCanceledException {
-		final IType type= field.getDeclaringType();
 		final String name= GetterSetterUtil.getGetterName(field, null);
-		final IMethod existing= JavaModelUtil.findMethod(name, EMPTY_STRINGS, false, type);
+		final IMethod existing= findExistingMethod(name, EMPTY_STRINGS);
 		if (existing == null || !querySkipExistingMethods(existing)) {
 			IJavaElement sibling= null;
 			if (existing != null) {
@@ -186,7 +244,7 @@ public final class AddGetterSetterOperation implements IWorkspaceRunnable {
 			} else
 				sibling= fInsert;
 			ASTNode insertion= StubUtility2Core.getNodeToInsertBefore(rewrite, sibling);
-			addNewAccessor(type, field, GetterSetterUtil.getGetterStub(field, name, fSettings.createComments, fVisibility | (field.getFlags() & Flags.AccStatic)), rewrite, insertion);
+			addNewAccessor(GetterSetterUtil.getGetterStub(field, name, fSettings.createComments, fVisibility | (field.getFlags() & Flags.AccStatic)), insertion);
 		}
 	}
 
@@ -200,9 +258,8 @@ public final class AddGetterSetterOperation implements IWorkspaceRunnable {
 	 * @throws OperationCanceledException if the operation has been cancelled
 	 */
 	private void generateSetterMethod(final IField field, ASTRewrite astRewrite, final ListRewrite rewrite) throws CoreException, OperationCanceledException {
-		final IType type= field.getDeclaringType();
 		final String name= GetterSetterUtil.getSetterName(field, null);
-		final IMethod existing= JavaModelUtil.findMethod(name, new String[] { field.getTypeSignature()}, false, type);
+		final IMethod existing= findExistingMethod(name, new String[] { field.getTypeSignature()});
 		if (existing == null || !querySkipExistingMethods(existing)) {
 			IJavaElement sibling= null;
 			if (existing != null) {
@@ -211,7 +268,7 @@ public final class AddGetterSetterOperation implements IWorkspaceRunnable {
 			} else
 				sibling= fInsert;
 			ASTNode insertion= StubUtility2Core.getNodeToInsertBefore(rewrite, sibling);
-			addNewAccessor(type, field, GetterSetterUtil.getSetterStub(field, name, fSettings.createComments, fVisibility | (field.getFlags() & Flags.AccStatic)), rewrite, insertion);
+			addNewAccessor(GetterSetterUtil.getSetterStub(field, name, fSettings.createComments, fVisibility | (field.getFlags() & Flags.AccStatic)), insertion);
 			if (Flags.isFinal(field.getFlags())) {
 				FieldDeclaration fieldDecl= ASTNodes.getParent(NodeFinder.perform(fASTRoot, field.getNameRange()), FieldDeclaration.class);
 				if (fieldDecl != null) {
@@ -322,6 +379,8 @@ public final class AddGetterSetterOperation implements IWorkspaceRunnable {
 			}
 
 			fSkipAllExisting= (fSkipExistingQuery == null);
+			fExistingMethods= null;
+			fNewAccessors= new ArrayList<>();
 
 			Set<IField> accessors = new HashSet<>(Arrays.asList(fAccessorFields));
 			Set<IField> getters = new HashSet<>(Arrays.asList(fGetterFields));
@@ -369,6 +428,7 @@ public final class AddGetterSetterOperation implements IWorkspaceRunnable {
 					}
 				}
 			}
+			insertNewAccessors(listRewriter);
 			fEdit= astRewrite.rewriteAST();
 			if (fApply) {
 				JavaModelUtil.applyEdit(unit, fEdit, fSave, Progress.subMonitor(monitor, 1));
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.fix;
+
+import org.eclipse.jface.dialogs.IDialogSettings;
+
+import org.eclipse.jdt.ui.cleanup.ICleanUp;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Remembers how long the clean ups take to compute and create their change, across sessions.
+ * <p>
+ * The cost of a clean up is kept per clean up class as an exponential moving average of the
+ * recorded durations, so that it follows changes of the clean up options and of the edited code
+ * without being dominated by a single outlier.
+ * </p>
+ */
+public final class CleanUpCostStatistics {
+
+	private static final String SETTINGS_SECTION= "CleanUpCostStatistics"; //$NON-NLS-1$
+
+	/**
+	 * The weight of a new duration in the moving average
+	 */
+	private static final double NEW_SAMPLE_WEIGHT= 0.3;
+
+	private static CleanUpCostStatistics fgDefault;
+
+	private final IDialogSettings fSettings;
+
+	/**
+	 * @param settings the settings to store the costs in
+	 */
+	public CleanUpCostStatistics(IDialogSettings settings) {
+		fSettings= settings;
+	}
+
+	/**
+	 * @return the statistics that are persisted in the dialog settings of the Java UI plug-in
+	 */
+	public static synchronized CleanUpCostStatistics getDefault() {
+		if (fgDefault == null) {
+			fgDefault= new CleanUpCostStatistics(JavaPlugin.getDefault().getDialogSettingsSection(SETTINGS_SECTION));
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Replaces the statistics returned by {@link #getDefault()}. Used by tests that must not
+	 * change the persisted statistics.
+	 *
+	 * @param statistics the statistics to use, or <code>null</code> to use the persisted ones again
+	 * @return the statistics used so far, can be <code>null</code>
+	 */
+	public static synchronized CleanUpCostStatistics setDefault(CleanUpCostStatistics statistics) {
+		CleanUpCostStatistics previous= fgDefault;
+		fgDefault= statistics;
+		return previous;
+	}
+
+	/**
+	 * @param cleanUp the clean up
+	 * @return the expected cost of the clean up in milliseconds, or <code>-1</code> if it has never
+	 *         been recorded
+	 */
+	public synchronized long getExpectedCost(ICleanUp cleanUp) {
+		double cost= getAverage(getKey(cleanUp));
+		return cost < 0 ? -1 : Math.round(cost);
+	}
+
+	/**
+	 * Records the time a clean up took.
+	 *
+	 * @param cleanUp the clean up
+	 * @param duration the duration in milliseconds
+	 */
+	public synchronized void record(ICleanUp cleanUp, long duration) {
+		String key= getKey(cleanUp);
+		double average= getAverage(key);
+		if (average < 0) {
+			average= duration;
+		} else {
+			average= (1 - NEW_SAMPLE_WEIGHT) * average + NEW_SAMPLE_WEIGHT * duration;
+		}
+		fSettings.put(key, average);
+	}
+
+	private double getAverage(String key) {
+		if (fSettings.get(key) == null)
+			return -1;
+		try {
+			return fSettings.getDouble(key);
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	private static String getKey(ICleanUp cleanUp) {
+		return cleanUp.getClass().getName();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -40,6 +41,7 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.core.runtime.preferences.DefaultScope;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.InstanceScope;
@@ -301,6 +303,93 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 		}
 	}
 
+	/**
+	 * Runs the clean ups that did not fit into the latency budget of a save. Nothing is done if the
+	 * document has been modified since the save, according to its modification stamp. Otherwise the
+	 * change is applied to the file buffer and saved, and can be undone like any other change. The
+	 * validation of the change prevents it from being applied over edits made while it is computed.
+	 */
+	private static final class DeferredCleanUpJob extends Job {
+
+		private final ICompilationUnit fUnit;
+		private final ICleanUp[] fCleanUps;
+		private final long fDocumentStamp;
+
+		/**
+		 * @param unit the saved compilation unit
+		 * @param cleanUps the deferred clean ups
+		 * @param documentStamp the modification stamp of the document at the end of the save
+		 */
+		public DeferredCleanUpJob(ICompilationUnit unit, ICleanUp[] cleanUps, long documentStamp) {
+			super(FixMessages.CleanUpPostSaveListener_DeferredCleanUps_jobName);
+			fUnit= unit;
+			fCleanUps= cleanUps;
+			fDocumentStamp= documentStamp;
+			setRule(unit.getSchedulingRule());
+			setPriority(LONG);
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == DEFERRED_CLEAN_UPS_FAMILY;
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			ICompilationUnit unit= fUnit.exists() ? fUnit : fUnit.getPrimary();
+			CleanUpCostStatistics statistics= CleanUpCostStatistics.getDefault();
+			ICleanUp[] cleanUps= fCleanUps;
+			monitor.beginTask(getName(), IProgressMonitor.UNKNOWN);
+			try {
+				if (getDocumentStamp((IFile) unit.getResource(), Progress.subMonitor(monitor, 1)) != fDocumentStamp)
+					return Status.OK_STATUS; // edited since the save, the clean ups would apply to unsaved changes
+
+				do {
+					if (monitor.isCanceled())
+						return Status.CANCEL_STATUS;
+
+					RefactoringStatus preCondition= new RefactoringStatus();
+					for (ICleanUp cleanUp : cleanUps) {
+						preCondition.merge(cleanUp.checkPreConditions(unit.getJavaProject(), new ICompilationUnit[] { unit }, Progress.subMonitor(monitor, 5)));
+					}
+					if (preCondition.hasError())
+						return Status.OK_STATUS;
+
+					CompilationUnit ast= null;
+					if (requiresAST(cleanUps)) {
+						ast= createAst(unit, getCompilerOptions(cleanUps), Progress.subMonitor(monitor, 10));
+					}
+
+					ArrayList<ICleanUp> undoneCleanUps= new ArrayList<>();
+					CleanUpChange change= CleanUpRefactoring.calculateChange(new CleanUpContext(unit, ast), cleanUps, undoneCleanUps, null, statistics);
+
+					RefactoringStatus postCondition= new RefactoringStatus();
+					for (ICleanUp cleanUp : cleanUps) {
+						postCondition.merge(cleanUp.checkPostConditions(Progress.subMonitor(monitor, 1)));
+					}
+					if (postCondition.hasError())
+						return Status.OK_STATUS;
+
+					cleanUps= undoneCleanUps.toArray(new ICleanUp[undoneCleanUps.size()]);
+					if (change != null) {
+						change.setSaveMode(TextFileChange.KEEP_SAVE_STATE);
+						change.initializeValidationData(new NullProgressMonitor());
+
+						PerformChangeOperation performChangeOperation= new PerformChangeOperation(change);
+						performChangeOperation.setUndoManager(RefactoringCore.getUndoManager(), FixMessages.CleanUpPostSaveListener_SaveAction_ChangeName);
+						performChangeOperation.setSchedulingRule(unit.getSchedulingRule());
+						performChangeOperation.run(Progress.subMonitor(monitor, 5));
+					}
+				} while (cleanUps.length > 0);
+				return Status.OK_STATUS;
+			} catch (CoreException e) {
+				return e.getStatus();
+			} finally {
+				monitor.done();
+			}
+		}
+	}
+
 	public static final String POSTSAVELISTENER_ID= SaveParticipantPreferenceConfigurationConstants.POSTSAVELISTENER_ID;
 	private static final String WARNING_VALUE= "warning"; //$NON-NLS-1$
 	private static final String ERROR_VALUE= "error"; //$NON-NLS-1$
@@ -308,6 +397,18 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 	private static boolean FIRST_CALL= false;
 	private static boolean FIRST_CALL_DONE= false;
 
+	/**
+	 * System property with the time in milliseconds a save may spend on clean ups. Clean ups that
+	 * are expected to exceed the budget, or that are left when it is used up, are run by a
+	 * background job after the save. If not set, all clean ups are run during the save.
+	 */
+	public static final String LATENCY_BUDGET= "jdt.ui.saveActions.latencyBudget"; //$NON-NLS-1$
+
+	/**
+	 * The family of the jobs that run the clean ups deferred by a save.
+	 */
+	public static final Object DEFERRED_CLEAN_UPS_FAMILY= new Object();
+
 	@Override
 	public boolean needsChangedRegions(ICompilationUnit unit) throws CoreException {
 		ICleanUp[] cleanUps= getCleanUps(unit.getJavaProject().getProject());
@@ -327,6 +428,14 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 
 			ICleanUp[] cleanUps= getCleanUps(unit.getJavaProject().getProject());
 
+			long startTime= System.currentTimeMillis();
+			long budget= Long.getLong(LATENCY_BUDGET, 0).longValue();
+			CleanUpCostStatistics statistics= CleanUpCostStatistics.getDefault();
+			List<ICleanUp> deferredCleanUps= new ArrayList<>();
+			if (budget > 0) {
+				cleanUps= selectWithinBudget(cleanUps, budget, statistics, deferredCleanUps);
+			}
+
 			long oldFileValue= unit.getResource().getModificationStamp();
 			long oldDocValue= getDocumentStamp((IFile)unit.getResource(), Progress.subMonitor(monitor, 2));
 
@@ -360,17 +469,9 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
     				if (showStatus(preCondition) != Window.OK)
     					return;
 
-    				Map<String, String> options= new HashMap<>();
-					for (ICleanUp cleanUp : cleanUps) {
-						Map<String, String> map= cleanUp.getRequirements().getCompilerOptions();
-						if (map != null) {
-							options.putAll(map);
-						}
-					}
-
     				CompilationUnit ast= null;
     				if (requiresAST(cleanUps)) {
-    					ast= createAst(unit, options, Progress.subMonitor(monitor, 10));
+    					ast= createAst(unit, getCompilerOptions(cleanUps), Progress.subMonitor(monitor, 10));
     				}
 
     				CleanUpContext context;
@@ -381,7 +482,7 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
     				}
 
     				ArrayList<ICleanUp> undoneCleanUps= new ArrayList<>();
-					CleanUpChange change= CleanUpRefactoring.calculateChange(context, cleanUps, undoneCleanUps, slowCleanUps);
+					CleanUpChange change= CleanUpRefactoring.calculateChange(context, cleanUps, undoneCleanUps, slowCleanUps, statistics);
 
     				RefactoringStatus postCondition= new RefactoringStatus();
 					for (ICleanUp cleanUp : cleanUps) {
@@ -410,6 +511,10 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
     					performChangeOperation.getUndoChange();
     					undoEdits.addFirst(change.getUndoEdit());
     				}
+
+					if (budget > 0 && cleanUps.length > 0 && System.currentTimeMillis() - startTime > budget) {
+						cleanUps= defer(cleanUps, deferredCleanUps);
+					}
     			} while (cleanUps.length > 0);
     			success= true;
 			} finally {
@@ -423,6 +528,11 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
     			manager.addUndo(result.getName(), undo);
 			}
 
+			if (!deferredCleanUps.isEmpty()) {
+				long documentStamp= getDocumentStamp((IFile) unit.getResource(), Progress.subMonitor(monitor, 1));
+				new DeferredCleanUpJob(unit, deferredCleanUps.toArray(new ICleanUp[deferredCleanUps.size()]), documentStamp).schedule();
+			}
+
 			if (slowCleanUps != null && slowCleanUps.size() > 0)
 				showSlowCleanUpsWarning(slowCleanUps);
 		} finally {
@@ -468,6 +578,51 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 		return result;
 	}
 
+	/**
+	 * Returns the clean ups that are expected to fit into the budget, in their original order. Clean
+	 * ups without recorded cost and clean ups that require the changed regions are always run
+	 * during the save.
+	 *
+	 * @param cleanUps the clean ups to select from
+	 * @param budget the budget in milliseconds
+	 * @param statistics the recorded costs
+	 * @param deferredCleanUps collects the clean ups that do not fit into the budget
+	 * @return the clean ups to run during the save
+	 */
+	private static ICleanUp[] selectWithinBudget(ICleanUp[] cleanUps, long budget, CleanUpCostStatistics statistics, List<ICleanUp> deferredCleanUps) {
+		List<ICleanUp> result= new ArrayList<>();
+		long expectedCost= 0;
+		for (ICleanUp cleanUp : cleanUps) {
+			long cost= statistics.getExpectedCost(cleanUp);
+			if (cost > 0 && expectedCost + cost > budget && !cleanUp.getRequirements().requiresChangedRegions()) {
+				deferredCleanUps.add(cleanUp);
+			} else {
+				result.add(cleanUp);
+				expectedCost+= Math.max(cost, 0);
+			}
+		}
+		return result.toArray(new ICleanUp[result.size()]);
+	}
+
+	/**
+	 * Moves the clean ups that do not require the changed regions to the deferred clean ups.
+	 *
+	 * @param cleanUps the clean ups that are left
+	 * @param deferredCleanUps the deferred clean ups
+	 * @return the clean ups that must still be run during the save
+	 */
+	private static ICleanUp[] defer(ICleanUp[] cleanUps, List<ICleanUp> deferredCleanUps) {
+		List<ICleanUp> result= new ArrayList<>();
+		for (ICleanUp cleanUp : cleanUps) {
+			if (cleanUp.getRequirements().requiresChangedRegions()) {
+				result.add(cleanUp);
+			} else {
+				deferredCleanUps.add(cleanUp);
+			}
+		}
+		return result.toArray(new ICleanUp[result.size()]);
+	}
+
 
 	private int showStatus(RefactoringStatus status) {
 		if (!status.hasError())
@@ -479,7 +634,7 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 		return dialog.open();
     }
 
-	private long getDocumentStamp(IFile file, IProgressMonitor monitor) throws CoreException {
+	private static long getDocumentStamp(IFile file, IProgressMonitor monitor) throws CoreException {
 	    final ITextFileBufferManager manager= FileBuffers.getTextFileBufferManager();
 	    final IPath path= file.getFullPath();
 
@@ -558,7 +713,18 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 		}
 	}
 
-	private boolean requiresAST(ICleanUp[] cleanUps) {
+	private static Map<String, String> getCompilerOptions(ICleanUp[] cleanUps) {
+		Map<String, String> options= new HashMap<>();
+		for (ICleanUp cleanUp : cleanUps) {
+			Map<String, String> map= cleanUp.getRequirements().getCompilerOptions();
+			if (map != null) {
+				options.putAll(map);
+			}
+		}
+		return options;
+	}
+
+	private static boolean requiresAST(ICleanUp[] cleanUps) {
 		for (ICleanUp cleanUp : cleanUps) {
 			if (cleanUp.getRequirements().requiresAST()) {
 				return true;
@@ -578,7 +744,7 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 		return false;
 	}
 
-	private CompilationUnit createAst(ICompilationUnit unit, Map<String, String> cleanUpOptions, IProgressMonitor monitor) {
+	private static CompilationUnit createAst(ICompilationUnit unit, Map<String, String> cleanUpOptions, IProgressMonitor monitor) {
 		IJavaProject project= unit.getJavaProject();
 		if (compatibleOptions(project, cleanUpOptions)) {
 			CompilationUnit ast= SharedASTProviderCore.getAST(unit, SharedASTProviderCore.WAIT_NO, monitor);
@@ -596,7 +762,7 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 		return (CompilationUnit)parser.createAST(monitor);
 	}
 
-	private boolean compatibleOptions(IJavaProject project, Map<String, String> cleanUpOptions) {
+	private static boolean compatibleOptions(IJavaProject project, Map<String, String> cleanUpOptions) {
 		if (cleanUpOptions.isEmpty())
 			return true;
 
@@ -613,10 +779,13 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 	    return true;
     }
 
-	private boolean strongerEquals(String projectOption, String cleanUpOption) {
+	private static boolean strongerEquals(String projectOption, String cleanUpOption) {
 		if (projectOption == null)
 			return false;
 
+		if (projectOption.equals(cleanUpOption))
+			return true;
+
 		if (ERROR_VALUE.equals(cleanUpOption)) {
 			return ERROR_VALUE.equals(projectOption);
 		} else if (WARNING_VALUE.equals(cleanUpOption)) {
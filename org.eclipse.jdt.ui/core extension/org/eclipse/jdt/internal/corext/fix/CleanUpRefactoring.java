@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.jdt.internal.corext.fix;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -69,6 +70,7 @@ import org.eclipse.jdt.core.dom.ASTRequestor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.corext.dom.ASTBatchParser;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
@@ -89,6 +91,8 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
 
 import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.fix.CleanUpVisitor;
+import org.eclipse.jdt.internal.ui.fix.IFusibleCleanUp;
 import org.eclipse.jdt.internal.ui.fix.IMultiFix.MultiFixContext;
 import org.eclipse.jdt.internal.ui.fix.MapCleanUpOptions;
 import org.eclipse.jdt.internal.ui.refactoring.IScheduledRefactoring;
@@ -517,6 +521,82 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		}
 	}
 
+	/**
+	 * Runs the visitors of the {@link IFusibleCleanUp}s that work on the same AST in a single
+	 * traversal, and hands out their fixes afterwards. Other clean ups compute their fix as usual.
+	 * <p>
+	 * The time of the shared traversal can't be measured per clean up. It is split evenly among
+	 * the participating clean ups, so that they still count as slow and have their cost recorded
+	 * like clean ups that traverse the AST on their own.
+	 * </p>
+	 */
+	private static final class FusedTraversal {
+
+		private static final FusedTraversal NONE= new FusedTraversal();
+
+		private final FusedASTVisitor fVisitor= new FusedASTVisitor();
+		private final Map<ICleanUp, CleanUpVisitor> fCleanUpVisitors= new IdentityHashMap<>();
+		private final Map<ICleanUp, Long> fTraversalTimes= new IdentityHashMap<>();
+
+		public static FusedTraversal run(CleanUpContext context, ICleanUp[] cleanUps, int end) throws CoreException {
+			CompilationUnit ast= context.getAST();
+			if (ast == null || context instanceof MultiFixContext || Boolean.getBoolean(DISABLE_FUSED_TRAVERSAL))
+				return NONE;
+
+			FusedTraversal result= new FusedTraversal();
+			for (int i= 0; i < end; i++) {
+				if (cleanUps[i] instanceof IFusibleCleanUp) {
+					long timeBefore= System.currentTimeMillis();
+					CleanUpVisitor visitor= ((IFusibleCleanUp) cleanUps[i]).createCleanUpVisitor(context);
+					result.fTraversalTimes.put(cleanUps[i], Long.valueOf(System.currentTimeMillis() - timeBefore));
+					result.fCleanUpVisitors.put(cleanUps[i], visitor);
+					if (visitor != null) {
+						result.fVisitor.add(visitor, visitor.getNodeTypes());
+					}
+				}
+			}
+			if (result.fVisitor.getParticipantCount() < 2)
+				return NONE;
+
+			long timeBefore= System.currentTimeMillis();
+			ast.accept(result.fVisitor);
+			long share= (System.currentTimeMillis() - timeBefore) / result.fVisitor.getParticipantCount();
+			for (Map.Entry<ICleanUp, CleanUpVisitor> entry : result.fCleanUpVisitors.entrySet()) {
+				if (entry.getValue() != null)
+					result.fTraversalTimes.merge(entry.getKey(), Long.valueOf(share), Long::sum);
+			}
+			return result;
+		}
+
+		/**
+		 * Returns the time spent for the given clean up before its fix is created, i.e. for
+		 * creating its visitor and its share of the traversal.
+		 *
+		 * @param cleanUp the clean up
+		 * @return the time in ms, <code>0</code> if the clean up does not take part in the
+		 *         traversal
+		 */
+		public long getTraversalTime(ICleanUp cleanUp) {
+			Long time= fTraversalTimes.get(cleanUp);
+			return time != null ? time.longValue() : 0;
+		}
+
+		public ICleanUpFix createFix(ICleanUp cleanUp, CleanUpContext context) throws CoreException {
+			if (!fCleanUpVisitors.containsKey(cleanUp))
+				return cleanUp.createFix(context);
+
+			CleanUpVisitor visitor= fCleanUpVisitors.get(cleanUp);
+			if (visitor == null)
+				return null;
+
+			RuntimeException failure= fVisitor.getFailure(visitor);
+			if (failure != null)
+				throw failure;
+
+			return visitor.createFix();
+		}
+	}
+
 	private static final RefactoringTickProvider CLEAN_UP_REFACTORING_TICK_PROVIDER= new RefactoringTickProvider(1, 1, 0, 0);
 
 	/**
@@ -525,6 +605,12 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	 */
 	private static final int SLOW_CLEAN_UP_THRESHOLD= 2000;
 
+	/**
+	 * System property to compute the fix of every clean up in a traversal of its own, instead of
+	 * serving the {@link IFusibleCleanUp}s from one shared traversal.
+	 */
+	public static final String DISABLE_FUSED_TRAVERSAL= "jdt.cleanUp.disableFusedTraversal"; //$NON-NLS-1$
+
 	private final List<ICleanUp> fCleanUps;
 	private final Hashtable<IJavaProject, List<CleanUpTarget>> fProjects;
 	private Change fChange;
@@ -779,22 +865,39 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	}
 
 	public static CleanUpChange calculateChange(CleanUpContext context, ICleanUp[] cleanUps, List<ICleanUp> undoneCleanUps, HashSet<ICleanUp> slowCleanUps) throws CoreException {
+		return calculateChange(context, cleanUps, undoneCleanUps, slowCleanUps, null);
+	}
+
+	/**
+	 * Calculates the change of the given clean ups.
+	 *
+	 * @param context the context to clean up
+	 * @param cleanUps the clean ups to run
+	 * @param undoneCleanUps collects the clean ups that could not be run on the AST of the context
+	 * @param slowCleanUps collects the slow clean ups, or <code>null</code>
+	 * @param statistics records the cost of every clean up that is run, or <code>null</code>
+	 * @return the change, or <code>null</code> if there is nothing to change
+	 * @throws CoreException if a clean up fails
+	 */
+	public static CleanUpChange calculateChange(CleanUpContext context, ICleanUp[] cleanUps, List<ICleanUp> undoneCleanUps, HashSet<ICleanUp> slowCleanUps, CleanUpCostStatistics statistics) throws CoreException {
 		if (cleanUps.length == 0)
 			return null;
 
+		// all clean ups up to the first one that requires a fresh AST work on the same AST
+		int end= 1;
+		while (end < cleanUps.length && (context.getAST() == null || !cleanUps[end].getRequirements().requiresFreshAST())) {
+			end++;
+		}
+		FusedTraversal traversal= FusedTraversal.run(context, cleanUps, end);
+
 		CleanUpChange solution= null;
 		int i= 0;
 		do {
 			ICleanUp cleanUp= cleanUps[i];
-			ICleanUpFix fix;
-			if (slowCleanUps != null) {
-				long timeBefore= System.currentTimeMillis();
-				fix= cleanUp.createFix(context);
-				if (System.currentTimeMillis() - timeBefore > SLOW_CLEAN_UP_THRESHOLD)
-					slowCleanUps.add(cleanUp);
-			} else {
-				fix= cleanUp.createFix(context);
-			}
+			long timeBefore= System.currentTimeMillis() - traversal.getTraversalTime(cleanUp);
+			ICleanUpFix fix= traversal.createFix(cleanUp, context);
+			if (slowCleanUps != null && System.currentTimeMillis() - timeBefore > SLOW_CLEAN_UP_THRESHOLD)
+				slowCleanUps.add(cleanUp);
 			if (fix != null) {
 				CompilationUnitChange current= fix.createChange(null);
 				TextEdit currentEdit= current.getEdit();
@@ -818,8 +921,10 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 					copyChangeGroups(solution, current);
 				}
 			}
+			if (statistics != null)
+				statistics.record(cleanUp, System.currentTimeMillis() - timeBefore);
 			i++;
-		} while (i < cleanUps.length && (context.getAST() == null || !cleanUps[i].getRequirements().requiresFreshAST()));
+		} while (i < end);
 
 		for (; i < cleanUps.length; i++) {
 			undoneCleanUps.add(cleanUps[i]);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Nicolaj Hoess and others.
+ * Copyright (c) 2019, 2026 Nicolaj Hoess and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -518,7 +518,7 @@ public class JavaPostfixContext extends JavaContext {
 	 *
 	 * @return an empty string or a string which represents the prefix of the key which was typed in
 	 */
-	private String getPrefixKey() {
+	public String getPrefixKey() {
 		if (completionCtx != null) {
 			IDocument document= getDocument();
 			int start= completionCtx.getTokenStart();
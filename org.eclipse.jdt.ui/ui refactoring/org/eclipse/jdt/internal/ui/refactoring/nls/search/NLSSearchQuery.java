@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,11 @@
 
 package org.eclipse.jdt.internal.ui.refactoring.nls.search;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -36,8 +41,10 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
 import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
 
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.corext.refactoring.nls.NLSRefactoring;
@@ -72,6 +79,88 @@ public class NLSSearchQuery implements ISearchQuery {
 		fScopeDescription= scopeDescription;
 	}
 
+	/**
+	 * Forwards the references to the accessor classes found by one search to the requestors of
+	 * the referenced classes. If the simple name at the end of a reference belongs to only one
+	 * accessor class, it identifies the class. Otherwise, e.g. for several classes named
+	 * <code>Messages</code>, the reference is resolved to the referenced type.
+	 *
+	 * @since 3.35
+	 */
+	private static final class AccessorReferenceDispatcher extends SearchRequestor {
+
+		private final Map<String, NLSSearchResultRequestor> fRequestorsByName;
+		private final Set<String> fSharedNames;
+		private final Map<IJavaElement, NLSSearchResultRequestor> fRequestorsByClass;
+		private final NLSSourceCache fSourceCache;
+
+		AccessorReferenceDispatcher(NLSSourceCache sourceCache) {
+			fRequestorsByName= new HashMap<>();
+			fSharedNames= new HashSet<>();
+			fRequestorsByClass= new HashMap<>();
+			fSourceCache= sourceCache;
+		}
+
+		void add(IJavaElement wrapperClass, NLSSearchResultRequestor requestor) {
+			String name= wrapperClass.getElementName();
+			if (fRequestorsByName.put(name, requestor) != null)
+				fSharedNames.add(name);
+			fRequestorsByClass.put(wrapperClass, requestor);
+		}
+
+		int size() {
+			return fRequestorsByClass.size();
+		}
+
+		@Override
+		public void beginReporting() {
+			for (NLSSearchResultRequestor requestor : fRequestorsByClass.values())
+				requestor.beginReporting();
+		}
+
+		@Override
+		public void acceptSearchMatch(SearchMatch match) throws CoreException {
+			NLSSearchResultRequestor requestor= findRequestor(match);
+			if (requestor != null)
+				requestor.acceptSearchMatch(match);
+		}
+
+		/*
+		 * Only references in compilation units can refer to keys, NLSSearchResultRequestor
+		 * ignores the others.
+		 */
+		private NLSSearchResultRequestor findRequestor(SearchMatch match) throws CoreException {
+			if (!(match.getElement() instanceof IJavaElement))
+				return null;
+			ICompilationUnit unit= (ICompilationUnit) ((IJavaElement) match.getElement()).getAncestor(IJavaElement.COMPILATION_UNIT);
+			if (unit == null)
+				return null;
+			String source= fSourceCache.getSource(unit);
+			int offset= match.getOffset();
+			int end= offset + match.getLength();
+			if (source == null || offset < 0 || end <= offset || end > source.length())
+				return null;
+
+			int start= end;
+			while (start > offset && Character.isJavaIdentifierPart(source.charAt(start - 1)))
+				start--;
+			String name= source.substring(start, end);
+			if (fSharedNames.contains(name))
+				return resolve(unit, start, end - start);
+			NLSSearchResultRequestor requestor= fRequestorsByName.get(name);
+			if (requestor != null)
+				return requestor;
+
+			// the name is written with unicode escapes
+			return resolve(unit, offset, end - offset);
+		}
+
+		private NLSSearchResultRequestor resolve(ICompilationUnit unit, int offset, int length) throws JavaModelException {
+			IJavaElement[] elements= unit.codeSelect(offset, length);
+			return elements.length == 1 ? fRequestorsByClass.get(elements[0]) : null;
+		}
+	}
+
 	/*
 	 * @see org.eclipse.search.ui.ISearchQuery#run(org.eclipse.core.runtime.IProgressMonitor)
 	 */
@@ -90,43 +179,25 @@ public class NLSSearchQuery implements ISearchQuery {
 					return JavaUIStatus.createError(0, Messages.format(NLSSearchMessages.NLSSearchQuery_wrapperNotExists, JavaElementLabels.getElementLabel(wrapperClass, JavaElementLabels.ALL_DEFAULT)), null);
 				if (! propertieFile.exists())
 					return JavaUIStatus.createError(0, Messages.format(NLSSearchMessages.NLSSearchQuery_propertiesNotExists, BasicElementLabels.getResourceName(propertieFile)), null);
+			}
 
-				SearchPattern pattern= SearchPattern.createPattern(wrapperClass, IJavaSearchConstants.REFERENCES, SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
-				if (pattern == null) {
-					continue;
-				}
-				SearchParticipant[] participants= new SearchParticipant[] {SearchEngine.getDefaultSearchParticipant()};
-
-				NLSSearchResultRequestor requestor= new NLSSearchResultRequestor(propertieFile, fResult);
-				try {
-					SearchEngine engine= new SearchEngine();
-					engine.search(pattern, participants, fScope, requestor, Progress.subMonitor(monitor, 4));
-					requestor.reportUnusedPropertyNames(Progress.subMonitor(monitor, 1));
-
-					ICompilationUnit compilationUnit= ((IType)wrapperClass).getCompilationUnit();
-					CompilationUnitEntry groupElement= new CompilationUnitEntry(NLSSearchMessages.NLSSearchResultCollector_unusedKeys, compilationUnit);
-
-					boolean hasUnusedPropertie= false;
-					for (IField field : ((IType)wrapperClass).getFields()) {
-						if (isNLSField(field)) {
-							ISourceRange sourceRange= field.getSourceRange();
-							if (sourceRange != null) {
-								String fieldName= field.getElementName();
-								if (!requestor.hasPropertyKey(fieldName)) {
-									fResult.addMatch(new Match(compilationUnit, sourceRange.getOffset(), sourceRange.getLength()));
-								}
-								if (!requestor.isUsedPropertyKey(fieldName) && !requestor.isSpecifiedAsUsed(fieldName)) {
-									hasUnusedPropertie= true;
-									fResult.addMatch(new Match(groupElement, sourceRange.getOffset(), sourceRange.getLength()));
-								}
-							}
-						}
-					}
-					if (hasUnusedPropertie)
-						fResult.addCompilationUnitGroup(groupElement);
-				} catch (CoreException e) {
-					return new Status(e.getStatus().getSeverity(), JavaPlugin.getPluginId(), IStatus.OK, NLSSearchMessages.NLSSearchQuery_error, e);
+			NLSSourceCache sourceCache= new NLSSourceCache();
+			SearchPattern[] patterns= new SearchPattern[fWrapperClass.length];
+			NLSSearchResultRequestor[] requestors= new NLSSearchResultRequestor[fWrapperClass.length];
+			for (int i= 0; i < fWrapperClass.length; i++) {
+				patterns[i]= SearchPattern.createPattern(fWrapperClass[i], IJavaSearchConstants.REFERENCES, SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
+				if (patterns[i] != null)
+					requestors[i]= new NLSSearchResultRequestor(fPropertiesFile[i], fResult, sourceCache);
+			}
+
+			try {
+				search(patterns, requestors, sourceCache, monitor);
+				for (int i= 0; i < fWrapperClass.length; i++) {
+					if (requestors[i] != null)
+						reportProblems((IType) fWrapperClass[i], requestors[i], Progress.subMonitor(monitor, 1));
 				}
+			} catch (CoreException e) {
+				return new Status(e.getStatus().getSeverity(), JavaPlugin.getPluginId(), IStatus.OK, NLSSearchMessages.NLSSearchQuery_error, e);
 			}
 		} finally {
 			monitor.done();
@@ -134,6 +205,57 @@ public class NLSSearchQuery implements ISearchQuery {
 		return 	Status.OK_STATUS;
 	}
 
+	/**
+	 * Searches the references to all accessor classes with a single search. Searching each class
+	 * separately would visit every compilation unit that mentions its simple name once per class.
+	 *
+	 * @param patterns the patterns of the accessor classes, <code>null</code> to skip a class
+	 * @param requestors the requestors of the accessor classes
+	 * @param sourceCache the cache of the sources shared by the requestors
+	 * @param monitor the progress monitor
+	 * @throws CoreException if the search failed
+	 */
+	private void search(SearchPattern[] patterns, NLSSearchResultRequestor[] requestors, NLSSourceCache sourceCache, IProgressMonitor monitor) throws CoreException {
+		AccessorReferenceDispatcher dispatcher= new AccessorReferenceDispatcher(sourceCache);
+		SearchPattern combined= null;
+		for (int i= 0; i < fWrapperClass.length; i++) {
+			if (patterns[i] != null) {
+				dispatcher.add(fWrapperClass[i], requestors[i]);
+				combined= combined == null ? patterns[i] : SearchPattern.createOrPattern(combined, patterns[i]);
+			}
+		}
+		if (combined != null) {
+			SearchParticipant[] participants= new SearchParticipant[] {SearchEngine.getDefaultSearchParticipant()};
+			new SearchEngine().search(combined, participants, fScope, dispatcher, Progress.subMonitor(monitor, 4 * dispatcher.size()));
+		}
+	}
+
+	private void reportProblems(IType wrapperClass, NLSSearchResultRequestor requestor, IProgressMonitor monitor) throws CoreException {
+		requestor.reportUnusedPropertyNames(monitor);
+
+		ICompilationUnit compilationUnit= wrapperClass.getCompilationUnit();
+		CompilationUnitEntry groupElement= new CompilationUnitEntry(NLSSearchMessages.NLSSearchResultCollector_unusedKeys, compilationUnit);
+
+		boolean hasUnusedPropertie= false;
+		for (IField field : wrapperClass.getFields()) {
+			if (isNLSField(field)) {
+				ISourceRange sourceRange= field.getSourceRange();
+				if (sourceRange != null) {
+					String fieldName= field.getElementName();
+					if (!requestor.hasPropertyKey(fieldName)) {
+						fResult.addMatch(new Match(compilationUnit, sourceRange.getOffset(), sourceRange.getLength()));
+					}
+					if (!requestor.isUsedPropertyKey(fieldName) && !requestor.isSpecifiedAsUsed(fieldName)) {
+						hasUnusedPropertie= true;
+						fResult.addMatch(new Match(groupElement, sourceRange.getOffset(), sourceRange.getLength()));
+					}
+				}
+			}
+		}
+		if (hasUnusedPropertie)
+			fResult.addCompilationUnitGroup(groupElement);
+	}
+
 	private boolean isNLSField(IField field) throws JavaModelException {
 		int flags= field.getFlags();
 		if (!Flags.isPublic(flags))
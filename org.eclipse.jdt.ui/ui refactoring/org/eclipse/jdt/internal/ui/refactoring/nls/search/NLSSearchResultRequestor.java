@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,9 +17,11 @@ import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
@@ -40,12 +42,9 @@ import org.eclipse.search.ui.text.Match;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IJavaElement;
-import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.ISourceReference;
 import org.eclipse.jdt.core.IType;
-import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.Signature;
-import org.eclipse.jdt.core.ToolFactory;
 import org.eclipse.jdt.core.compiler.IScanner;
 import org.eclipse.jdt.core.compiler.ITerminalSymbols;
 import org.eclipse.jdt.core.compiler.InvalidInputException;
@@ -86,10 +85,30 @@ class NLSSearchResultRequestor extends SearchRequestor {
 	private Properties fProperties;
 	private Properties fSpecifiedAsUsedProperties;
 	private HashSet<String> fUsedPropertyNames;
+	private final NLSSourceCache fSourceCache;
+	/**
+	 * The lines of the properties file that end with a line delimiter, read on demand.
+	 * @since 3.35
+	 */
+	private List<String> fPropertyLines;
+	/**
+	 * The lengths of the line delimiters of <code>fPropertyLines</code>.
+	 * @since 3.35
+	 */
+	private List<Integer> fPropertyLineDelimiters;
 
-	public NLSSearchResultRequestor(IFile propertiesFile, NLSSearchResult result) {
+	/**
+	 * Creates a requestor.
+	 *
+	 * @param propertiesFile the properties file of the accessor class
+	 * @param result the result to add the matches to
+	 * @param sourceCache the sources of the compilation units, shared with the requestors of
+	 *            the other accessor classes
+	 */
+	public NLSSearchResultRequestor(IFile propertiesFile, NLSSearchResult result, NLSSourceCache sourceCache) {
 		fPropertiesFile= propertiesFile;
 		fResult= result;
+		fSourceCache= sourceCache;
 	}
 
 	/*
@@ -248,20 +267,11 @@ class NLSSearchResultRequestor extends SearchRequestor {
 		if (unit == null)
 			return null;
 
-		String source= unit.getSource();
+		String source= fSourceCache.getSource(unit);
 		if (source == null)
 			return null;
 
-		IJavaProject javaProject= unit.getJavaProject();
-		IScanner scanner= null;
-		if (javaProject != null) {
-			String complianceLevel= javaProject.getOption(JavaCore.COMPILER_COMPLIANCE, true);
-			String sourceLevel= javaProject.getOption(JavaCore.COMPILER_SOURCE, true);
-			scanner= ToolFactory.createScanner(false, false, false, sourceLevel, complianceLevel);
-		} else {
-			scanner= ToolFactory.createScanner(false, false, false, false);
-		}
-		scanner.setSource(source.toCharArray());
+		IScanner scanner= fSourceCache.getScanner(unit);
 		scanner.resetTo(keyPositionResult.getOffset() + keyPositionResult.getLength(), source.length());
 
 		try {
@@ -339,6 +349,36 @@ class NLSSearchResultRequestor extends SearchRequestor {
 	 * @return	the start position of the property name in the file, -1 if not found
 	 */
 	private int findPropertyNameStartPosition(String propertyName) {
+		if (fPropertyLines == null && !readPropertyLines())
+			return -1;
+
+		int start= 0;
+		int keyLength= propertyName.length();
+		for (int n= 0; n < fPropertyLines.size(); n++) {
+			String line= fPropertyLines.get(n);
+			int i= line.indexOf(propertyName);
+			int charPos= i + keyLength;
+			char terminatorChar= 0;
+			boolean hasNoValue= (charPos >= line.length());
+			if (i > -1 && !hasNoValue) {
+				terminatorChar= line.charAt(charPos);
+			}
+			if (line.trim().startsWith(propertyName) &&
+					(hasNoValue || Character.isWhitespace(terminatorChar) || terminatorChar == '=')) {
+				return start + i;
+			}
+			start+= line.length() + fPropertyLineDelimiters.get(n).intValue();
+		}
+		return -1; //key not found in file. See bug 63794. This can happen if the key contains escaped characters.
+	}
+
+	/**
+	 * Reads the lines of the properties file once for all the keys to report.
+	 *
+	 * @return <code>true</code> if the file could be read, <code>false</code> otherwise
+	 * @since 3.35
+	 */
+	private boolean readPropertyLines() {
 		// Fix for http://dev.eclipse.org/bugs/show_bug.cgi?id=19319
 		String encoding;
 		try {
@@ -347,36 +387,21 @@ class NLSSearchResultRequestor extends SearchRequestor {
 			encoding= "ISO-8859-1";  //$NON-NLS-1$
 		}
 		try (InputStream stream= createInputStream(fPropertiesFile); LineReader lineReader= new LineReader(stream, encoding)) {
-			int start= 0;
+			List<String> lines= new ArrayList<>();
+			List<Integer> delimiters= new ArrayList<>();
 			StringBuffer buf= new StringBuffer(80);
 			int eols= lineReader.readLine(buf);
-			int keyLength= propertyName.length();
 			while (eols > 0) {
-				String line= buf.toString();
-				int i= line.indexOf(propertyName);
-				int charPos= i + keyLength;
-				char terminatorChar= 0;
-				boolean hasNoValue= (charPos >= line.length());
-				if (i > -1 && !hasNoValue) {
-					terminatorChar= line.charAt(charPos);
-				}
-				if (line.trim().startsWith(propertyName) &&
-						(hasNoValue || Character.isWhitespace(terminatorChar) || terminatorChar == '=')) {
-					start+= line.indexOf(propertyName);
-					eols= -17; // found key
-				} else {
-					start+= line.length() + eols;
-					buf.setLength(0);
-					eols= lineReader.readLine(buf);
-				}
-			}
-			if (eols != -17) {
-				start= -1; //key not found in file. See bug 63794. This can happen if the key contains escaped characters.
+				lines.add(buf.toString());
+				delimiters.add(Integer.valueOf(eols));
+				eols= lineReader.readLine(buf);
 			}
-			return start;
+			fPropertyLines= lines;
+			fPropertyLineDelimiters= delimiters;
+			return true;
 		} catch (CoreException | IOException ex) {
 			JavaPlugin.log(ex);
-			return -1;
+			return false;
 		}
 	}
 
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.refactoring.nls.search;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.ToolFactory;
+import org.eclipse.jdt.core.compiler.IScanner;
+
+/**
+ * The source and a scanner of the compilation unit that contains the latest reference to an
+ * accessor class. The search engine reports the matches document by document, so all the
+ * references in a compilation unit share the source and the scanner, whichever accessor class
+ * they refer to.
+ *
+ * @since 3.35
+ */
+final class NLSSourceCache {
+
+	private ICompilationUnit fUnit;
+	private String fSource;
+	private IScanner fScanner;
+
+	/**
+	 * Returns the source of a compilation unit.
+	 *
+	 * @param unit the compilation unit
+	 * @return the source, or <code>null</code> if the unit has no source
+	 * @throws JavaModelException if the source cannot be read
+	 */
+	String getSource(ICompilationUnit unit) throws JavaModelException {
+		update(unit);
+		return fSource;
+	}
+
+	/**
+	 * Returns a scanner on the source of a compilation unit. The scanner is shared, clients have
+	 * to reset it before reading tokens.
+	 *
+	 * @param unit the compilation unit
+	 * @return the scanner, or <code>null</code> if the unit has no source
+	 * @throws JavaModelException if the source cannot be read
+	 */
+	IScanner getScanner(ICompilationUnit unit) throws JavaModelException {
+		update(unit);
+		if (fScanner == null && fSource != null) {
+			IJavaProject javaProject= unit.getJavaProject();
+			if (javaProject != null) {
+				String complianceLevel= javaProject.getOption(JavaCore.COMPILER_COMPLIANCE, true);
+				String sourceLevel= javaProject.getOption(JavaCore.COMPILER_SOURCE, true);
+				fScanner= ToolFactory.createScanner(false, false, false, sourceLevel, complianceLevel);
+			} else {
+				fScanner= ToolFactory.createScanner(false, false, false, false);
+			}
+			fScanner.setSource(fSource.toCharArray());
+		}
+		return fScanner;
+	}
+
+	private void update(ICompilationUnit unit) throws JavaModelException {
+		if (unit.equals(fUnit))
+			return;
+		fUnit= null;
+		fScanner= null;
+		fSource= unit.getSource();
+		fUnit= unit;
+	}
+}
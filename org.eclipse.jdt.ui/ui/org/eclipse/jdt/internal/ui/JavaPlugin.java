@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -93,6 +93,7 @@ import org.eclipse.jdt.core.WorkingCopyOwner;
 import org.eclipse.jdt.core.manipulation.JavaManipulation;
 
 import org.eclipse.jdt.internal.core.manipulation.CodeTemplateContextType;
+import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelCache;
 import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper;
 import org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapperDynamic;
@@ -209,6 +210,13 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 
 	private volatile MembersOrderPreferenceCache fMembersOrderPreferenceCache;
 
+	/**
+	 * The cache of the labels returned by {@link org.eclipse.jdt.ui.JavaElementLabels}, and the listener that clears
+	 * it when the label preferences change. Guarded by this plug-in.
+	 */
+	private JavaElementLabelCache fJavaElementLabelCache;
+	private IPropertyChangeListener fJavaElementLabelCacheListener;
+
 	private volatile JavaEditorTextHoverDescriptor[] fJavaEditorTextHoverDescriptors;
 
 	/**
@@ -519,6 +527,16 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 				fMembersOrderPreferenceCache= null;
 			}
 
+			synchronized (this) {
+				if (fJavaElementLabelCacheListener != null) {
+					PreferenceConstants.getPreferenceStore().removePropertyChangeListener(fJavaElementLabelCacheListener);
+					fJavaElementLabelCacheListener= null;
+				}
+				// the disposed cache is kept, so that labels requested while stopping do not register a new one
+				if (fJavaElementLabelCache != null)
+					fJavaElementLabelCache.dispose();
+			}
+
 			if (fSaveParticipantRegistry != null) {
 				fSaveParticipantRegistry.dispose();
 				fSaveParticipantRegistry= null;
@@ -691,6 +709,24 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 		}
 	}
 
+	/**
+	 * Returns the cache of the labels returned by {@link org.eclipse.jdt.ui.JavaElementLabels}. Once this plug-in has
+	 * been stopped, the returned cache is disposed and does not cache labels anymore.
+	 *
+	 * @return the label cache
+	 * @since 3.35
+	 */
+	public synchronized JavaElementLabelCache getJavaElementLabelCache() {
+		if (fJavaElementLabelCache == null) {
+			JavaElementLabelCache cache= new JavaElementLabelCache();
+			// the labels depend on the package name compression and abbreviation preferences
+			fJavaElementLabelCacheListener= event -> cache.clear();
+			PreferenceConstants.getPreferenceStore().addPropertyChangeListener(fJavaElementLabelCacheListener);
+			fJavaElementLabelCache= cache;
+		}
+		return fJavaElementLabelCache;
+	}
+
 	public MembersOrderPreferenceCache getMemberOrderPreferenceCache() {
 		// initialized on startup
 		return fMembersOrderPreferenceCache;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,6 +29,7 @@ import org.eclipse.jdt.internal.core.manipulation.util.Strings;
 import org.eclipse.jdt.internal.corext.util.CodeFormatterUtil;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.text.JavaBracketIndex;
 import org.eclipse.jdt.internal.ui.text.JavaHeuristicScanner;
 import org.eclipse.jdt.internal.ui.text.JavaIndenter;
 import org.eclipse.jdt.ui.text.IJavaPartitions;
@@ -59,8 +60,9 @@ import org.eclipse.ui.texteditor.TextEditorAction;
 /**
  * Indents a line or range of lines in a Java document to its correct position. No complete
  * AST must be present, the indentation is computed using heuristics. The algorithm used is fast for
- * single lines, but does not store any information and therefore not so efficient for large line
- * ranges.
+ * single lines. When a range of lines is indented, the peers of the document are indexed in one
+ * forward pass first, so that the scopes before each line are skipped instead of scanned again
+ * (see {@link JavaBracketIndex}).
  *
  * @see org.eclipse.jdt.internal.ui.text.JavaHeuristicScanner
  * @see org.eclipse.jdt.internal.ui.text.JavaIndenter
@@ -169,10 +171,12 @@ public class IndentAction extends TextEditorAction {
 					JavaHeuristicScanner scanner= new JavaHeuristicScanner(document);
 					JavaIndenter indenter= new JavaIndenter(document, scanner, getJavaProject());
 					final boolean multiLine= nLines > 1;
+					JavaBracketIndex index= multiLine ? JavaBracketIndex.create(document) : null;
+					indenter.setBracketIndex(index);
 					boolean hasChanged= false;
 					TextBlockInfo textBlockInfo= new TextBlockInfo(-1, -1);
 					for (int i= 0; i < nLines; i++) {
-						hasChanged |= indentLine(document, firstLine + i, offset, indenter, scanner, multiLine, textBlockInfo);
+						hasChanged |= indentLine(document, firstLine + i, offset, indenter, scanner, index, multiLine, textBlockInfo);
 					}
 
 					// update caret position: move to new position when indenting just one line
@@ -276,11 +280,37 @@ public class IndentAction extends TextEditorAction {
 	 * @since 3.4
 	 */
 	public static TextEdit indent(IDocument document, IJavaProject project) throws BadLocationException {
+		return indent(document, project, true);
+	}
+
+	/**
+	 * Indent the given <code>document</code> based on the <code>project</code> settings and
+	 * return a text edit describing the changes applied to the document. Returns <b>null</b>
+	 * if no changes have been applied.
+	 * <p>
+	 * WARNING: This method does change the content of the given document.
+	 * </p>
+	 * <p>
+	 * This method is for internal use only, it should not be called.
+	 * </p>
+	 *
+	 * @param document the document to indent must have a java partitioning installed
+	 * @param project the project to retrieve the indentation settings from, <b>null</b> for workspace settings
+	 * @param useBracketIndex <code>true</code> to index the peers of the document before indenting,
+	 *            <code>false</code> to scan the scopes before every line
+	 * @return a text edit describing the changes or <b>null</b> if no changes required
+	 * @throws BadLocationException if the document got modified concurrently
+	 *
+	 * @since 3.35
+	 */
+	public static TextEdit indent(IDocument document, IJavaProject project, boolean useBracketIndex) throws BadLocationException {
 		int offset= 0;
 		int length= document.getLength();
 
 		JavaHeuristicScanner scanner= new JavaHeuristicScanner(document);
 		JavaIndenter indenter= new JavaIndenter(document, scanner, project);
+		JavaBracketIndex index= useBracketIndex ? JavaBracketIndex.create(document) : null;
+		indenter.setBracketIndex(index);
 
 		ArrayList<ReplaceEdit> edits= new ArrayList<>();
 
@@ -304,6 +334,8 @@ public class IndentAction extends TextEditorAction {
 				//We need to change the document, the indenter depends on it.
 				document.replace(data.offset, replaceLength, data.indent);
 				shift-= data.indent.length() - replaceLength;
+				if (index != null)
+					index.indentationChanged(firstLine + i, data.indent.length() - replaceLength);
 			}
 		}
 
@@ -527,12 +559,13 @@ public class IndentAction extends TextEditorAction {
 	 * @param caret the caret position
 	 * @param indenter the java indenter
 	 * @param scanner the heuristic scanner
+	 * @param index the index used by the indenter, to be updated if the line is changed, or <code>null</code>
 	 * @param multiLine <code>true</code> if more than one line is being indented
 	 * @param textBlockInfo info about latest Text Block being indented
 	 * @return <code>true</code> if <code>document</code> was modified, <code>false</code> otherwise
 	 * @throws BadLocationException if the document got changed concurrently
 	 */
-	private boolean indentLine(IDocument document, int line, int caret, JavaIndenter indenter, JavaHeuristicScanner scanner, boolean multiLine, TextBlockInfo textBlockInfo) throws BadLocationException {
+	private boolean indentLine(IDocument document, int line, int caret, JavaIndenter indenter, JavaHeuristicScanner scanner, JavaBracketIndex index, boolean multiLine, TextBlockInfo textBlockInfo) throws BadLocationException {
 		IJavaProject project= getJavaProject();
 
 		ReplaceData data= computeReplaceData(document, line, indenter, scanner, multiLine, fIsTabAction, textBlockInfo, project);
@@ -549,6 +582,8 @@ public class IndentAction extends TextEditorAction {
 		if (fIsTabAction && caret == end && whiteSpaceLength(currentIndent, project) >= whiteSpaceLength(indent, project)) {
 			String tab= getTabEquivalent(project);
 			document.replace(caret, 0, tab);
+			if (index != null)
+				index.indentationChanged(line, tab.length());
 			fCaretOffset= caret + tab.length();
 			return true;
 		}
@@ -562,6 +597,8 @@ public class IndentAction extends TextEditorAction {
 		// only change the document if it is a real change
 		if (!indent.equals(currentIndent)) {
 			document.replace(offset, length, indent);
+			if (index != null)
+				index.indentationChanged(line, indent.length() - length);
 			return true;
 		} else
 			return false;
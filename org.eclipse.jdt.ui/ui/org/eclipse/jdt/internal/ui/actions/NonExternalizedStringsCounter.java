@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.actions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.IntStream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jface.text.BadLocationException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.compiler.InvalidInputException;
+
+import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
+import org.eclipse.jdt.internal.corext.refactoring.nls.NLSElement;
+import org.eclipse.jdt.internal.corext.refactoring.nls.NLSLine;
+import org.eclipse.jdt.internal.corext.refactoring.nls.NLSScanner;
+import org.eclipse.jdt.internal.corext.util.Messages;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Counts the string literals without <code>$NON-NLS-n$</code> tag in many compilation units.
+ * <p>
+ * The units are scanned in parallel. Units that are not open are read from their files, so that
+ * scanning a whole project does not fill the Java model cache, and units whose source cannot
+ * contain a string literal are not scanned at all.
+ * </p>
+ *
+ * @since 3.35
+ */
+public final class NonExternalizedStringsCounter {
+
+	private static final char BYTE_ORDER_MARK= '\uFEFF';
+
+	private NonExternalizedStringsCounter() {
+	}
+
+	/**
+	 * Counts the non-externalized strings of compilation units.
+	 *
+	 * @param units the compilation units
+	 * @param monitor the progress monitor
+	 * @return the number of non-externalized strings of each unit, in the order of
+	 *         <code>units</code>
+	 * @throws CoreException if a unit cannot be read or scanned
+	 */
+	public static int[] count(List<ICompilationUnit> units, IProgressMonitor monitor) throws CoreException {
+		int[] result= new int[units.size()];
+		scan(units, (index, count) -> result[index]= count, monitor);
+		return result;
+	}
+
+	/**
+	 * Counts the non-externalized strings of compilation units and reports every unit that has
+	 * some as soon as it has been scanned.
+	 *
+	 * @param units the compilation units
+	 * @param requestor receives the units with non-externalized strings and their number; it is
+	 *            called from the scanning threads and in no particular order
+	 * @param monitor the progress monitor
+	 * @throws CoreException if a unit cannot be read or scanned
+	 */
+	public static void count(List<ICompilationUnit> units, ObjIntConsumer<ICompilationUnit> requestor, IProgressMonitor monitor) throws CoreException {
+		scan(units, (index, count) -> {
+			if (count != 0)
+				requestor.accept(units.get(index), count);
+		}, monitor);
+	}
+
+	private static void scan(List<ICompilationUnit> units, CountRequestor requestor, IProgressMonitor monitor) throws CoreException {
+		monitor.beginTask("", units.size()); //$NON-NLS-1$
+		try {
+			List<CoreException> failures= Collections.synchronizedList(new ArrayList<>());
+			IntStream.range(0, units.size()).parallel().forEach(index -> {
+				if (monitor.isCanceled())
+					throw new OperationCanceledException();
+				try {
+					requestor.accept(index, count(units.get(index)));
+				} catch (CoreException e) {
+					failures.add(e);
+				}
+				synchronized (monitor) {
+					monitor.worked(1);
+				}
+			});
+			if (!failures.isEmpty())
+				throw failures.get(0);
+		} finally {
+			monitor.done();
+		}
+	}
+
+	private static int count(ICompilationUnit cu) throws CoreException {
+		char[] content= getContents(cu);
+		if (!mayContainStringLiteral(content))
+			return 0;
+		try {
+			int result= 0;
+			for (NLSLine line : NLSScanner.scan(cu, content)) {
+				for (NLSElement element : line.getElements()) {
+					if (!element.hasTag())
+						result++;
+				}
+			}
+			return result;
+		} catch (InvalidInputException | BadLocationException e) {
+			throw new CoreException(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), IStatus.ERROR, Messages.format(ActionMessages.FindStringsToExternalizeAction_error_cannotBeParsed,
+					BasicElementLabels.getFileName(cu)), e));
+		}
+	}
+
+	private static char[] getContents(ICompilationUnit cu) throws CoreException {
+		IResource resource= cu.getResource();
+		if (cu.isWorkingCopy() || cu.isOpen() || !(resource instanceof IFile))
+			return cu.getBuffer().getCharacters();
+
+		IFile file= (IFile) resource;
+		try (InputStream stream= file.getContents(true)) {
+			String content= new String(stream.readAllBytes(), Charset.forName(file.getCharset()));
+			if (!content.isEmpty() && content.charAt(0) == BYTE_ORDER_MARK)
+				content= content.substring(1);
+			return content.toCharArray();
+		} catch (IOException e) {
+			throw new CoreException(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), IStatus.ERROR, e.getMessage(), e));
+		}
+	}
+
+	/*
+	 * String literals and text blocks start with a quote, which can also be written as a unicode
+	 * escape.
+	 */
+	private static boolean mayContainStringLiteral(char[] content) {
+		for (int i= 0; i < content.length; i++) {
+			char ch= content[i];
+			if (ch == '"' || (ch == '\\' && i + 1 < content.length && content[i + 1] == 'u'))
+				return true;
+		}
+		return false;
+	}
+
+	private interface CountRequestor {
+		void accept(int index, int count);
+	}
+}
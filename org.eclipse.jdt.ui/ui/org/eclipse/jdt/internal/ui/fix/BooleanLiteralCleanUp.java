@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2024 Fabrice TIERCELIN and others.
+ * Copyright (c) 2020, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.fix;
 
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
@@ -25,7 +23,6 @@ import org.eclipse.text.edits.TextEditGroup;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.dom.AST;
-import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.BooleanLiteral;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.ITypeBinding;
@@ -33,9 +30,9 @@ import org.eclipse.jdt.core.dom.QualifiedName;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 
+import org.eclipse.jdt.internal.common.VisitorEnum;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
-import org.eclipse.jdt.internal.corext.fix.CompilationUnitRewriteOperationsFix;
 import org.eclipse.jdt.internal.corext.fix.CompilationUnitRewriteOperationsFixCore.CompilationUnitRewriteOperationWithSourceRange;
 import org.eclipse.jdt.internal.corext.fix.LinkedProposalModelCore;
 import org.eclipse.jdt.internal.corext.refactoring.structure.CompilationUnitRewrite;
@@ -47,7 +44,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
 /**
  * A fix that replaces Boolean.TRUE/Boolean.FALSE by true/false when used as primitive.
  */
-public class BooleanLiteralCleanUp extends AbstractMultiFix implements ICleanUpFix {
+public class BooleanLiteralCleanUp extends AbstractFusibleMultiFix implements ICleanUpFix {
 	public BooleanLiteralCleanUp() {
 		this(Collections.emptyMap());
 	}
@@ -81,40 +78,31 @@ public class BooleanLiteralCleanUp extends AbstractMultiFix implements ICleanUpF
 	}
 
 	@Override
-	protected ICleanUpFix createFix(CompilationUnit unit) throws CoreException {
+	protected CleanUpVisitor createVisitor(CompilationUnit unit) {
 		if (!isEnabled(CleanUpConstants.PREFER_BOOLEAN_LITERAL)) {
 			return null;
 		}
 
-		final List<CompilationUnitRewriteOperationWithSourceRange> rewriteOperations= new ArrayList<>();
-
-		unit.accept(new ASTVisitor() {
+		return new CleanUpVisitor(MultiFixMessages.BooleanLiteralCleanup_description, unit, VisitorEnum.QualifiedName) {
 			@Override
 			public boolean visit(final QualifiedName node) {
 				ITypeBinding typeBinding= ASTNodes.getTargetType(node);
 
 				if (typeBinding != null && typeBinding.isPrimitive()) {
 					if (ASTNodes.isField(node, Boolean.class.getCanonicalName(), "TRUE")) { //$NON-NLS-1$
-						rewriteOperations.add(new BooleanLiteralOperation(node, true));
+						addOperation(new BooleanLiteralOperation(node, true));
 						return false;
 					}
 
 					if (ASTNodes.isField(node, Boolean.class.getCanonicalName(), "FALSE")) { //$NON-NLS-1$
-						rewriteOperations.add(new BooleanLiteralOperation(node, false));
+						addOperation(new BooleanLiteralOperation(node, false));
 						return false;
 					}
 				}
 
 				return true;
 			}
-		});
-
-		if (rewriteOperations.isEmpty()) {
-			return null;
-		}
-
-		return new CompilationUnitRewriteOperationsFix(MultiFixMessages.BooleanLiteralCleanup_description, unit,
-				rewriteOperations.toArray(new CompilationUnitRewriteOperationWithSourceRange[0]));
+		};
 	}
 
 	@Override
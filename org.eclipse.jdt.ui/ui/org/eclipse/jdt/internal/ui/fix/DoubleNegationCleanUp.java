@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 Fabrice TIERCELIN and others.
+ * Copyright (c) 2020, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.fix;
 
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
@@ -25,7 +23,6 @@ import org.eclipse.text.edits.TextEditGroup;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.dom.AST;
-import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.Expression;
 import org.eclipse.jdt.core.dom.InfixExpression;
@@ -33,9 +30,9 @@ import org.eclipse.jdt.core.dom.PrefixExpression;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 
+import org.eclipse.jdt.internal.common.VisitorEnum;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
-import org.eclipse.jdt.internal.corext.fix.CompilationUnitRewriteOperationsFix;
 import org.eclipse.jdt.internal.corext.fix.CompilationUnitRewriteOperationsFixCore.CompilationUnitRewriteOperationWithSourceRange;
 import org.eclipse.jdt.internal.corext.fix.LinkedProposalModelCore;
 import org.eclipse.jdt.internal.corext.refactoring.structure.CompilationUnitRewrite;
@@ -51,7 +48,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
  * <li>Prefer equality/difference operation rather than negated operand.</li>
  * </ul>
  */
-public class DoubleNegationCleanUp extends AbstractMultiFix implements ICleanUpFix {
+public class DoubleNegationCleanUp extends AbstractFusibleMultiFix implements ICleanUpFix {
 	public DoubleNegationCleanUp() {
 		this(Collections.emptyMap());
 	}
@@ -93,14 +90,12 @@ public class DoubleNegationCleanUp extends AbstractMultiFix implements ICleanUpF
 	}
 
 	@Override
-	protected ICleanUpFix createFix(final CompilationUnit unit) throws CoreException {
+	protected CleanUpVisitor createVisitor(final CompilationUnit unit) {
 		if (!isEnabled(CleanUpConstants.DOUBLE_NEGATION)) {
 			return null;
 		}
 
-		final List<CompilationUnitRewriteOperationWithSourceRange> rewriteOperations= new ArrayList<>();
-
-		unit.accept(new ASTVisitor() {
+		return new CleanUpVisitor(MultiFixMessages.DoubleNegationCleanUp_description, unit, VisitorEnum.InfixExpression) {
 			@Override
 			public boolean visit(final InfixExpression visited) {
 				if (ASTNodes.hasOperator(visited, InfixExpression.Operator.EQUALS, InfixExpression.Operator.NOT_EQUALS, InfixExpression.Operator.XOR)
@@ -121,21 +116,14 @@ public class DoubleNegationCleanUp extends AbstractMultiFix implements ICleanUpF
 					}
 
 					if (leftNegatedExpression != null || rightNegatedExpression != null) {
-						rewriteOperations.add(new DoubleNegationOperation(visited, leftExpression, rightExpression, leftNegatedExpression, rightNegatedExpression));
+						addOperation(new DoubleNegationOperation(visited, leftExpression, rightExpression, leftNegatedExpression, rightNegatedExpression));
 						return false;
 					}
 				}
 
 				return true;
 			}
-		});
-
-		if (rewriteOperations.isEmpty()) {
-			return null;
-		}
-
-		return new CompilationUnitRewriteOperationsFix(MultiFixMessages.DoubleNegationCleanUp_description, unit,
-				rewriteOperations.toArray(new CompilationUnitRewriteOperationWithSourceRange[0]));
+		};
 	}
 
 	@Override
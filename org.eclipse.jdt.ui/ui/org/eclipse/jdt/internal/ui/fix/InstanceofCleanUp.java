@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Fabrice TIERCELIN and others.
+ * Copyright (c) 2021, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.fix;
 
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
@@ -24,7 +22,6 @@ import org.eclipse.text.edits.TextEditGroup;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.dom.AST;
-import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.Expression;
 import org.eclipse.jdt.core.dom.InstanceofExpression;
@@ -32,10 +29,10 @@ import org.eclipse.jdt.core.dom.MethodInvocation;
 import org.eclipse.jdt.core.dom.TypeLiteral;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 
+import org.eclipse.jdt.internal.common.VisitorEnum;
 import org.eclipse.jdt.internal.corext.dom.ASTNodeFactory;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
-import org.eclipse.jdt.internal.corext.fix.CompilationUnitRewriteOperationsFix;
 import org.eclipse.jdt.internal.corext.fix.CompilationUnitRewriteOperationsFixCore.CompilationUnitRewriteOperationWithSourceRange;
 import org.eclipse.jdt.internal.corext.fix.LinkedProposalModelCore;
 import org.eclipse.jdt.internal.corext.refactoring.structure.CompilationUnitRewrite;
@@ -51,7 +48,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
  * <li>The class should not be a variable.</li>
  * </ul>
  */
-public class InstanceofCleanUp extends AbstractMultiFix {
+public class InstanceofCleanUp extends AbstractFusibleMultiFix {
 	public InstanceofCleanUp() {
 		this(Collections.emptyMap());
 	}
@@ -85,14 +82,12 @@ public class InstanceofCleanUp extends AbstractMultiFix {
 	}
 
 	@Override
-	protected ICleanUpFix createFix(final CompilationUnit unit) throws CoreException {
+	protected CleanUpVisitor createVisitor(final CompilationUnit unit) {
 		if (!isEnabled(CleanUpConstants.INSTANCEOF)) {
 			return null;
 		}
 
-		final List<CompilationUnitRewriteOperationWithSourceRange> rewriteOperations= new ArrayList<>();
-
-		unit.accept(new ASTVisitor() {
+		return new CleanUpVisitor(MultiFixMessages.CodeStyleCleanUp_Instanceof_description, unit, VisitorEnum.MethodInvocation) {
 			@Override
 			public boolean visit(final MethodInvocation visited) {
 				TypeLiteral clazz= ASTNodes.as(visited.getExpression(), TypeLiteral.class);
@@ -103,20 +98,13 @@ public class InstanceofCleanUp extends AbstractMultiFix {
 						&& ASTNodes.usesGivenSignature(visited, Class.class.getCanonicalName(), "isInstance", Object.class.getCanonicalName()) //$NON-NLS-1$
 						&& ((Expression) visited.arguments().get(0)).resolveTypeBinding() != null
 						&& clazz.getType().resolveBinding().isSubTypeCompatible(((Expression) visited.arguments().get(0)).resolveTypeBinding())) {
-					rewriteOperations.add(new InstanceofOperation(visited, clazz));
+					addOperation(new InstanceofOperation(visited, clazz));
 					return false;
 				}
 
 				return true;
 			}
-		});
-
-		if (rewriteOperations.isEmpty()) {
-			return null;
-		}
-
-		return new CompilationUnitRewriteOperationsFix(MultiFixMessages.CodeStyleCleanUp_Instanceof_description, unit,
-				rewriteOperations.toArray(new CompilationUnitRewriteOperationWithSourceRange[0]));
+		};
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 Fabrice TIERCELIN and others.
+ * Copyright (c) 2020, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,15 +24,14 @@ import org.eclipse.text.edits.TextEditGroup;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.dom.AST;
-import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.Expression;
 import org.eclipse.jdt.core.dom.InfixExpression;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 
+import org.eclipse.jdt.internal.common.VisitorEnum;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
-import org.eclipse.jdt.internal.corext.fix.CompilationUnitRewriteOperationsFix;
 import org.eclipse.jdt.internal.corext.fix.CompilationUnitRewriteOperationsFixCore.CompilationUnitRewriteOperationWithSourceRange;
 import org.eclipse.jdt.internal.corext.fix.LinkedProposalModelCore;
 import org.eclipse.jdt.internal.corext.refactoring.structure.CompilationUnitRewrite;
@@ -48,7 +47,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
  * <li>Replaces {@code |} by {@code ||}.</li>
  * </ul>
  */
-public class LazyLogicalCleanUp extends AbstractMultiFix {
+public class LazyLogicalCleanUp extends AbstractFusibleMultiFix {
 	public LazyLogicalCleanUp() {
 		this(Collections.emptyMap());
 	}
@@ -87,14 +86,12 @@ public class LazyLogicalCleanUp extends AbstractMultiFix {
 	}
 
 	@Override
-	protected ICleanUpFix createFix(CompilationUnit unit) throws CoreException {
+	protected CleanUpVisitor createVisitor(CompilationUnit unit) {
 		if (!isEnabled(CleanUpConstants.USE_LAZY_LOGICAL_OPERATOR)) {
 			return null;
 		}
 
-		final List<CompilationUnitRewriteOperationWithSourceRange> rewriteOperations= new ArrayList<>();
-
-		unit.accept(new ASTVisitor() {
+		return new CleanUpVisitor(MultiFixMessages.CodeStyleCleanUp_LazyLogical_description, unit, VisitorEnum.InfixExpression) {
 			@Override
 			public boolean visit(InfixExpression node) {
 				if (ASTNodes.hasOperator(node, InfixExpression.Operator.AND, InfixExpression.Operator.OR)) {
@@ -113,20 +110,13 @@ public class LazyLogicalCleanUp extends AbstractMultiFix {
 						}
 					}
 
-					rewriteOperations.add(new LazyLogicalInInfixExpressionOperation(node));
+					addOperation(new LazyLogicalInInfixExpressionOperation(node));
 					return false;
 				}
 
 				return true;
 			}
-		});
-
-		if (rewriteOperations.isEmpty()) {
-			return null;
-		}
-
-		return new CompilationUnitRewriteOperationsFix(MultiFixMessages.CodeStyleCleanUp_LazyLogical_description, unit,
-				rewriteOperations.toArray(new CompilationUnitRewriteOperationWithSourceRange[rewriteOperations.size()]));
+		};
 	}
 
 	@Override
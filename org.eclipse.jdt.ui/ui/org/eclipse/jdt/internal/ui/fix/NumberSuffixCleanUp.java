@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 Fabrice TIERCELIN and others.
+ * Copyright (c) 2019, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.fix;
 
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
@@ -25,14 +23,13 @@ import org.eclipse.text.edits.TextEditGroup;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
-import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.NumberLiteral;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 
+import org.eclipse.jdt.internal.common.VisitorEnum;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
-import org.eclipse.jdt.internal.corext.fix.CompilationUnitRewriteOperationsFix;
 import org.eclipse.jdt.internal.corext.fix.CompilationUnitRewriteOperationsFixCore.CompilationUnitRewriteOperationWithSourceRange;
 import org.eclipse.jdt.internal.corext.fix.LinkedProposalModelCore;
 import org.eclipse.jdt.internal.corext.refactoring.structure.CompilationUnitRewrite;
@@ -47,7 +44,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
  * <li>Lowercase suffix is ambiguous. 'l' can be seen as '1'.</li>
  * </ul>
  */
-public class NumberSuffixCleanUp extends AbstractMultiFix {
+public class NumberSuffixCleanUp extends AbstractFusibleMultiFix {
 	public NumberSuffixCleanUp() {
 		this(Collections.emptyMap());
 	}
@@ -85,33 +82,24 @@ public class NumberSuffixCleanUp extends AbstractMultiFix {
 	}
 
 	@Override
-	protected ICleanUpFix createFix(CompilationUnit unit) throws CoreException {
+	protected CleanUpVisitor createVisitor(CompilationUnit unit) {
 		if (!isEnabled(CleanUpConstants.NUMBER_SUFFIX)) {
 			return null;
 		}
 
-		final List<CompilationUnitRewriteOperationWithSourceRange> rewriteOperations= new ArrayList<>();
-
-		unit.accept(new ASTVisitor() {
+		return new CleanUpVisitor(MultiFixMessages.CodeStyleCleanUp_numberSuffix_description, unit, VisitorEnum.NumberLiteral) {
 			@Override
 			public boolean visit(NumberLiteral node) {
 				final String token= node.getToken();
 
 				if (token.endsWith("l")) { //$NON-NLS-1$
-					rewriteOperations.add(new NumberSuffixOperation(node, token));
+					addOperation(new NumberSuffixOperation(node, token));
 					return false;
 				}
 
 				return true;
 			}
-		});
-
-		if (rewriteOperations.isEmpty()) {
-			return null;
-		}
-
-		return new CompilationUnitRewriteOperationsFix(MultiFixMessages.CodeStyleCleanUp_numberSuffix_description, unit,
-				rewriteOperations.toArray(new CompilationUnitRewriteOperationWithSourceRange[rewriteOperations.size()]));
+		};
 	}
 
 	@Override
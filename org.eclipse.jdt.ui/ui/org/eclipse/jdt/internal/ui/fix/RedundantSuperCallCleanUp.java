@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 Fabrice TIERCELIN and others.
+ * Copyright (c) 2020, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.fix;
 
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
@@ -24,15 +22,14 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.text.edits.TextEditGroup;
 
 import org.eclipse.jdt.core.ICompilationUnit;
-import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.SuperConstructorInvocation;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 
+import org.eclipse.jdt.internal.common.VisitorEnum;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
-import org.eclipse.jdt.internal.corext.fix.CompilationUnitRewriteOperationsFix;
 import org.eclipse.jdt.internal.corext.fix.CompilationUnitRewriteOperationsFixCore.CompilationUnitRewriteOperationWithSourceRange;
 import org.eclipse.jdt.internal.corext.fix.LinkedProposalModelCore;
 import org.eclipse.jdt.internal.corext.refactoring.structure.CompilationUnitRewrite;
@@ -44,7 +41,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
 /**
  * A fix that remove call to super constructor with empty arguments since it is redundant. See JLS section 12.5 for more info.
  */
-public class RedundantSuperCallCleanUp extends AbstractMultiFix implements ICleanUpFix {
+public class RedundantSuperCallCleanUp extends AbstractFusibleMultiFix implements ICleanUpFix {
 	public RedundantSuperCallCleanUp() {
 		this(Collections.emptyMap());
 	}
@@ -84,31 +81,22 @@ public class RedundantSuperCallCleanUp extends AbstractMultiFix implements IClea
 	}
 
 	@Override
-	protected ICleanUpFix createFix(CompilationUnit unit) throws CoreException {
+	protected CleanUpVisitor createVisitor(CompilationUnit unit) {
 		if (!isEnabled(CleanUpConstants.REDUNDANT_SUPER_CALL)) {
 			return null;
 		}
 
-		final List<CompilationUnitRewriteOperationWithSourceRange> rewriteOperations= new ArrayList<>();
-
-		unit.accept(new ASTVisitor() {
+		return new CleanUpVisitor(MultiFixMessages.RedundantSuperCallCleanup_description, unit, VisitorEnum.SuperConstructorInvocation) {
 			@Override
 			public boolean visit(final SuperConstructorInvocation node) {
 				if (node.arguments().isEmpty()) {
-					rewriteOperations.add(new RedundantSuperCallOperation(node));
+					addOperation(new RedundantSuperCallOperation(node));
 					return false;
 				}
 
 				return true;
 			}
-		});
-
-		if (rewriteOperations.isEmpty()) {
-			return null;
-		}
-
-		return new CompilationUnitRewriteOperationsFix(MultiFixMessages.RedundantSuperCallCleanup_description, unit,
-				rewriteOperations.toArray(new CompilationUnitRewriteOperationWithSourceRange[0]));
+		};
 	}
 
 	@Override
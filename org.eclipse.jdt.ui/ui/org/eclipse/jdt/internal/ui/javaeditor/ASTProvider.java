@@ -268,6 +268,7 @@ public final class ASTProvider implements IASTSharedValues {
 		fActivationListener= null;
 
 		INSTANCE.disposeAST();
+		INSTANCE.disposeRecentASTs();
 		INSTANCE.waitLockNotifyAll();
 
 	}
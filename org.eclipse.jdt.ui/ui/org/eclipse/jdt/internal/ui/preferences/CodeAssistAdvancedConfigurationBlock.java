@@ -92,13 +92,15 @@ final class CodeAssistAdvancedConfigurationBlock extends OptionsConfigurationBlo
 	private static final Key PREF_CATEGORY_ORDER= getJDTUIKey(PreferenceConstants.CODEASSIST_CATEGORY_ORDER);
 	private static final Key PREF_CODEASSIST_TIMEOUT_FOR_PARAMETER_NAME_FROM_ATTACHED_JAVADOC= getJDTCoreKey(JavaCore.TIMEOUT_FOR_PARAMETER_NAME_FROM_ATTACHED_JAVADOC);
 	private static final Key PREF_CODEASSIST_NONUITHREAD_COMPUTATION = getJDTUIKey(PreferenceConstants.CODEASSIST_NONUITHREAD_COMPUTATION);
+	private static final Key PREF_CODEASSIST_PARALLEL_COMPUTATION= getJDTUIKey(PreferenceConstants.CODEASSIST_PARALLEL_COMPUTATION);
 
 	private static Key[] getAllKeys() {
 		return new Key[] {
 				PREF_EXCLUDED_CATEGORIES,
 				PREF_CATEGORY_ORDER,
 				PREF_CODEASSIST_TIMEOUT_FOR_PARAMETER_NAME_FROM_ATTACHED_JAVADOC,
-				PREF_CODEASSIST_NONUITHREAD_COMPUTATION
+				PREF_CODEASSIST_NONUITHREAD_COMPUTATION,
+				PREF_CODEASSIST_PARALLEL_COMPUTATION
 		};
 	}
 
@@ -424,6 +426,10 @@ final class CodeAssistAdvancedConfigurationBlock extends OptionsConfigurationBlo
 			label.setLayoutData(layoutData);
 			label.setEnabled(false);
 		}
+
+		String parallel= PreferencesMessages.CodeAssistAdvancedConfigurationBlock_parallelComputation;
+		Button parallelCheckbox= addCheckBox(composite, parallel, PREF_CODEASSIST_PARALLEL_COMPUTATION, new String[] { Boolean.TRUE.toString(), Boolean.FALSE.toString() }, pixelConverter.convertWidthInCharsToPixels(7));
+		parallelCheckbox.setLayoutData(new GridData(GridData.FILL, GridData.FILL, true, false, columns, 1));
 	}
 
 	private void createDefaultLabel(Composite composite, int h_span) {
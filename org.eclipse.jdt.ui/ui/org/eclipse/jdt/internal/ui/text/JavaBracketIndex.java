@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text;
+
+import java.util.Arrays;
+
+import org.eclipse.core.runtime.Assert;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.ITypedRegion;
+import org.eclipse.jface.text.TextUtilities;
+
+import org.eclipse.jdt.ui.text.IJavaPartitions;
+
+/**
+ * The matching opening peers of the closing braces, parentheses and brackets in the Java
+ * partitions of a document, computed in one forward pass with a stack per kind of bracket.
+ * <p>
+ * A {@link JavaIndenter} that indents many lines in a row uses the index to skip a scope in one
+ * step instead of scanning it backwards token by token. Counting peers backwards from a closing
+ * peer finds the same opening peer as matching the peers in a forward pass, so the indentation
+ * does not change.
+ * </p>
+ * <p>
+ * The index stays valid while the indentation of the lines changes, provided every change is
+ * reported with {@link #indentationChanged(int, int)} in ascending line order. No other
+ * modification of the document is allowed.
+ * </p>
+ *
+ * @since 3.35
+ */
+public final class JavaBracketIndex {
+
+	private static final String OPENING_PEERS= "{(["; //$NON-NLS-1$
+
+	private static final String CLOSING_PEERS= "})]"; //$NON-NLS-1$
+
+	private final IDocument fDocument;
+
+	/** The original offsets of the matched closing peers, in ascending order */
+	private int[] fClosing;
+	/** The original offsets of the opening peers matching <code>fClosing</code> */
+	private int[] fOpening;
+	/** The lines of the opening peers matching <code>fClosing</code> */
+	private int[] fOpeningLines;
+	private int fSize;
+
+	/** The shifts of the lines up to <code>fLastChangedLine</code> */
+	private final int[] fLineShifts;
+	/** The shift of all lines after <code>fLastChangedLine</code> */
+	private int fShift;
+	private int fLastChangedLine= -1;
+
+	private JavaBracketIndex(IDocument document) {
+		fDocument= document;
+		fClosing= new int[64];
+		fOpening= new int[64];
+		fOpeningLines= new int[64];
+		fLineShifts= new int[document.getNumberOfLines()];
+	}
+
+	/**
+	 * Creates the index of the given document.
+	 *
+	 * @param document the document, with a Java partitioning installed
+	 * @return the index
+	 * @throws BadLocationException if the document is modified concurrently
+	 */
+	public static JavaBracketIndex create(IDocument document) throws BadLocationException {
+		JavaBracketIndex index= new JavaBracketIndex(document);
+		int[][] stacks= new int[OPENING_PEERS.length()][16];
+		int[] depths= new int[OPENING_PEERS.length()];
+		for (ITypedRegion partition : TextUtilities.computePartitioning(document, IJavaPartitions.JAVA_PARTITIONING, 0, document.getLength(), false)) {
+			if (!IDocument.DEFAULT_CONTENT_TYPE.equals(partition.getType()))
+				continue;
+			int offset= partition.getOffset();
+			String content= document.get(offset, partition.getLength());
+			for (int i= 0; i < content.length(); i++) {
+				char ch= content.charAt(i);
+				int kind= OPENING_PEERS.indexOf(ch);
+				if (kind >= 0) {
+					if (depths[kind] == stacks[kind].length)
+						stacks[kind]= Arrays.copyOf(stacks[kind], depths[kind] * 2);
+					stacks[kind][depths[kind]++]= offset + i;
+					continue;
+				}
+				kind= CLOSING_PEERS.indexOf(ch);
+				if (kind >= 0 && depths[kind] > 0) {
+					int opening= stacks[kind][--depths[kind]];
+					index.add(offset + i, opening, document.getLineOfOffset(opening));
+				}
+			}
+		}
+		return index;
+	}
+
+	private void add(int closing, int opening, int openingLine) {
+		if (fSize == fClosing.length) {
+			fClosing= Arrays.copyOf(fClosing, fSize * 2);
+			fOpening= Arrays.copyOf(fOpening, fSize * 2);
+			fOpeningLines= Arrays.copyOf(fOpeningLines, fSize * 2);
+		}
+		fClosing[fSize]= closing;
+		fOpening[fSize]= opening;
+		fOpeningLines[fSize]= openingLine;
+		fSize++;
+	}
+
+	/**
+	 * Reports that the leading whitespace of a line has changed.
+	 *
+	 * @param line the line, must be greater than the line of the previous call
+	 * @param delta the change of the length of the leading whitespace
+	 */
+	public void indentationChanged(int line, int delta) {
+		Assert.isLegal(line > fLastChangedLine);
+		for (int i= fLastChangedLine + 1; i < line; i++)
+			fLineShifts[i]= fShift;
+		fShift+= delta;
+		fLineShifts[line]= fShift;
+		fLastChangedLine= line;
+	}
+
+	private int getShift(int line) {
+		return line <= fLastChangedLine ? fLineShifts[line] : fShift;
+	}
+
+	/**
+	 * Returns the opening peer of a closing brace, parenthesis or bracket.
+	 *
+	 * @param closing the current offset of the closing peer
+	 * @return the current offset of the matching opening peer, or
+	 *         {@link JavaHeuristicScanner#NOT_FOUND} if the closing peer has no match
+	 */
+	int findOpeningPeer(int closing) {
+		try {
+			int position= Arrays.binarySearch(fClosing, 0, fSize, closing - getShift(fDocument.getLineOfOffset(closing)));
+			if (position < 0)
+				return JavaHeuristicScanner.NOT_FOUND;
+			return fOpening[position] + getShift(fOpeningLines[position]);
+		} catch (BadLocationException e) {
+			return JavaHeuristicScanner.NOT_FOUND;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -389,6 +389,11 @@ public final class JavaIndenter {
 	 * @since 3.2
 	 */
 	private final CorePrefs fPrefs;
+	/**
+	 * The index of the peers in the document, or <code>null</code> to scan the scopes.
+	 * @since 3.35
+	 */
+	private JavaBracketIndex fBracketIndex;
 
 	/**
 	 * Creates a new instance.
@@ -420,6 +425,18 @@ public final class JavaIndenter {
 		fPrefs= new CorePrefs(project);
 	}
 
+	/**
+	 * Sets the index used to skip the scopes of braces, parentheses and brackets instead of
+	 * scanning them token by token. The index must be kept up to date while the document is
+	 * indented.
+	 *
+	 * @param index the index of the document, or <code>null</code> to scan the scopes
+	 * @since 3.35
+	 */
+	public void setBracketIndex(JavaBracketIndex index) {
+		fBracketIndex= index;
+	}
+
 	/**
 	 * Computes the indentation at the reference point of <code>position</code>.
 	 *
@@ -2158,6 +2175,22 @@ public final class JavaIndenter {
 	 */
 	private boolean skipScope(int openToken, int closeToken) {
 
+		if (fBracketIndex != null && fToken == closeToken && isPeer(fPosition, closeToken)) {
+			int closing= fPosition;
+			int opening= fBracketIndex.findOpeningPeer(closing);
+			if (opening != JavaHeuristicScanner.NOT_FOUND) {
+				// leave the state as if the scope had been scanned token by token: the previous
+				// position is the start of the first token in the scope. Like the token scan,
+				// findNonWhitespaceForward only stops in the default partition, so it skips the
+				// comments, strings and characters between the peer and that token
+				fToken= openToken;
+				fPreviousPos= fScanner.findNonWhitespaceForward(opening + 1, closing + 1);
+				fPosition= opening;
+				fTokenPos= opening;
+				return true;
+			}
+		}
+
 		int depth= 1;
 
 		while (true) {
@@ -2174,4 +2207,36 @@ public final class JavaIndenter {
 			}
 		}
 	}
+
+	/**
+	 * Returns whether the character at <code>offset</code> is the closing brace, parenthesis or
+	 * bracket described by <code>closeToken</code>.
+	 *
+	 * @param offset the offset in the document
+	 * @param closeToken the closing peer token
+	 * @return <code>true</code> if the peer is at <code>offset</code>, <code>false</code>
+	 *         otherwise
+	 * @since 3.35
+	 */
+	private boolean isPeer(int offset, int closeToken) {
+		char peer;
+		switch (closeToken) {
+			case Symbols.TokenRBRACE:
+				peer= '}';
+				break;
+			case Symbols.TokenRPAREN:
+				peer= ')';
+				break;
+			case Symbols.TokenRBRACKET:
+				peer= ']';
+				break;
+			default:
+				return false;
+		}
+		try {
+			return fDocument.getChar(offset) == peer;
+		} catch (BadLocationException e) {
+			return false;
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -131,6 +131,7 @@ import org.eclipse.jdt.internal.ui.actions.HashCodeEqualsTypeProposal;
 import org.eclipse.jdt.internal.ui.actions.ToStringTypeProposal;
 import org.eclipse.jdt.internal.ui.fix.ExpressionsCleanUp;
 import org.eclipse.jdt.internal.ui.text.correction.proposals.FixCorrectionProposal;
+import org.eclipse.jdt.internal.ui.text.correction.proposals.LazyASTRewriteCorrectionProposalCore;
 import org.eclipse.jdt.internal.ui.text.correction.proposals.LinkedCorrectionProposal;
 import org.eclipse.jdt.internal.ui.util.ASTHelper;
 
@@ -283,33 +284,32 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		if (resultingCollections == null) {
 			return true;
 		}
-
-		AST ast= coveringNode.getAST();
-		ASTRewrite rewrite= ASTRewrite.create(ast);
-
-		// create inverted 'if' statement
-		Expression inversedExpression= getInversedExpression(rewrite, ifStatement.getExpression());
-		IfStatement newIf= ast.newIfStatement();
-		newIf.setExpression(inversedExpression);
-		newIf.setThenStatement(ast.newReturnStatement());
-		ListRewrite listRewriter= rewrite.getListRewrite(ifStatement.getParent(), (ChildListPropertyDescriptor) ifStatement.getLocationInParent());
-		listRewriter.replace(ifStatement, newIf, null);
-		// remove last 'return' in 'then' block
-		ArrayList<Statement> statements= getUnwrappedStatements(ifStatement.getThenStatement());
-		Statement lastStatement= statements.get(statements.size() - 1);
-		if (lastStatement instanceof ReturnStatement) {
-			statements.remove(lastStatement);
-		}
-		// add statements from 'then' to the end of block
-		for (Statement statement : statements) {
-			listRewriter.insertLast(rewrite.createMoveTarget(statement), null);
-		}
-
-		// add correction proposal
 		String label= CorrectionMessages.AdvancedQuickAssistProcessor_convertToIfReturn;
+		LazyASTRewriteCorrectionProposalCore proposalCore= new LazyASTRewriteCorrectionProposalCore(label, context.getCompilationUnit(), IProposalRelevance.CONVERT_TO_IF_RETURN, p -> {
+			AST ast= coveringNode.getAST();
+			ASTRewrite rewrite= ASTRewrite.create(ast);
+
+			// create inverted 'if' statement
+			Expression inversedExpression= getInversedExpression(rewrite, ifStatement.getExpression());
+			IfStatement newIf= ast.newIfStatement();
+			newIf.setExpression(inversedExpression);
+			newIf.setThenStatement(ast.newReturnStatement());
+			ListRewrite listRewriter= rewrite.getListRewrite(ifStatement.getParent(), (ChildListPropertyDescriptor) ifStatement.getLocationInParent());
+			listRewriter.replace(ifStatement, newIf, null);
+			// remove last 'return' in 'then' block
+			ArrayList<Statement> statements= getUnwrappedStatements(ifStatement.getThenStatement());
+			Statement lastStatement= statements.get(statements.size() - 1);
+			if (lastStatement instanceof ReturnStatement) {
+				statements.remove(lastStatement);
+			}
+			// add statements from 'then' to the end of block
+			for (Statement statement : statements) {
+				listRewriter.insertLast(rewrite.createMoveTarget(statement), null);
+			}
+			return rewrite;
+		});
 		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.CONVERT_TO_IF_RETURN, image);
-		resultingCollections.add(proposal);
+		resultingCollections.add(new ASTRewriteCorrectionProposal(proposalCore, image));
 		return true;
 	}
 
@@ -375,32 +375,32 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		if (resultingCollections == null) {
 			return true;
 		}
-		//
-		AST ast= covering.getAST();
-		ASTRewrite rewrite= ASTRewrite.create(ast);
-		// remove last 'return' in 'then' block
-		ListRewrite listRewriter= rewrite.getListRewrite(thenBlock, (ChildListPropertyDescriptor) ifStatement.getLocationInParent());
-		listRewriter.remove(thenStatements.get(thenStatements.size() - 1), null);
-		// prepare original nodes
-		Expression conditionPlaceholder= (Expression) rewrite.createMoveTarget(ifStatement.getExpression());
-		Statement thenPlaceholder= (Statement) rewrite.createMoveTarget(ifStatement.getThenStatement());
-		// prepare 'else' block
-		Block elseBlock= ast.newBlock();
-		for (int i= ifIndex + 1; i < statements.size(); i++) {
-			Statement statement= statements.get(i);
-			elseBlock.statements().add(rewrite.createMoveTarget(statement));
-		}
-		// prepare new 'if' statement
-		IfStatement newIf= ast.newIfStatement();
-		newIf.setExpression(conditionPlaceholder);
-		newIf.setThenStatement(thenPlaceholder);
-		newIf.setElseStatement(elseBlock);
-		rewrite.replace(ifStatement, newIf, null);
-		// add correction proposal
 		String label= CorrectionMessages.AdvancedQuickAssistProcessor_convertToIfElse_description;
+		LazyASTRewriteCorrectionProposalCore proposalCore= new LazyASTRewriteCorrectionProposalCore(label, context.getCompilationUnit(), IProposalRelevance.CONVERT_TO_IF_ELSE, p -> {
+			AST ast= covering.getAST();
+			ASTRewrite rewrite= ASTRewrite.create(ast);
+			// remove last 'return' in 'then' block
+			ListRewrite listRewriter= rewrite.getListRewrite(thenBlock, (ChildListPropertyDescriptor) ifStatement.getLocationInParent());
+			listRewriter.remove(thenStatements.get(thenStatements.size() - 1), null);
+			// prepare original nodes
+			Expression conditionPlaceholder= (Expression) rewrite.createMoveTarget(ifStatement.getExpression());
+			Statement thenPlaceholder= (Statement) rewrite.createMoveTarget(ifStatement.getThenStatement());
+			// prepare 'else' block
+			Block elseBlock= ast.newBlock();
+			for (int i= ifIndex + 1; i < statements.size(); i++) {
+				Statement statement= statements.get(i);
+				elseBlock.statements().add(rewrite.createMoveTarget(statement));
+			}
+			// prepare new 'if' statement
+			IfStatement newIf= ast.newIfStatement();
+			newIf.setExpression(conditionPlaceholder);
+			newIf.setThenStatement(thenPlaceholder);
+			newIf.setElseStatement(elseBlock);
+			rewrite.replace(ifStatement, newIf, null);
+			return rewrite;
+		});
 		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.CONVERT_TO_IF_ELSE, image);
-		resultingCollections.add(proposal);
+		resultingCollections.add(new ASTRewriteCorrectionProposal(proposalCore, image));
 		return true;
 	}
 
@@ -416,32 +416,33 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		if (resultingCollections == null) {
 			return true;
 		}
-		//
-		AST ast= covering.getAST();
-		ASTRewrite rewrite= ASTRewrite.create(ast);
-		Statement thenStatement= ifStatement.getThenStatement();
-		Statement elseStatement= ifStatement.getElseStatement();
+		// add correction proposal, the rewrite is created when the proposal is previewed or applied
+		String label= CorrectionMessages.AdvancedQuickAssistProcessor_inverseIf_description;
+		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
+		LazyASTRewriteCorrectionProposalCore proposalCore= new LazyASTRewriteCorrectionProposalCore(label, context.getCompilationUnit(), IProposalRelevance.INVERSE_IF_STATEMENT, p -> {
+			AST ast= ifStatement.getAST();
+			ASTRewrite rewrite= ASTRewrite.create(ast);
+			Statement thenStatement= ifStatement.getThenStatement();
+			Statement elseStatement= ifStatement.getElseStatement();
 
-		// prepare original nodes
-		Expression inversedExpression= getInversedExpression(rewrite, ifStatement.getExpression());
+			// prepare original nodes
+			Expression inversedExpression= getInversedExpression(rewrite, ifStatement.getExpression());
 
-		Statement newElseStatement= (Statement) rewrite.createMoveTarget(thenStatement);
-		Statement newThenStatement= (Statement) rewrite.createMoveTarget(elseStatement);
-		// set new nodes
-		rewrite.set(ifStatement, IfStatement.EXPRESSION_PROPERTY, inversedExpression, null);
+			Statement newElseStatement= (Statement) rewrite.createMoveTarget(thenStatement);
+			Statement newThenStatement= (Statement) rewrite.createMoveTarget(elseStatement);
+			// set new nodes
+			rewrite.set(ifStatement, IfStatement.EXPRESSION_PROPERTY, inversedExpression, null);
 
-		if (elseStatement instanceof IfStatement) {// bug 79507 && bug 74580
-			Block elseBlock= ast.newBlock();
-			elseBlock.statements().add(newThenStatement);
-			newThenStatement= elseBlock;
-		}
-		rewrite.set(ifStatement, IfStatement.THEN_STATEMENT_PROPERTY, newThenStatement, null);
-		rewrite.set(ifStatement, IfStatement.ELSE_STATEMENT_PROPERTY, newElseStatement, null);
-		// add correction proposal
-		String label= CorrectionMessages.AdvancedQuickAssistProcessor_inverseIf_description;
-		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.INVERSE_IF_STATEMENT, image);
-		resultingCollections.add(proposal);
+			if (elseStatement instanceof IfStatement) {// bug 79507 && bug 74580
+				Block elseBlock= ast.newBlock();
+				elseBlock.statements().add(newThenStatement);
+				newThenStatement= elseBlock;
+			}
+			rewrite.set(ifStatement, IfStatement.THEN_STATEMENT_PROPERTY, newThenStatement, null);
+			rewrite.set(ifStatement, IfStatement.ELSE_STATEMENT_PROPERTY, newElseStatement, null);
+			return rewrite;
+		});
+		resultingCollections.add(new ASTRewriteCorrectionProposal(proposalCore, image));
 		return true;
 	}
 
@@ -468,28 +469,29 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		if (resultingCollections == null) {
 			return true;
 		}
-		//
-		AST ast= covering.getAST();
-		ASTRewrite rewrite= ASTRewrite.create(ast);
-		// create inverted 'if' statement
-		Expression inversedExpression= getInversedExpression(rewrite, ifStatement.getExpression());
-		IfStatement newIf= ast.newIfStatement();
-		newIf.setExpression(inversedExpression);
-		// prepare 'then' for new 'if'
-		Block thenBlock= ast.newBlock();
-		int ifIndex= loopBlock.statements().indexOf(ifStatement);
-		for (int i= ifIndex + 1; i < loopBlock.statements().size(); i++) {
-			Statement statement= (Statement) loopBlock.statements().get(i);
-			thenBlock.statements().add(rewrite.createMoveTarget(statement));
-		}
-		newIf.setThenStatement(thenBlock);
-		// replace 'if' statement in loop
-		rewrite.replace(ifStatement, newIf, null);
-		// add correction proposal
+		Block loopBody= loopBlock;
 		String label= CorrectionMessages.AdvancedQuickAssistProcessor_inverseIfContinue_description;
+		LazyASTRewriteCorrectionProposalCore proposalCore= new LazyASTRewriteCorrectionProposalCore(label, context.getCompilationUnit(), IProposalRelevance.INVERSE_IF_CONTINUE, p -> {
+			AST ast= covering.getAST();
+			ASTRewrite rewrite= ASTRewrite.create(ast);
+			// create inverted 'if' statement
+			Expression inversedExpression= getInversedExpression(rewrite, ifStatement.getExpression());
+			IfStatement newIf= ast.newIfStatement();
+			newIf.setExpression(inversedExpression);
+			// prepare 'then' for new 'if'
+			Block thenBlock= ast.newBlock();
+			int ifIndex= loopBody.statements().indexOf(ifStatement);
+			for (int i= ifIndex + 1; i < loopBody.statements().size(); i++) {
+				Statement statement= (Statement) loopBody.statements().get(i);
+				thenBlock.statements().add(rewrite.createMoveTarget(statement));
+			}
+			newIf.setThenStatement(thenBlock);
+			// replace 'if' statement in loop
+			rewrite.replace(ifStatement, newIf, null);
+			return rewrite;
+		});
 		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.INVERSE_IF_CONTINUE, image);
-		resultingCollections.add(proposal);
+		resultingCollections.add(new ASTRewriteCorrectionProposal(proposalCore, image));
 		return true;
 	}
 
@@ -520,42 +522,44 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		if (resultingCollections == null) {
 			return true;
 		}
-		//
-		AST ast= covering.getAST();
-		ASTRewrite rewrite= ASTRewrite.create(ast);
-		// create inverted 'if' statement
-		Expression inversedExpression= getInversedExpression(rewrite, ifStatement.getExpression());
-		IfStatement newIf= ast.newIfStatement();
-		newIf.setExpression(inversedExpression);
-		newIf.setThenStatement(ast.newContinueStatement());
-		//
-		if (ifParentBlock == null) {
-			// if there is no block, create it
-			ifParentBlock= ast.newBlock();
-			ifParentBlock.statements().add(newIf);
-			for (Statement statement : getUnwrappedStatements(ifStatement.getThenStatement())) {
-				ifParentBlock.statements().add(rewrite.createMoveTarget(statement));
-			}
-			// replace 'if' statement as body with new block
-			if (ifParentStructure instanceof ForStatement) {
-				rewrite.set(ifParentStructure, ForStatement.BODY_PROPERTY, ifParentBlock, null);
-			} else if (ifParentStructure instanceof WhileStatement) {
-				rewrite.set(ifParentStructure, WhileStatement.BODY_PROPERTY, ifParentBlock, null);
-			}
-		} else {
-			// if there was block, replace
-			ListRewrite listRewriter= rewrite.getListRewrite(ifParentBlock, (ChildListPropertyDescriptor) ifStatement.getLocationInParent());
-			listRewriter.replace(ifStatement, newIf, null);
-			// add statements from 'then' to the end of block
-			for (Statement statement : getUnwrappedStatements(ifStatement.getThenStatement())) {
-				listRewriter.insertLast(rewrite.createMoveTarget(statement), null);
-			}
-		}
-		// add correction proposal
+		Block existingBlock= ifParentBlock;
+		ASTNode loop= ifParentStructure;
 		String label= CorrectionMessages.AdvancedQuickAssistProcessor_inverseIfToContinue_description;
+		LazyASTRewriteCorrectionProposalCore proposalCore= new LazyASTRewriteCorrectionProposalCore(label, context.getCompilationUnit(), IProposalRelevance.INVERT_IF_TO_CONTINUE, p -> {
+			AST ast= covering.getAST();
+			ASTRewrite rewrite= ASTRewrite.create(ast);
+			// create inverted 'if' statement
+			Expression inversedExpression= getInversedExpression(rewrite, ifStatement.getExpression());
+			IfStatement newIf= ast.newIfStatement();
+			newIf.setExpression(inversedExpression);
+			newIf.setThenStatement(ast.newContinueStatement());
+			//
+			if (existingBlock == null) {
+				// if there is no block, create it
+				Block newBlock= ast.newBlock();
+				newBlock.statements().add(newIf);
+				for (Statement statement : getUnwrappedStatements(ifStatement.getThenStatement())) {
+					newBlock.statements().add(rewrite.createMoveTarget(statement));
+				}
+				// replace 'if' statement as body with new block
+				if (loop instanceof ForStatement) {
+					rewrite.set(loop, ForStatement.BODY_PROPERTY, newBlock, null);
+				} else if (loop instanceof WhileStatement) {
+					rewrite.set(loop, WhileStatement.BODY_PROPERTY, newBlock, null);
+				}
+			} else {
+				// if there was block, replace
+				ListRewrite listRewriter= rewrite.getListRewrite(existingBlock, (ChildListPropertyDescriptor) ifStatement.getLocationInParent());
+				listRewriter.replace(ifStatement, newIf, null);
+				// add statements from 'then' to the end of block
+				for (Statement statement : getUnwrappedStatements(ifStatement.getThenStatement())) {
+					listRewriter.insertLast(rewrite.createMoveTarget(statement), null);
+				}
+			}
+			return rewrite;
+		});
 		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.INVERT_IF_TO_CONTINUE, image);
-		resultingCollections.add(proposal);
+		resultingCollections.add(new ASTRewriteCorrectionProposal(proposalCore, image));
 		return true;
 	}
 
@@ -1032,40 +1036,41 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		if (resultingCollections == null) {
 			return true;
 		}
-		AST ast= ifStatement.getAST();
-		ASTRewrite rewrite= ASTRewrite.create(ast);
-
-		// prepare left and right conditions
-		Expression[] newOperands= { null, null };
-		breakInfixOperationAtOperation(rewrite, topInfixExpression, andOperator, offset, true, newOperands);
+		InfixExpression condition= topInfixExpression;
+		String label= CorrectionMessages.AdvancedQuickAssistProcessor_splitAndCondition_description;
+		LazyASTRewriteCorrectionProposalCore proposalCore= new LazyASTRewriteCorrectionProposalCore(label, context.getCompilationUnit(), IProposalRelevance.SPLIT_AND_CONDITION, p -> {
+			AST ast= ifStatement.getAST();
+			ASTRewrite rewrite= ASTRewrite.create(ast);
 
-		Expression leftCondition= newOperands[0];
-		Expression rightCondition= newOperands[1];
+			// prepare left and right conditions
+			Expression[] newOperands= { null, null };
+			breakInfixOperationAtOperation(rewrite, condition, andOperator, offset, true, newOperands);
 
-		// replace conditions in outer IfStatement
-		rewrite.set(ifStatement, IfStatement.EXPRESSION_PROPERTY, leftCondition, null);
+			Expression leftCondition= newOperands[0];
+			Expression rightCondition= newOperands[1];
 
-		// prepare inner IfStatement
-		IfStatement innerIf= ast.newIfStatement();
+			// replace conditions in outer IfStatement
+			rewrite.set(ifStatement, IfStatement.EXPRESSION_PROPERTY, leftCondition, null);
 
-		innerIf.setExpression(rightCondition);
-		innerIf.setThenStatement((Statement) rewrite.createMoveTarget(ifStatement.getThenStatement()));
-		Block innerBlock= ast.newBlock();
-		innerBlock.statements().add(innerIf);
+			// prepare inner IfStatement
+			IfStatement innerIf= ast.newIfStatement();
 
-		Statement elseStatement= ifStatement.getElseStatement();
-		if (elseStatement != null) {
-			innerIf.setElseStatement((Statement) rewrite.createCopyTarget(elseStatement));
-		}
+			innerIf.setExpression(rightCondition);
+			innerIf.setThenStatement((Statement) rewrite.createMoveTarget(ifStatement.getThenStatement()));
+			Block innerBlock= ast.newBlock();
+			innerBlock.statements().add(innerIf);
 
-		// replace outer thenStatement
-		rewrite.replace(ifStatement.getThenStatement(), innerBlock, null);
+			Statement elseStatement= ifStatement.getElseStatement();
+			if (elseStatement != null) {
+				innerIf.setElseStatement((Statement) rewrite.createCopyTarget(elseStatement));
+			}
 
-		// add correction proposal
-		String label= CorrectionMessages.AdvancedQuickAssistProcessor_splitAndCondition_description;
+			// replace outer thenStatement
+			rewrite.replace(ifStatement.getThenStatement(), innerBlock, null);
+			return rewrite;
+		});
 		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.SPLIT_AND_CONDITION, image);
-		resultingCollections.add(proposal);
+		resultingCollections.add(new ASTRewriteCorrectionProposal(proposalCore, image));
 		return true;
 	}
 
@@ -1132,57 +1137,57 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		if (resultingCollections == null) {
 			return true;
 		}
-		//
-		final AST ast= covering.getAST();
-		final ASTRewrite rewrite= ASTRewrite.create(ast);
-		// prepare OR'ed condition
-		InfixExpression condition= null;
-		boolean hasRightOperand= false;
-		Statement thenStatement= null;
-		for (ASTNode astNode : coveredNodes) {
-			IfStatement ifStatement= (IfStatement) astNode;
-			if (thenStatement == null)
-				thenStatement= (Statement) rewrite.createCopyTarget(ifStatement.getThenStatement());
-			if (condition == null) {
-				condition= ast.newInfixExpression();
-				condition.setOperator(orOperator);
-				condition.setLeftOperand(getParenthesizedExpressionIfNeeded(ast, rewrite, ifStatement.getExpression(), condition, InfixExpression.LEFT_OPERAND_PROPERTY));
-			} else if (!hasRightOperand) {
-				condition.setRightOperand(getParenthesizedExpressionIfNeeded(ast, rewrite, ifStatement.getExpression(), condition, InfixExpression.RIGHT_OPERAND_PROPERTY));
-				hasRightOperand= true;
-			} else {
-				InfixExpression newCondition= ast.newInfixExpression();
-				newCondition.setOperator(orOperator);
-				newCondition.setLeftOperand(condition);
-				newCondition.setRightOperand(getParenthesizedExpressionIfNeeded(ast, rewrite, ifStatement.getExpression(), condition, InfixExpression.RIGHT_OPERAND_PROPERTY));
-				condition= newCondition;
+		String label= CorrectionMessages.AdvancedQuickAssistProcessor_joinWithOr_description;
+		LazyASTRewriteCorrectionProposalCore proposalCore= new LazyASTRewriteCorrectionProposalCore(label, context.getCompilationUnit(), IProposalRelevance.JOIN_IF_STATEMENTS_WITH_OR, p -> {
+			final AST ast= covering.getAST();
+			final ASTRewrite rewrite= ASTRewrite.create(ast);
+			// prepare OR'ed condition
+			InfixExpression condition= null;
+			boolean hasRightOperand= false;
+			Statement thenStatement= null;
+			for (ASTNode astNode : coveredNodes) {
+				IfStatement ifStatement= (IfStatement) astNode;
+				if (thenStatement == null)
+					thenStatement= (Statement) rewrite.createCopyTarget(ifStatement.getThenStatement());
+				if (condition == null) {
+					condition= ast.newInfixExpression();
+					condition.setOperator(orOperator);
+					condition.setLeftOperand(getParenthesizedExpressionIfNeeded(ast, rewrite, ifStatement.getExpression(), condition, InfixExpression.LEFT_OPERAND_PROPERTY));
+				} else if (!hasRightOperand) {
+					condition.setRightOperand(getParenthesizedExpressionIfNeeded(ast, rewrite, ifStatement.getExpression(), condition, InfixExpression.RIGHT_OPERAND_PROPERTY));
+					hasRightOperand= true;
+				} else {
+					InfixExpression newCondition= ast.newInfixExpression();
+					newCondition.setOperator(orOperator);
+					newCondition.setLeftOperand(condition);
+					newCondition.setRightOperand(getParenthesizedExpressionIfNeeded(ast, rewrite, ifStatement.getExpression(), condition, InfixExpression.RIGHT_OPERAND_PROPERTY));
+					condition= newCondition;
+				}
 			}
-		}
-		// prepare new IfStatement with OR'ed condition
-		IfStatement newIf= ast.newIfStatement();
-		newIf.setExpression(condition);
-		newIf.setThenStatement(thenStatement);
-		//
-		ListRewrite listRewriter= null;
-		for (ASTNode astNode : coveredNodes) {
-			IfStatement ifStatement= (IfStatement) astNode;
-			if (listRewriter == null) {
-				Block sourceBlock= (Block) ifStatement.getParent();
-				//int insertIndex = sourceBlock.statements().indexOf(ifStatement);
-				listRewriter= rewrite.getListRewrite(sourceBlock, (ChildListPropertyDescriptor) ifStatement.getLocationInParent());
-			}
-			if (newIf != null) {
-				listRewriter.replace(ifStatement, newIf, null);
-				newIf= null;
-			} else {
-				listRewriter.remove(ifStatement, null);
+			// prepare new IfStatement with OR'ed condition
+			IfStatement newIf= ast.newIfStatement();
+			newIf.setExpression(condition);
+			newIf.setThenStatement(thenStatement);
+			//
+			ListRewrite listRewriter= null;
+			for (ASTNode astNode : coveredNodes) {
+				IfStatement ifStatement= (IfStatement) astNode;
+				if (listRewriter == null) {
+					Block sourceBlock= (Block) ifStatement.getParent();
+					//int insertIndex = sourceBlock.statements().indexOf(ifStatement);
+					listRewriter= rewrite.getListRewrite(sourceBlock, (ChildListPropertyDescriptor) ifStatement.getLocationInParent());
+				}
+				if (newIf != null) {
+					listRewriter.replace(ifStatement, newIf, null);
+					newIf= null;
+				} else {
+					listRewriter.remove(ifStatement, null);
+				}
 			}
-		}
-		// add correction proposal
-		String label= CorrectionMessages.AdvancedQuickAssistProcessor_joinWithOr_description;
+			return rewrite;
+		});
 		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.JOIN_IF_STATEMENTS_WITH_OR, image);
-		resultingCollections.add(proposal);
+		resultingCollections.add(new ASTRewriteCorrectionProposal(proposalCore, image));
 		return true;
 	}
 
@@ -1219,36 +1224,37 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		if (resultingCollections == null) {
 			return true;
 		}
-		AST ast= ifStatement.getAST();
-		ASTRewrite rewrite= ASTRewrite.create(ast);
+		InfixExpression condition= topInfixExpression;
+		String label= CorrectionMessages.AdvancedQuickAssistProcessor_splitOrCondition_description;
+		LazyASTRewriteCorrectionProposalCore proposalCore= new LazyASTRewriteCorrectionProposalCore(label, context.getCompilationUnit(), IProposalRelevance.SPLIT_OR_CONDITION, p -> {
+			AST ast= ifStatement.getAST();
+			ASTRewrite rewrite= ASTRewrite.create(ast);
 
-		// prepare left and right conditions
-		Expression[] newOperands= { null, null };
-		breakInfixOperationAtOperation(rewrite, topInfixExpression, orOperator, offset, true, newOperands);
+			// prepare left and right conditions
+			Expression[] newOperands= { null, null };
+			breakInfixOperationAtOperation(rewrite, condition, orOperator, offset, true, newOperands);
 
-		Expression leftCondition= newOperands[0];
-		Expression rightCondition= newOperands[1];
+			Expression leftCondition= newOperands[0];
+			Expression rightCondition= newOperands[1];
 
-		// prepare first statement
-		rewrite.replace(ifStatement.getExpression(), leftCondition, null);
+			// prepare first statement
+			rewrite.replace(ifStatement.getExpression(), leftCondition, null);
 
-		IfStatement secondIf= ast.newIfStatement();
-		secondIf.setExpression(rightCondition);
-		secondIf.setThenStatement((Statement) rewrite.createCopyTarget(ifStatement.getThenStatement()));
+			IfStatement secondIf= ast.newIfStatement();
+			secondIf.setExpression(rightCondition);
+			secondIf.setThenStatement((Statement) rewrite.createCopyTarget(ifStatement.getThenStatement()));
 
-		Statement elseStatement= ifStatement.getElseStatement();
-		if (elseStatement == null) {
-			rewrite.set(ifStatement, IfStatement.ELSE_STATEMENT_PROPERTY, secondIf, null);
-		} else {
-			rewrite.replace(elseStatement, secondIf, null);
-			secondIf.setElseStatement((Statement) rewrite.createMoveTarget(elseStatement));
-		}
-
-		// add correction proposal
-		String label= CorrectionMessages.AdvancedQuickAssistProcessor_splitOrCondition_description;
+			Statement elseStatement= ifStatement.getElseStatement();
+			if (elseStatement == null) {
+				rewrite.set(ifStatement, IfStatement.ELSE_STATEMENT_PROPERTY, secondIf, null);
+			} else {
+				rewrite.replace(elseStatement, secondIf, null);
+				secondIf.setElseStatement((Statement) rewrite.createMoveTarget(elseStatement));
+			}
+			return rewrite;
+		});
 		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.SPLIT_OR_CONDITION, image);
-		resultingCollections.add(proposal);
+		resultingCollections.add(new ASTRewriteCorrectionProposal(proposalCore, image));
 		return true;
 	}
 
@@ -1267,21 +1273,22 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		if (resultingCollections == null) {
 			return true;
 		}
-		//
-		AST ast= covering.getAST();
-		ASTRewrite rewrite= ASTRewrite.create(ast);
-		// prepare new conditional expression
-		ConditionalExpression newExpression= ast.newConditionalExpression();
-		newExpression.setExpression(getInversedExpression(rewrite, expression.getExpression()));
-		newExpression.setThenExpression((Expression) rewrite.createCopyTarget(expression.getElseExpression()));
-		newExpression.setElseExpression((Expression) rewrite.createCopyTarget(expression.getThenExpression()));
-		// replace old expression with new
-		rewrite.replace(expression, newExpression, null);
-		// add correction proposal
+		// add correction proposal, the rewrite is created when the proposal is previewed or applied
 		String label= CorrectionMessages.AdvancedQuickAssistProcessor_inverseConditionalExpression_description;
 		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.INVERSE_CONDITIONAL_EXPRESSION, image);
-		resultingCollections.add(proposal);
+		LazyASTRewriteCorrectionProposalCore proposalCore= new LazyASTRewriteCorrectionProposalCore(label, context.getCompilationUnit(), IProposalRelevance.INVERSE_CONDITIONAL_EXPRESSION, p -> {
+			AST ast= expression.getAST();
+			ASTRewrite rewrite= ASTRewrite.create(ast);
+			// prepare new conditional expression
+			ConditionalExpression newExpression= ast.newConditionalExpression();
+			newExpression.setExpression(getInversedExpression(rewrite, expression.getExpression()));
+			newExpression.setThenExpression((Expression) rewrite.createCopyTarget(expression.getElseExpression()));
+			newExpression.setElseExpression((Expression) rewrite.createCopyTarget(expression.getThenExpression()));
+			// replace old expression with new
+			rewrite.replace(expression, newExpression, null);
+			return rewrite;
+		});
+		resultingCollections.add(new ASTRewriteCorrectionProposal(proposalCore, image));
 		return true;
 	}
 
@@ -1388,55 +1395,57 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		if (resultingCollections == null) {
 			return true;
 		}
-		AST ast= infixExpression.getAST();
-		ASTRewrite rewrite= ASTRewrite.create(ast);
-		// prepare left and right expressions
-		Expression leftExpression= null;
-		Expression rightExpression= null;
-		InfixExpression currentExpression= infixExpression;
-		leftExpression= combineOperands(rewrite, leftExpression, infixExpression.getLeftOperand(), false, operator);
-		if (infixExpression.getRightOperand().getStartPosition() <= context.getSelectionOffset()) {
-			leftExpression= combineOperands(rewrite, leftExpression, infixExpression.getRightOperand(), false, operator);
-		} else {
-			rightExpression= combineOperands(rewrite, rightExpression, infixExpression.getRightOperand(), false, operator);
-		}
-		for (Iterator<Expression> iter= currentExpression.extendedOperands().iterator(); iter.hasNext();) {
-			Expression extendedOperand= iter.next();
-			if (extendedOperand.getStartPosition() <= context.getSelectionOffset()) {
-				leftExpression= combineOperands(rewrite, leftExpression, extendedOperand, false, operator);
+		String label= CorrectionMessages.AdvancedQuickAssistProcessor_exchangeOperands_description;
+		LazyASTRewriteCorrectionProposalCore proposalCore= new LazyASTRewriteCorrectionProposalCore(label, context.getCompilationUnit(), IProposalRelevance.EXCHANGE_OPERANDS, p -> {
+			AST ast= infixExpression.getAST();
+			ASTRewrite rewrite= ASTRewrite.create(ast);
+			// prepare left and right expressions
+			Expression leftExpression= null;
+			Expression rightExpression= null;
+			InfixExpression currentExpression= infixExpression;
+			leftExpression= combineOperands(rewrite, leftExpression, infixExpression.getLeftOperand(), false, operator);
+			if (infixExpression.getRightOperand().getStartPosition() <= context.getSelectionOffset()) {
+				leftExpression= combineOperands(rewrite, leftExpression, infixExpression.getRightOperand(), false, operator);
 			} else {
-				rightExpression= combineOperands(rewrite, rightExpression, extendedOperand, false, operator);
+				rightExpression= combineOperands(rewrite, rightExpression, infixExpression.getRightOperand(), false, operator);
+			}
+			for (Iterator<Expression> iter= currentExpression.extendedOperands().iterator(); iter.hasNext();) {
+				Expression extendedOperand= iter.next();
+				if (extendedOperand.getStartPosition() <= context.getSelectionOffset()) {
+					leftExpression= combineOperands(rewrite, leftExpression, extendedOperand, false, operator);
+				} else {
+					rightExpression= combineOperands(rewrite, rightExpression, extendedOperand, false, operator);
+				}
 			}
-		}
-
-		if (NecessaryParenthesesChecker.needsParentheses(leftExpression, infixExpression, InfixExpression.RIGHT_OPERAND_PROPERTY)) {
-			leftExpression= getParenthesizedExpression(ast, leftExpression);
-		}
-		if (NecessaryParenthesesChecker.needsParentheses(rightExpression, infixExpression, InfixExpression.LEFT_OPERAND_PROPERTY)) {
-			rightExpression= getParenthesizedExpression(ast, rightExpression);
-		}
 
-		if (operator == InfixExpression.Operator.LESS) {
-			operator= InfixExpression.Operator.GREATER;
-		} else if (operator == InfixExpression.Operator.LESS_EQUALS) {
-			operator= InfixExpression.Operator.GREATER_EQUALS;
-		} else if (operator == InfixExpression.Operator.GREATER) {
-			operator= InfixExpression.Operator.LESS;
-		} else if (operator == InfixExpression.Operator.GREATER_EQUALS) {
-			operator= InfixExpression.Operator.LESS_EQUALS;
-		}
+			if (NecessaryParenthesesChecker.needsParentheses(leftExpression, infixExpression, InfixExpression.RIGHT_OPERAND_PROPERTY)) {
+				leftExpression= getParenthesizedExpression(ast, leftExpression);
+			}
+			if (NecessaryParenthesesChecker.needsParentheses(rightExpression, infixExpression, InfixExpression.LEFT_OPERAND_PROPERTY)) {
+				rightExpression= getParenthesizedExpression(ast, rightExpression);
+			}
 
-		// create new infix expression
-		InfixExpression newInfix= ast.newInfixExpression();
-		newInfix.setOperator(operator);
-		newInfix.setLeftOperand(rightExpression);
-		newInfix.setRightOperand(leftExpression);
-		rewrite.replace(infixExpression, newInfix, null);
-		// add correction proposal
-		String label= CorrectionMessages.AdvancedQuickAssistProcessor_exchangeOperands_description;
+			Operator newOperator= operator;
+			if (operator == InfixExpression.Operator.LESS) {
+				newOperator= InfixExpression.Operator.GREATER;
+			} else if (operator == InfixExpression.Operator.LESS_EQUALS) {
+				newOperator= InfixExpression.Operator.GREATER_EQUALS;
+			} else if (operator == InfixExpression.Operator.GREATER) {
+				newOperator= InfixExpression.Operator.LESS;
+			} else if (operator == InfixExpression.Operator.GREATER_EQUALS) {
+				newOperator= InfixExpression.Operator.LESS_EQUALS;
+			}
+
+			// create new infix expression
+			InfixExpression newInfix= ast.newInfixExpression();
+			newInfix.setOperator(newOperator);
+			newInfix.setLeftOperand(rightExpression);
+			newInfix.setRightOperand(leftExpression);
+			rewrite.replace(infixExpression, newInfix, null);
+			return rewrite;
+		});
 		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.EXCHANGE_OPERANDS, image);
-		resultingCollections.add(proposal);
+		resultingCollections.add(new ASTRewriteCorrectionProposal(proposalCore, image));
 		return true;
 	}
 
@@ -2039,56 +2048,56 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		if (resultingCollections == null) {
 			return true;
 		}
-
-		AST ast= node.getAST();
-		ASTRewrite rewrite= ASTRewrite.create(ast);
-		// prepare new 'if' statement
-		Expression expression= ASTNodes.getUnparenthesedExpression(conditional.getExpression());
-		IfStatement ifStatement= ast.newIfStatement();
-		ifStatement.setExpression((Expression) rewrite.createCopyTarget(expression));
-
-		if (locationInParent == Assignment.RIGHT_HAND_SIDE_PROPERTY) {
-			ASTNode replaceNode= node;
-			while(!(replaceNode instanceof Assignment)) {
-				replaceNode= replaceNode.getParent();
-			}
-			Assignment assignment= (Assignment) replaceNode;
-			Expression assignee= assignment.getLeftHandSide();
-			Assignment.Operator op= assignment.getOperator();
-			ifStatement.setThenStatement(createAssignmentStatement(rewrite, op, assignee, conditional.getThenExpression()));
-			ifStatement.setElseStatement(createAssignmentStatement(rewrite, op, assignee, conditional.getElseExpression()));
-			rewrite.replace(replaceNode.getParent(), ifStatement, null);
-
-		} else if (locationInParent == ReturnStatement.EXPRESSION_PROPERTY) {
-			ASTNode replaceNode= node;
-			while(!(replaceNode instanceof ReturnStatement) && replaceNode != null) {
-				replaceNode= replaceNode.getParent();
-			}
-			ifStatement.setThenStatement(createReturnExpression(rewrite, conditional.getThenExpression()));
-			ifStatement.setElseStatement(createReturnExpression(rewrite, conditional.getElseExpression()));
-			// replace return conditional expression with if/then/else/return
-			rewrite.replace(replaceNode, ifStatement, null);
-
-		} else if (locationInParent == VariableDeclarationFragment.INITIALIZER_PROPERTY) {
-			ASTNode replaceNode= node;
-			while(!(replaceNode instanceof VariableDeclarationFragment)) {
-				replaceNode= replaceNode.getParent();
-			}
-			VariableDeclarationFragment frag= (VariableDeclarationFragment) replaceNode;
-			Assignment.Operator op= Assignment.Operator.ASSIGN;
-			Expression assignee= frag.getName();
-			ifStatement.setThenStatement(createAssignmentStatement(rewrite, op, assignee, conditional.getThenExpression()));
-			ifStatement.setElseStatement(createAssignmentStatement(rewrite, op, assignee, conditional.getElseExpression()));
-			rewrite.set(frag, VariableDeclarationFragment.INITIALIZER_PROPERTY, null, null); // clear initializer
-			ASTNode statement= frag.getParent();
-			rewrite.getListRewrite(statement.getParent(), Block.STATEMENTS_PROPERTY).insertAfter(ifStatement, statement, null);
-		}
-
-		// add correction proposal
+		StructuralPropertyDescriptor location= locationInParent;
 		String label= CorrectionMessages.AdvancedQuickAssistProcessor_replaceConditionalWithIf;
+		LazyASTRewriteCorrectionProposalCore proposalCore= new LazyASTRewriteCorrectionProposalCore(label, context.getCompilationUnit(), IProposalRelevance.REPLACE_CONDITIONAL_WITH_IF_ELSE, p -> {
+			AST ast= conditional.getAST();
+			ASTRewrite rewrite= ASTRewrite.create(ast);
+			// prepare new 'if' statement
+			Expression expression= ASTNodes.getUnparenthesedExpression(conditional.getExpression());
+			IfStatement ifStatement= ast.newIfStatement();
+			ifStatement.setExpression((Expression) rewrite.createCopyTarget(expression));
+
+			if (location == Assignment.RIGHT_HAND_SIDE_PROPERTY) {
+				ASTNode replaceNode= conditional;
+				while(!(replaceNode instanceof Assignment)) {
+					replaceNode= replaceNode.getParent();
+				}
+				Assignment assignment= (Assignment) replaceNode;
+				Expression assignee= assignment.getLeftHandSide();
+				Assignment.Operator op= assignment.getOperator();
+				ifStatement.setThenStatement(createAssignmentStatement(rewrite, op, assignee, conditional.getThenExpression()));
+				ifStatement.setElseStatement(createAssignmentStatement(rewrite, op, assignee, conditional.getElseExpression()));
+				rewrite.replace(replaceNode.getParent(), ifStatement, null);
+
+			} else if (location == ReturnStatement.EXPRESSION_PROPERTY) {
+				ASTNode replaceNode= conditional;
+				while(!(replaceNode instanceof ReturnStatement) && replaceNode != null) {
+					replaceNode= replaceNode.getParent();
+				}
+				ifStatement.setThenStatement(createReturnExpression(rewrite, conditional.getThenExpression()));
+				ifStatement.setElseStatement(createReturnExpression(rewrite, conditional.getElseExpression()));
+				// replace return conditional expression with if/then/else/return
+				rewrite.replace(replaceNode, ifStatement, null);
+
+			} else if (location == VariableDeclarationFragment.INITIALIZER_PROPERTY) {
+				ASTNode replaceNode= conditional;
+				while(!(replaceNode instanceof VariableDeclarationFragment)) {
+					replaceNode= replaceNode.getParent();
+				}
+				VariableDeclarationFragment frag= (VariableDeclarationFragment) replaceNode;
+				Assignment.Operator op= Assignment.Operator.ASSIGN;
+				Expression assignee= frag.getName();
+				ifStatement.setThenStatement(createAssignmentStatement(rewrite, op, assignee, conditional.getThenExpression()));
+				ifStatement.setElseStatement(createAssignmentStatement(rewrite, op, assignee, conditional.getElseExpression()));
+				rewrite.set(frag, VariableDeclarationFragment.INITIALIZER_PROPERTY, null, null); // clear initializer
+				ASTNode statement= frag.getParent();
+				rewrite.getListRewrite(statement.getParent(), Block.STATEMENTS_PROPERTY).insertAfter(ifStatement, statement, null);
+			}
+			return rewrite;
+		});
 		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.REPLACE_CONDITIONAL_WITH_IF_ELSE, image);
-		resultingCollections.add(proposal);
+		resultingCollections.add(new ASTRewriteCorrectionProposal(proposalCore, image));
 		return true;
 	}
 
@@ -2263,31 +2272,33 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		if (resultingCollections == null) {
 			return true;
 		}
-		//
-		final AST ast= covering.getAST();
-		final ASTRewrite rewrite= ASTRewrite.create(ast);
-		// prepared inverted expression
-		Expression inversedExpression= getInversedExpression(rewrite, parenthesizedExpression.getExpression());
-		// check, may be we should keep parentheses
-		boolean keepParentheses= false;
-		if (negationExpression.getParent() instanceof Expression) {
-			int parentPrecedence= OperatorPrecedence.getExpressionPrecedence(((Expression) negationExpression.getParent()));
-			int inversedExpressionPrecedence= OperatorPrecedence.getExpressionPrecedence(inversedExpression);
-			keepParentheses= parentPrecedence > inversedExpressionPrecedence;
-		}
-		// replace negated expression with inverted one
-		if (keepParentheses) {
-			ParenthesizedExpression pe= ast.newParenthesizedExpression();
-			pe.setExpression(inversedExpression);
-			rewrite.replace(negationExpression, pe, null);
-		} else {
-			rewrite.replace(negationExpression, inversedExpression, null);
-		}
-		// add correction proposal
+		PrefixExpression negation= negationExpression;
+		Expression negated= parenthesizedExpression.getExpression();
 		String label= CorrectionMessages.AdvancedQuickAssistProcessor_pushNegationDown;
+		LazyASTRewriteCorrectionProposalCore proposalCore= new LazyASTRewriteCorrectionProposalCore(label, context.getCompilationUnit(), IProposalRelevance.PULL_NEGATION_DOWN, p -> {
+			final AST ast= covering.getAST();
+			final ASTRewrite rewrite= ASTRewrite.create(ast);
+			// prepared inverted expression
+			Expression inversedExpression= getInversedExpression(rewrite, negated);
+			// check, may be we should keep parentheses
+			boolean keepParentheses= false;
+			if (negation.getParent() instanceof Expression) {
+				int parentPrecedence= OperatorPrecedence.getExpressionPrecedence(((Expression) negation.getParent()));
+				int inversedExpressionPrecedence= OperatorPrecedence.getExpressionPrecedence(inversedExpression);
+				keepParentheses= parentPrecedence > inversedExpressionPrecedence;
+			}
+			// replace negated expression with inverted one
+			if (keepParentheses) {
+				ParenthesizedExpression pe= ast.newParenthesizedExpression();
+				pe.setExpression(inversedExpression);
+				rewrite.replace(negation, pe, null);
+			} else {
+				rewrite.replace(negation, inversedExpression, null);
+			}
+			return rewrite;
+		});
 		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.PULL_NEGATION_DOWN, image);
-		resultingCollections.add(proposal);
+		resultingCollections.add(new ASTRewriteCorrectionProposal(proposalCore, image));
 		return true;
 	}
 
@@ -2341,25 +2352,25 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		if (resultingCollections == null) {
 			return true;
 		}
-		//
-		AST ast= expression.getAST();
-		final ASTRewrite rewrite= ASTRewrite.create(ast);
-		// prepared inverted expression
-		Expression inversedExpression= getInversedExpression(rewrite, expression);
-		// prepare ParenthesizedExpression
-		ParenthesizedExpression parenthesizedExpression= ast.newParenthesizedExpression();
-		parenthesizedExpression.setExpression(inversedExpression);
-		// prepare NOT prefix expression
-		PrefixExpression prefixExpression= ast.newPrefixExpression();
-		prefixExpression.setOperator(PrefixExpression.Operator.NOT);
-		prefixExpression.setOperand(parenthesizedExpression);
-		// replace old expression
-		rewrite.replace(expression, prefixExpression, null);
-		// add correction proposal
 		String label= CorrectionMessages.AdvancedQuickAssistProcessor_pullNegationUp;
+		LazyASTRewriteCorrectionProposalCore proposalCore= new LazyASTRewriteCorrectionProposalCore(label, context.getCompilationUnit(), IProposalRelevance.PULL_NEGATION_UP, p -> {
+			AST ast= expression.getAST();
+			final ASTRewrite rewrite= ASTRewrite.create(ast);
+			// prepared inverted expression
+			Expression inversedExpression= getInversedExpression(rewrite, expression);
+			// prepare ParenthesizedExpression
+			ParenthesizedExpression parenthesizedExpression= ast.newParenthesizedExpression();
+			parenthesizedExpression.setExpression(inversedExpression);
+			// prepare NOT prefix expression
+			PrefixExpression prefixExpression= ast.newPrefixExpression();
+			prefixExpression.setOperator(PrefixExpression.Operator.NOT);
+			prefixExpression.setOperand(parenthesizedExpression);
+			// replace old expression
+			rewrite.replace(expression, prefixExpression, null);
+			return rewrite;
+		});
 		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.PULL_NEGATION_UP, image);
-		resultingCollections.add(proposal);
+		resultingCollections.add(new ASTRewriteCorrectionProposal(proposalCore, image));
 		return true;
 	}
 
@@ -2385,45 +2396,45 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		if (resultingCollections == null) {
 			return true;
 		}
-		//
-		final AST ast= covering.getAST();
-		final ASTRewrite rewrite= ASTRewrite.create(ast);
-		//
-		IfStatement firstIfStatement= (IfStatement) coveredNodes.get(0);
-		IfStatement firstNewIfStatement= null;
-		//
-		IfStatement prevIfStatement= null;
-		for (ASTNode astNode : coveredNodes) {
-			IfStatement ifStatement= (IfStatement) astNode;
-			// prepare new 'if' statement
-			IfStatement newIfStatement= ast.newIfStatement();
-			newIfStatement.setExpression((Expression) rewrite.createMoveTarget(ifStatement.getExpression()));
-			// prepare 'then' statement and convert into block if needed
-			Statement thenStatement= (Statement) rewrite.createMoveTarget(ifStatement.getThenStatement());
-			if (ifStatement.getThenStatement() instanceof IfStatement) {
-				IfStatement ifBodyStatement= (IfStatement) ifStatement.getThenStatement();
-				if (ifBodyStatement.getElseStatement() == null) {
-					Block thenBlock= ast.newBlock();
-					thenBlock.statements().add(thenStatement);
-					thenStatement= thenBlock;
-				}
-			}
-			newIfStatement.setThenStatement(thenStatement);
+		String label= CorrectionMessages.AdvancedQuickAssistProcessor_joinIfSequence;
+		LazyASTRewriteCorrectionProposalCore proposalCore= new LazyASTRewriteCorrectionProposalCore(label, context.getCompilationUnit(), IProposalRelevance.JOIN_IF_SEQUENCE, p -> {
+			final AST ast= covering.getAST();
+			final ASTRewrite rewrite= ASTRewrite.create(ast);
 			//
-			if (prevIfStatement != null) {
-				prevIfStatement.setElseStatement(newIfStatement);
-				rewrite.remove(ifStatement, null);
-			} else {
-				firstNewIfStatement= newIfStatement;
+			IfStatement firstIfStatement= (IfStatement) coveredNodes.get(0);
+			IfStatement firstNewIfStatement= null;
+			//
+			IfStatement prevIfStatement= null;
+			for (ASTNode astNode : coveredNodes) {
+				IfStatement ifStatement= (IfStatement) astNode;
+				// prepare new 'if' statement
+				IfStatement newIfStatement= ast.newIfStatement();
+				newIfStatement.setExpression((Expression) rewrite.createMoveTarget(ifStatement.getExpression()));
+				// prepare 'then' statement and convert into block if needed
+				Statement thenStatement= (Statement) rewrite.createMoveTarget(ifStatement.getThenStatement());
+				if (ifStatement.getThenStatement() instanceof IfStatement) {
+					IfStatement ifBodyStatement= (IfStatement) ifStatement.getThenStatement();
+					if (ifBodyStatement.getElseStatement() == null) {
+						Block thenBlock= ast.newBlock();
+						thenBlock.statements().add(thenStatement);
+						thenStatement= thenBlock;
+					}
+				}
+				newIfStatement.setThenStatement(thenStatement);
+				//
+				if (prevIfStatement != null) {
+					prevIfStatement.setElseStatement(newIfStatement);
+					rewrite.remove(ifStatement, null);
+				} else {
+					firstNewIfStatement= newIfStatement;
+				}
+				prevIfStatement= newIfStatement;
 			}
-			prevIfStatement= newIfStatement;
-		}
-		rewrite.replace(firstIfStatement, firstNewIfStatement, null);
-		// add correction proposal
-		String label= CorrectionMessages.AdvancedQuickAssistProcessor_joinIfSequence;
+			rewrite.replace(firstIfStatement, firstNewIfStatement, null);
+			return rewrite;
+		});
 		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.JOIN_IF_SEQUENCE, image);
-		resultingCollections.add(proposal);
+		resultingCollections.add(new ASTRewriteCorrectionProposal(proposalCore, image));
 		return true;
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text.correction;
 
+import java.lang.ref.WeakReference;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 
@@ -105,6 +106,16 @@ public class QuickAssistLightBulbUpdater {
 	private ISelectionListenerWithAST fListener;
 	private IPropertyChangeListener fPropertyChangeListener;
 
+	/*
+	 * Result of the last applicability check, selection changes to the same range
+	 * on the same AST don't need to ask the processors again. The AST is only weakly
+	 * referenced so that it can be released when the editor is reconciled.
+	 */
+	private WeakReference<CompilationUnit> fLastASTRoot= new WeakReference<>(null);
+	private int fLastOffset;
+	private int fLastLength;
+	private boolean fLastHasAssists;
+
 	public QuickAssistLightBulbUpdater(ITextEditor part, ITextViewer viewer) {
 		fEditor= part;
 		fViewer= viewer;
@@ -131,6 +142,7 @@ public class QuickAssistLightBulbUpdater {
 		if (model != null) {
 			removeLightBulb(model);
 		}
+		fLastASTRoot.clear();
 	}
 
 	public void install() {
@@ -210,7 +222,7 @@ public class QuickAssistLightBulbUpdater {
 	 * Needs to be called synchronized
 	 */
 	private void calculateLightBulb(IAnnotationModel model, IInvocationContext context) {
-		boolean needsAnnotation= JavaCorrectionProcessor.hasAssists(context);
+		boolean needsAnnotation= hasAssists(context);
 		if (fIsAnnotationShown) {
 			model.removeAnnotation(fAnnotation);
 		}
@@ -220,6 +232,19 @@ public class QuickAssistLightBulbUpdater {
 		fIsAnnotationShown= needsAnnotation;
 	}
 
+	private boolean hasAssists(IInvocationContext context) {
+		CompilationUnit astRoot= context.getASTRoot();
+		int offset= context.getSelectionOffset();
+		int length= context.getSelectionLength();
+		if (astRoot != fLastASTRoot.get() || offset != fLastOffset || length != fLastLength) {
+			fLastHasAssists= JavaCorrectionProcessor.hasAssists(context);
+			fLastASTRoot= new WeakReference<>(astRoot);
+			fLastOffset= offset;
+			fLastLength= length;
+		}
+		return fLastHasAssists;
+	}
+
 	private void removeLightBulb(IAnnotationModel model) {
 		synchronized (this) {
 			if (fIsAnnotationShown) {
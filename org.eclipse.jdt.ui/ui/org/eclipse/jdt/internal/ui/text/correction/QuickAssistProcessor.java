@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -224,6 +224,7 @@ import org.eclipse.jdt.internal.ui.text.correction.proposals.AssignToVariableAss
 import org.eclipse.jdt.internal.ui.text.correction.proposals.ConvertFieldNamingConventionProposal;
 import org.eclipse.jdt.internal.ui.text.correction.proposals.FixCorrectionProposal;
 import org.eclipse.jdt.internal.ui.text.correction.proposals.GenerateForLoopAssistProposal;
+import org.eclipse.jdt.internal.ui.text.correction.proposals.LazyASTRewriteCorrectionProposalCore;
 import org.eclipse.jdt.internal.ui.text.correction.proposals.LinkedCorrectionProposal;
 import org.eclipse.jdt.internal.ui.text.correction.proposals.LinkedNamesAssistProposal;
 import org.eclipse.jdt.internal.ui.text.correction.proposals.NewDefiningMethodProposal;
@@ -1017,14 +1018,16 @@ public class QuickAssistProcessor implements IQuickAssistProcessor {
 			imageKey= JavaPluginImages.IMG_CORRECTION_CAST;
 		}
 
-		// Create the rewrite:
-		ASTRewrite rewrite= ASTRewrite.create(enclosingLambda.getAST());
-		rewrite.set(enclosingLambda, LambdaExpression.PARENTHESES_PROPERTY, parenthesesPropertyNewValue, null);
+		LambdaExpression lambda= enclosingLambda;
+		LazyASTRewriteCorrectionProposalCore proposalCore= new LazyASTRewriteCorrectionProposalCore(label, context.getCompilationUnit(), IProposalRelevance.ADD_PARENTHESES_FOR_EXPRESSION, p -> {
+			ASTRewrite rewrite= ASTRewrite.create(lambda.getAST());
+			rewrite.set(lambda, LambdaExpression.PARENTHESES_PROPERTY, parenthesesPropertyNewValue, null);
+			return rewrite;
+		});
 
 		// add correction proposal
 		Image image= JavaPluginImages.get(imageKey);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.ADD_PARENTHESES_FOR_EXPRESSION, image);
-		resultingCollections.add(proposal);
+		resultingCollections.add(new ASTRewriteCorrectionProposal(proposalCore, image));
 		return true;
 	}
 
@@ -1355,16 +1358,17 @@ public class QuickAssistProcessor implements IQuickAssistProcessor {
 			return true;
 		}
 
-		AST ast= tryStatement.getAST();
-		ASTRewrite rewrite= ASTRewrite.create(ast);
-		Block finallyBody= ast.newBlock();
-
-		rewrite.set(tryStatement, TryStatement.FINALLY_PROPERTY, finallyBody, null);
-
 		String label= CorrectionMessages.QuickAssistProcessor_addfinallyblock_description;
 		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_ADD);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.ADD_FINALLY_BLOCK, image);
-		resultingCollections.add(proposal);
+		LazyASTRewriteCorrectionProposalCore proposalCore= new LazyASTRewriteCorrectionProposalCore(label, context.getCompilationUnit(), IProposalRelevance.ADD_FINALLY_BLOCK, p -> {
+			AST ast= tryStatement.getAST();
+			ASTRewrite rewrite= ASTRewrite.create(ast);
+			Block finallyBody= ast.newBlock();
+
+			rewrite.set(tryStatement, TryStatement.FINALLY_PROPERTY, finallyBody, null);
+			return rewrite;
+		});
+		resultingCollections.add(new ASTRewriteCorrectionProposal(proposalCore, image));
 		return true;
 	}
 
@@ -1381,16 +1385,17 @@ public class QuickAssistProcessor implements IQuickAssistProcessor {
 			return true;
 		}
 
-		AST ast= node.getAST();
-		ASTRewrite rewrite= ASTRewrite.create(ast);
-		Block body= ast.newBlock();
-
-		rewrite.set(ifStatement, IfStatement.ELSE_STATEMENT_PROPERTY, body, null);
-
 		String label= CorrectionMessages.QuickAssistProcessor_addelseblock_description;
 		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_ADD);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.ADD_ELSE_BLOCK, image);
-		resultingCollections.add(proposal);
+		LazyASTRewriteCorrectionProposalCore proposalCore= new LazyASTRewriteCorrectionProposalCore(label, context.getCompilationUnit(), IProposalRelevance.ADD_ELSE_BLOCK, p -> {
+			AST ast= node.getAST();
+			ASTRewrite rewrite= ASTRewrite.create(ast);
+			Block body= ast.newBlock();
+
+			rewrite.set(ifStatement, IfStatement.ELSE_STATEMENT_PROPERTY, body, null);
+			return rewrite;
+		});
+		resultingCollections.add(new ASTRewriteCorrectionProposal(proposalCore, image));
 		return true;
 	}
 
@@ -1432,48 +1437,64 @@ public class QuickAssistProcessor implements IQuickAssistProcessor {
 				selectedMultiCatchType= (NameQualifiedType) parent;
 			}
 		}
+		Type selectedType= selectedMultiCatchType;
 
 		if (bodyDeclaration instanceof MethodDeclaration) {
 			MethodDeclaration methodDeclaration= (MethodDeclaration) bodyDeclaration;
 
-			ASTRewrite rewrite= ASTRewrite.create(ast);
-			if (selectedMultiCatchType != null) {
-				removeException(rewrite, (UnionType) type, selectedMultiCatchType);
-				addExceptionToThrows(ast, methodDeclaration, rewrite, selectedMultiCatchType);
+			if (selectedType != null) {
 				String label= CorrectionMessages.QuickAssistProcessor_exceptiontothrows_description;
-				ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.REPLACE_EXCEPTION_WITH_THROWS, image);
-				resultingCollections.add(proposal);
+				LazyASTRewriteCorrectionProposalCore proposalCore= new LazyASTRewriteCorrectionProposalCore(label, context.getCompilationUnit(), IProposalRelevance.REPLACE_EXCEPTION_WITH_THROWS, p -> {
+					ASTRewrite rewrite= ASTRewrite.create(ast);
+					removeException(rewrite, (UnionType) type, selectedType);
+					addExceptionToThrows(ast, methodDeclaration, rewrite, selectedType);
+					return rewrite;
+				});
+				resultingCollections.add(new ASTRewriteCorrectionProposal(proposalCore, image));
 			} else {
-				removeCatchBlock(rewrite, catchClause);
 				if (type.isUnionType()) {
-					UnionType unionType= (UnionType) type;
-					List<Type> types= unionType.types();
+					List<Type> types= ((UnionType) type).types();
 					for (Type elementType : types) {
 						if (!(elementType instanceof SimpleType)
 								&& !(elementType instanceof NameQualifiedType))
 							return false;
-						addExceptionToThrows(ast, methodDeclaration, rewrite, elementType);
 					}
-				} else {
-					addExceptionToThrows(ast, methodDeclaration, rewrite, type);
 				}
 				String label= CorrectionMessages.QuickAssistProcessor_catchclausetothrows_description;
-				ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.REPLACE_CATCH_CLAUSE_WITH_THROWS, image);
-				resultingCollections.add(proposal);
+				LazyASTRewriteCorrectionProposalCore proposalCore= new LazyASTRewriteCorrectionProposalCore(label, context.getCompilationUnit(), IProposalRelevance.REPLACE_CATCH_CLAUSE_WITH_THROWS, p -> {
+					ASTRewrite rewrite= ASTRewrite.create(ast);
+					removeCatchBlock(rewrite, catchClause);
+					if (type.isUnionType()) {
+						UnionType unionType= (UnionType) type;
+						List<Type> types= unionType.types();
+						for (Type elementType : types) {
+							addExceptionToThrows(ast, methodDeclaration, rewrite, elementType);
+						}
+					} else {
+						addExceptionToThrows(ast, methodDeclaration, rewrite, type);
+					}
+					return rewrite;
+				});
+				resultingCollections.add(new ASTRewriteCorrectionProposal(proposalCore, image));
 			}
 		}
 		{ // for initializers or method declarations
-			ASTRewrite rewrite= ASTRewrite.create(ast);
-			if (selectedMultiCatchType != null) {
-				removeException(rewrite, (UnionType) type, selectedMultiCatchType);
+			if (selectedType != null) {
 				String label= CorrectionMessages.QuickAssistProcessor_removeexception_description;
-				ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.REMOVE_EXCEPTION, image);
-				resultingCollections.add(proposal);
+				LazyASTRewriteCorrectionProposalCore proposalCore= new LazyASTRewriteCorrectionProposalCore(label, context.getCompilationUnit(), IProposalRelevance.REMOVE_EXCEPTION, p -> {
+					ASTRewrite rewrite= ASTRewrite.create(ast);
+					removeException(rewrite, (UnionType) type, selectedType);
+					return rewrite;
+				});
+				resultingCollections.add(new ASTRewriteCorrectionProposal(proposalCore, image));
 			} else {
-				removeCatchBlock(rewrite, catchClause);
 				String label= CorrectionMessages.QuickAssistProcessor_removecatchclause_description;
-				ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.REMOVE_CATCH_CLAUSE, image);
-				resultingCollections.add(proposal);
+				LazyASTRewriteCorrectionProposalCore proposalCore= new LazyASTRewriteCorrectionProposalCore(label, context.getCompilationUnit(), IProposalRelevance.REMOVE_CATCH_CLAUSE, p -> {
+					ASTRewrite rewrite= ASTRewrite.create(ast);
+					removeCatchBlock(rewrite, catchClause);
+					return rewrite;
+				});
+				resultingCollections.add(new ASTRewriteCorrectionProposal(proposalCore, image));
 			}
 		}
 
@@ -1583,33 +1604,35 @@ public class QuickAssistProcessor implements IQuickAssistProcessor {
 			return true;
 		}
 
-		AST ast= bodyDeclaration.getAST();
-		ASTRewrite rewrite= ASTRewrite.create(ast);
-
-		CatchClause newCatchClause= ast.newCatchClause();
-		SingleVariableDeclaration newSingleVariableDeclaration= ast.newSingleVariableDeclaration();
-		UnionType newUnionType= ast.newUnionType();
-		List<Type> types= newUnionType.types();
-		for (ASTNode typeNode : coveredNodes) {
-			types.add((Type) rewrite.createCopyTarget(typeNode));
-			rewrite.remove(typeNode, null);
-		}
-		newSingleVariableDeclaration.setType(newUnionType);
-		newSingleVariableDeclaration.setName((SimpleName) rewrite.createCopyTarget(catchClause.getException().getName()));
-		newCatchClause.setException(newSingleVariableDeclaration);
-
-		setCatchClauseBody(newCatchClause, rewrite, catchClause);
-
-		TryStatement tryStatement= (TryStatement) catchClause.getParent();
-		ListRewrite listRewrite= rewrite.getListRewrite(tryStatement, TryStatement.CATCH_CLAUSES_PROPERTY);
-		listRewrite.insertAfter(newCatchClause, catchClause, null);
-
+		List<ASTNode> typeNodes= new ArrayList<>(coveredNodes);
 		Image image= JavaPluginImages.get(JavaPluginImages.IMG_OBJS_EXCEPTION);
 		String label= !multipleExceptions
 				? CorrectionMessages.QuickAssistProcessor_move_exception_to_separate_catch_block
 				: CorrectionMessages.QuickAssistProcessor_move_exceptions_to_separate_catch_block;
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.MOVE_EXCEPTION_TO_SEPERATE_CATCH_BLOCK, image);
-		resultingCollections.add(proposal);
+		LazyASTRewriteCorrectionProposalCore proposalCore= new LazyASTRewriteCorrectionProposalCore(label, context.getCompilationUnit(), IProposalRelevance.MOVE_EXCEPTION_TO_SEPERATE_CATCH_BLOCK, p -> {
+			AST ast= bodyDeclaration.getAST();
+			ASTRewrite rewrite= ASTRewrite.create(ast);
+
+			CatchClause newCatchClause= ast.newCatchClause();
+			SingleVariableDeclaration newSingleVariableDeclaration= ast.newSingleVariableDeclaration();
+			UnionType newUnionType= ast.newUnionType();
+			List<Type> types= newUnionType.types();
+			for (ASTNode typeNode : typeNodes) {
+				types.add((Type) rewrite.createCopyTarget(typeNode));
+				rewrite.remove(typeNode, null);
+			}
+			newSingleVariableDeclaration.setType(newUnionType);
+			newSingleVariableDeclaration.setName((SimpleName) rewrite.createCopyTarget(catchClause.getException().getName()));
+			newCatchClause.setException(newSingleVariableDeclaration);
+
+			setCatchClauseBody(newCatchClause, rewrite, catchClause);
+
+			TryStatement tryStatement= (TryStatement) catchClause.getParent();
+			ListRewrite listRewrite= rewrite.getListRewrite(tryStatement, TryStatement.CATCH_CLAUSES_PROPERTY);
+			listRewrite.insertAfter(newCatchClause, catchClause, null);
+			return rewrite;
+		});
+		resultingCollections.add(new ASTRewriteCorrectionProposal(proposalCore, image));
 		return true;
 	}
 
@@ -1661,41 +1684,42 @@ public class QuickAssistProcessor implements IQuickAssistProcessor {
 		if (resultingCollections == null)
 			return true;
 
-		AST ast= covering.getAST();
-		ASTRewrite rewrite= ASTRewrite.create(ast);
-		TightSourceRangeComputer sourceRangeComputer= new TightSourceRangeComputer();
-		sourceRangeComputer.addTightSourceNode(catchClauses.get(catchClauses.size() - 1));
-		rewrite.setTargetSourceRangeComputer(sourceRangeComputer);
-
-		CatchClause firstCatchClause= catchClauses.get(0);
-
-		UnionType newUnionType= ast.newUnionType();
-		List<Type> types= newUnionType.types();
-		for (CatchClause catchClause1 : catchClauses) {
-			Type type= catchClause1.getException().getType();
-			if (type instanceof UnionType) {
-				List<Type> types2= ((UnionType) type).types();
-				for (Type type2 : types2) {
-					types.add((Type) rewrite.createCopyTarget(type2));
+		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
+		String label= CorrectionMessages.QuickAssistProcessor_convert_to_single_multicatch_block;
+		LazyASTRewriteCorrectionProposalCore proposalCore= new LazyASTRewriteCorrectionProposalCore(label, context.getCompilationUnit(), IProposalRelevance.COMBINE_CATCH_BLOCKS, p -> {
+			AST ast= tryStatement.getAST();
+			ASTRewrite rewrite= ASTRewrite.create(ast);
+			TightSourceRangeComputer sourceRangeComputer= new TightSourceRangeComputer();
+			sourceRangeComputer.addTightSourceNode(catchClauses.get(catchClauses.size() - 1));
+			rewrite.setTargetSourceRangeComputer(sourceRangeComputer);
+
+			CatchClause firstCatchClause= catchClauses.get(0);
+
+			UnionType newUnionType= ast.newUnionType();
+			List<Type> types= newUnionType.types();
+			for (CatchClause catchClause1 : catchClauses) {
+				Type type= catchClause1.getException().getType();
+				if (type instanceof UnionType) {
+					List<Type> types2= ((UnionType) type).types();
+					for (Type type2 : types2) {
+						types.add((Type) rewrite.createCopyTarget(type2));
+					}
+				} else {
+					types.add((Type) rewrite.createCopyTarget(type));
 				}
-			} else {
-				types.add((Type) rewrite.createCopyTarget(type));
 			}
-		}
-
-		SingleVariableDeclaration newExceptionDeclaration= ast.newSingleVariableDeclaration();
-		newExceptionDeclaration.setType(newUnionType);
-		newExceptionDeclaration.setName((SimpleName) rewrite.createCopyTarget(firstCatchClause.getException().getName()));
-		rewrite.replace(firstCatchClause.getException(), newExceptionDeclaration, null);
 
-		for (int i= 1; i < catchClauses.size(); i++) {
-			rewrite.remove(catchClauses.get(i), null);
-		}
+			SingleVariableDeclaration newExceptionDeclaration= ast.newSingleVariableDeclaration();
+			newExceptionDeclaration.setType(newUnionType);
+			newExceptionDeclaration.setName((SimpleName) rewrite.createCopyTarget(firstCatchClause.getException().getName()));
+			rewrite.replace(firstCatchClause.getException(), newExceptionDeclaration, null);
 
-		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-		String label= CorrectionMessages.QuickAssistProcessor_convert_to_single_multicatch_block;
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.COMBINE_CATCH_BLOCKS, image);
-		resultingCollections.add(proposal);
+			for (int i= 1; i < catchClauses.size(); i++) {
+				rewrite.remove(catchClauses.get(i), null);
+			}
+			return rewrite;
+		});
+		resultingCollections.add(new ASTRewriteCorrectionProposal(proposalCore, image));
 		return true;
 	}
 
@@ -1730,31 +1754,32 @@ public class QuickAssistProcessor implements IQuickAssistProcessor {
 		if (resultingCollections == null)
 			return true;
 
-		AST ast= covering.getAST();
-		ASTRewrite rewrite= ASTRewrite.create(ast);
-
-		TryStatement tryStatement= (TryStatement) catchClause.getParent();
-		ListRewrite listRewrite= rewrite.getListRewrite(tryStatement, TryStatement.CATCH_CLAUSES_PROPERTY);
+		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
+		String label= CorrectionMessages.QuickAssistProcessor_convert_to_multiple_singletype_catch_blocks;
+		LazyASTRewriteCorrectionProposalCore proposalCore= new LazyASTRewriteCorrectionProposalCore(label, context.getCompilationUnit(), IProposalRelevance.USE_SEPARATE_CATCH_BLOCKS, p -> {
+			AST ast= catchClause.getAST();
+			ASTRewrite rewrite= ASTRewrite.create(ast);
 
-		UnionType unionType= (UnionType) type;
-		List<Type> types= unionType.types();
-		for (int i= types.size() - 1; i >= 0; i--) {
-			Type type2= types.get(i);
-			CatchClause newCatchClause= ast.newCatchClause();
+			TryStatement tryStatement= (TryStatement) catchClause.getParent();
+			ListRewrite listRewrite= rewrite.getListRewrite(tryStatement, TryStatement.CATCH_CLAUSES_PROPERTY);
 
-			SingleVariableDeclaration newSingleVariableDeclaration= ast.newSingleVariableDeclaration();
-			newSingleVariableDeclaration.setType((Type) rewrite.createCopyTarget(type2));
-			newSingleVariableDeclaration.setName((SimpleName) rewrite.createCopyTarget(singleVariableDeclaration.getName()));
-			newCatchClause.setException(newSingleVariableDeclaration);
-			setCatchClauseBody(newCatchClause, rewrite, catchClause);
-			listRewrite.insertAfter(newCatchClause, catchClause, null);
-		}
-		rewrite.remove(catchClause, null);
+			UnionType unionType= (UnionType) type;
+			List<Type> types= unionType.types();
+			for (int i= types.size() - 1; i >= 0; i--) {
+				Type type2= types.get(i);
+				CatchClause newCatchClause= ast.newCatchClause();
 
-		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-		String label= CorrectionMessages.QuickAssistProcessor_convert_to_multiple_singletype_catch_blocks;
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.USE_SEPARATE_CATCH_BLOCKS, image);
-		resultingCollections.add(proposal);
+				SingleVariableDeclaration newSingleVariableDeclaration= ast.newSingleVariableDeclaration();
+				newSingleVariableDeclaration.setType((Type) rewrite.createCopyTarget(type2));
+				newSingleVariableDeclaration.setName((SimpleName) rewrite.createCopyTarget(singleVariableDeclaration.getName()));
+				newCatchClause.setException(newSingleVariableDeclaration);
+				setCatchClauseBody(newCatchClause, rewrite, catchClause);
+				listRewrite.insertAfter(newCatchClause, catchClause, null);
+			}
+			rewrite.remove(catchClause, null);
+			return rewrite;
+		});
+		resultingCollections.add(new ASTRewriteCorrectionProposal(proposalCore, image));
 		return true;
 	}
 
@@ -3696,62 +3721,66 @@ public class QuickAssistProcessor implements IQuickAssistProcessor {
 		}
 
 		if (proposals != null && scase.expressions().size() > 1) {
-			ASTRewrite astRewrite= ASTRewrite.create(ast);
-			ChildListPropertyDescriptor descriptor;
-			List<Statement> statements;
-			if (parent instanceof SwitchStatement) {
-				descriptor= SwitchStatement.STATEMENTS_PROPERTY;
-				statements= ((SwitchStatement) parent).statements();
-			} else {
-				descriptor= SwitchExpression.STATEMENTS_PROPERTY;
-				statements= ((SwitchExpression) parent).statements();
-			}
-			ListRewrite listRewrite= astRewrite.getListRewrite(parent, descriptor);
+			SwitchCase switchCase= scase;
+			ASTNode switchNode= parent;
+			String label= CorrectionMessages.QuickAssistProcessor_split_case_labels;
+			LazyASTRewriteCorrectionProposalCore proposalCore= new LazyASTRewriteCorrectionProposalCore(label, context.getCompilationUnit(), IProposalRelevance.ADD_MISSING_CASE_STATEMENTS, p -> {
+				ASTRewrite astRewrite= ASTRewrite.create(ast);
+				ChildListPropertyDescriptor descriptor;
+				List<Statement> statements;
+				if (switchNode instanceof SwitchStatement) {
+					descriptor= SwitchStatement.STATEMENTS_PROPERTY;
+					statements= ((SwitchStatement) switchNode).statements();
+				} else {
+					descriptor= SwitchExpression.STATEMENTS_PROPERTY;
+					statements= ((SwitchExpression) switchNode).statements();
+				}
+				ListRewrite listRewrite= astRewrite.getListRewrite(switchNode, descriptor);
 
-			// Figure out the list index of the switch case in the statement list
-			// We care about duplicating the statement(s) occuring immediately after it
-			int statementIndex= 0;
-			for (Statement s : statements) {
-				if (scase.equals(s)) {
-					break;
+				// Figure out the list index of the switch case in the statement list
+				// We care about duplicating the statement(s) occuring immediately after it
+				int statementIndex= 0;
+				for (Statement s : statements) {
+					if (switchCase.equals(s)) {
+						break;
+					}
+					statementIndex++;
 				}
 				statementIndex++;
-			}
-			statementIndex++;
 
-			// Switch Case Statement(s)
-			List<Statement> caseStatements= new ArrayList<>();
-			for (int i= statementIndex; i < statements.size(); i++) {
-				Statement curr= statements.get(i);
-				if (curr instanceof SwitchCase) {
-					break;
+				// Switch Case Statement(s)
+				List<Statement> caseStatements= new ArrayList<>();
+				for (int i= statementIndex; i < statements.size(); i++) {
+					Statement curr= statements.get(i);
+					if (curr instanceof SwitchCase) {
+						break;
+					}
+					caseStatements.add(curr);
 				}
-				caseStatements.add(curr);
-			}
 
-			for (int i= 0; i < scase.expressions().size(); i++) {
-				Expression elem= (Expression) scase.expressions().get(i);
-				// SwitchCase
-				SwitchCase newSwitchCase= ast.newSwitchCase();
-				Expression newExpr= (Expression) astRewrite.createCopyTarget(elem);
-				newSwitchCase.setSwitchLabeledRule(scase.isSwitchLabeledRule());
-				newSwitchCase.expressions().add(newExpr);
+				for (int i= 0; i < switchCase.expressions().size(); i++) {
+					Expression elem= (Expression) switchCase.expressions().get(i);
+					// SwitchCase
+					SwitchCase newSwitchCase= ast.newSwitchCase();
+					Expression newExpr= (Expression) astRewrite.createCopyTarget(elem);
+					newSwitchCase.setSwitchLabeledRule(switchCase.isSwitchLabeledRule());
+					newSwitchCase.expressions().add(newExpr);
+
+					// Preserve order from left -> right, top -> bottom
+					listRewrite.insertBefore(newSwitchCase, switchCase, null);
+					for (Statement statement : caseStatements) {
+						listRewrite.insertBefore(astRewrite.createCopyTarget(statement), switchCase, null);
+					}
+				}
 
-				// Preserve order from left -> right, top -> bottom
-				listRewrite.insertBefore(newSwitchCase, scase, null);
+				listRewrite.remove(switchCase, null);
 				for (Statement statement : caseStatements) {
-					listRewrite.insertBefore(astRewrite.createCopyTarget(statement), scase, null);
+					listRewrite.remove(statement, null);
 				}
-			}
-
-			listRewrite.remove(scase, null);
-			for (Statement statement : caseStatements) {
-				listRewrite.remove(statement, null);
-			}
-
-			String label= CorrectionMessages.QuickAssistProcessor_split_case_labels;
+				return astRewrite;
+			});
 			Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-			proposals.add(new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), astRewrite, IProposalRelevance.ADD_MISSING_CASE_STATEMENTS, image));
+			proposals.add(new ASTRewriteCorrectionProposal(proposalCore, image));
 		}
 
 		return true;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,10 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.SelectionAdapter;
@@ -50,6 +54,8 @@ import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.jface.resource.JFaceResources;
 
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
 import org.eclipse.jface.text.ITextViewer;
 import org.eclipse.jface.text.contentassist.ContentAssistEvent;
 import org.eclipse.jface.text.contentassist.ContentAssistant;
@@ -76,6 +82,7 @@ import org.eclipse.jdt.ui.text.java.ContentAssistInvocationContext;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.JavaUIMessages;
 import org.eclipse.jdt.internal.ui.dialogs.OptionalMessageDialog;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaSourceViewer;
 import org.eclipse.jdt.internal.ui.util.Progress;
 
 
@@ -110,7 +117,7 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 		 */
 		@Override
 		public void assistSessionStarted(ContentAssistEvent event) {
-			if (event.processor != ContentAssistProcessor.this) {
+			if (!isOwnSession(event)) {
 				return;
 			}
 
@@ -144,6 +151,18 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 			}
 		}
 
+		/**
+		 * Tells whether the given event is about a session of this processor. An asynchronous
+		 * content assistant may report its late proposals processor instead.
+		 *
+		 * @param event the content assist event
+		 * @return <code>true</code> if the session belongs to this processor
+		 */
+		private boolean isOwnSession(ContentAssistEvent event) {
+			return event.processor == ContentAssistProcessor.this
+					|| (event.processor != null && event.processor == fLateProposalsProcessor);
+		}
+
 		/**
 		 * Returns the categories that need to be notified when a session starts and ends.
 		 *
@@ -176,7 +195,7 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 		 */
 		@Override
 		public void assistSessionEnded(ContentAssistEvent event) {
-			if (event.processor != ContentAssistProcessor.this) {
+			if (!isOwnSession(event)) {
 				return;
 			}
 
@@ -185,6 +204,8 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 			}
 
 			fSelectedProposal= null;
+			cancelParallelComputation();
+			fLateComputations.clear();
 			fCategoryIteration= null;
 			fRepetition= -1;
 			fIterationGesture= null;
@@ -218,6 +239,133 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 		}
 	}
 
+	/**
+	 * Adds the proposals of the categories that missed the deadline of a concurrent computation to
+	 * the proposal popup. It is registered as an additional processor of the asynchronous content
+	 * assistant, which shows the proposals of each of its processors as soon as they are computed.
+	 */
+	private final class LateProposalsProcessor implements IContentAssistProcessor {
+
+		@Override
+		public ICompletionProposal[] computeCompletionProposals(ITextViewer viewer, int offset) {
+			IProgressMonitor monitor= createProgressMonitor();
+			ParallelProposalComputation computation= takeLateComputation(viewer, offset, monitor);
+			if (computation == null) {
+				return new ICompletionProposal[0];
+			}
+			List<ICompletionProposal> proposals= computation.getLateResults(monitor);
+			if (!fNeedsSortingAfterFiltering) {
+				proposals= sortProposals(proposals, monitor, createContext(viewer, offset));
+			}
+			return proposals.toArray(new ICompletionProposal[proposals.size()]);
+		}
+
+		@Override
+		public IContextInformation[] computeContextInformation(ITextViewer viewer, int offset) {
+			return null;
+		}
+
+		@Override
+		public char[] getCompletionProposalAutoActivationCharacters() {
+			return fCompletionAutoActivationCharacters;
+		}
+
+		@Override
+		public char[] getContextInformationAutoActivationCharacters() {
+			return null;
+		}
+
+		@Override
+		public String getErrorMessage() {
+			return null;
+		}
+
+		@Override
+		public IContextInformationValidator getContextInformationValidator() {
+			return null;
+		}
+	}
+
+	/**
+	 * The concurrent computation an invocation hands over to the {@link LateProposalsProcessor}.
+	 */
+	private static final class LateComputation {
+		final int fOffset;
+		final long fModificationStamp;
+		final ParallelProposalComputation fComputation;
+
+		LateComputation(int offset, long modificationStamp, ParallelProposalComputation computation) {
+			fOffset= offset;
+			fModificationStamp= modificationStamp;
+			fComputation= computation;
+		}
+	}
+
+	private static long getModificationStamp(ITextViewer viewer) {
+		IDocument document= viewer.getDocument();
+		if (document instanceof IDocumentExtension4 extension) {
+			return extension.getModificationStamp();
+		}
+		return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	}
+
+	private synchronized void cancelParallelComputation() {
+		if (fParallelComputation != null) {
+			fParallelComputation.cancel();
+			fParallelComputation= null;
+		}
+	}
+
+	/**
+	 * Hands the categories of the concurrent computation of the current invocation that missed
+	 * the deadline over to the {@link LateProposalsProcessor}, which is invoked for the same
+	 * invocation by the content assistant.
+	 *
+	 * @param viewer the text viewer
+	 * @param offset the offset
+	 */
+	private void handOverLateComputation(ITextViewer viewer, int offset) {
+		if (fLateProposalsProcessor == null) {
+			return;
+		}
+		ParallelProposalComputation computation;
+		synchronized (this) {
+			computation= fParallelComputation;
+		}
+		if (computation != null && !computation.hasLateResults()) {
+			computation= null;
+		}
+		fLateComputations.add(new LateComputation(offset, getModificationStamp(viewer), computation));
+	}
+
+	/**
+	 * Returns the concurrent computation handed over by the invocation at the given offset.
+	 *
+	 * @param viewer the text viewer
+	 * @param offset the offset
+	 * @param monitor the progress monitor
+	 * @return the computation with late categories or <code>null</code> if all categories of the
+	 *         invocation finished in time
+	 */
+	private ParallelProposalComputation takeLateComputation(ITextViewer viewer, int offset, IProgressMonitor monitor) {
+		long modificationStamp= getModificationStamp(viewer);
+		try {
+			while (!monitor.isCanceled()) {
+				LateComputation handOver= fLateComputations.poll(LATE_COMPUTATION_TIMEOUT, TimeUnit.MILLISECONDS);
+				if (handOver == null) {
+					return null;
+				}
+				if (handOver.fOffset == offset && handOver.fModificationStamp == modificationStamp) {
+					return handOver.fComputation;
+				}
+				// skip the hand over of an earlier invocation
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return null;
+	}
+
 	/**
 	 * Dialog settings key for the "all categories are disabled" warning dialog. See
 	 * {@link OptionalMessageDialog}.
@@ -226,6 +374,18 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 	 */
 	private static final String PREF_WARN_ABOUT_EMPTY_ASSIST_CATEGORY= "EmptyDefaultAssistCategory"; //$NON-NLS-1$
 
+	/**
+	 * Time in milliseconds that concurrently computed categories are waited for before the proposals
+	 * of the finished categories are shown.
+	 */
+	private static final long PARALLEL_COMPUTATION_DEADLINE= Integer.getInteger("jdt.codeAssistParallelDeadline", 500).longValue(); //$NON-NLS-1$
+
+	/**
+	 * Time in milliseconds the {@link LateProposalsProcessor} waits for the invocation of this
+	 * processor to hand over its concurrent computation.
+	 */
+	private static final long LATE_COMPUTATION_TIMEOUT= 10000;
+
 	private static final Comparator<CompletionProposalCategory> ORDER_COMPARATOR= (d1, d2) -> d1.getSortOrder() - d2.getSortOrder();
 
 	private final List<CompletionProposalCategory> fCategories;
@@ -258,6 +418,24 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 	 */
 	private boolean fNeedsSortingAfterFiltering;
 
+	/**
+	 * The concurrent computation of the current invocation, or <code>null</code> if the categories
+	 * are computed sequentially.
+	 */
+	private ParallelProposalComputation fParallelComputation;
+
+	/**
+	 * The processor for the categories that miss the deadline of a concurrent computation, or
+	 * <code>null</code> if it was not requested.
+	 */
+	private LateProposalsProcessor fLateProposalsProcessor;
+
+	/**
+	 * The concurrent computations handed over to the {@link LateProposalsProcessor}, one per
+	 * invocation.
+	 */
+	private final BlockingQueue<LateComputation> fLateComputations= new LinkedBlockingQueue<>();
+
 
 	public ContentAssistProcessor(ContentAssistant assistant, String partition) {
 		Assert.isNotNull(partition);
@@ -277,6 +455,7 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 		long start= JavaPlugin.DEBUG_RESULT_COLLECTOR ? System.currentTimeMillis() : 0;
 
 		clearState();
+		cancelParallelComputation();
 
 		IProgressMonitor monitor= createProgressMonitor();
 		monitor.beginTask(JavaTextMessages.ContentAssistProcessor_computing_proposals, fCategories.size() + 1);
@@ -285,7 +464,12 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 		long setup= JavaPlugin.DEBUG_RESULT_COLLECTOR ? System.currentTimeMillis() : 0;
 
 		monitor.subTask(JavaTextMessages.ContentAssistProcessor_collecting_proposals);
-		List<ICompletionProposal> proposals= collectProposals(viewer, offset, monitor, context);
+		List<ICompletionProposal> proposals;
+		try {
+			proposals= collectProposals(viewer, offset, monitor, context);
+		} finally {
+			handOverLateComputation(viewer, offset);
+		}
 		long collect= JavaPlugin.DEBUG_RESULT_COLLECTOR ? System.currentTimeMillis() : 0;
 
 		monitor.subTask(JavaTextMessages.ContentAssistProcessor_sorting_proposals);
@@ -325,11 +509,22 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 	 * @return the list of proposals
 	 */
 	private List<ICompletionProposal> collectProposals(ITextViewer viewer, int offset, IProgressMonitor monitor, ContentAssistInvocationContext context) {
+		List<CompletionProposalCategory> providers= getCategories();
+		List<List<ICompletionProposal>> computedByCategory;
+		if (isParallelComputation(viewer, providers)) {
+			computedByCategory= computeInParallel(viewer, offset, providers, monitor, context);
+		} else {
+			computedByCategory= new ArrayList<>(providers.size());
+			for (CompletionProposalCategory cat : providers) {
+				computedByCategory.add(computeProposals(cat, context, Progress.subMonitor(monitor, 1)));
+			}
+		}
+
 		boolean needsSortingAfterFiltering= false;
 		List<ICompletionProposal> proposals= new ArrayList<>();
-		List<CompletionProposalCategory> providers= getCategories();
-		for (CompletionProposalCategory cat : providers) {
-			List<ICompletionProposal> computed= cat.computeCompletionProposals(context, fPartition, Progress.subMonitor(monitor, 1));
+		for (int i= 0; i < providers.size(); i++) {
+			CompletionProposalCategory cat= providers.get(i);
+			List<ICompletionProposal> computed= computedByCategory.get(i);
 			proposals.addAll(computed);
 			needsSortingAfterFiltering= needsSortingAfterFiltering || (cat.isSortingAfterFilteringNeeded() && !computed.isEmpty());
 			if (fErrorMessage == null) {
@@ -343,6 +538,83 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 		return proposals;
 	}
 
+	private List<ICompletionProposal> computeProposals(CompletionProposalCategory cat, ContentAssistInvocationContext context, IProgressMonitor monitor) {
+		long start= JavaPlugin.DEBUG_RESULT_COLLECTOR ? System.currentTimeMillis() : 0;
+		List<ICompletionProposal> computed= cat.computeCompletionProposals(context, fPartition, monitor);
+		if (JavaPlugin.DEBUG_RESULT_COLLECTOR) {
+			System.err.println("Code Assist (category " + cat.getId() + "):\t" + (System.currentTimeMillis() - start)); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return computed;
+	}
+
+	/**
+	 * Tells whether the given categories are computed concurrently. This is only done if the
+	 * user enabled it, if there is more than one category and if completion is computed outside
+	 * the UI thread by an asynchronous content assistant that shows the late categories with the
+	 * {@link #getLateProposalsProcessor() late proposals processor}.
+	 *
+	 * @param viewer the text viewer
+	 * @param categories the categories to compute
+	 * @return <code>true</code> if the categories are computed concurrently
+	 */
+	private boolean isParallelComputation(ITextViewer viewer, List<CompletionProposalCategory> categories) {
+		return categories.size() > 1 && fLateProposalsProcessor != null
+				&& viewer instanceof JavaSourceViewer javaViewer && javaViewer.isAsyncCompletionActive()
+				&& JavaPlugin.getDefault().getPreferenceStore().getBoolean(PreferenceConstants.CODEASSIST_PARALLEL_COMPUTATION);
+	}
+
+	/**
+	 * Computes the proposals of the given categories concurrently. The first category is computed
+	 * in this thread with the context of the invocation. The other categories are computed in jobs,
+	 * each with its own context since contexts lazily compute their state and are not thread safe.
+	 * They are waited for until the deadline of {@link #PARALLEL_COMPUTATION_DEADLINE} milliseconds
+	 * after the start has passed. Categories which did not finish in time contribute no proposals
+	 * here, they are added to the proposal popup by the {@link LateProposalsProcessor}.
+	 *
+	 * @param viewer the text viewer
+	 * @param offset the offset
+	 * @param categories the categories to compute
+	 * @param monitor the progress monitor
+	 * @param context the code assist invocation context
+	 * @return the computed proposals of each category, in category order
+	 */
+	private List<List<ICompletionProposal>> computeInParallel(ITextViewer viewer, int offset, List<CompletionProposalCategory> categories, IProgressMonitor monitor, ContentAssistInvocationContext context) {
+		long deadline= System.currentTimeMillis() + PARALLEL_COMPUTATION_DEADLINE;
+		List<Function<IProgressMonitor, List<ICompletionProposal>>> computers= new ArrayList<>(categories.size() - 1);
+		for (CompletionProposalCategory cat : categories.subList(1, categories.size())) {
+			ContentAssistInvocationContext catContext= createContext(viewer, offset);
+			computers.add(catMonitor -> computeProposals(cat, catContext, catMonitor));
+		}
+		ParallelProposalComputation computation= new ParallelProposalComputation(computers);
+		synchronized (this) {
+			fParallelComputation= computation;
+		}
+		computation.schedule();
+
+		List<List<ICompletionProposal>> result= new ArrayList<>(categories.size());
+		result.add(computeProposals(categories.get(0), context, Progress.subMonitor(monitor, 1)));
+		for (List<ICompletionProposal> computed : computation.getResults(deadline, monitor)) {
+			result.add(computed != null ? computed : Collections.emptyList());
+			monitor.worked(1);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the processor that adds the proposals of the categories that missed the deadline of
+	 * a concurrent computation to the proposal popup. The categories of the default proposals are
+	 * only computed concurrently if this processor has been added to the asynchronous content
+	 * assistant of this processor for the same content type.
+	 *
+	 * @return the late proposals processor
+	 */
+	public synchronized IContentAssistProcessor getLateProposalsProcessor() {
+		if (fLateProposalsProcessor == null) {
+			fLateProposalsProcessor= new LateProposalsProcessor();
+		}
+		return fLateProposalsProcessor;
+	}
+
 	/**
 	 * Filters and sorts the proposals. The passed list may be modified
 	 * and returned, or a new list may be created and returned.
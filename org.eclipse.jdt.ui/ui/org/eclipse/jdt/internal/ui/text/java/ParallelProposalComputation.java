@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.java;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jface.text.contentassist.ICompletionProposal;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Computes the proposals of several completion proposal categories concurrently, each one in its
+ * own system job. The results are returned in the order of the categories. Categories that do not
+ * finish before a deadline are left out and keep computing; their proposals are collected with
+ * {@link #getLateResults(IProgressMonitor)}.
+ * <p>
+ * A category that fails contributes no proposals and does not affect the other categories.
+ * </p>
+ */
+public final class ParallelProposalComputation {
+
+	/**
+	 * The family of the jobs computing the categories.
+	 */
+	public static final Object FAMILY= new Object();
+
+	private static final class CategoryJob extends Job {
+		private final Function<IProgressMonitor, List<ICompletionProposal>> fComputer;
+		private volatile List<ICompletionProposal> fResult= Collections.emptyList();
+
+		CategoryJob(Function<IProgressMonitor, List<ICompletionProposal>> computer) {
+			super(JavaTextMessages.ContentAssistProcessor_computing_proposals);
+			fComputer= computer;
+			setSystem(true);
+			setPriority(Job.INTERACTIVE);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				fResult= fComputer.apply(monitor);
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			} catch (RuntimeException e) {
+				JavaPlugin.log(e);
+			}
+			return Status.OK_STATUS;
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == FAMILY;
+		}
+	}
+
+	private final List<CategoryJob> fJobs;
+	private final List<CategoryJob> fLateJobs= new ArrayList<>();
+
+	/**
+	 * Creates a new computation.
+	 *
+	 * @param computers the computers of the categories, in category order. A computer is called in
+	 *            a job thread and must not share state with the other computers
+	 */
+	public ParallelProposalComputation(List<Function<IProgressMonitor, List<ICompletionProposal>>> computers) {
+		fJobs= new ArrayList<>(computers.size());
+		for (Function<IProgressMonitor, List<ICompletionProposal>> computer : computers) {
+			fJobs.add(new CategoryJob(computer));
+		}
+	}
+
+	/**
+	 * Starts computing all categories.
+	 */
+	public void schedule() {
+		for (CategoryJob job : fJobs) {
+			job.schedule();
+		}
+	}
+
+	/**
+	 * Returns the proposals of the categories, waiting for them at most until the given deadline.
+	 *
+	 * @param deadline the deadline in milliseconds, see {@link System#currentTimeMillis()}
+	 * @param monitor the progress monitor of the invocation, waiting stops when it is canceled
+	 * @return the proposals of each category in category order, <code>null</code> for a category
+	 *         that did not finish in time
+	 */
+	public synchronized List<List<ICompletionProposal>> getResults(long deadline, IProgressMonitor monitor) {
+		List<List<ICompletionProposal>> results= new ArrayList<>(fJobs.size());
+		fLateJobs.clear();
+		for (CategoryJob job : fJobs) {
+			if (awaitDone(job, deadline - System.currentTimeMillis(), monitor)) {
+				results.add(job.fResult);
+			} else {
+				results.add(null);
+				fLateJobs.add(job);
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Tells whether some categories did not finish before the deadline of the last call to
+	 * {@link #getResults(long, IProgressMonitor)}.
+	 *
+	 * @return <code>true</code> if there are late categories
+	 */
+	public synchronized boolean hasLateResults() {
+		return !fLateJobs.isEmpty();
+	}
+
+	/**
+	 * Waits for the categories that did not finish before the deadline of the last call to
+	 * {@link #getResults(long, IProgressMonitor)} and returns their proposals.
+	 *
+	 * @param monitor the progress monitor, waiting stops when it is canceled
+	 * @return the proposals of the late categories in category order
+	 */
+	public synchronized List<ICompletionProposal> getLateResults(IProgressMonitor monitor) {
+		List<ICompletionProposal> results= new ArrayList<>();
+		for (CategoryJob job : fLateJobs) {
+			if (awaitDone(job, Long.MAX_VALUE, monitor)) {
+				results.addAll(job.fResult);
+			}
+		}
+		fLateJobs.clear();
+		return results;
+	}
+
+	/**
+	 * Cancels the categories that are still computing.
+	 */
+	public void cancel() {
+		for (CategoryJob job : fJobs) {
+			job.cancel();
+		}
+	}
+
+	private static boolean awaitDone(Job job, long timeout, IProgressMonitor monitor) {
+		if (job.getState() == Job.NONE) {
+			return true;
+		}
+		if (timeout <= 0 || monitor.isCanceled()) {
+			return false;
+		}
+		try {
+			return job.join(timeout == Long.MAX_VALUE ? 0 : timeout, monitor);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} catch (OperationCanceledException e) {
+			return false;
+		}
+	}
+}
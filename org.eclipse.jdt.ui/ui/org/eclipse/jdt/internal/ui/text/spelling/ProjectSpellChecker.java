@@ -0,0 +1,312 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.spelling;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceProxy;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.ITypedRegion;
+import org.eclipse.jface.text.Region;
+import org.eclipse.jface.text.TextUtilities;
+
+import org.eclipse.ui.texteditor.spelling.ISpellingProblemCollector;
+import org.eclipse.ui.texteditor.spelling.SpellingProblem;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.ui.JavaUI;
+import org.eclipse.jdt.ui.text.IJavaPartitions;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.propertiesfileeditor.PropertiesFileDocumentSetupParticipant;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellCheckIterator;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellEvent;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellEventListener;
+
+/**
+ * Spell checks the Javadoc comments and the properties files of whole projects without an editor,
+ * for example to report the spelling problems of a code base in a build.
+ * <p>
+ * The files are checked in parallel with the {@link ISpellChecker#checkWords batched} spell
+ * checker. Only the source folders of Java projects are checked. Unlike in the editor, all problems
+ * are reported, the spelling problems threshold preference does not apply.
+ * </p>
+ *
+ * @since 3.35
+ */
+public final class ProjectSpellChecker {
+
+	/**
+	 * A spelling problem found in a file.
+	 */
+	public static final class Problem {
+
+		private final IFile fFile;
+		private final int fLine;
+		private final int fColumn;
+		private final int fOffset;
+		private final String fMessage;
+
+		Problem(IFile file, int line, int column, int offset, String message) {
+			fFile= file;
+			fLine= line;
+			fColumn= column;
+			fOffset= offset;
+			fMessage= message;
+		}
+
+		public IFile getFile() {
+			return fFile;
+		}
+
+		/**
+		 * @return the 1-based line of the problem
+		 */
+		public int getLine() {
+			return fLine;
+		}
+
+		/**
+		 * @return the 1-based column of the problem
+		 */
+		public int getColumn() {
+			return fColumn;
+		}
+
+		public int getOffset() {
+			return fOffset;
+		}
+
+		public String getMessage() {
+			return fMessage;
+		}
+
+		@Override
+		public String toString() {
+			return fFile.getFullPath().toString() + ':' + fLine + ':' + fColumn + ": " + fMessage; //$NON-NLS-1$
+		}
+	}
+
+	private static final String JAVA_EXTENSION= "java"; //$NON-NLS-1$
+
+	private static final String PROPERTIES_EXTENSION= "properties"; //$NON-NLS-1$
+
+	/**
+	 * Checks properties files and reports all problems.
+	 */
+	private static final class PropertiesFileChecker extends PropertiesFileSpellingEngine {
+
+		@Override
+		protected SpellEventListener createSpellEventListener(ISpellingProblemCollector collector, IDocument document) {
+			return new SpellEventListener(collector, document, Integer.MAX_VALUE);
+		}
+
+		void check(IDocument document, ISpellChecker checker, ISpellingProblemCollector collector, IProgressMonitor monitor) {
+			check(document, new Region[] { new Region(0, document.getLength()) }, checker, collector, monitor);
+		}
+	}
+
+	private final ISpellChecker fChecker;
+
+	private final PropertiesFileChecker fPropertiesFileChecker= new PropertiesFileChecker();
+
+	/**
+	 * Creates a project spell checker.
+	 *
+	 * @param checker the spell checker to use
+	 */
+	public ProjectSpellChecker(ISpellChecker checker) {
+		Assert.isLegal(checker != null);
+		fChecker= checker;
+	}
+
+	/**
+	 * Spell checks the Javadoc comments of the Java files and the properties files in the source
+	 * folders of the given project.
+	 *
+	 * @param project the Java project
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @return the problems, sorted by file and offset
+	 * @throws CoreException if the files of the project cannot be collected or read
+	 */
+	public List<Problem> check(IJavaProject project, IProgressMonitor monitor) throws CoreException {
+		final IProgressMonitor progress= monitor != null ? monitor : new NullProgressMonitor();
+		final List<IFile> files= collectFiles(project);
+		progress.beginTask(project.getElementName(), files.size());
+		try {
+			final List<IStatus> failures= Collections.synchronizedList(new ArrayList<>());
+			final List<List<Problem>> problems= files.parallelStream().map(file -> {
+				if (progress.isCanceled())
+					throw new OperationCanceledException();
+				List<Problem> result;
+				try {
+					result= check(file, progress);
+				} catch (CoreException e) {
+					failures.add(e.getStatus());
+					result= Collections.emptyList();
+				}
+				synchronized (progress) {
+					progress.worked(1);
+				}
+				return result;
+			}).collect(Collectors.toList());
+
+			if (!failures.isEmpty())
+				throw new CoreException(failures.get(0));
+
+			final List<Problem> result= new ArrayList<>();
+			for (List<Problem> fileProblems : problems)
+				result.addAll(fileProblems);
+			result.sort(Comparator.comparing((Problem problem) -> problem.getFile().getFullPath().toString()).thenComparingInt(Problem::getOffset));
+			return result;
+		} finally {
+			progress.done();
+		}
+	}
+
+	private static List<IFile> collectFiles(IJavaProject project) throws CoreException {
+		final List<IFile> files= new ArrayList<>();
+		for (IPackageFragmentRoot root : project.getPackageFragmentRoots()) {
+			if (root.getKind() != IPackageFragmentRoot.K_SOURCE || !(root.getResource() instanceof IContainer))
+				continue;
+			root.getResource().accept((IResourceProxy proxy) -> {
+				if (proxy.isDerived() || proxy.isTeamPrivateMember())
+					return false;
+				if (proxy.getType() == IResource.FILE) {
+					String name= proxy.getName();
+					if (name.endsWith('.' + JAVA_EXTENSION) || name.endsWith('.' + PROPERTIES_EXTENSION))
+						files.add((IFile) proxy.requestResource());
+				}
+				return true;
+			}, IResource.NONE);
+		}
+		return files;
+	}
+
+	private List<Problem> check(final IFile file, IProgressMonitor monitor) throws CoreException {
+		final IDocument document= new Document(getContents(file));
+
+		final List<Problem> problems= new ArrayList<>();
+		final ISpellingProblemCollector collector= new ISpellingProblemCollector() {
+			@Override
+			public void accept(SpellingProblem problem) {
+				problems.add(createProblem(file, document, problem));
+			}
+
+			@Override
+			public void beginCollecting() {
+				// nothing to do
+			}
+
+			@Override
+			public void endCollecting() {
+				// nothing to do
+			}
+		};
+
+		if (PROPERTIES_EXTENSION.equals(file.getFileExtension())) {
+			PropertiesFileDocumentSetupParticipant.setupDocument(document);
+			fPropertiesFileChecker.check(document, fChecker, collector, monitor);
+		} else {
+			JavaPlugin.getDefault().getJavaTextTools().setupJavaDocumentPartitioner(document, IJavaPartitions.JAVA_PARTITIONING);
+			checkJavadoc(document, new Region(0, document.getLength()), collector, monitor);
+		}
+		return problems;
+	}
+
+	private void checkJavadoc(IDocument document, Region region, ISpellingProblemCollector collector, IProgressMonitor monitor) {
+		try {
+			final List<ISpellCheckIterator> iterators= new ArrayList<>();
+			for (ITypedRegion partition : TextUtilities.computePartitioning(document, IJavaPartitions.JAVA_PARTITIONING, region.getOffset(), region.getLength(), false)) {
+				if (IJavaPartitions.JAVA_DOC.equals(partition.getType()))
+					iterators.add(new SpellCheckIterator(document, partition, fChecker.getLocale(), monitor));
+			}
+			fChecker.checkWords(new ISpellEventListener() {
+				@Override
+				public void handle(ISpellEvent event) {
+					collector.accept(new JavaSpellingProblem(event, document));
+				}
+
+				@Override
+				public int getProblemsThreshold() {
+					return Integer.MAX_VALUE;
+				}
+			}, iterators);
+		} catch (BadLocationException e) {
+			// cannot happen: the document is not modified
+			JavaPlugin.log(e);
+		}
+	}
+
+	private static Problem createProblem(IFile file, IDocument document, SpellingProblem problem) {
+		int offset= problem.getOffset();
+		int line= 0;
+		int column= 0;
+		try {
+			line= document.getLineOfOffset(offset);
+			column= offset - document.getLineOffset(line);
+		} catch (BadLocationException e) {
+			// cannot happen: the problem has been found in the document
+		}
+		return new Problem(file, line + 1, column + 1, offset, problem.getMessage());
+	}
+
+	private static String getContents(IFile file) throws CoreException {
+		try (InputStream stream= file.getContents(true)) {
+			return new String(stream.readAllBytes(), Charset.forName(file.getCharset()));
+		} catch (IOException e) {
+			throw new CoreException(new Status(IStatus.ERROR, JavaUI.ID_PLUGIN, e.getMessage(), e));
+		}
+	}
+
+	/**
+	 * Returns whether the given project can be checked.
+	 *
+	 * @param project the project
+	 * @return <code>true</code> if the project is an open Java project
+	 */
+	public static boolean isJavaProject(IProject project) {
+		try {
+			return project.isOpen() && project.hasNature(JavaCore.NATURE_ID);
+		} catch (CoreException e) {
+			return false;
+		}
+	}
+}
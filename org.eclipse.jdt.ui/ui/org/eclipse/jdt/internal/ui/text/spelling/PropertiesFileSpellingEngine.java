@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,6 +35,7 @@ import org.eclipse.jdt.ui.PreferenceConstants;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.propertiesfileeditor.IPropertiesFilePartitions;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellCheckIterator;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker;
 
 /**
@@ -49,7 +50,7 @@ public class PropertiesFileSpellingEngine extends SpellingEngine {
 	 */
 	@Override
 	protected void check(IDocument document, IRegion[] regions, ISpellChecker checker, ISpellingProblemCollector collector, IProgressMonitor monitor) {
-		SpellEventListener listener= new SpellEventListener(collector, document);
+		SpellEventListener listener= createSpellEventListener(collector, document);
 		boolean isIgnoringAmpersand= PreferenceConstants.getPreferenceStore().getBoolean(PreferenceConstants.SPELLING_IGNORE_AMPERSAND_IN_PROPERTIES);
 		try {
 			List<ITypedRegion> partitionList= new ArrayList<>();
@@ -58,11 +59,11 @@ public class PropertiesFileSpellingEngine extends SpellingEngine {
 			}
 			ITypedRegion[] partitions= partitionList.toArray(new ITypedRegion[partitionList.size()]);
 
+			List<ISpellCheckIterator> iterators= new ArrayList<>();
+			Locale locale= checker.getLocale();
 			for (int i= 0; i < partitions.length; i++) {
 				if (monitor != null && monitor.isCanceled())
 					return;
-				if (listener.isProblemsThresholdReached())
-					return;
 
 				ITypedRegion partition= partitions[i];
 				if (IPropertiesFilePartitions.COMMENT.equals(partition.getType())) {
@@ -78,13 +79,12 @@ public class PropertiesFileSpellingEngine extends SpellingEngine {
 				}
 				String partitionType= partition.getType();
 				if (IPropertiesFilePartitions.COMMENT.equals(partitionType) || (!isIgnoringAmpersand && IPropertiesFilePartitions.PROPERTY_VALUE.equals(partitionType))) {
-					Locale locale= checker.getLocale();
-					checker.execute(listener, new SpellCheckIterator(document, partition, locale, monitor));
+					iterators.add(new SpellCheckIterator(document, partition, locale, monitor));
 				} else if (isIgnoringAmpersand && IPropertiesFilePartitions.PROPERTY_VALUE.equals(partitionType)) {
-					Locale locale= checker.getLocale();
-					checker.execute(listener, new PropertiesFileSpellCheckIterator(document, partition, locale, monitor));
+					iterators.add(new PropertiesFileSpellCheckIterator(document, partition, locale, monitor));
 				}
 			}
+			checker.checkWords(listener, iterators);
 		} catch (BadLocationException | AssertionFailedException x) {
 			// ignore: the document has been changed in another thread and will be checked again
 		}
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.spelling;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.equinox.app.IApplication;
+import org.eclipse.equinox.app.IApplicationContext;
+
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker;
+
+/**
+ * Headless application that spell checks the Javadoc comments and the properties files of the
+ * projects in the workspace and writes a report with one line per problem.
+ * <p>
+ * Usage: <code>eclipse -application org.eclipse.jdt.ui.spellCheck -data &lt;workspace&gt;
+ * [-output &lt;file&gt;] [-failOnProblems] [&lt;project&gt;...]</code>. Without project names, all
+ * open Java projects are checked. The report is written to the standard output if no output file
+ * is given. With <code>-failOnProblems</code>, the application exits with <code>1</code> if a
+ * problem has been found.
+ * </p>
+ *
+ * @since 3.35
+ */
+public class SpellCheckApplication implements IApplication {
+
+	private static final String OUTPUT_ARGUMENT= "-output"; //$NON-NLS-1$
+
+	private static final String FAIL_ON_PROBLEMS_ARGUMENT= "-failOnProblems"; //$NON-NLS-1$
+
+	private static final Integer EXIT_PROBLEMS= Integer.valueOf(1);
+
+	private static final Integer EXIT_ERROR= Integer.valueOf(2);
+
+	@Override
+	public Object start(IApplicationContext context) throws Exception {
+		String[] args= (String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS);
+		String output= null;
+		boolean failOnProblems= false;
+		List<String> projectNames= new ArrayList<>();
+		for (int i= 0; args != null && i < args.length; i++) {
+			if (OUTPUT_ARGUMENT.equals(args[i]) && i + 1 < args.length) {
+				output= args[++i];
+			} else if (FAIL_ON_PROBLEMS_ARGUMENT.equals(args[i])) {
+				failOnProblems= true;
+			} else if (!args[i].startsWith("-")) { //$NON-NLS-1$
+				projectNames.add(args[i]);
+			}
+		}
+
+		ISpellChecker checker= SpellCheckEngine.getInstance().getSpellChecker();
+		if (checker == null) {
+			System.err.println("No spell checker available for the configured locale"); //$NON-NLS-1$
+			return EXIT_ERROR;
+		}
+
+		List<ProjectSpellChecker.Problem> problems= new ArrayList<>();
+		ProjectSpellChecker projectChecker= new ProjectSpellChecker(checker);
+		for (IProject project : getProjects(projectNames)) {
+			if (!ProjectSpellChecker.isJavaProject(project)) {
+				System.err.println("Skipping " + project.getName() + ": not an open Java project"); //$NON-NLS-1$ //$NON-NLS-2$
+				continue;
+			}
+			try {
+				problems.addAll(projectChecker.check(JavaCore.create(project), null));
+			} catch (CoreException e) {
+				System.err.println("Cannot check " + project.getName() + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+				return EXIT_ERROR;
+			}
+		}
+
+		try {
+			writeReport(problems, output);
+		} catch (IOException e) {
+			System.err.println("Cannot write the report: " + e.getMessage()); //$NON-NLS-1$
+			return EXIT_ERROR;
+		}
+		return failOnProblems && !problems.isEmpty() ? EXIT_PROBLEMS : IApplication.EXIT_OK;
+	}
+
+	private static List<IProject> getProjects(List<String> projectNames) {
+		IWorkspaceRoot root= ResourcesPlugin.getWorkspace().getRoot();
+		if (projectNames.isEmpty())
+			return List.of(root.getProjects());
+
+		List<IProject> projects= new ArrayList<>();
+		for (String name : projectNames)
+			projects.add(root.getProject(name));
+		return projects;
+	}
+
+	private static void writeReport(List<ProjectSpellChecker.Problem> problems, String output) throws IOException {
+		PrintWriter writer= output != null
+				? new PrintWriter(new OutputStreamWriter(new FileOutputStream(output), StandardCharsets.UTF_8))
+				: new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+		try {
+			for (ProjectSpellChecker.Problem problem : problems)
+				writer.println(problem);
+			writer.println(problems.size() + " spelling problems"); //$NON-NLS-1$
+		} finally {
+			if (output != null)
+				writer.close();
+			else
+				writer.flush();
+		}
+		if (writer.checkError())
+			throw new IOException(output);
+	}
+
+	@Override
+	public void stop() {
+		// the application cannot be stopped while it is running
+	}
+}
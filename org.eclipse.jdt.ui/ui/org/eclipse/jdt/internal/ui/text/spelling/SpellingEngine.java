@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -62,9 +62,22 @@ public abstract class SpellingEngine implements ISpellingEngine {
 		 * @param document the document
 		 */
 		public SpellEventListener(ISpellingProblemCollector collector, IDocument document) {
+			this(collector, document, PreferenceConstants.getPreferenceStore().getInt(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD));
+		}
+
+		/**
+		 * Initialize with the given spelling problem collector and problems threshold.
+		 *
+		 * @param collector the spelling problem collector
+		 * @param document the document
+		 * @param problemsThreshold the maximum number of problems to report,
+		 *            {@link Integer#MAX_VALUE} to report all problems
+		 * @since 3.35
+		 */
+		public SpellEventListener(ISpellingProblemCollector collector, IDocument document, int problemsThreshold) {
 			fCollector= collector;
 			fDocument= document;
-			fProblemsThreshold= PreferenceConstants.getPreferenceStore().getInt(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD);
+			fProblemsThreshold= problemsThreshold;
 		}
 
 		/*
@@ -78,9 +91,15 @@ public abstract class SpellingEngine implements ISpellingEngine {
 			fCollector.accept(new JavaSpellingProblem(event, fDocument));
 		}
 
-		boolean isProblemsThresholdReached() {
+		@Override
+		public boolean isProblemsThresholdReached() {
 			return fProblemCount >= fProblemsThreshold;
 		}
+
+		@Override
+		public int getProblemsThreshold() {
+			return fProblemsThreshold;
+		}
 	}
 
 	/*
@@ -96,6 +115,18 @@ public abstract class SpellingEngine implements ISpellingEngine {
 		}
 	}
 
+	/**
+	 * Creates the listener that reports the spell events of one check to the given collector.
+	 *
+	 * @param collector the spelling problem collector
+	 * @param document the document
+	 * @return the spell event listener
+	 * @since 3.35
+	 */
+	protected SpellEventListener createSpellEventListener(ISpellingProblemCollector collector, IDocument document) {
+		return new SpellEventListener(collector, document);
+	}
+
 	/**
 	 * Spell checks the given document regions with the given arguments.
 	 *
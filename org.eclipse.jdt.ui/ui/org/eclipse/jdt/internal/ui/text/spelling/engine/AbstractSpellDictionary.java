@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,11 +27,11 @@ import java.nio.charset.CodingErrorAction;
 import java.nio.charset.MalformedInputException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -111,19 +111,32 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	/** The phonetic distance algorithm */
 	private IPhoneticDistanceAlgorithm fDistanceAlgorithm= new DefaultPhoneticDistanceAlgorithm();
 
-	/** The mapping from phonetic hashes to word lists */
-	private final Map<ByteArrayWrapper, Object> fHashBuckets= new HashMap<>(getInitialSize(), LOAD_FACTOR);
+	/**
+	 * The mapping from phonetic hashes to word lists. It is read without locking, so the word lists
+	 * are only modified in place while the dictionary is loaded and are copied on later
+	 * modifications.
+	 */
+	private final Map<ByteArrayWrapper, Object> fHashBuckets= new ConcurrentHashMap<>(getInitialSize(), LOAD_FACTOR);
 
 	/** The phonetic hash provider */
 	private IPhoneticHashProvider fHashProvider= new DefaultPhoneticHashProvider();
 
-	/** Is the dictionary already loaded? */
-	private boolean fLoaded= false;
+	/**
+	 * Is the dictionary already loaded? Only set after the loaded words have been hashed, so that
+	 * readers which see <code>true</code> also see the words.
+	 */
+	private volatile boolean fLoaded= false;
+
+	/**
+	 * Is the dictionary being loaded by {@link #ensureLoaded()}? Guarded by <code>this</code>.
+	 * @since 3.35
+	 */
+	private boolean fLoading= false;
 	/**
 	 * Must the dictionary be loaded?
 	 * @since 3.2
 	 */
-	private boolean fMustLoad= true;
+	private volatile boolean fMustLoad= true;
 
 	/**
 	 * Tells whether to strip non-letters at word boundaries.
@@ -131,6 +144,12 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	 */
 	boolean fIsStrippingNonLetters= true;
 
+	/**
+	 * The modification stamp, increased after every modification.
+	 * @since 3.35
+	 */
+	private volatile long fModificationStamp= 0;
+
 	/**
 	 * Returns the initial size of dictionary.
 	 *
@@ -338,19 +357,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	@Override
 	public Set<RankedWordProposal> getProposals(final String word, final boolean sentence) {
 
-		try {
-
-			if (!fLoaded) {
-				synchronized (this) {
-					fLoaded= load(getURL());
-					if (fLoaded)
-						compact();
-				}
-			}
-
-		} catch (MalformedURLException exception) {
-			// Do nothing
-		}
+		ensureLoaded();
 
 		final String hash= fHashProvider.getHash(word);
 		final char[] mutators= fHashProvider.getMutators();
@@ -445,6 +452,31 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		return candidates;
 	}
 
+	/*
+	 * @see org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellDictionary#ensureLoaded()
+	 * @since 3.35
+	 */
+	@Override
+	public void ensureLoaded() {
+		if (fLoaded || !fMustLoad)
+			return;
+		synchronized (this) {
+			if (fLoaded || !fMustLoad)
+				return;
+			fLoading= true;
+			try {
+				boolean loaded= load(getURL());
+				if (loaded)
+					compact();
+				fLoaded= loaded;
+			} catch (MalformedURLException exception) {
+				// Do nothing
+			} finally {
+				fLoading= false;
+			}
+		}
+	}
+
 	/**
 	 * Returns the URL of the dictionary word list.
 	 *
@@ -460,7 +492,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	 * @param word
 	 *                   The word to hash in the dictionary
 	 */
-	protected final void hashWord(final String word) {
+	protected final synchronized void hashWord(final String word) {
 
 		final String hash= fHashProvider.getHash(word);
 		ByteArrayWrapper hashBytes;
@@ -480,31 +512,27 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		} else if (bucket instanceof ArrayList) {
 			@SuppressWarnings("unchecked")
 			ArrayList<byte[]> bucketList= (ArrayList<byte[]>)bucket;
-			bucketList.add(wordBytes);
+			if (fLoading) {
+				bucketList.add(wordBytes);
+			} else {
+				// the list may be read concurrently
+				bucketList= new ArrayList<>(bucketList);
+				bucketList.add(wordBytes);
+				fHashBuckets.put(hashBytes, bucketList);
+			}
 		} else {
 			ArrayList<Object> list= new ArrayList<>(BUCKET_CAPACITY);
 			list.add(bucket);
 			list.add(wordBytes);
 			fHashBuckets.put(hashBytes, list);
 		}
+		fModificationStamp++;
 	}
 
 	@Override
 	public boolean isCorrect(String word) {
 		word= stripNonLetters(word);
-		try {
-
-			if (!fLoaded) {
-				synchronized (this) {
-					fLoaded= load(getURL());
-					if (fLoaded)
-						compact();
-				}
-			}
-
-		} catch (MalformedURLException exception) {
-			// Do nothing
-		}
+		ensureLoaded();
 
 		final Object candidates= getCandidates(fHashProvider.getHash(word));
 		if (candidates == null)
@@ -542,7 +570,19 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 
 	@Override
 	public void setStripNonLetters(boolean state) {
-		fIsStrippingNonLetters= state;
+		if (fIsStrippingNonLetters != state) {
+			fIsStrippingNonLetters= state;
+			fModificationStamp++;
+		}
+	}
+
+	/*
+	 * @see org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellDictionary#getModificationStamp()
+	 * @since 3.35
+	 */
+	@Override
+	public long getModificationStamp() {
+		return fModificationStamp;
 	}
 
 	/**
@@ -691,6 +731,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	 */
 	protected final void setHashProvider(final IPhoneticHashProvider provider) {
 		fHashProvider= provider;
+		fModificationStamp++;
 	}
 
 	@Override
@@ -698,6 +739,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		fLoaded= false;
 		fMustLoad= true;
 		fHashBuckets.clear();
+		fModificationStamp++;
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,22 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text.spelling.engine;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
 
 import org.eclipse.core.runtime.Assert;
 
@@ -124,10 +135,90 @@ public class DefaultSpellChecker implements ISpellChecker {
 	}
 
 	/**
-	 * The dictionaries to use for spell checking. Synchronized to avoid
-	 * concurrent modifications.
+	 * The maximum number of word verdicts remembered by a spell checker.
+	 * @since 3.35
 	 */
-	private final Set<ISpellDictionary> fDictionaries= Collections.synchronizedSet(new HashSet<ISpellDictionary>());
+	private static final int MAX_VERDICTS= 10000;
+
+	/**
+	 * The minimum number of iterators that {@link #checkWords(ISpellEventListener, List)} checks
+	 * in parallel.
+	 * @since 3.35
+	 */
+	private static final int PARALLEL_THRESHOLD= 4;
+
+	/**
+	 * The maximum number of threads that check the iterators of
+	 * {@link #checkWords(ISpellEventListener, List)} in parallel. The caller may be a reconciler,
+	 * so the checks run in a small pool of their own instead of the common fork join pool.
+	 * @since 3.35
+	 */
+	private static final int PARALLELISM= Math.min(4, Runtime.getRuntime().availableProcessors() - 1);
+
+	/**
+	 * The threads checking the iterators of {@link #checkWords(ISpellEventListener, List)} in
+	 * parallel, created on demand.
+	 * @since 3.35
+	 */
+	private static ThreadPoolExecutor fgExecutor;
+
+	/**
+	 * The verdicts of recently checked words. They are valid as long as the dictionaries are the
+	 * same and have not been modified.
+	 * @since 3.35
+	 */
+	private static final class Verdicts {
+
+		final ISpellDictionary[] fDictionaries;
+
+		final long fStamp;
+
+		final Map<String, Boolean> fWords= new ConcurrentHashMap<>();
+
+		Verdicts(ISpellDictionary[] dictionaries, long stamp) {
+			fDictionaries= dictionaries;
+			fStamp= stamp;
+		}
+	}
+
+	/**
+	 * The spelling preferences of one spell check run.
+	 * @since 3.35
+	 */
+	private static final class CheckOptions {
+
+		final boolean fIgnoreDigits;
+		final boolean fIgnoreMixed;
+		final boolean fIgnoreSentence;
+		final boolean fIgnoreUpper;
+		final boolean fIgnoreURLS;
+		final boolean fIgnoreNonLetters;
+		final boolean fIgnoreSingleLetters;
+		final int fProblemsThreshold;
+
+		CheckOptions(IPreferenceStore preferences, ISpellEventListener listener) {
+			fIgnoreDigits= preferences.getBoolean(PreferenceConstants.SPELLING_IGNORE_DIGITS);
+			fIgnoreMixed= preferences.getBoolean(PreferenceConstants.SPELLING_IGNORE_MIXED);
+			fIgnoreSentence= preferences.getBoolean(PreferenceConstants.SPELLING_IGNORE_SENTENCE);
+			fIgnoreUpper= preferences.getBoolean(PreferenceConstants.SPELLING_IGNORE_UPPER);
+			fIgnoreURLS= preferences.getBoolean(PreferenceConstants.SPELLING_IGNORE_URLS);
+			fIgnoreNonLetters= preferences.getBoolean(PreferenceConstants.SPELLING_IGNORE_NON_LETTERS);
+			fIgnoreSingleLetters= preferences.getBoolean(PreferenceConstants.SPELLING_IGNORE_SINGLE_LETTERS);
+			fProblemsThreshold= listener.getProblemsThreshold();
+		}
+	}
+
+	/**
+	 * The dictionaries to use for spell checking. Modifications replace the whole array, so that
+	 * readers can use the array they have read as a snapshot without locking.
+	 */
+	private volatile ISpellDictionary[] fDictionaries= new ISpellDictionary[0];
+
+	/**
+	 * The verdicts of recently checked words, or <code>null</code> if none have been remembered.
+	 * @since 3.35
+	 */
+	private volatile Verdicts fVerdicts;
 
 	/**
 	 * The words to be ignored. Synchronized to avoid concurrent modifications.
@@ -161,22 +252,20 @@ public class DefaultSpellChecker implements ISpellChecker {
 	}
 
 	@Override
-	public final void addDictionary(final ISpellDictionary dictionary) {
+	public final synchronized void addDictionary(final ISpellDictionary dictionary) {
 		// synchronizing is necessary as this is a write access
-		fDictionaries.add(dictionary);
+		final ISpellDictionary[] dictionaries= fDictionaries;
+		if (Arrays.asList(dictionaries).contains(dictionary))
+			return;
+
+		final ISpellDictionary[] copy= Arrays.copyOf(dictionaries, dictionaries.length + 1);
+		copy[dictionaries.length]= dictionary;
+		fDictionaries= copy;
 	}
 
 	@Override
 	public boolean acceptsWords() {
-		// synchronizing might not be needed here since acceptWords is
-		// a read-only access and only called in the same thread as
-		// the modifying methods add/checkWord (?)
-		Set<ISpellDictionary> copy;
-		synchronized (fDictionaries) {
-			copy= new HashSet<>(fDictionaries);
-		}
-
-		for (ISpellDictionary dictionary : copy) {
+		for (ISpellDictionary dictionary : fDictionaries) {
 
 			if (dictionary.acceptsWords())
 				return true;
@@ -186,18 +275,12 @@ public class DefaultSpellChecker implements ISpellChecker {
 
 	@Override
 	public void addWord(final String word) {
-		// synchronizing is necessary as this is a write access
-		Set<ISpellDictionary> copy;
-		synchronized (fDictionaries) {
-			copy= new HashSet<>(fDictionaries);
-		}
-
 		final String addable= word.toLowerCase();
-		for (ISpellDictionary dictionary : copy) {
+		for (ISpellDictionary dictionary : fDictionaries) {
 			if (dictionary.acceptsWords())
 				dictionary.addWord(addable);
 		}
-
+		fVerdicts= null;
 	}
 
 	@Override
@@ -208,27 +291,114 @@ public class DefaultSpellChecker implements ISpellChecker {
 
 	@Override
 	public void execute(final ISpellEventListener listener, final ISpellCheckIterator iterator) {
+		final CheckOptions options= new CheckOptions(fPreferences, listener);
+		prepareDictionaries(options);
+		check(listener, iterator, options, listener::isProblemsThresholdReached);
+	}
 
-		final boolean ignoreDigits= fPreferences.getBoolean(PreferenceConstants.SPELLING_IGNORE_DIGITS);
-		final boolean ignoreMixed= fPreferences.getBoolean(PreferenceConstants.SPELLING_IGNORE_MIXED);
-		final boolean ignoreSentence= fPreferences.getBoolean(PreferenceConstants.SPELLING_IGNORE_SENTENCE);
-		final boolean ignoreUpper= fPreferences.getBoolean(PreferenceConstants.SPELLING_IGNORE_UPPER);
-		final boolean ignoreURLS= fPreferences.getBoolean(PreferenceConstants.SPELLING_IGNORE_URLS);
-		final boolean ignoreNonLetters= fPreferences.getBoolean(PreferenceConstants.SPELLING_IGNORE_NON_LETTERS);
-		final boolean ignoreSingleLetters= fPreferences.getBoolean(PreferenceConstants.SPELLING_IGNORE_SINGLE_LETTERS);
-		final int problemsThreshold= PreferenceConstants.getPreferenceStore().getInt(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD);
+	/*
+	 * @see org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker#checkWords(org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellEventListener, java.util.List)
+	 * @since 3.35
+	 */
+	@Override
+	public void checkWords(final ISpellEventListener listener, final List<? extends ISpellCheckIterator> iterators) {
+		final CheckOptions options= new CheckOptions(fPreferences, listener);
+		prepareDictionaries(options);
+
+		if (iterators.size() < PARALLEL_THRESHOLD || PARALLELISM < 2) {
+			for (ISpellCheckIterator iterator : iterators) {
+				if (listener.isProblemsThresholdReached())
+					return;
+				check(listener, iterator, options, listener::isProblemsThresholdReached);
+			}
+			return;
+		}
+
+		// the words of each iterator are checked in order, the events are reported in the order of the iterators
+		final AtomicBoolean stopped= new AtomicBoolean();
+		final List<Future<List<ISpellEvent>>> results= new ArrayList<>(iterators.size());
+		final ThreadPoolExecutor executor= getExecutor();
+		for (ISpellCheckIterator iterator : iterators) {
+			results.add(executor.submit(() -> {
+				final List<ISpellEvent> events= new ArrayList<>();
+				check(events::add, iterator, options, stopped::get);
+				return events;
+			}));
+		}
+
+		try {
+			for (Future<List<ISpellEvent>> result : results) {
+				for (ISpellEvent event : result.get()) {
+					if (listener.isProblemsThresholdReached())
+						return;
+					listener.handle(event);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			final Throwable cause= e.getCause();
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw new IllegalStateException(cause);
+		} finally {
+			stopped.set(true);
+			for (Future<List<ISpellEvent>> result : results)
+				result.cancel(false);
+		}
+	}
 
-		iterator.setIgnoreSingleLetters(ignoreSingleLetters);
+	/**
+	 * Returns the executor that checks iterators in parallel.
+	 *
+	 * @return the executor
+	 * @since 3.35
+	 */
+	private static synchronized ThreadPoolExecutor getExecutor() {
+		if (fgExecutor == null) {
+			fgExecutor= new ThreadPoolExecutor(PARALLELISM, PARALLELISM, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+				final Thread thread= new Thread(runnable, "Spell Checker"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+			fgExecutor.allowCoreThreadTimeOut(true);
+		}
+		return fgExecutor;
+	}
 
-		Iterator<ISpellDictionary> iter= fDictionaries.iterator();
-		while (iter.hasNext())
-			iter.next().setStripNonLetters(ignoreNonLetters);
+	/**
+	 * Sets up the dictionaries for a spell check run with the given options. The dictionaries are
+	 * loaded on the calling thread, before the words are checked in parallel.
+	 *
+	 * @param options the options of the run
+	 * @since 3.35
+	 */
+	private void prepareDictionaries(final CheckOptions options) {
+		for (ISpellDictionary dictionary : fDictionaries) {
+			dictionary.setStripNonLetters(options.fIgnoreNonLetters);
+			dictionary.ensureLoaded();
+		}
+	}
+
+	/**
+	 * Checks the words of the given iterator until the problems threshold is exceeded.
+	 *
+	 * @param listener the spell event listener
+	 * @param iterator the iterator to use for spell checking
+	 * @param options the options of the run
+	 * @param stopped tells whether checking must stop before the end of the iterator
+	 * @since 3.35
+	 */
+	private void check(final ISpellEventListener listener, final ISpellCheckIterator iterator, final CheckOptions options, final BooleanSupplier stopped) {
+		iterator.setIgnoreSingleLetters(options.fIgnoreSingleLetters);
 
 		String word= null;
 		boolean starts= false;
 		int problemCount= 0;
 
-		while (problemCount <= problemsThreshold && iterator.hasNext()) {
+		while (problemCount <= options.fProblemsThreshold && !stopped.getAsBoolean() && iterator.hasNext()) {
 
 			word= iterator.next();
 			if (word != null) {
@@ -244,14 +414,14 @@ public class DefaultSpellChecker implements ISpellChecker {
 						boolean isDigits= isDigits(word);
 						boolean isURL= isUrl(word);
 
-						if ( !ignoreMixed && isMixed || !ignoreUpper && isUpper || !ignoreDigits && isDigits || !ignoreURLS && isURL || (!isMixed && !isUpper && !isDigits && !isURL)) {
+						if ( !options.fIgnoreMixed && isMixed || !options.fIgnoreUpper && isUpper || !options.fIgnoreDigits && isDigits || !options.fIgnoreURLS && isURL || (!isMixed && !isUpper && !isDigits && !isURL)) {
 							listener.handle(new SpellEvent(this, word, iterator.getBegin(), iterator.getEnd(), starts, false));
 							problemCount++;
 						}
 
 					} else {
 
-						if (!ignoreSentence && starts && Character.isLowerCase(word.charAt(0))) {
+						if (!options.fIgnoreSentence && starts && Character.isLowerCase(word.charAt(0))) {
 							listener.handle(new SpellEvent(this, word, iterator.getBegin(), iterator.getEnd(), true, true));
 							problemCount++;
 						}
@@ -264,17 +434,9 @@ public class DefaultSpellChecker implements ISpellChecker {
 	@Override
 	public Set<RankedWordProposal> getProposals(final String word, final boolean sentence) {
 
-		// synchronizing might not be needed here since getProposals is
-		// a read-only access and only called in the same thread as
-		// the modifing methods add/removeDictionary (?)
-		Set<ISpellDictionary> copy;
-		synchronized (fDictionaries) {
-			copy= new HashSet<>(fDictionaries);
-		}
-
 		final HashSet<RankedWordProposal> proposals= new HashSet<>();
 
-		for (ISpellDictionary dictionary : copy) {
+		for (ISpellDictionary dictionary : fDictionaries) {
 			proposals.addAll(dictionary.getProposals(word, sentence));
 		}
 		return proposals;
@@ -288,26 +450,65 @@ public class DefaultSpellChecker implements ISpellChecker {
 
 	@Override
 	public final boolean isCorrect(final String word) {
-		// synchronizing is necessary as this is called from execute
-		Set<ISpellDictionary> copy;
-		synchronized (fDictionaries) {
-			copy= new HashSet<>(fDictionaries);
-		}
-
 		if (fIgnored.contains(word.toLowerCase()))
 			return true;
 
-		for (ISpellDictionary dictionary : copy) {
-			if (dictionary.isCorrect(word))
-				return true;
+		final ISpellDictionary[] dictionaries= fDictionaries;
+		final Verdicts verdicts= getVerdicts(dictionaries);
+		if (verdicts != null) {
+			final Boolean verdict= verdicts.fWords.get(word);
+			if (verdict != null)
+				return verdict.booleanValue();
 		}
-		return false;
+
+		boolean correct= false;
+		for (ISpellDictionary dictionary : dictionaries) {
+			if (dictionary.isCorrect(word)) {
+				correct= true;
+				break;
+			}
+		}
+		if (verdicts != null)
+			verdicts.fWords.put(word, Boolean.valueOf(correct));
+		return correct;
+	}
+
+	/**
+	 * Returns the verdicts that are valid for the given dictionaries in their current state.
+	 * <p>
+	 * The modification stamps only increase, so their sum changes whenever one of the
+	 * dictionaries is modified. The stamps are read before the dictionaries are consulted, so a
+	 * verdict that races with a modification is remembered in verdicts that are already outdated.
+	 * </p>
+	 *
+	 * @param dictionaries the snapshot of the dictionaries
+	 * @return the verdicts, or <code>null</code> if one of the dictionaries does not track its
+	 *         modifications
+	 * @since 3.35
+	 */
+	private Verdicts getVerdicts(final ISpellDictionary[] dictionaries) {
+		long stamp= 0;
+		for (ISpellDictionary dictionary : dictionaries) {
+			final long dictionaryStamp= dictionary.getModificationStamp();
+			if (dictionaryStamp == ISpellDictionary.UNKNOWN_MODIFICATION_STAMP)
+				return null;
+			stamp+= dictionaryStamp;
+		}
+
+		Verdicts verdicts= fVerdicts;
+		if (verdicts == null || verdicts.fDictionaries != dictionaries || verdicts.fStamp != stamp || verdicts.fWords.size() >= MAX_VERDICTS) {
+			verdicts= new Verdicts(dictionaries, stamp);
+			fVerdicts= verdicts;
+		}
+		return verdicts;
 	}
 
 	@Override
-	public final void removeDictionary(final ISpellDictionary dictionary) {
+	public final synchronized void removeDictionary(final ISpellDictionary dictionary) {
 		// synchronizing is necessary as this is a write access
-		fDictionaries.remove(dictionary);
+		final List<ISpellDictionary> copy= new ArrayList<>(Arrays.asList(fDictionaries));
+		if (copy.remove(dictionary))
+			fDictionaries= copy.toArray(new ISpellDictionary[copy.size()]);
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 
 package org.eclipse.jdt.internal.ui.text.spelling.engine;
 
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 
@@ -64,6 +65,25 @@ public interface ISpellChecker {
 	 */
 	void execute(ISpellEventListener listener, ISpellCheckIterator iterator);
 
+	/**
+	 * Checks the spelling with each of the given spell check iterators, for example with one
+	 * iterator per partition of a document. Implementations may check the iterators in parallel,
+	 * but must report the events in the order of the iterators and in the order of the words of
+	 * each iterator, on the calling thread. Implementations must be thread safe as this may be
+	 * called inside a reconciler thread.
+	 *
+	 * @param listener the spell event listener
+	 * @param iterators the iterators to use for spell checking
+	 * @since 3.35
+	 */
+	default void checkWords(ISpellEventListener listener, List<? extends ISpellCheckIterator> iterators) {
+		for (ISpellCheckIterator iterator : iterators) {
+			if (listener.isProblemsThresholdReached())
+				return;
+			execute(listener, iterator);
+		}
+	}
+
 	/**
 	 * Returns the ranked proposals for a word.
 	 *
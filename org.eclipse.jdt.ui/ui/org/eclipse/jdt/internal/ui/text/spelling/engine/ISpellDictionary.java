@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,14 @@ import java.util.Set;
  */
 public interface ISpellDictionary {
 
+	/**
+	 * The modification stamp of dictionaries that do not track their modifications.
+	 *
+	 * @see #getModificationStamp()
+	 * @since 3.35
+	 */
+	long UNKNOWN_MODIFICATION_STAMP= -1;
+
 	/**
 	 * Returns whether this dictionary accepts new words.
 	 *
@@ -65,6 +73,16 @@ public interface ISpellDictionary {
 	 */
 	boolean isLoaded();
 
+	/**
+	 * Loads the dictionary unless it is loaded already. Spell checkers call this before they use
+	 * the dictionary in several threads, so that it is not loaded lazily by one of them.
+	 *
+	 * @since 3.35
+	 */
+	default void ensureLoaded() {
+		// nothing to load
+	}
+
 	/**
 	 * Empties the dictionary.
 	 */
@@ -77,4 +95,17 @@ public interface ISpellDictionary {
 	 * @since 3.3
 	 */
 	void setStripNonLetters(boolean state);
+
+	/**
+	 * Returns the modification stamp of this dictionary. The stamp never decreases and increases
+	 * whenever the verdict of {@link #isCorrect(String)} might change for some word, so that
+	 * spell checkers can remember verdicts as long as the stamp stays the same.
+	 *
+	 * @return the modification stamp, or {@link #UNKNOWN_MODIFICATION_STAMP} if this
+	 *         dictionary does not track its modifications
+	 * @since 3.35
+	 */
+	default long getModificationStamp() {
+		return UNKNOWN_MODIFICATION_STAMP;
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2005 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
 
 package org.eclipse.jdt.internal.ui.text.spelling.engine;
 
+import org.eclipse.jdt.ui.PreferenceConstants;
+
 
 /**
  * Interface for spell event listeners.
@@ -29,4 +31,25 @@ public interface ISpellEventListener {
 	 *                  Event to handle
 	 */
 	void handle(ISpellEvent event);
+
+	/**
+	 * Tells whether this listener does not accept more problems. Spell checkers stop checking
+	 * when this returns <code>true</code>.
+	 *
+	 * @return <code>true</code> if the problems threshold is reached
+	 * @since 3.35
+	 */
+	default boolean isProblemsThresholdReached() {
+		return false;
+	}
+
+	/**
+	 * Returns the maximum number of problems a spell checker reports for one spell check iterator.
+	 *
+	 * @return the problems threshold, {@link Integer#MAX_VALUE} to report all problems
+	 * @since 3.35
+	 */
+	default int getProblemsThreshold() {
+		return PreferenceConstants.getPreferenceStore().getInt(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD);
+	}
 }
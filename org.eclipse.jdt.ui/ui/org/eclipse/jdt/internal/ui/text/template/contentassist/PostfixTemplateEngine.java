@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 Nicolaj Hoess.
+ * Copyright (c) 2019, 2026 Nicolaj Hoess and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -86,7 +86,8 @@ public class PostfixTemplateEngine extends TemplateEngine {
 		int end= context.getEnd();
 		IRegion region= new Region(start, end - start);
 
-		Template[] templates= JavaPlugin.getDefault().getTemplateStore().getTemplates(getContextType().getId());
+		TemplateIndex index= TemplateIndex.get(JavaPlugin.getDefault().getTemplateStore());
+		Template[] templates= index.getTemplates(getContextType().getId(), context.isForceEvaluation() ? "" : context.getPrefixKey()); //$NON-NLS-1$
 
 		for (Template template : templates) {
 			if (context.canEvaluate(template)) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,8 +40,11 @@ import org.eclipse.jface.text.templates.TemplateContextType;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.corext.template.java.CompilationUnitContext;
 import org.eclipse.jdt.internal.corext.template.java.CompilationUnitContextType;
+import org.eclipse.jdt.internal.corext.template.java.JavaContextCore;
+import org.eclipse.jdt.internal.corext.template.java.JavaDocContext;
 import org.eclipse.jdt.internal.corext.template.java.SWTContextType;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 
@@ -152,10 +155,9 @@ public class TemplateEngine {
 		int end= context.getEnd();
 		IRegion region= new Region(start, end - start);
 
-		Template[] templates= JavaPlugin.getDefault().getTemplateStore().getTemplates();
 		boolean needsCheck= !isJava12OrHigherProject(compilationUnit);
 		if (selectedRange.y == 0) {
-			for (Template template : templates) {
+			for (Template template : getCandidateTemplates(context)) {
 				if (canEvaluate(context, template, needsCheck)) {
 					fProposals.add(new TemplateProposal(template, context, region, getImage()));
 				}
@@ -168,7 +170,7 @@ public class TemplateEngine {
 
 			boolean multipleLinesSelected= areMultipleLinesSelected(document, selectedRange);
 
-			for (Template template : templates) {
+			for (Template template : getCandidateTemplates(context)) {
 				if (canEvaluate(context, template, needsCheck))
 				{
 					Matcher wordSelectionMatcher= $_WORD_SELECTION_PATTERN.matcher(template.getPattern());
@@ -181,6 +183,22 @@ public class TemplateEngine {
 		}
 	}
 
+	/**
+	 * Returns the templates that can match the key of the given context. These are the templates
+	 * whose name starts with the key, or all templates if the context also accepts other templates.
+	 *
+	 * @param context the context
+	 * @return the templates to check with {@link CompilationUnitContext#canEvaluate(Template)}
+	 */
+	private Template[] getCandidateTemplates(CompilationUnitContext context) {
+		TemplateIndex index= TemplateIndex.get(JavaPlugin.getDefault().getTemplateStore());
+		if (context.isForceEvaluation() || JavaManipulationPlugin.CODEASSIST_SUBSTRING_MATCH_ENABLED
+				|| !(context instanceof JavaContextCore || context instanceof JavaDocContext)) {
+			return index.getTemplates();
+		}
+		return index.getTemplates(context.getKey());
+	}
+
 	protected TemplateContextType getContextType() {
 		return fContextType;
 	}
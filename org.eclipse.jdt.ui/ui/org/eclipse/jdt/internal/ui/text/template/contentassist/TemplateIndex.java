@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.template.contentassist;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jface.text.templates.Template;
+import org.eclipse.jface.text.templates.persistence.TemplateStore;
+
+/**
+ * An index of the enabled templates of a template store by context type and by the lower case
+ * template name. Content assist looks up the templates whose name starts with the typed prefix
+ * instead of checking every template of the store.
+ * <p>
+ * The index is built for a snapshot of the templates of the store and built again when the
+ * templates of the store change.
+ * </p>
+ *
+ * @since 3.35
+ */
+public final class TemplateIndex {
+
+	/**
+	 * A node of the name trie.
+	 */
+	private static final class Node {
+
+		private final Map<Character, Node> fChildren= new HashMap<>(4);
+
+		/** the indices of the templates with the name of this node */
+		private final List<Integer> fTemplates= new ArrayList<>(1);
+
+		private void collect(List<Integer> result) {
+			result.addAll(fTemplates);
+			for (Node child : fChildren.values()) {
+				child.collect(result);
+			}
+		}
+	}
+
+	private static TemplateStore fgStore;
+
+	private static TemplateIndex fgIndex;
+
+	private final Template[] fTemplates;
+
+	/** the trie of all templates */
+	private final Node fRoot= new Node();
+
+	/** the tries of the templates by context type id */
+	private final Map<String, Node> fRootsByContextType= new HashMap<>();
+
+	private TemplateIndex(Template[] templates) {
+		fTemplates= templates;
+		for (int i= 0; i < templates.length; i++) {
+			String name= templates[i].getName().toLowerCase();
+			add(fRoot, name, i);
+			add(fRootsByContextType.computeIfAbsent(templates[i].getContextTypeId(), id -> new Node()), name, i);
+		}
+	}
+
+	private static void add(Node root, String name, int index) {
+		Node node= root;
+		for (int i= 0; i < name.length(); i++) {
+			node= node.fChildren.computeIfAbsent(Character.valueOf(name.charAt(i)), c -> new Node());
+		}
+		node.fTemplates.add(Integer.valueOf(index));
+	}
+
+	/**
+	 * Returns the index of the enabled templates of the given store. The index is built again if
+	 * the templates of the store have changed since it was built.
+	 *
+	 * @param store the template store
+	 * @return the index of the templates of the store
+	 */
+	public static synchronized TemplateIndex get(TemplateStore store) {
+		Template[] templates= store.getTemplates();
+		if (fgStore != store || fgIndex == null || !isSame(fgIndex.fTemplates, templates)) {
+			fgStore= store;
+			fgIndex= new TemplateIndex(templates);
+		}
+		return fgIndex;
+	}
+
+	private static boolean isSame(Template[] templates, Template[] other) {
+		if (templates.length != other.length) {
+			return false;
+		}
+		for (int i= 0; i < templates.length; i++) {
+			if (templates[i] != other[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return all templates of the index, in the order of the store
+	 */
+	public Template[] getTemplates() {
+		return fTemplates.clone();
+	}
+
+	/**
+	 * Returns the templates whose name starts with the given prefix, ignoring case.
+	 *
+	 * @param prefix the prefix of the template names
+	 * @return the matching templates, in the order of the store
+	 */
+	public Template[] getTemplates(String prefix) {
+		return find(fRoot, prefix);
+	}
+
+	/**
+	 * Returns the templates of a context type whose name starts with the given prefix, ignoring
+	 * case.
+	 *
+	 * @param contextTypeId the id of the context type
+	 * @param prefix the prefix of the template names
+	 * @return the matching templates, in the order of the store
+	 */
+	public Template[] getTemplates(String contextTypeId, String prefix) {
+		Node root= fRootsByContextType.get(contextTypeId);
+		if (root == null) {
+			return new Template[0];
+		}
+		return find(root, prefix);
+	}
+
+	private Template[] find(Node root, String prefix) {
+		Node node= root;
+		String key= prefix.toLowerCase();
+		for (int i= 0; i < key.length() && node != null; i++) {
+			node= node.fChildren.get(Character.valueOf(key.charAt(i)));
+		}
+		if (node == null) {
+			return new Template[0];
+		}
+		List<Integer> indices= new ArrayList<>();
+		node.collect(indices);
+		return toTemplates(indices);
+	}
+
+	private Template[] toTemplates(List<Integer> indices) {
+		int[] sorted= indices.stream().mapToInt(Integer::intValue).sorted().toArray();
+		Template[] result= new Template[sorted.length];
+		for (int i= 0; i < sorted.length; i++) {
+			result[i]= fTemplates[sorted[i]];
+		}
+		return result;
+	}
+}
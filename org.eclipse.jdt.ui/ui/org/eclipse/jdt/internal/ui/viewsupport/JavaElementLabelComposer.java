@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -212,6 +212,15 @@ public class JavaElementLabelComposer extends JavaElementLabelComposerCore {
 		this(new FlexibleStringBuffer(buffer));
 	}
 
+	/**
+	 * Creates a new java element composer based on the given buffer.
+	 *
+	 * @param buffer the buffer
+	 */
+	public JavaElementLabelComposer(StringBuilder buffer) {
+		super(new FlexibleStringBuilderCore(buffer));
+	}
+
 
 
 	@Override
@@ -2998,6 +2998,24 @@ public class PreferenceConstants {
 	 */
 	public static final String CODEASSIST_NONUITHREAD_COMPUTATION= "content_assist_noUIThread_computation"; //$NON-NLS-1$
 
+	/**
+	 * A named preference that controls whether the proposal kinds (categories) of content assist
+	 * are computed concurrently. Proposals are shown in category order once all categories are done
+	 * or a short deadline has passed; proposals of late categories are added to the open proposal
+	 * popup when they are available.
+	 * <p>
+	 * Only has an effect if completion is computed in the non-UI thread, see
+	 * {@link #CODEASSIST_NONUITHREAD_COMPUTATION}. Editors pick up a change of this preference
+	 * when they are reopened.
+	 * </p>
+	 * <p>
+	 * Value is of type <code>Boolean</code>
+	 * </p>
+	 *
+	 * @since 3.35
+	 */
+	public static final String CODEASSIST_PARALLEL_COMPUTATION= "content_assist_parallel_computation"; //$NON-NLS-1$
+
 
 	/**
 	 * A named preference that controls if the Java code assist gets auto activated.
@@ -4243,6 +4261,7 @@ public class PreferenceConstants {
 		store.setDefault(PreferenceConstants.CODEASSIST_AUTOINSERT, true);
 		store.setDefault(PreferenceConstants.CODEASSIST_DISABLE_COMPLETION_PROPOSAL_TRIGGER_CHARS, false);
 		store.setDefault(PreferenceConstants.CODEASSIST_NONUITHREAD_COMPUTATION, true);
+		store.setDefault(PreferenceConstants.CODEASSIST_PARALLEL_COMPUTATION, false);
 		store.setDefault(PreferenceConstants.PREF_MIN_CHAIN_LENGTH, 2);
 		store.setDefault(PreferenceConstants.PREF_MAX_CHAIN_LENGTH, 4);
 		store.setDefault(PreferenceConstants.PREF_MAX_CHAINS, 20);
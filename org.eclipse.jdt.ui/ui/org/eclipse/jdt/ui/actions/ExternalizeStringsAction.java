@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.actions;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.swt.SWT;
@@ -24,28 +22,29 @@ import org.eclipse.swt.events.SelectionAdapter;
 import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Shell;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
-import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.jface.dialogs.IDialogConstants;
-import org.eclipse.jface.dialogs.MessageDialog;
-import org.eclipse.jface.operation.IRunnableWithProgress;
 import org.eclipse.jface.viewers.ArrayContentProvider;
 import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerComparator;
 
-import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.ITextSelection;
 
 import org.eclipse.ui.IWorkbenchSite;
@@ -60,13 +59,9 @@ import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
-import org.eclipse.jdt.core.compiler.InvalidInputException;
 
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringAvailabilityTester;
-import org.eclipse.jdt.internal.corext.refactoring.nls.NLSElement;
-import org.eclipse.jdt.internal.corext.refactoring.nls.NLSLine;
-import org.eclipse.jdt.internal.corext.refactoring.nls.NLSScanner;
 import org.eclipse.jdt.internal.corext.refactoring.reorg.ReorgUtilsCore;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 import org.eclipse.jdt.internal.corext.util.Messages;
@@ -78,6 +73,7 @@ import org.eclipse.jdt.internal.ui.IJavaHelpContextIds;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.actions.ActionMessages;
 import org.eclipse.jdt.internal.ui.actions.ActionUtil;
+import org.eclipse.jdt.internal.ui.actions.NonExternalizedStringsCounter;
 import org.eclipse.jdt.internal.ui.actions.SelectionConverter;
 import org.eclipse.jdt.internal.ui.javaeditor.CompilationUnitEditor;
 import org.eclipse.jdt.internal.ui.refactoring.nls.ExternalizeWizard;
@@ -106,8 +102,6 @@ public class ExternalizeStringsAction extends SelectionDispatchAction {
 
 	private CompilationUnitEditor fEditor;
 
-	private NonNLSElement[] fElements;
-
 	/**
 	 * Creates a new <code>ExternalizeStringsAction</code>. The action requires
 	 * that the selection provided by the site's selection provider is of type <code>
@@ -162,19 +156,16 @@ public class ExternalizeStringsAction extends SelectionDispatchAction {
 		if (unit != null) {//run on cu
 			run(unit);
 		} else {
-			//run on multiple
+			//run on multiple, the units are added to the dialog while they are found
+			NonNLSListDialog dialog= new NonNLSListDialog(getShell());
+			dialog.create();
+			Job job= createJob(selection, dialog);
+			job.schedule();
 			try {
-				PlatformUI.getWorkbench().getProgressService().run(true, true, createRunnable(selection));
-			} catch(InvocationTargetException e) {
-				ExceptionHandler.handle(e, getShell(),
-						ActionMessages.ExternalizeStringsAction_dialog_title,
-						ActionMessages.FindStringsToExternalizeAction_error_message);
-				return;
-			} catch(InterruptedException e) {
-				// OK
-				return;
+				dialog.open();
+			} finally {
+				job.cancel();
 			}
-			showResults();
 		}
 	}
 
@@ -203,79 +194,69 @@ public class ExternalizeStringsAction extends SelectionDispatchAction {
 		return null;
 	}
 
-	private IRunnableWithProgress createRunnable(final IStructuredSelection selection) {
-		return pm -> {
+	private static Job createJob(final IStructuredSelection selection, final NonNLSListDialog dialog) {
+		return Job.create(ActionMessages.FindStringsToExternalizeAction_find_strings, monitor -> {
 			try {
-				fElements= doRun(selection, pm);
+				doRun(selection, dialog, monitor);
+				dialog.searchFinished();
 			} catch (CoreException e) {
-				throw new InvocationTargetException(e);
+				dialog.searchFailed(e);
 			}
-		};
+		});
 	}
 
-	private NonNLSElement[] doRun(IStructuredSelection selection, IProgressMonitor pm) throws CoreException {
+	private static void doRun(IStructuredSelection selection, NonNLSListDialog dialog, IProgressMonitor pm) throws CoreException {
 		List<?> elements= getSelectedElementList(selection);
 		if (elements == null || elements.isEmpty())
-			return new NonNLSElement[0];
+			return;
 
-		pm.beginTask(ActionMessages.FindStringsToExternalizeAction_find_strings, elements.size());
+		pm.beginTask(ActionMessages.FindStringsToExternalizeAction_find_strings, 2 * elements.size());
 
 		try{
-			List<NonNLSElement> result= new ArrayList<>();
+			List<ICompilationUnit> cus= new ArrayList<>();
 			for (Object obj : elements) {
-				result.addAll(analyze(obj, pm));
+				collect(obj, cus, pm);
 			}
-			return result.toArray(new NonNLSElement[result.size()]);
+
+			NonExternalizedStringsCounter.count(cus, (cu, count) -> dialog.add(new NonNLSElement(cu, count)), Progress.subMonitor(pm, elements.size()));
 		} finally{
 			pm.done();
 		}
 	}
 
-	private List<NonNLSElement> analyze(Object obj, IProgressMonitor pm) throws CoreException, JavaModelException {
+	private static void collect(Object obj, List<ICompilationUnit> result, IProgressMonitor pm) throws CoreException, JavaModelException {
 		if (obj instanceof IJavaElement) {
 			IJavaElement element= (IJavaElement) obj;
 			int elementType= element.getElementType();
 
 			switch (elementType) {
 				case IJavaElement.PACKAGE_FRAGMENT:
-					return analyze((IPackageFragment) element, Progress.subMonitor(pm, 1));
+					collect((IPackageFragment) element, result, Progress.subMonitor(pm, 1));
+					break;
 				case IJavaElement.PACKAGE_FRAGMENT_ROOT: {
 					IPackageFragmentRoot root= (IPackageFragmentRoot)element;
 					if (!root.isExternal() && !ReorgUtilsCore.isClassFolder(root)) {
-						return analyze((IPackageFragmentRoot) element, Progress.subMonitor(pm, 1));
+						collect((IPackageFragmentRoot) element, result, Progress.subMonitor(pm, 1));
 					} else {
 						pm.worked(1);
 					}
 					break;
 				}
 				case IJavaElement.JAVA_PROJECT:
-					return analyze((IJavaProject) element, Progress.subMonitor(pm, 1));
+					collect((IJavaProject) element, result, Progress.subMonitor(pm, 1));
+					break;
 				case IJavaElement.COMPILATION_UNIT: {
 					ICompilationUnit cu= (ICompilationUnit)element;
-					if (cu.exists()) {
-						NonNLSElement nlsElement= analyze(cu);
-						if (nlsElement != null) {
-							pm.worked(1);
-							ArrayList<NonNLSElement> result= new ArrayList<>();
-							result.add(nlsElement);
-							return result;
-						}
-					}
+					if (cu.exists())
+						result.add(cu);
 					pm.worked(1);
 					break;
 				}
 				case IJavaElement.TYPE: {
 					IType type= (IType)element;
 					ICompilationUnit cu= type.getCompilationUnit();
-					if (cu != null && cu.exists()) {
-						NonNLSElement nlsElement= analyze(cu);
-						if (nlsElement != null) {
-							pm.worked(1);
-							ArrayList<NonNLSElement> result= new ArrayList<>();
-							result.add(nlsElement);
-							return result;
-						}
-					}
+					if (cu != null && cu.exists())
+						result.add(cu);
 					pm.worked(1);
 					break;
 				}
@@ -284,155 +265,64 @@ public class ExternalizeStringsAction extends SelectionDispatchAction {
 					break;
 			}
 		} else if (obj instanceof IWorkingSet) {
-			List<NonNLSElement> result= new ArrayList<>();
-
 			IWorkingSet workingSet= (IWorkingSet) obj;
 			for (IAdaptable element : workingSet.getElements()) {
-				result.addAll(analyze(element, new NullProgressMonitor()));
+				collect(element, result, new NullProgressMonitor());
 			}
 			pm.worked(1);
-			return result;
 		} else {
 			pm.worked(1);
 		}
-
-		return Collections.emptyList();
-	}
-
-	private void showResults() {
-		if (noStrings())
-			MessageDialog.openInformation(getShell(), ActionMessages.ExternalizeStringsAction_dialog_title, ActionMessages.FindStringsToExternalizeAction_noStrings);
-		else
-			new NonNLSListDialog(getShell(), fElements, countStrings()).open();
-	}
-
-	private boolean noStrings() {
-		if (fElements != null) {
-			for (NonNLSElement fElement : fElements) {
-				if (fElement.count != 0) {
-					return false;
-				}
-			}
-		}
-		return true;
 	}
 
-	/*
-	 * returns List of Strings
-	 */
-	private List<NonNLSElement> analyze(IPackageFragment pack, IProgressMonitor pm) throws CoreException {
+	private static void collect(IPackageFragment pack, List<ICompilationUnit> result, IProgressMonitor pm) throws CoreException {
 		try{
-			if (pack == null)
-				return new ArrayList<>(0);
-
-			ICompilationUnit[] cus= pack.getCompilationUnits();
-
-			pm.beginTask("", cus.length); //$NON-NLS-1$
+			pm.beginTask("", 1); //$NON-NLS-1$
 			pm.setTaskName(pack.getElementName());
-
-			List<NonNLSElement> l= new ArrayList<>(cus.length);
-			for (ICompilationUnit cu : cus) {
-				pm.subTask(BasicElementLabels.getFileName(cu));
-				NonNLSElement element= analyze(cu);
-				if (element != null)
-					l.add(element);
-				pm.worked(1);
-				if (pm.isCanceled())
-					throw new OperationCanceledException();
-			}
-			return l;
+			result.addAll(Arrays.asList(pack.getCompilationUnits()));
+			if (pm.isCanceled())
+				throw new OperationCanceledException();
 		} finally {
 			pm.done();
 		}
 	}
 
-	/*
-	 * returns List of Strings
-	 */
-	private List<NonNLSElement> analyze(IPackageFragmentRoot sourceFolder, IProgressMonitor pm) throws CoreException {
+	private static void collect(IPackageFragmentRoot sourceFolder, List<ICompilationUnit> result, IProgressMonitor pm) throws CoreException {
 		try{
 			IJavaElement[] children= sourceFolder.getChildren();
 			pm.beginTask("", children.length); //$NON-NLS-1$
 			pm.setTaskName(JavaElementLabels.getElementLabel(sourceFolder, JavaElementLabels.ALL_DEFAULT));
-			List<NonNLSElement> result= new ArrayList<>();
 			for (IJavaElement iJavaElement : children) {
 				if (iJavaElement.getElementType() == IJavaElement.PACKAGE_FRAGMENT){
 					IPackageFragment pack= (IPackageFragment)iJavaElement;
 					if (! pack.isReadOnly())
-						result.addAll(analyze(pack, Progress.subMonitor(pm, 1)));
+						collect(pack, result, Progress.subMonitor(pm, 1));
 					else
 						pm.worked(1);
 				} else
 					pm.worked(1);
 			}
-			return result;
 		} finally{
 			pm.done();
 		}
 	}
 
-	/*
-	 * returns List of Strings
-	 */
-	private List<NonNLSElement> analyze(IJavaProject project, IProgressMonitor pm) throws CoreException {
+	private static void collect(IJavaProject project, List<ICompilationUnit> result, IProgressMonitor pm) throws CoreException {
 		try{
 			IPackageFragment[] packs= project.getPackageFragments();
 			pm.beginTask("", packs.length); //$NON-NLS-1$
-			List<NonNLSElement> result= new ArrayList<>();
 			for (IPackageFragment pack : packs) {
 				if (!pack.isReadOnly()) {
-					result.addAll(analyze(pack, Progress.subMonitor(pm, 1)));
+					collect(pack, result, Progress.subMonitor(pm, 1));
 				} else {
 					pm.worked(1);
 				}
 			}
-			return result;
 		} finally{
 			pm.done();
 		}
 	}
 
-	private int countStrings() {
-		int found= 0;
-		if (fElements != null) {
-			for (NonNLSElement fElement : fElements) {
-				found+= fElement.count;
-			}
-		}
-		return found;
-	}
-
-	private NonNLSElement analyze(ICompilationUnit cu) throws CoreException {
-		int count= countNonExternalizedStrings(cu);
-		if (count == 0)
-			return null;
-		else
-			return new NonNLSElement(cu, count);
-	}
-
-	private int countNonExternalizedStrings(ICompilationUnit cu) throws CoreException {
-		try{
-			int result= 0;
-			for (NLSLine line : NLSScanner.scan(cu)) {
-				result+= countNonExternalizedStrings(line);
-			}
-			return result;
-		} catch (InvalidInputException | BadLocationException e) {
-			throw new CoreException(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), IStatus.ERROR, Messages.format(ActionMessages.FindStringsToExternalizeAction_error_cannotBeParsed,
-					BasicElementLabels.getFileName(cu)), e));
-		}
-	}
-
-	private int countNonExternalizedStrings(NLSLine line){
-		int result= 0;
-		for (NLSElement element : line.getElements()) {
-			if (!element.hasTag()) {
-				result++;
-			}
-		}
-		return result;
-	}
-
 	/**
 	 * returns <code>List</code> of <code>IPackageFragments</code>,  <code>IPackageFragmentRoots</code> or
 	 * <code>IJavaProjects</code> (all entries are of the same kind)
@@ -454,18 +344,102 @@ public class ExternalizeStringsAction extends SelectionDispatchAction {
 
 		private Button fOpenButton;
 
-		NonNLSListDialog(Shell parent, NonNLSElement[] input, int count) {
+		private Label fMessageLabel;
+
+		private final Display fDisplay;
+
+		/**
+		 * The found elements that have not been added to the table yet, guarded by itself.
+		 */
+		private final List<NonNLSElement> fPending= new ArrayList<>();
+
+		private int fCount;
+
+		private boolean fSearching= true;
+
+		NonNLSListDialog(Shell parent) {
 			super(parent);
+			fDisplay= parent.getDisplay();
 			setAddCancelButton(false);
-			setInput(Arrays.asList(input));
+			setInput(new ArrayList<>());
 			setTitle(ActionMessages.ExternalizeStringsAction_dialog_title);
-			String message= count == 1 ? ActionMessages.FindStringsToExternalizeAction_non_externalized_singular : Messages.format(
-					ActionMessages.FindStringsToExternalizeAction_non_externalized_plural, new Object[] { Integer.valueOf(count) });
-			setMessage(message);
+			setMessage(ActionMessages.FindStringsToExternalizeAction_find_strings);
 			setContentProvider(ArrayContentProvider.getInstance());
 			setLabelProvider(createLabelProvider());
 		}
 
+		/**
+		 * Adds a found element to the dialog. May be called from any thread.
+		 *
+		 * @param element the element
+		 */
+		void add(NonNLSElement element) {
+			synchronized (fPending) {
+				fPending.add(element);
+				if (fPending.size() > 1)
+					return; // an update is already scheduled
+			}
+			asyncExec(this::addPending);
+		}
+
+		void searchFinished() {
+			asyncExec(() -> {
+				fSearching= false;
+				updateMessage();
+			});
+		}
+
+		void searchFailed(CoreException e) {
+			asyncExec(() -> {
+				Shell parent= getParentShell();
+				close();
+				ExceptionHandler.handle(e, parent,
+						ActionMessages.ExternalizeStringsAction_dialog_title,
+						ActionMessages.FindStringsToExternalizeAction_error_message);
+			});
+		}
+
+		private void asyncExec(Runnable runnable) {
+			if (fDisplay.isDisposed())
+				return;
+			fDisplay.asyncExec(() -> {
+				Shell shell= getShell();
+				if (shell != null && !shell.isDisposed())
+					runnable.run();
+			});
+		}
+
+		private void addPending() {
+			NonNLSElement[] elements;
+			synchronized (fPending) {
+				elements= fPending.toArray(new NonNLSElement[fPending.size()]);
+				fPending.clear();
+			}
+			for (NonNLSElement element : elements) {
+				fCount+= element.count;
+			}
+			getTableViewer().add(elements);
+			updateMessage();
+		}
+
+		private void updateMessage() {
+			String message;
+			if (fCount == 0)
+				message= fSearching ? ActionMessages.FindStringsToExternalizeAction_find_strings : ActionMessages.FindStringsToExternalizeAction_noStrings;
+			else if (fCount == 1)
+				message= ActionMessages.FindStringsToExternalizeAction_non_externalized_singular;
+			else
+				message= Messages.format(ActionMessages.FindStringsToExternalizeAction_non_externalized_plural, new Object[] { Integer.valueOf(fCount) });
+			fMessageLabel.setText(message);
+		}
+
+		@Override
+		protected Label createMessageArea(Composite composite) {
+			fMessageLabel= super.createMessageArea(composite);
+			fMessageLabel.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false));
+			return fMessageLabel;
+		}
+
 		@Override
 		protected Point getInitialSize() {
 			return getShell().computeSize(SWT.DEFAULT, SWT.DEFAULT, true);
@@ -474,6 +448,16 @@ public class ExternalizeStringsAction extends SelectionDispatchAction {
 		@Override
 		protected Control createDialogArea(Composite parent) {
 			Composite result= (Composite)super.createDialogArea(parent);
+			getTableViewer().setComparator(new ViewerComparator() {
+				@Override
+				public int compare(Viewer viewer, Object e1, Object e2) {
+					return getPath(e1).compareTo(getPath(e2));
+				}
+
+				private String getPath(Object element) {
+					return ((NonNLSElement) element).cu.getPath().toString();
+				}
+			});
 			getTableViewer().addSelectionChangedListener(event -> {
 				if (fOpenButton != null){
 					fOpenButton.setEnabled(! getTableViewer().getSelection().isEmpty());
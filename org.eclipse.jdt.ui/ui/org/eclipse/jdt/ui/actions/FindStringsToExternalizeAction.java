@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,9 +30,7 @@ import org.eclipse.swt.widgets.Shell;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
-import org.eclipse.core.runtime.Status;
 
 import org.eclipse.jface.dialogs.IDialogConstants;
 import org.eclipse.jface.dialogs.MessageDialog;
@@ -42,8 +40,6 @@ import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.jface.viewers.LabelProvider;
 
-import org.eclipse.jface.text.BadLocationException;
-
 import org.eclipse.ui.IWorkbenchSite;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.dialogs.ListDialog;
@@ -54,12 +50,8 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaModelException;
-import org.eclipse.jdt.core.compiler.InvalidInputException;
 
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
-import org.eclipse.jdt.internal.corext.refactoring.nls.NLSElement;
-import org.eclipse.jdt.internal.corext.refactoring.nls.NLSLine;
-import org.eclipse.jdt.internal.corext.refactoring.nls.NLSScanner;
 import org.eclipse.jdt.internal.corext.refactoring.reorg.ReorgUtilsCore;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 import org.eclipse.jdt.internal.corext.util.Messages;
@@ -70,6 +62,7 @@ import org.eclipse.jdt.ui.JavaElementLabels;
 import org.eclipse.jdt.internal.ui.IJavaHelpContextIds;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.actions.ActionMessages;
+import org.eclipse.jdt.internal.ui.actions.NonExternalizedStringsCounter;
 import org.eclipse.jdt.internal.ui.refactoring.nls.ExternalizeWizard;
 import org.eclipse.jdt.internal.ui.util.ExceptionHandler;
 import org.eclipse.jdt.internal.ui.util.Progress;
@@ -172,18 +165,25 @@ public class FindStringsToExternalizeAction extends SelectionDispatchAction {
 		if (elements == null || elements.isEmpty())
 			return new NonNLSElement[0];
 
-		pm.beginTask(ActionMessages.FindStringsToExternalizeAction_find_strings, elements.size());
+		pm.beginTask(ActionMessages.FindStringsToExternalizeAction_find_strings, 2 * elements.size());
 
 		try{
-			List<NonNLSElement> l= new ArrayList<>();
+			List<ICompilationUnit> cus= new ArrayList<>();
 			for (Object e : (List<?>)elements) {
 				IJavaElement element=(IJavaElement) e;
 				if (element.getElementType() == IJavaElement.PACKAGE_FRAGMENT)
-					l.addAll(analyze((IPackageFragment) element, Progress.subMonitor(pm, 1)));
+					collect((IPackageFragment) element, cus, Progress.subMonitor(pm, 1));
 				else if (element.getElementType() == IJavaElement.PACKAGE_FRAGMENT_ROOT)
-					l.addAll(analyze((IPackageFragmentRoot) element, Progress.subMonitor(pm, 1)));
+					collect((IPackageFragmentRoot) element, cus, Progress.subMonitor(pm, 1));
 				if (element.getElementType() == IJavaElement.JAVA_PROJECT)
-					l.addAll(analyze((IJavaProject) element, Progress.subMonitor(pm, 1)));
+					collect((IJavaProject) element, cus, Progress.subMonitor(pm, 1));
+			}
+
+			int[] counts= NonExternalizedStringsCounter.count(cus, Progress.subMonitor(pm, elements.size()));
+			List<NonNLSElement> l= new ArrayList<>();
+			for (int i= 0; i < counts.length; i++) {
+				if (counts[i] != 0)
+					l.add(new NonNLSElement(cus.get(i), counts[i]));
 			}
 			return l.toArray(new NonNLSElement[l.size()]);
 		} finally{
@@ -209,76 +209,49 @@ public class FindStringsToExternalizeAction extends SelectionDispatchAction {
 		return true;
 	}
 
-	/*
-	 * returns List of Strings
-	 */
-	private List<NonNLSElement> analyze(IPackageFragment pack, IProgressMonitor pm) throws CoreException {
+	private void collect(IPackageFragment pack, List<ICompilationUnit> result, IProgressMonitor pm) throws CoreException {
 		try{
-			if (pack == null)
-				return new ArrayList<>(0);
-
-			ICompilationUnit[] cus= pack.getCompilationUnits();
-
-			pm.beginTask("", cus.length); //$NON-NLS-1$
+			pm.beginTask("", 1); //$NON-NLS-1$
 			pm.setTaskName(pack.getElementName());
-
-			List<NonNLSElement> l= new ArrayList<>(cus.length);
-			for (ICompilationUnit cu : cus) {
-				pm.subTask(BasicElementLabels.getFileName(cu));
-				NonNLSElement element= analyze(cu);
-				if (element != null)
-					l.add(element);
-				pm.worked(1);
-				if (pm.isCanceled())
-					throw new OperationCanceledException();
-			}
-			return l;
+			result.addAll(Arrays.asList(pack.getCompilationUnits()));
+			if (pm.isCanceled())
+				throw new OperationCanceledException();
 		} finally {
 			pm.done();
 		}
 	}
 
-	/*
-	 * returns List of Strings
-	 */
-	private List<NonNLSElement> analyze(IPackageFragmentRoot sourceFolder, IProgressMonitor pm) throws CoreException {
+	private void collect(IPackageFragmentRoot sourceFolder, List<ICompilationUnit> result, IProgressMonitor pm) throws CoreException {
 		try{
 			IJavaElement[] children= sourceFolder.getChildren();
 			pm.beginTask("", children.length); //$NON-NLS-1$
 			pm.setTaskName(JavaElementLabels.getElementLabel(sourceFolder, JavaElementLabels.ALL_DEFAULT));
-			List<NonNLSElement> result= new ArrayList<>();
 			for (IJavaElement iJavaElement : children) {
 				if (iJavaElement.getElementType() == IJavaElement.PACKAGE_FRAGMENT){
 					IPackageFragment pack= (IPackageFragment)iJavaElement;
 					if (! pack.isReadOnly())
-						result.addAll(analyze(pack, Progress.subMonitor(pm, 1)));
+						collect(pack, result, Progress.subMonitor(pm, 1));
 					else
 						pm.worked(1);
 				} else
 					pm.worked(1);
 			}
-			return result;
 		} finally{
 			pm.done();
 		}
 	}
 
-	/*
-	 * returns List of Strings
-	 */
-	private List<NonNLSElement> analyze(IJavaProject project, IProgressMonitor pm) throws CoreException {
+	private void collect(IJavaProject project, List<ICompilationUnit> result, IProgressMonitor pm) throws CoreException {
 		try{
 			IPackageFragment[] packs= project.getPackageFragments();
 			pm.beginTask("", packs.length); //$NON-NLS-1$
-			List<NonNLSElement> result= new ArrayList<>();
 			for (IPackageFragment pack : packs) {
 				if (!pack.isReadOnly()) {
-					result.addAll(analyze(pack, Progress.subMonitor(pm, 1)));
+					collect(pack, result, Progress.subMonitor(pm, 1));
 				} else {
 					pm.worked(1);
 				}
 			}
-			return result;
 		} finally{
 			pm.done();
 		}
@@ -294,37 +267,6 @@ public class FindStringsToExternalizeAction extends SelectionDispatchAction {
 		return found;
 	}
 
-	private NonNLSElement analyze(ICompilationUnit cu) throws CoreException {
-		int count= countNonExternalizedStrings(cu);
-		if (count == 0)
-			return null;
-		else
-			return new NonNLSElement(cu, count);
-	}
-
-	private int countNonExternalizedStrings(ICompilationUnit cu) throws CoreException {
-		try{
-			int result= 0;
-			for (NLSLine line : NLSScanner.scan(cu)) {
-				result += countNonExternalizedStrings(line);
-			}
-			return result;
-		} catch (InvalidInputException | BadLocationException e) {
-			throw new CoreException(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), IStatus.ERROR, Messages.format(ActionMessages.FindStringsToExternalizeAction_error_cannotBeParsed,
-					BasicElementLabels.getFileName(cu)), e));
-		}
-	}
-
-	private int countNonExternalizedStrings(NLSLine line){
-		int result= 0;
-		for (NLSElement element : line.getElements()) {
-			if (!element.hasTag()) {
-				result++;
-			}
-		}
-		return result;
-	}
-
 	/**
 	 * @param selection the selection
 	 * @return returns <code>List</code> of <code>IPackageFragments</code>,  <code>IPackageFragmentRoots</code> or